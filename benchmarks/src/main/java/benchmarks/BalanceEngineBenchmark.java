@@ -0,0 +1,105 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import commons.Expense;
+import commons.Participant;
+import server.service.FixedPointBalanceEngine;
+
+/**
+ * Compares computing the balances of a 10k-expense event with BigDecimal arithmetic in a HashMap,
+ * as the debts used to be computed, against the fixed-point engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BalanceEngineBenchmark {
+
+    private static final int EXPENSES = 10_000;
+    private static final int PARTICIPANTS = 50;
+
+    private List<Expense> expenses;
+    private long[] payerIds;
+    private long[] amounts;
+    private long[][] returnerIds;
+
+    /**
+     * Generates the expenses of the event.
+     */
+    @Setup
+    public void setUp() {
+        expenses = Fixtures.expenses(Fixtures.participants(PARTICIPANTS), EXPENSES);
+
+        payerIds = expenses.stream().mapToLong(expense -> expense.getPayer().getId()).toArray();
+        amounts = expenses.stream().mapToLong(expense -> FixedPointBalanceEngine.toUnits(expense.getAmountInEUR()))
+                .toArray();
+        returnerIds = expenses.stream()
+                .map(expense -> expense.getReturners().stream().mapToLong(Participant::getId).toArray())
+                .toArray(long[][]::new);
+    }
+
+    /**
+     * Folds every expense into a map of BigDecimal balances.
+     *
+     * @return The balances.
+     */
+    @Benchmark
+    public Map<Long, BigDecimal> bigDecimal() {
+        Map<Long, BigDecimal> owedAmounts = new HashMap<>();
+        for (Expense expense : expenses) {
+            owedAmounts.merge(expense.getPayer().getId(), expense.getAmountInEUR(), BigDecimal::add);
+            BigDecimal eachOwe = expense.getAmountInEUR()
+                    .divide(new BigDecimal(expense.getReturners().size()), 8, RoundingMode.HALF_UP);
+            for (Participant returner : expense.getReturners()) {
+                owedAmounts.merge(returner.getId(), eachOwe.negate(), BigDecimal::add);
+            }
+        }
+
+        return owedAmounts;
+    }
+
+    /**
+     * Folds every expense into the fixed-point engine and converts the result once.
+     *
+     * @return The balances.
+     */
+    @Benchmark
+    public Map<Long, BigDecimal> fixedPoint() {
+        FixedPointBalanceEngine engine = new FixedPointBalanceEngine(PARTICIPANTS);
+        for (Expense expense : expenses) {
+            long[] ids = new long[expense.getReturners().size()];
+            int i = 0;
+            for (Participant returner : expense.getReturners()) {
+                ids[i++] = returner.getId();
+            }
+
+            engine.applyExpense(expense.getPayer().getId(),
+                    FixedPointBalanceEngine.toUnits(expense.getAmountInEUR()), ids, 1);
+        }
+
+        return engine.toOwedAmounts();
+    }
+
+    /**
+     * Folds expenses that are already in primitive form, as aggregate queries return them, into the engine.
+     *
+     * @return The balances.
+     */
+    @Benchmark
+    public Map<Long, BigDecimal> fixedPointColumns() {
+        FixedPointBalanceEngine engine = new FixedPointBalanceEngine(PARTICIPANTS);
+        for (int i = 0; i < payerIds.length; i++) {
+            engine.applyExpense(payerIds[i], amounts[i], returnerIds[i], 1);
+        }
+
+        return engine.toOwedAmounts();
+    }
+}
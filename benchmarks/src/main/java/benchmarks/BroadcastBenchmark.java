@@ -0,0 +1,117 @@
+package benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import commons.messages.DebtsChangedMessage;
+
+/**
+ * Measures the CPU time of broadcasting the debts of an event to a topic as the number of subscribers grows.
+ * The messages are handed to an in-memory simple broker, whose outbound channel only counts them,
+ * so the measurement covers serializing and fanning out, not the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BroadcastBenchmark {
+
+    private static final String DESTINATION = "/topic/events/1/debts";
+    private static final int DEBTS = 200;
+
+    @Param({"1", "50", "500"})
+    private int subscribers;
+
+    private ObjectMapper objectMapper;
+    private SimpleBrokerMessageHandler broker;
+    private SimpMessagingTemplate template;
+    private MessageChannel outboundChannel;
+    private DebtsChangedMessage message;
+    private long sent;
+
+    /**
+     * Starts a simple broker and subscribes the clients to the topic.
+     */
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        outboundChannel = (sentMessage, timeout) -> {
+            sent++;
+            return true;
+        };
+        broker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), outboundChannel,
+                new ExecutorSubscribableChannel(), List.of("/topic"));
+        broker.start();
+        template = new SimpMessagingTemplate((brokerMessage, timeout) -> {
+            broker.handleMessage(brokerMessage);
+            return true;
+        });
+
+        for (int i = 0; i < subscribers; i++) {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            headers.setSessionId("session-" + i);
+            headers.setSubscriptionId("0");
+            headers.setDestination(DESTINATION);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders()));
+        }
+
+        message = new DebtsChangedMessage(1, Fixtures.debts(DEBTS));
+    }
+
+    /**
+     * Stops the broker.
+     */
+    @TearDown
+    public void tearDown() {
+        broker.stop();
+    }
+
+    /**
+     * Serializes the message once and lets the broker send the same bytes to every subscriber, as the server does.
+     *
+     * @return The number of messages sent so far.
+     * @throws JsonProcessingException if the message cannot be serialized.
+     */
+    @Benchmark
+    public long serializeOnce() throws JsonProcessingException {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers.setLeaveMutable(true);
+        template.send(DESTINATION, MessageBuilder.createMessage(objectMapper.writeValueAsBytes(message), headers.getMessageHeaders()));
+        return sent;
+    }
+
+    /**
+     * Serializes the message again for every subscriber, for comparison.
+     *
+     * @return The number of messages sent so far.
+     * @throws JsonProcessingException if the message cannot be serialized.
+     */
+    @Benchmark
+    public long serializePerSubscriber() throws JsonProcessingException {
+        for (int i = 0; i < subscribers; i++) {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            headers.setSessionId("session-" + i);
+            headers.setDestination(DESTINATION);
+            Message<byte[]> perSession = MessageBuilder.createMessage(objectMapper.writeValueAsBytes(message), headers.getMessageHeaders());
+            outboundChannel.send(perSession);
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,90 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import commons.Balance;
+import commons.Debt;
+import server.database.BalanceRepository;
+import server.database.EventRepository;
+import server.database.ExpenseRepository;
+import server.service.*;
+
+/**
+ * Measures reading the balances of an event and settling them, with and without the debt cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DebtBenchmark {
+
+    private static final long EVENT_ID = 1L;
+
+    @Param({"10", "50", "200"})
+    private int participants;
+
+    @Param({GreedySettlementStrategy.NAME, HeapSettlementStrategy.NAME, MinimumTransferSettlementStrategy.NAME})
+    private String strategy;
+
+    private DebtServiceImplementation uncached;
+    private DebtServiceImplementation cached;
+
+    /**
+     * Creates the balances of the event and the services reading them.
+     */
+    @Setup
+    public void setUp() {
+        List<Balance> balances = Fixtures.balances(Fixtures.participants(participants));
+        BalanceRepository balanceRepository = Stubs.stub(BalanceRepository.class,
+                Map.of("findByEventId", args -> balances));
+        BalanceService balanceService = new BalanceServiceImplementation(balanceRepository,
+                Stubs.stub(ExpenseRepository.class, Map.of()), null);
+        List<SettlementStrategy> strategies = List.of(new GreedySettlementStrategy(), new HeapSettlementStrategy(),
+                new MinimumTransferSettlementStrategy());
+
+        uncached = new DebtServiceImplementation(balanceService, strategies,
+                Stubs.stub(EventRepository.class, Map.of("findVersionById", args -> Optional.empty())),
+                new DebtCache());
+        cached = new DebtServiceImplementation(balanceService, strategies,
+                Stubs.stub(EventRepository.class, Map.of("findVersionById", args -> Optional.of(0L))),
+                new DebtCache());
+    }
+
+    /**
+     * Reads the balances of the event.
+     *
+     * @return The balances.
+     */
+    @Benchmark
+    public Map<Long, BigDecimal> getOwedAmounts() {
+        return uncached.getOwedAmounts(EVENT_ID);
+    }
+
+    /**
+     * Reads and settles the balances of the event.
+     *
+     * @return The debts.
+     */
+    @Benchmark
+    public List<Debt> getAllDebts() {
+        return uncached.getAllDebts(EVENT_ID, strategy);
+    }
+
+    /**
+     * Gets the debts of an unchanged event from the cache.
+     *
+     * @return The debts.
+     */
+    @Benchmark
+    public List<Debt> getAllDebtsCached() {
+        return cached.getAllDebts(EVENT_ID, strategy);
+    }
+}
@@ -0,0 +1,75 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import commons.dtos.*;
+import server.service.*;
+
+/**
+ * Measures mapping the ids of an uploaded event dump to the ids of the newly created entities.
+ * The services are stubs, so only the remapping in AdminServiceImplementation is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDumpUploadBenchmark {
+
+    @Param({"10", "100"})
+    private int participants;
+
+    @Param({"1000", "10000"})
+    private int expenses;
+
+    private EventDump eventDump;
+    private AdminServiceImplementation adminService;
+    private long nextId;
+    private long remappedIds;
+
+    /**
+     * Creates the dump and the service uploading it.
+     */
+    @Setup
+    public void setUp() {
+        eventDump = Fixtures.eventDump(participants, expenses);
+
+        EventService eventService = Stubs.stub(EventService.class, Map.of(
+                "createEvent", args -> new EventDTO(++nextId, ((EventTitleDTO) args[0]).title(), "CODE", null, null, Set.of()),
+                "getEventById", args -> new EventDTO((Long) args[0], eventDump.name(), "CODE", null, null, Set.of())));
+        ParticipantService participantService = Stubs.stub(ParticipantService.class, Map.of("addParticipant", args -> {
+            ParticipantDTO participant = (ParticipantDTO) args[1];
+            return new ParticipantDTO(++nextId, participant.name(), participant.email(), participant.iban(),
+                    participant.bic());
+        }));
+        TagService tagService = Stubs.stub(TagService.class, Map.of("createTag", args -> {
+            TagDTO tag = (TagDTO) args[1];
+            return new TagDTO(tag.name(), tag.color(), ++nextId);
+        }));
+        ExpenseService expenseService = Stubs.stub(ExpenseService.class, Map.of("addExpense", args -> {
+            ExpenseDTO expense = (ExpenseDTO) args[1];
+            remappedIds += expense.payerId() + expense.tagId() + expense.returnerIds().size();
+            return expense;
+        }));
+
+        adminService = new AdminServiceImplementation(eventService, expenseService, participantService, tagService,
+                null);
+    }
+
+    /**
+     * Uploads the dump.
+     *
+     * @param blackhole Consumes the remapped ids.
+     */
+    @Benchmark
+    public void uploadEventDump(Blackhole blackhole) {
+        adminService.uploadEventDump(eventDump);
+        blackhole.consume(remappedIds);
+    }
+}
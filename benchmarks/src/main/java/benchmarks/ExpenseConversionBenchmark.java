@@ -0,0 +1,66 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import commons.Expense;
+import commons.Participant;
+import commons.dtos.ExpenseDTO;
+import server.database.ExpenseRepository;
+import server.database.ExpenseReturner;
+import server.database.ExpenseRow;
+import server.service.ExpenseServiceImplementation;
+
+/**
+ * Measures converting the expenses of an event, as the read queries return them, to the DTOs sent to clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpenseConversionBenchmark {
+
+    private static final int PARTICIPANTS = 50;
+
+    @Param({"100", "1000", "10000"})
+    private int expenses;
+
+    private ExpenseServiceImplementation expenseService;
+
+    /**
+     * Creates the expenses of the event and the service converting them.
+     */
+    @Setup
+    public void setUp() {
+        List<ExpenseRow> rows = new ArrayList<>();
+        List<ExpenseReturner> returners = new ArrayList<>();
+        for (Expense expense : Fixtures.expenses(Fixtures.participants(PARTICIPANTS), expenses)) {
+            rows.add(new ExpenseRow(expense.getId(), expense.getAmountInEUR(), expense.getCurrency(), expense.getDate(),
+                    expense.getPurpose(), expense.getUpdatedOn(), expense.getCreatedOn(), expense.getPayer().getId(), null,
+                    expense.isDebt()));
+            for (Participant returner : expense.getReturners()) {
+                returners.add(new ExpenseReturner(expense.getId(), returner.getId()));
+            }
+        }
+
+        ExpenseRepository expenseRepository = Stubs.stub(ExpenseRepository.class,
+                Map.of("findRowsByEventId", args -> rows, "findReturnersByEventId", args -> returners));
+        expenseService = new ExpenseServiceImplementation(null, expenseRepository, null, null, null, null, null);
+    }
+
+    /**
+     * Converts all expenses of the event.
+     *
+     * @return The DTOs.
+     */
+    @Benchmark
+    public List<ExpenseDTO> getAllExpenses() {
+        return expenseService.getAllExpenses(1L);
+    }
+}
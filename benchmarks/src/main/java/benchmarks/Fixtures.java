@@ -0,0 +1,139 @@
+package benchmarks;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import commons.Balance;
+import commons.Debt;
+import commons.Expense;
+import commons.Participant;
+import commons.dtos.EventDump;
+import commons.dtos.ExpenseDTO;
+import benchmarks.workload.WorkloadGenerator;
+import benchmarks.workload.WorkloadSpec;
+
+/**
+ * Builds synthetic events of a given size. The same seed always gives the same event.
+ */
+public final class Fixtures {
+
+    public static final long SEED = 42;
+
+    private static final int MAX_RETURNERS = 8;
+    private static final int MAX_AMOUNT_CENTS = 100_000;
+
+    private Fixtures() {
+    }
+
+    /**
+     * Creates participants with ids 1 to count.
+     *
+     * @param count The number of participants.
+     * @return The participants.
+     */
+    public static List<Participant> participants(int count) {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Participant participant = new Participant("Participant " + i, "p" + i + "@example.com", null, null);
+            participant.setId(i);
+            participants.add(participant);
+        }
+
+        return participants;
+    }
+
+    /**
+     * Creates expenses paid by and split between random participants.
+     *
+     * @param participants The participants of the event.
+     * @param count        The number of expenses.
+     * @return The expenses.
+     */
+    public static List<Expense> expenses(List<Participant> participants, int count) {
+        Random random = new Random(SEED);
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Set<Participant> returners = new HashSet<>();
+            int returnerCount = 1 + random.nextInt(Math.min(MAX_RETURNERS, participants.size()));
+            while (returners.size() < returnerCount) {
+                returners.add(participants.get(random.nextInt(participants.size())));
+            }
+
+            Calendar date = Calendar.getInstance();
+            date.add(Calendar.DAY_OF_MONTH, -random.nextInt(365));
+            Expense expense = new Expense(participants.get(random.nextInt(participants.size())),
+                    BigDecimal.valueOf(1 + random.nextInt(MAX_AMOUNT_CENTS), 2).setScale(8), "EUR", date,
+                    "Expense " + i, returners, null);
+            expense.setId(i + 1);
+            expense.setUpdatedOn(date);
+            expenses.add(expense);
+        }
+
+        return expenses;
+    }
+
+    /**
+     * Creates the stored balances of random participants, summing to zero.
+     *
+     * @param participants The participants of the event.
+     * @return The balances.
+     */
+    public static List<Balance> balances(List<Participant> participants) {
+        Random random = new Random(SEED);
+        List<Balance> balances = new ArrayList<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < participants.size(); i++) {
+            BigDecimal amount = i == participants.size() - 1 ? total.negate()
+                    : BigDecimal.valueOf(random.nextInt(2 * MAX_AMOUNT_CENTS) - MAX_AMOUNT_CENTS, 2).setScale(8);
+            total = total.add(amount);
+            balances.add(new Balance(null, participants.get(i), amount));
+        }
+
+        return balances;
+    }
+
+    /**
+     * Converts expenses to the DTOs sent to clients.
+     *
+     * @param expenses The expenses.
+     * @return The DTOs.
+     */
+    public static List<ExpenseDTO> expenseDtos(List<Expense> expenses) {
+        return expenses.stream().map(expense -> new ExpenseDTO(expense.getAmountInEUR(), expense.getCurrency(),
+                expense.getDate(), expense.getPurpose(), expense.getUpdatedOn(), expense.getCreatedOn(),
+                expense.getId(), expense.getPayer().getId(),
+                expense.getReturners().stream().map(Participant::getId).collect(Collectors.toSet()),
+                0, false)).toList();
+    }
+
+    /**
+     * Creates the debts of a chain where every participant owes the next one.
+     *
+     * @param count The number of debts.
+     * @return The debts.
+     */
+    public static List<Debt> debts(int count) {
+        List<Debt> debts = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            debts.add(new Debt(i, i + 1, BigDecimal.valueOf(i * 137L % MAX_AMOUNT_CENTS, 2)));
+        }
+
+        return debts;
+    }
+
+    /**
+     * Creates a dump of an event with the workload generator.
+     *
+     * @param participantCount The number of participants.
+     * @param expenseCount     The number of expenses.
+     * @return The dump.
+     */
+    public static EventDump eventDump(int participantCount, int expenseCount) {
+        WorkloadSpec defaults = WorkloadSpec.defaults();
+        WorkloadSpec spec = new WorkloadSpec(SEED, 1, participantCount, participantCount, expenseCount, expenseCount,
+                defaults.maxReturners(), defaults.returnerSkew(), defaults.currencies(), defaults.tagsPerEvent(),
+                defaults.endDate(), defaults.dateSpreadDays());
+        return new WorkloadGenerator(spec).generateEvent(0);
+    }
+}
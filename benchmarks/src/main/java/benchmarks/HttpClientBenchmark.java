@@ -0,0 +1,147 @@
+package benchmarks;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.GenericType;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import commons.Debt;
+
+/**
+ * Measures the overhead of a small GET request made by the client, as it used to be made and as it is made now:
+ * with a new Jersey client per request, with one shared client, and with one shared client whose connections
+ * are pooled and kept alive like the one ServerUtils creates. The server is a local stub that always answers
+ * with the same debts, so the measurement covers the client and the loopback connection, not the real server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpClientBenchmark {
+
+    private static final int DEBTS = 20;
+    private static final GenericType<List<Debt>> DEBTS_TYPE = new GenericType<>() {
+    };
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String url;
+    private Client sharedClient;
+    private WebTarget sharedTarget;
+    private Client pooledClient;
+    private WebTarget pooledTarget;
+
+    /**
+     * Starts the stub server and creates the shared clients.
+     *
+     * @throws IOException if the server cannot be started.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        byte[] body = new ObjectMapper().writeValueAsBytes(Fixtures.debts(DEBTS));
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/events/1/debts", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", APPLICATION_JSON);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort();
+
+        sharedClient = ClientBuilder.newClient(new ClientConfig());
+        sharedTarget = sharedClient.target(url).path("api").path("events");
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(10);
+        connectionManager.setDefaultMaxPerRoute(10);
+        pooledClient = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new ApacheConnectorProvider())
+                .property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager)
+                .property(ClientProperties.CONNECT_TIMEOUT, 5000)
+                .property(ClientProperties.READ_TIMEOUT, 30000)
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED));
+        pooledTarget = pooledClient.target(url).path("api").path("events");
+    }
+
+    /**
+     * Closes the clients and stops the stub server.
+     */
+    @TearDown
+    public void tearDown() {
+        sharedClient.close();
+        pooledClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    /**
+     * Builds a new client for the request, as every request used to. The old code never closed these clients;
+     * here they are closed, or the benchmark itself would run out of memory.
+     *
+     * @return The debts.
+     */
+    @Benchmark
+    public List<Debt> newClientPerRequest() {
+        Client client = ClientBuilder.newClient(new ClientConfig());
+        try {
+            return client.target(url).path("/api/events/1/debts")
+                    .request(APPLICATION_JSON)
+                    .accept(APPLICATION_JSON)
+                    .get(DEBTS_TYPE);
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Reuses one client with the default connector.
+     *
+     * @return The debts.
+     */
+    @Benchmark
+    public List<Debt> sharedClient() {
+        return sharedTarget.path("1").path("debts")
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .get(DEBTS_TYPE);
+    }
+
+    /**
+     * Reuses one client whose connections are pooled and kept alive.
+     *
+     * @return The debts.
+     */
+    @Benchmark
+    public List<Debt> pooledClient() {
+        return pooledTarget.path("1").path("debts")
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .get(DEBTS_TYPE);
+    }
+}
@@ -0,0 +1,80 @@
+package benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import commons.dtos.ExpenseDTO;
+import commons.messages.DebtsChangedMessage;
+import commons.messages.ExpensesUpsertedMessage;
+
+/**
+ * Measures serializing the payloads broadcast over WebSockets after a change to an event:
+ * a single changed expense, a batch of imported expenses and the debts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageSerializationBenchmark {
+
+    private static final int PARTICIPANTS = 50;
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ExpensesUpsertedMessage expenseMessage;
+    private ExpensesUpsertedMessage expensesMessage;
+    private DebtsChangedMessage debtsMessage;
+
+    /**
+     * Creates the messages.
+     */
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        List<ExpenseDTO> expenses = Fixtures.expenseDtos(Fixtures.expenses(Fixtures.participants(PARTICIPANTS), size));
+        expenseMessage = new ExpensesUpsertedMessage(1, List.of(expenses.get(0)));
+        expensesMessage = new ExpensesUpsertedMessage(1, expenses);
+        debtsMessage = new DebtsChangedMessage(1, Fixtures.debts(size));
+    }
+
+    /**
+     * Serializes a single added or updated expense.
+     *
+     * @return The JSON.
+     * @throws JsonProcessingException if the message cannot be serialized.
+     */
+    @Benchmark
+    public byte[] expenseMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(expenseMessage);
+    }
+
+    /**
+     * Serializes a batch of imported expenses.
+     *
+     * @return The JSON.
+     * @throws JsonProcessingException if the message cannot be serialized.
+     */
+    @Benchmark
+    public byte[] expensesMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(expensesMessage);
+    }
+
+    /**
+     * Serializes the debts of an event.
+     *
+     * @return The JSON.
+     * @throws JsonProcessingException if the message cannot be serialized.
+     */
+    @Benchmark
+    public byte[] debtsMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(debtsMessage);
+    }
+}
@@ -0,0 +1,44 @@
+package benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Creates in-memory stand-ins for repositories and services, so benchmarks measure the code under test
+ * instead of a database.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Creates an implementation of an interface that answers the given methods and throws on any other.
+     *
+     * @param type    The interface.
+     * @param answers The answers, by method name, computed from the arguments of the call.
+     * @param <T>     The type of the interface.
+     * @return The stub.
+     */
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+
+            return answer.apply(args);
+        });
+
+        return type.cast(stub);
+    }
+}
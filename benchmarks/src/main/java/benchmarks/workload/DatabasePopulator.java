@@ -0,0 +1,146 @@
+package benchmarks.workload;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import commons.Event;
+import commons.Expense;
+import commons.Participant;
+import commons.Tag;
+import commons.dtos.EventDump;
+import commons.dtos.ExpenseDTO;
+import commons.dtos.ParticipantDTO;
+import commons.dtos.TagDTO;
+import server.database.EventRepository;
+import server.database.ExpenseRepository;
+import server.database.ParticipantRepository;
+import server.database.TagRepository;
+
+/**
+ * Inserts generated events straight through the repositories, bypassing the services.
+ * Events are saved in chunks, one transaction each, so Hibernate can batch the inserts
+ * and the persistence context never grows beyond one chunk.
+ */
+public class DatabasePopulator {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final ParticipantRepository participantRepository;
+    private final TagRepository tagRepository;
+    private final ExpenseRepository expenseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    /**
+     * Constructs a populator.
+     *
+     * @param eventRepository       The repository for events.
+     * @param participantRepository The repository for participants.
+     * @param tagRepository         The repository for tags.
+     * @param expenseRepository     The repository for expenses.
+     * @param transactionTemplate   Runs every chunk in its own transaction.
+     * @param chunkSize             The number of events per transaction.
+     */
+    public DatabasePopulator(EventRepository eventRepository, ParticipantRepository participantRepository,
+                             TagRepository tagRepository, ExpenseRepository expenseRepository,
+                             TransactionTemplate transactionTemplate, int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.participantRepository = participantRepository;
+        this.tagRepository = tagRepository;
+        this.expenseRepository = expenseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Inserts events.
+     *
+     * @param dumps The events.
+     * @return The number of events inserted.
+     */
+    public int populate(Stream<EventDump> dumps) {
+        List<EventEntities> chunk = new ArrayList<>(chunkSize);
+        int count = 0;
+        for (Iterator<EventDump> it = dumps.iterator(); it.hasNext(); count++) {
+            chunk.add(toEntities(it.next()));
+            if (chunk.size() == chunkSize) {
+                save(chunk);
+            }
+        }
+        save(chunk);
+
+        return count;
+    }
+
+    /**
+     * Saves a chunk of events in one transaction and empties it.
+     * Every table is written with one saveAll, parents first.
+     *
+     * @param chunk The events.
+     */
+    private void save(List<EventEntities> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventRepository.saveAll(chunk.stream().map(EventEntities::event).toList());
+            participantRepository.saveAll(chunk.stream().flatMap(e -> e.participants().stream()).toList());
+            tagRepository.saveAll(chunk.stream().flatMap(e -> e.tags().stream()).toList());
+            expenseRepository.saveAll(chunk.stream().flatMap(e -> e.expenses().stream()).toList());
+        });
+        chunk.clear();
+    }
+
+    /**
+     * Builds the entities of a dump, linking expenses to the participants and tags the dump ids refer to.
+     * The collections of the event are left empty: the entities hash all their fields,
+     * and every entity is saved through its own repository anyway.
+     *
+     * @param dump The dump.
+     * @return The event and the entities belonging to it.
+     */
+    static EventEntities toEntities(EventDump dump) {
+        Event event = new Event(dump.name(), dump.inviteCode());
+
+        Map<Long, Participant> participants = new LinkedHashMap<>();
+        for (ParticipantDTO dto : dump.participants()) {
+            Participant participant = new Participant(dto.name(), dto.email(), dto.iban(), dto.bic());
+            participant.setEvent(event);
+            participants.put(dto.id(), participant);
+        }
+
+        Map<Long, Tag> tags = new LinkedHashMap<>();
+        for (TagDTO dto : dump.tags()) {
+            Tag tag = new Tag(dto.name(), dto.color());
+            tag.setEvent(event);
+            tags.put(dto.id(), tag);
+        }
+
+        List<Expense> expenses = new ArrayList<>();
+        for (ExpenseDTO dto : dump.expenses()) {
+            Set<Participant> returners = new HashSet<>();
+            dto.returnerIds().forEach(id -> returners.add(participants.get(id)));
+            Expense expense = new Expense(participants.get(dto.payerId()), dto.amountInEUR(), dto.currency(),
+                    dto.date(), dto.purpose(), returners, tags.get(dto.tagId()), dto.isDebt());
+            expense.setEvent(event);
+            expenses.add(expense);
+        }
+
+        return new EventEntities(event, List.copyOf(participants.values()), List.copyOf(tags.values()), expenses);
+    }
+
+    /**
+     * The entities generated for one event.
+     *
+     * @param event        The event.
+     * @param participants The participants of the event.
+     * @param tags         The tags of the event.
+     * @param expenses     The expenses of the event.
+     */
+    record EventEntities(Event event, List<Participant> participants, List<Tag> tags, List<Expense> expenses) {
+    }
+}
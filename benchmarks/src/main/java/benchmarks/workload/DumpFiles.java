@@ -0,0 +1,76 @@
+package benchmarks.workload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import commons.dtos.EventDump;
+
+/**
+ * Stores event dumps as one JSON file per event, in the format of the admin event-dump endpoint.
+ */
+public final class DumpFiles {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private DumpFiles() {
+    }
+
+    /**
+     * Writes dumps to a directory, creating it if needed.
+     *
+     * @param directory The directory.
+     * @param dumps     The dumps.
+     * @return The number of dumps written.
+     */
+    public static int write(Path directory, Stream<EventDump> dumps) {
+        try {
+            Files.createDirectories(directory);
+            int count = 0;
+            for (Iterator<EventDump> it = dumps.iterator(); it.hasNext(); count++) {
+                OBJECT_MAPPER.writeValue(directory.resolve(String.format("event-%07d.json", count)).toFile(), it.next());
+            }
+
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads all dumps from a directory, in the order they were written.
+     *
+     * @param directory The directory.
+     * @return The dumps.
+     */
+    public static List<EventDump> read(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .sorted()
+                    .map(DumpFiles::readDump)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads one dump.
+     *
+     * @param file The file.
+     * @return The dump.
+     */
+    private static EventDump readDump(Path file) {
+        try {
+            return OBJECT_MAPPER.readValue(file.toFile(), EventDump.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
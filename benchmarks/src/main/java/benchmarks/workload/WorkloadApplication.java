@@ -0,0 +1,14 @@
+package benchmarks.workload;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Starts only the persistence layer of the server, without the web server or the services.
+ */
+@SpringBootApplication
+@EntityScan(basePackages = {"commons", "server.database"})
+@EnableJpaRepositories(basePackages = "server.database")
+public class WorkloadApplication {
+}
@@ -0,0 +1,133 @@
+package benchmarks.workload;
+
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import commons.dtos.EventDump;
+import commons.dtos.ExpenseDTO;
+import commons.dtos.ParticipantDTO;
+import commons.dtos.TagDTO;
+
+/**
+ * Generates synthetic events. Every event only depends on the spec and its index,
+ * so any range of events can be regenerated on its own.
+ */
+public class WorkloadGenerator {
+
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+    private static final int INVITE_CODE_RADIX = 36;
+    private static final int MAX_AMOUNT_CENTS = 50_000;
+    private static final double UNTAGGED_SHARE = 0.2;
+    private static final String[] PURPOSES = {"Groceries", "Dinner", "Train tickets", "Museum", "Taxi", "Drinks",
+        "Hotel", "Fuel", "Concert", "Lunch"};
+
+    private final WorkloadSpec spec;
+    private final ZipfDistribution returnerCounts;
+    private final ZipfDistribution currencies;
+
+    /**
+     * Constructs a generator.
+     *
+     * @param spec The description of the events.
+     */
+    public WorkloadGenerator(WorkloadSpec spec) {
+        this.spec = spec;
+        this.returnerCounts = new ZipfDistribution(spec.maxReturners(), spec.returnerSkew());
+        this.currencies = new ZipfDistribution(spec.currencies().size(), 1);
+    }
+
+    /**
+     * Generates all events of the spec, lazily.
+     *
+     * @return The events.
+     */
+    public Stream<EventDump> generate() {
+        return IntStream.range(0, spec.events()).mapToObj(this::generateEvent);
+    }
+
+    /**
+     * Generates one event. Ids in the dump are local to the event and start at 1.
+     *
+     * @param index The index of the event.
+     * @return The event.
+     */
+    public EventDump generateEvent(int index) {
+        Random random = new Random(spec.seed() * MIX + index);
+
+        int participantCount = between(random, spec.minParticipants(), spec.maxParticipants());
+        List<ParticipantDTO> participants = new ArrayList<>();
+        for (int i = 1; i <= participantCount; i++) {
+            participants.add(new ParticipantDTO(i, "Participant " + i, "participant" + i + "@example.com",
+                    "NL91ABNA04171643" + String.format("%02d", i % 100), "ABNANL2A"));
+        }
+
+        List<TagDTO> tags = new ArrayList<>();
+        for (int i = 1; i <= spec.tagsPerEvent(); i++) {
+            tags.add(new TagDTO("Tag " + i, String.format("#%06X", random.nextInt(0x1000000)), i));
+        }
+
+        int expenseCount = between(random, spec.minExpenses(), spec.maxExpenses());
+        List<ExpenseDTO> expenses = new ArrayList<>();
+        for (int i = 1; i <= expenseCount; i++) {
+            expenses.add(generateExpense(random, i, participantCount));
+        }
+
+        return new EventDump("Event " + index, inviteCode(index), expenses, participants, tags);
+    }
+
+    /**
+     * Generates one expense.
+     *
+     * @param random           The source of randomness of the event.
+     * @param id               The id of the expense.
+     * @param participantCount The number of participants of the event.
+     * @return The expense.
+     */
+    private ExpenseDTO generateExpense(Random random, long id, int participantCount) {
+        int returnerCount = Math.min(returnerCounts.sample(random), participantCount);
+        Set<Long> returnerIds = new HashSet<>();
+        while (returnerIds.size() < returnerCount) {
+            returnerIds.add(1L + random.nextInt(participantCount));
+        }
+
+        long cents = Math.max(1, Math.round(Math.exp(random.nextDouble() * Math.log(MAX_AMOUNT_CENTS))));
+        BigDecimal amount = BigDecimal.valueOf(cents, 2);
+        String currency = spec.currencies().get(currencies.sample(random) - 1);
+
+        Calendar date = GregorianCalendar.from(spec.endDate()
+                .minusDays(random.nextInt(spec.dateSpreadDays() + 1)).atStartOfDay(ZoneOffset.UTC));
+        long tagId = spec.tagsPerEvent() == 0 || random.nextDouble() < UNTAGGED_SHARE ? 0
+                : 1 + random.nextInt(spec.tagsPerEvent());
+
+        return new ExpenseDTO(amount, currency, date, PURPOSES[random.nextInt(PURPOSES.length)], date, date, id,
+                1L + random.nextInt(participantCount), returnerIds, tagId, false);
+    }
+
+    /**
+     * Creates an invite code unique within the seed. It is longer than the codes of the server,
+     * so it does not collide with events created through the API.
+     *
+     * @param index The index of the event.
+     * @return The invite code.
+     */
+    private String inviteCode(int index) {
+        String code = Long.toString(Math.floorMod(spec.seed() * MIX, 1_000_000L) * 10_000_000L + index,
+                INVITE_CODE_RADIX).toUpperCase();
+        return "G" + code;
+    }
+
+    /**
+     * Picks a number uniformly in a range.
+     *
+     * @param random The source of randomness.
+     * @param min    The lower bound, inclusive.
+     * @param max    The upper bound, inclusive.
+     * @return The number.
+     */
+    private static int between(Random random, int min, int max) {
+        return min + random.nextInt(max - min + 1);
+    }
+}
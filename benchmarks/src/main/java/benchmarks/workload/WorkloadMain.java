@@ -0,0 +1,72 @@
+package benchmarks.workload;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import server.database.EventRepository;
+import server.database.ExpenseRepository;
+import server.database.ParticipantRepository;
+import server.database.TagRepository;
+
+/**
+ * Generates a workload from the command line. Options are given as --name=value:
+ * the components of {@link WorkloadSpec}, --dumps=[directory] to write the events as JSON files,
+ * and --database=[JDBC URL] to insert them into a database.
+ *
+ * <p>Inserting is bound by Hibernate flushing the entities, about 45 rows per generated event. It runs at about
+ * 300 events/s into an in-memory H2 database (jdbc:h2:mem:...) and 135 events/s into an H2 file database, whatever
+ * the --chunkSize, so 100k events take about 6 and 12 minutes. Large loads should therefore target an in-memory
+ * database, or be written as dumps. H2 2.x rejects the LOG=0 setting older versions used to speed up file databases.
+ */
+public final class WorkloadMain {
+
+    private WorkloadMain() {
+    }
+
+    /**
+     * Generates the workload.
+     *
+     * @param args The options.
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+
+        WorkloadGenerator generator = new WorkloadGenerator(WorkloadSpec.fromOptions(options));
+
+        if (options.containsKey("dumps")) {
+            long start = System.nanoTime();
+            int count = DumpFiles.write(Path.of(options.get("dumps")), generator.generate());
+            System.out.printf("Wrote %d dumps in %.1f s%n", count, (System.nanoTime() - start) / 1e9);
+        }
+
+        if (options.containsKey("database")) {
+            int chunkSize = Integer.parseInt(options.getOrDefault("chunkSize",
+                    String.valueOf(DatabasePopulator.DEFAULT_CHUNK_SIZE)));
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(WorkloadApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.datasource.url=" + options.get("database"),
+                            "--spring.jpa.hibernate.ddl-auto=update",
+                            "--spring.jpa.properties.hibernate.jdbc.batch_size=" + chunkSize,
+                            "--spring.jpa.properties.hibernate.order_inserts=true")) {
+                DatabasePopulator populator = new DatabasePopulator(context.getBean(EventRepository.class),
+                        context.getBean(ParticipantRepository.class), context.getBean(TagRepository.class),
+                        context.getBean(ExpenseRepository.class), context.getBean(TransactionTemplate.class),
+                        chunkSize);
+
+                long start = System.nanoTime();
+                int count = populator.populate(generator.generate());
+                System.out.printf("Inserted %d events in %.1f s%n", count, (System.nanoTime() - start) / 1e9);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package benchmarks.workload;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes the events to generate. The same spec always gives the same events.
+ *
+ * @param seed            The seed of all random choices.
+ * @param events          The number of events.
+ * @param minParticipants The minimum number of participants per event.
+ * @param maxParticipants The maximum number of participants per event.
+ * @param minExpenses     The minimum number of expenses per event.
+ * @param maxExpenses     The maximum number of expenses per event.
+ * @param maxReturners    The maximum number of returners per expense.
+ * @param returnerSkew    The Zipf exponent of the number of returners, higher means fewer returners.
+ * @param currencies      The currencies, the first ones are used the most.
+ * @param tagsPerEvent    The number of tags per event.
+ * @param endDate         The date of the most recent expenses.
+ * @param dateSpreadDays  How many days before the end date expenses can be.
+ */
+public record WorkloadSpec(long seed, int events, int minParticipants, int maxParticipants,
+                           int minExpenses, int maxExpenses, int maxReturners, double returnerSkew,
+                           List<String> currencies, int tagsPerEvent, LocalDate endDate, int dateSpreadDays) {
+
+    /**
+     * Gets the spec of a small workload with typical events.
+     *
+     * @return The spec.
+     */
+    public static WorkloadSpec defaults() {
+        return new WorkloadSpec(42, 1000, 2, 12, 0, 40, 10, 1.2,
+                List.of("EUR", "USD", "CHF"), 3, LocalDate.of(2024, 6, 1), 365);
+    }
+
+    /**
+     * Overrides the defaults with options named after the components, e.g. {@code events=100000}.
+     * Currencies are separated by commas.
+     *
+     * @param options The options.
+     * @return The spec.
+     */
+    public static WorkloadSpec fromOptions(Map<String, String> options) {
+        WorkloadSpec defaults = defaults();
+        String currencies = options.get("currencies");
+        String endDate = options.get("endDate");
+        return new WorkloadSpec(
+                Long.parseLong(options.getOrDefault("seed", String.valueOf(defaults.seed()))),
+                intOption(options, "events", defaults.events()),
+                intOption(options, "minParticipants", defaults.minParticipants()),
+                intOption(options, "maxParticipants", defaults.maxParticipants()),
+                intOption(options, "minExpenses", defaults.minExpenses()),
+                intOption(options, "maxExpenses", defaults.maxExpenses()),
+                intOption(options, "maxReturners", defaults.maxReturners()),
+                Double.parseDouble(options.getOrDefault("returnerSkew", String.valueOf(defaults.returnerSkew()))),
+                currencies == null ? defaults.currencies() : Arrays.asList(currencies.split(",")),
+                intOption(options, "tagsPerEvent", defaults.tagsPerEvent()),
+                endDate == null ? defaults.endDate() : LocalDate.parse(endDate),
+                intOption(options, "dateSpreadDays", defaults.dateSpreadDays()));
+    }
+
+    /**
+     * Reads an integer option.
+     *
+     * @param options      The options.
+     * @param name         The name of the option.
+     * @param defaultValue The value if the option is missing.
+     * @return The value.
+     */
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+    }
+}
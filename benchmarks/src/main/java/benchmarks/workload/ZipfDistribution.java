@@ -0,0 +1,46 @@
+package benchmarks.workload;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples ranks 1 to n where rank k has a probability proportional to 1 / k^exponent.
+ */
+public class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    /**
+     * Constructs the distribution.
+     *
+     * @param n        The number of ranks.
+     * @param exponent How strongly the lower ranks are favoured, 0 gives a uniform distribution.
+     */
+    public ZipfDistribution(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("A Zipf distribution needs at least one rank.");
+        }
+
+        cumulative = new double[n];
+        double total = 0;
+        for (int k = 1; k <= n; k++) {
+            total += 1 / Math.pow(k, exponent);
+            cumulative[k - 1] = total;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    /**
+     * Samples a rank.
+     *
+     * @param random The source of randomness.
+     * @return A rank between 1 and n.
+     */
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index + 1 : -index;
+        return Math.min(rank, cumulative.length);
+    }
+}
@@ -0,0 +1,96 @@
+package benchmarks.workload;
+
+import commons.Expense;
+import commons.dtos.EventDump;
+import commons.dtos.ExpenseDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadGeneratorTest {
+
+    private static final WorkloadSpec SPEC = WorkloadSpec.fromOptions(Map.of("events", "20", "seed", "7"));
+
+    @Test
+    void generate_SameSeed_GivesSameEvents() {
+        assertEquals(new WorkloadGenerator(SPEC).generate().toList(), new WorkloadGenerator(SPEC).generate().toList());
+    }
+
+    @Test
+    void generate_DifferentSeed_GivesDifferentEvents() {
+        WorkloadSpec other = WorkloadSpec.fromOptions(Map.of("events", "20", "seed", "8"));
+
+        assertNotEquals(new WorkloadGenerator(SPEC).generate().toList(),
+                new WorkloadGenerator(other).generate().toList());
+    }
+
+    @Test
+    void generateEvent_StaysWithinSpec() {
+        List<EventDump> dumps = new WorkloadGenerator(SPEC).generate().toList();
+
+        assertEquals(20, dumps.size());
+        assertEquals(20, dumps.stream().map(EventDump::inviteCode).collect(Collectors.toSet()).size());
+        for (EventDump dump : dumps) {
+            assertTrue(dump.participants().size() >= SPEC.minParticipants());
+            assertTrue(dump.participants().size() <= SPEC.maxParticipants());
+            assertTrue(dump.expenses().size() <= SPEC.maxExpenses());
+            for (ExpenseDTO expense : dump.expenses()) {
+                assertTrue(expense.payerId() >= 1 && expense.payerId() <= dump.participants().size());
+                assertFalse(expense.returnerIds().isEmpty());
+                assertTrue(expense.returnerIds().size() <= SPEC.maxReturners());
+                assertTrue(SPEC.currencies().contains(expense.currency()));
+                assertTrue(expense.tagId() <= SPEC.tagsPerEvent());
+                assertTrue(expense.amountInEUR().signum() > 0);
+            }
+        }
+    }
+
+    @Test
+    void zipfDistribution_FavoursLowRanks() {
+        ZipfDistribution zipf = new ZipfDistribution(10, 1.2);
+        Random random = new Random(1);
+        int[] counts = new int[11];
+        for (int i = 0; i < 10_000; i++) {
+            counts[zipf.sample(random)]++;
+        }
+
+        assertEquals(0, counts[0]);
+        assertTrue(counts[1] > counts[2]);
+        assertTrue(counts[2] > counts[10]);
+    }
+
+    @Test
+    void dumpFiles_ReadBackWhatWasWritten(@TempDir Path directory) {
+        List<EventDump> dumps = new WorkloadGenerator(SPEC).generate().limit(3).toList();
+
+        assertEquals(3, DumpFiles.write(directory, dumps.stream()));
+        List<EventDump> read = DumpFiles.read(directory);
+
+        assertEquals(3, read.size());
+        assertEquals(dumps.get(1).inviteCode(), read.get(1).inviteCode());
+        assertEquals(dumps.get(1).expenses().size(), read.get(1).expenses().size());
+    }
+
+    @Test
+    void toEntities_LinksExpensesToParticipants() {
+        EventDump dump = new WorkloadGenerator(SPEC).generateEvent(0);
+
+        DatabasePopulator.EventEntities entities = DatabasePopulator.toEntities(dump);
+
+        assertEquals(dump.participants().size(), entities.participants().size());
+        assertEquals(dump.tags().size(), entities.tags().size());
+        assertEquals(dump.expenses().size(), entities.expenses().size());
+        for (Expense expense : entities.expenses()) {
+            assertSame(entities.event(), expense.getEvent());
+            assertTrue(entities.participants().stream().anyMatch(p -> p == expense.getPayer()));
+            assertTrue(entities.participants().containsAll(expense.getReturners()));
+        }
+    }
+}
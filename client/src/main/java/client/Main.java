@@ -8,6 +8,7 @@ import java.util.Locale;
 import java.util.ResourceBundle;
 
 import client.utils.ConfigManager;
+import client.utils.StartupTimer;
 import com.google.inject.Injector;
 
 import javafx.application.Application;
@@ -39,26 +40,19 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage primaryStage) {
+        StartupTimer.mark("JavaFX started");
         ConfigManager configManager = new ConfigManager("config.properties");
         ResourceBundle bundle = ResourceBundle.getBundle("languages.labels", new Locale(configManager.getLanguage()));
 
-        var start = Main.FXML.load(StartScreenCtrl.class, bundle, "client", "scenes", "StartScreen.fxml");
-        var overview = Main.FXML.load(EventOverviewCtrl.class, bundle, "client", "scenes", "EventOverview.fxml");
-        var invite = Main.FXML.load(InviteScreenCtrl.class, bundle, "client", "scenes", "InviteScreen.fxml");
-        var participant = Main.FXML.load(AddParticipantCtrl.class, bundle, "client", "scenes", "AddParticipant.fxml");
-        var expense = Main.FXML.load(AddExpenseCtrl.class, bundle, "client", "scenes", "AddExpense.fxml");
-        var tag = Main.FXML.load(AddTagCtrl.class, bundle, "client", "scenes", "AddTag.fxml");
-        var tagEdit = Main.FXML.load(EditTagCtrl.class, bundle, "client", "scenes", "EditTag.fxml");
-        var debt = Main.FXML.load(DebtOverviewCtrl.class, bundle, "client", "scenes", "DebtOverview.fxml");
-        var settings = Main.FXML.load(SettingsScreenCtrl.class, bundle, "client", "scenes", "SettingsScreen.fxml");
-        var login = Main.FXML.load(LoginScreenCtrl.class, bundle, "client", "scenes", "LoginScreen.fxml");
-        var admin = Main.FXML.load(AdminPanelCtrl.class, bundle, "client", "scenes", "AdminPanel.fxml");
-        var statistics = Main.FXML.load(StatisticsScreenCtrl.class, bundle, "client", "scenes", "StatisticsScreen.fxml");
-
         var mainCtrl = INJECTOR.getInstance(MainCtrl.class);
-        mainCtrl.initialize(primaryStage, start, overview, invite, participant, expense, tag, tagEdit,
-                debt, settings, login, admin, statistics, bundle);
-
-        primaryStage.setOnCloseRequest(event -> admin.getKey().stopExecutors());
+        mainCtrl.initialize(primaryStage, Main.FXML::load, bundle);
+        StartupTimer.mark("start screen shown");
+        StartupTimer.afterFirstFrame(() -> {
+            if (configManager.getPreloadScenes()) {
+                mainCtrl.preloadScenes();
+            }
+        });
+
+        primaryStage.setOnCloseRequest(event -> INJECTOR.getInstance(AdminPanelCtrl.class).stopExecutors());
     }
 }
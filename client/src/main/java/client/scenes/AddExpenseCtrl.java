@@ -17,11 +17,13 @@ import java.math.RoundingMode;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.time.LocalDate;
 import java.time.ZoneId;
 
 import client.utils.ExchangeManager;
+import client.utils.PendingRequests;
 import client.utils.ServerUtils;
 
 import commons.dtos.EventDTO;
@@ -34,6 +36,7 @@ public class AddExpenseCtrl {
     private final ServerUtils server;
     private final MainCtrl mainCtrl;
     private final ExchangeManager exchange;
+    private final PendingRequests requests = new PendingRequests();
     private ResourceBundle resources;
 
     @FXML
@@ -310,9 +313,32 @@ public class AddExpenseCtrl {
     }
 
     /**
-     * Creates an Expense based on the input fields in the UI.
+     * Creates an Expense based on the input fields in the UI, once the exchange rates of its date are loaded.
      */
     public void onSave() {
+        LocalDate localDate = dateDatePicker.getValue();
+        String currency = currencyDropdown.getValue();
+        if (localDate == null || currency == null) {
+            saveExpense();
+            return;
+        }
+
+        List<Calendar> dates = List.of(GregorianCalendar.from(localDate.atStartOfDay(ZoneOffset.UTC)),
+                GregorianCalendar.from(localDate.atStartOfDay(ZoneId.systemDefault())));
+        saveExpenseButton.setDisable(true);
+        requests.send(exchange.loadRatesAsync(dates, currency), loaded -> {
+            saveExpenseButton.setDisable(false);
+            saveExpense();
+        }, exception -> {
+            saveExpenseButton.setDisable(false);
+            showError(exception.getMessage());
+        });
+    }
+
+    /**
+     * Creates an Expense based on the input fields in the UI.
+     */
+    private void saveExpense() {
         if (!checkInputValidity()) {
             return;
         }
@@ -330,24 +356,36 @@ public class AddExpenseCtrl {
         long tagId = tagDropdown.getSelectionModel().getSelectedItem() != null ? tagDropdown.getSelectionModel().getSelectedItem().id() : 0;
 
         ExpenseDTO expenseDto;
+        String successMessage;
+        CompletableFuture<Void> request;
         if (currentExpense == null) {
             expenseDto = new ExpenseDTO(amountInEUR, currency, date, purpose, date, date, 0, payerId, returnerIds, tagId, false);
-            server.addExpense(currentEvent.id(), expenseDto);
-            showSuccess(resources.getString("expense_success_create_message"));
+            request = server.addExpenseAsync(currentEvent.id(), expenseDto);
+            successMessage = resources.getString("expense_success_create_message");
         } else {
             expenseDto = new ExpenseDTO(amountInEUR, currency, date, purpose, Calendar.getInstance(),
                     currentExpense.createdOn(), currentExpense.id(), payerId, returnerIds, tagId, false);
-            server.updateExpense(currentEvent.id(), currentExpense.id(), expenseDto);
-            showSuccess(resources.getString("expense_success_update_message"));
+            request = server.updateExpenseAsync(currentEvent.id(), currentExpense.id(), expenseDto);
+            successMessage = resources.getString("expense_success_update_message");
         }
 
-        cancel();
+        saveExpenseButton.setDisable(true);
+        requests.write(request, saved -> {
+            saveExpenseButton.setDisable(false);
+            showSuccess(successMessage);
+            cancel();
+        }, exception -> {
+            saveExpenseButton.setDisable(false);
+            showError(exception.getMessage());
+        });
     }
 
     /**
      * Cancels the operation, clears the fields and shows the event overview.
      */
     public void cancel() {
+        requests.cancelAll();
+        saveExpenseButton.setDisable(false);
         purposeTextField.clear();
         amountTextField.clear();
         currencyDropdown.setValue(null);
@@ -7,7 +7,9 @@ import javafx.scene.control.*;
 import javafx.scene.layout.Pane;
 
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 
+import client.utils.PendingRequests;
 import client.utils.ServerUtils;
 
 import commons.dtos.EventDTO;
@@ -17,6 +19,7 @@ public class AddParticipantCtrl {
 
     private final ServerUtils server;
     private final MainCtrl mainCtrl;
+    private final PendingRequests requests = new PendingRequests();
     private ResourceBundle resources;
 
     @FXML
@@ -101,23 +104,35 @@ public class AddParticipantCtrl {
         String iban = ibanTextField.getText().isBlank() ? null : ibanTextField.getText();
         String bic = bicTextField.getText().isBlank() ? null : bicTextField.getText();
 
+        String successMessage;
+        CompletableFuture<Void> request;
         if (currentParticipant == null) {
             ParticipantDTO newParticipant = new ParticipantDTO(0, name, email, iban, bic);
-            server.addParticipant(currentEvent.id(), newParticipant);
-            showSuccess(resources.getString("participant_success_create_message"));
+            request = server.addParticipantAsync(currentEvent.id(), newParticipant);
+            successMessage = resources.getString("participant_success_create_message");
         } else {
             ParticipantDTO updatedParticipant = new ParticipantDTO(currentParticipant.id(), name, email, iban, bic);
-            server.updateParticipant(currentEvent.id(), currentParticipant.id(), updatedParticipant);
-            showSuccess(resources.getString("participant_success_edit_message"));
+            request = server.updateParticipantAsync(currentEvent.id(), currentParticipant.id(), updatedParticipant);
+            successMessage = resources.getString("participant_success_edit_message");
         }
 
-        cancel();
+        saveButton.setDisable(true);
+        requests.write(request, result -> {
+            saveButton.setDisable(false);
+            showSuccess(successMessage);
+            cancel();
+        }, exception -> {
+            saveButton.setDisable(false);
+            showError(exception.getMessage());
+        });
     }
 
     /**
      * Action called when cancel button is pressed
      */
     public void cancel() {
+        requests.cancelAll();
+        saveButton.setDisable(false);
         nameTextField.clear();
         emailTextField.clear();
         ibanTextField.clear();
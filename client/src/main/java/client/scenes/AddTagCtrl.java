@@ -11,6 +11,7 @@ import javafx.scene.paint.Color;
 import java.util.Optional;
 import java.util.ResourceBundle;
 
+import client.utils.PendingRequests;
 import client.utils.ServerUtils;
 
 import commons.dtos.EventDTO;
@@ -20,6 +21,7 @@ public class AddTagCtrl {
 
     private final ServerUtils server;
     private final MainCtrl mainCtrl;
+    private final PendingRequests requests = new PendingRequests();
     private ResourceBundle resources;
 
     @FXML
@@ -76,6 +78,7 @@ public class AddTagCtrl {
      * @param event action
      */
     public void goBack(ActionEvent event) {
+        requests.cancelAll();
         mainCtrl.returnToAddExpenseScreen(isEditingExpense);
         clearFields();
     }
@@ -100,11 +103,11 @@ public class AddTagCtrl {
         Optional<ButtonType> result = confirmationAlert.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
             TagDTO tagDTO = new TagDTO(tagName.getText(), tagColor.getValue().toString(), 0);
-            server.addTag(event.id(), tagDTO);
-
-            Alert alert = new Alert(Alert.AlertType.INFORMATION, resources.getString("add_tag_successful"), ButtonType.OK);
-            alert.showAndWait();
-            clearFields();
+            requests.write(server.addTagAsync(event.id(), tagDTO), added -> {
+                Alert alert = new Alert(Alert.AlertType.INFORMATION, resources.getString("add_tag_successful"), ButtonType.OK);
+                alert.showAndWait();
+                clearFields();
+            });
         }
     }
 
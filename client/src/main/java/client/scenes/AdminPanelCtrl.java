@@ -16,15 +16,22 @@ import javafx.stage.FileChooser;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
+import client.utils.PendingRequests;
 import client.utils.ServerUtils;
 
+import commons.dtos.EventChangeDTO;
 import commons.dtos.EventDTO;
+import commons.dtos.EventPageDTO;
 
 public class AdminPanelCtrl {
 
+    private static final int EVENTS_PAGE_SIZE = 50;
+
     private final ServerUtils server;
     private final MainCtrl mainCtrl;
+    private final PendingRequests requests = new PendingRequests();
     private ResourceBundle resources;
 
     private boolean isLight;
@@ -34,10 +41,16 @@ public class AdminPanelCtrl {
     @FXML
     private GridPane eventsGrid;
     @FXML
+    private ScrollPane scrollPane;
+    @FXML
+    private TextField searchField;
+    @FXML
     private Pane parent;
 
-    private ObservableList<EventDTO> currentEvents;
     private String sortType = "created";
+    private String nextEventsCursor;
+    private CompletableFuture<EventPageDTO> eventsPageRequest;
+    private final List<EventDTO> shownEvents = new ArrayList<>();
 
     /**
      * Constructs an AddExpenseCtrl instance.
@@ -66,13 +79,17 @@ public class AdminPanelCtrl {
 
     @FXML
     private void initialize() {
-        currentEvents = FXCollections.observableArrayList(server.getEvents());
-        populateEventsGrid();
+        scrollPane.vvalueProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue.doubleValue() >= scrollPane.getVmax() && nextEventsCursor != null) {
+                String cursor = nextEventsCursor;
+                nextEventsCursor = null;
+                loadEventsPage(cursor);
+            }
+        });
+        searchField.textProperty().addListener((observable, oldValue, newValue) -> populateEventsGrid());
 
-        server.registerForEventUpdates(events -> Platform.runLater(() -> {
-            currentEvents.setAll(events);
-            populateEventsGrid();
-        }));
+        server.registerForEventUpdates(changes -> Platform.runLater(() -> applyEventChanges(changes)),
+                () -> Platform.runLater(this::populateEventsGrid));
 
         populateDropdown();
     }
@@ -100,6 +117,7 @@ public class AdminPanelCtrl {
      * @param event Action event.
      */
     public void onBack(ActionEvent event) {
+        requests.cancelAll();
         mainCtrl.showStartScreen();
     }
 
@@ -127,7 +145,8 @@ public class AdminPanelCtrl {
                 }
 
                 String everything = sb.toString();
-                server.uploadEvent(everything);
+                requests.write(server.uploadEventAsync(everything), uploaded -> {
+                });
             } catch (FileNotFoundException ignored) {
             } catch (IOException e) {
                 throw new RuntimeException(e);
@@ -137,39 +156,99 @@ public class AdminPanelCtrl {
     }
 
     /**
-     * Loads all events to the table
+     * Loads the first page of events to the table. Further pages are loaded when the table is scrolled to the bottom.
      */
     public void populateEventsGrid() {
-        switch (sortType) {
-            case "name_label" -> currentEvents.sort((event1, event2) -> {
-                if (event1.title() == null) return -1;
-                if (event2.title() == null) return 1;
-                return event1.title().compareToIgnoreCase(event2.title());
-            });
-            case "last_updated" -> currentEvents.sort((event1, event2) -> {
-                if (event1.updatedOn() == null) return -1;
-                if (event2.updatedOn() == null) return 1;
-                return -event1.updatedOn().compareTo(event2.updatedOn());
-            });
-            case "created" -> currentEvents.sort((event1, event2) -> {
-                if (event1.createdOn() == null) return -1;
-                if (event2.updatedOn() == null) return 1;
-                return -event1.createdOn().compareTo(event2.createdOn());
-            });
+        if (eventsPageRequest != null) {
+            eventsPageRequest.cancel(true);
+        }
+        eventsGrid.getChildren().clear();
+        shownEvents.clear();
+        nextEventsCursor = null;
+        scrollPane.setVvalue(scrollPane.getVmin());
+
+        loadEventsPage(null);
+    }
+
+    /**
+     * Adds a page of events, sorted and filtered by the server, to the bottom of the table.
+     *
+     * @param cursor the cursor of the page, or null for the first page
+     */
+    private void loadEventsPage(String cursor) {
+        String sort = switch (sortType) {
+            case "name_label" -> "title";
+            case "last_updated" -> "updatedOn";
+            default -> "createdOn";
+        };
+
+        eventsPageRequest = requests.send(server.getAdminEventsAsync(EVENTS_PAGE_SIZE, sort, searchField.getText(), cursor), page -> {
+            for (EventDTO currentEvent : page.events()) {
+                // an event may have been added by an update while the page was loading
+                if (shownEvents.stream().noneMatch(event -> event.id() == currentEvent.id())) {
+                    addEventRow(shownEvents.size(), currentEvent);
+                    shownEvents.add(currentEvent);
+                }
+            }
+
+            nextEventsCursor = page.nextCursor();
+        });
+    }
+
+    /**
+     * Applies changed events to the loaded events, without loading them again.
+     * A changed event is only shown if it sorts among the loaded events, otherwise it comes with a later page.
+     *
+     * @param changes the changes since the last update
+     */
+    private void applyEventChanges(List<EventChangeDTO> changes) {
+        Comparator<EventDTO> order = eventOrder();
+        String search = searchField.getText().toLowerCase(Locale.ROOT);
+
+        for (EventChangeDTO change : changes) {
+            shownEvents.removeIf(event -> event.id() == change.eventId());
+            if (change.type() == EventChangeDTO.Type.DELETED
+                    || !change.event().title().toLowerCase(Locale.ROOT).startsWith(search)) {
+                continue;
+            }
+
+            int position = 0;
+            while (position < shownEvents.size() && order.compare(shownEvents.get(position), change.event()) < 0) {
+                position++;
+            }
+            if (position < shownEvents.size() || nextEventsCursor == null) {
+                shownEvents.add(position, change.event());
+            }
         }
 
         eventsGrid.getChildren().clear();
-        for (int i = 0; i < currentEvents.size(); i++) {
-            EventDTO currentEvent = currentEvents.get(i);
-            Label eventNameLabel = new Label(currentEvent.title());
-            Button enterEventButton = setUpEnterEventButton(currentEvent);
-            Button downloadEventInfoButton = setUpDownloadButton(currentEvent);
-            Button deleteButton = setUpDeleteButton(currentEvent);
-
-            eventsGrid.addRow(i, eventNameLabel, enterEventButton, downloadEventInfoButton, deleteButton);
+        for (int row = 0; row < shownEvents.size(); row++) {
+            addEventRow(row, shownEvents.get(row));
         }
     }
 
+    /**
+     * Gets the order in which the server sorts the events for the current sort type.
+     *
+     * @return the order of the events
+     */
+    private Comparator<EventDTO> eventOrder() {
+        return switch (sortType) {
+            case "name_label" -> Comparator.comparing(EventDTO::title).thenComparingLong(EventDTO::id);
+            case "last_updated" -> Comparator.comparing(EventDTO::updatedOn).thenComparingLong(EventDTO::id).reversed();
+            default -> Comparator.comparing(EventDTO::createdOn).thenComparingLong(EventDTO::id).reversed();
+        };
+    }
+
+    private void addEventRow(int row, EventDTO currentEvent) {
+        Label eventNameLabel = new Label(currentEvent.title());
+        Button enterEventButton = setUpEnterEventButton(currentEvent);
+        Button downloadEventInfoButton = setUpDownloadButton(currentEvent);
+        Button deleteButton = setUpDeleteButton(currentEvent);
+
+        eventsGrid.addRow(row, eventNameLabel, enterEventButton, downloadEventInfoButton, deleteButton);
+    }
+
     /**
      * Re-sorts the events based on the changed sort type.
      *
@@ -193,6 +272,7 @@ public class AdminPanelCtrl {
     private Button setUpEnterEventButton(EventDTO currentEvent) {
         Button enterEventButton = generateButtonWithIcon("/client/scenes/icons/eyeIcon.png");
         enterEventButton.setOnAction((ActionEvent actionEvent) -> {
+            requests.cancelAll();
             mainCtrl.showEventOverview(currentEvent, "admin");
         });
 
@@ -209,11 +289,13 @@ public class AdminPanelCtrl {
             File file = fileChooser.showSaveDialog(null);
 
             if (file != null) {
-                try (FileWriter writer = new FileWriter(file)) {
-                    writer.write(server.getEventDump(currentEvent.id()));
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+                requests.send(server.getEventDumpAsync(currentEvent.id()), dump -> {
+                    try (FileWriter writer = new FileWriter(file)) {
+                        writer.write(dump);
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                });
             }
         });
 
@@ -227,7 +309,8 @@ public class AdminPanelCtrl {
                     resources.getString("delete_event_confirmation"), ButtonType.NO, ButtonType.YES);
             Optional<ButtonType> result = confirmationAlert.showAndWait();
             if (result.isPresent() && result.get() == ButtonType.YES) {
-                server.deleteEvent(currentEvent.id());
+                requests.write(server.deleteEventAsync(currentEvent.id()), deleted -> {
+                });
             }
         });
 
@@ -14,6 +14,7 @@ import javafx.util.Callback;
 import java.util.Optional;
 import java.util.ResourceBundle;
 
+import client.utils.PendingRequests;
 import client.utils.ServerUtils;
 
 import commons.dtos.EventDTO;
@@ -24,6 +25,7 @@ public class EditTagCtrl {
 
     private final ServerUtils server;
     private final MainCtrl mainCtrl;
+    private final PendingRequests requests = new PendingRequests();
     private ResourceBundle resources;
 
     @FXML
@@ -134,6 +136,7 @@ public class EditTagCtrl {
      * @param event action
      */
     public void goBack(ActionEvent event) {
+        requests.cancelAll();
         mainCtrl.returnToAddExpenseScreen(isEditingExpense);
         clearFields();
     }
@@ -169,11 +172,11 @@ public class EditTagCtrl {
         Optional<ButtonType> result = confirmationAlert.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
             TagDTO tagDTO = new TagDTO(tagName.getText(), tagColor.getValue().toString(), tagDropdown.getValue().id());
-            server.updateTag(currentEvent.id(), tagDTO);
-
-            Alert alert = new Alert(Alert.AlertType.INFORMATION, resources.getString("update_tag_successful"), ButtonType.OK);
-            alert.showAndWait();
-            clearFields();
+            requests.write(server.updateTagAsync(currentEvent.id(), tagDTO), updated -> {
+                Alert alert = new Alert(Alert.AlertType.INFORMATION, resources.getString("update_tag_successful"), ButtonType.OK);
+                alert.showAndWait();
+                clearFields();
+            });
         }
     }
 
@@ -214,11 +217,11 @@ public class EditTagCtrl {
         Alert confirmationAlert = new Alert(Alert.AlertType.CONFIRMATION, resources.getString("delete_tag_confirmation_message"), ButtonType.OK);
         Optional<ButtonType> result = confirmationAlert.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
-            server.deleteTag(currentEvent.id(), tagDropdown.getValue().id());
-
-            Alert alert = new Alert(Alert.AlertType.INFORMATION, resources.getString("delete_tag_successful"), ButtonType.OK);
-            alert.showAndWait();
-            clearFields();
+            requests.write(server.deleteTagAsync(currentEvent.id(), tagDropdown.getValue().id()), deleted -> {
+                Alert alert = new Alert(Alert.AlertType.INFORMATION, resources.getString("delete_tag_successful"), ButtonType.OK);
+                alert.showAndWait();
+                clearFields();
+            });
         }
     }
 }
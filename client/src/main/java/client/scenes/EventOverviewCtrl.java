@@ -25,12 +25,12 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Stream;
-
-import org.springframework.messaging.simp.stomp.StompSession;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ToLongFunction;
 
 import client.utils.ConfigManager;
 import client.utils.ExchangeManager;
+import client.utils.PendingRequests;
 import client.utils.ServerUtils;
 
 import commons.dtos.*;
@@ -43,10 +43,22 @@ public class EventOverviewCtrl {
         ALL, FROM, INCLUDING
     }
 
+    private static final int EXPENSES_PAGE_SIZE = 50;
+
+    /**
+     * The order the server lists the expenses of an event in: newest date first, then the latest update, then the highest id.
+     */
+    private static final Comparator<ExpenseDTO> EXPENSE_ORDER = Comparator
+            .comparingLong((ExpenseDTO expense) -> toMillis(expense.date()))
+            .thenComparingLong(expense -> toMillis(expense.updatedOn()))
+            .thenComparingLong(ExpenseDTO::id)
+            .reversed();
+
     private final ServerUtils server;
     private final MainCtrl mainCtrl;
     private final ExchangeManager exchange;
     private final ConfigManager configManager;
+    private final PendingRequests requests = new PendingRequests();
     private ResourceBundle resources;
 
     private boolean isLight;
@@ -58,6 +70,8 @@ public class EventOverviewCtrl {
     @FXML
     private ImageView flag;
     @FXML
+    private ScrollPane expensesScrollPane;
+    @FXML
     private GridPane expensesGrid;
     @FXML
     private TextField editEventNameField;
@@ -88,13 +102,21 @@ public class EventOverviewCtrl {
 
     private EventDTO currentEvent;
     private ObservableList<ExpenseDTO> currentExpenses;
-    private StompSession.Subscription currentExpensesSubscription;
+    private long currentSequence;
+    private long currentVersion;
+    private boolean isLoading;
+    private boolean isOutdated;
+    private long skippedSequence;
+    private ServerUtils.Subscription currentExpensesSubscription;
+    private String nextExpensesCursor;
+    private CompletableFuture<ExpensePageDTO> expensesPageRequest;
+    private final List<ExpenseDTO> expenseRows = new ArrayList<>();
     private ObservableList<ParticipantDTO> currentParticipants;
-    private StompSession.Subscription currentParticipantsSubscription;
+    private ServerUtils.Subscription currentParticipantsSubscription;
     private ObservableList<TagDTO> currentTags;
-    private StompSession.Subscription currentTagsSubscription;
+    private ServerUtils.Subscription currentTagsSubscription;
     private ObservableList<Debt> currentDebts;
-    private StompSession.Subscription currentDebtsSubscription;
+    private ServerUtils.Subscription currentDebtsSubscription;
 
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     private Optional<ParticipantDTO> lastFilterParticipant = Optional.empty();
@@ -168,6 +190,14 @@ public class EventOverviewCtrl {
 
         allExpensesButton.setOnAction(actionEvent -> populateExpensesGrid(Optional.empty(), ExpenseFilter.ALL));
 
+        expensesScrollPane.vvalueProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue.doubleValue() >= expensesScrollPane.getVmax() && nextExpensesCursor != null) {
+                String cursor = nextExpensesCursor;
+                nextExpensesCursor = null;
+                loadExpensesPage(cursor);
+            }
+        });
+
         fromSelectedButton.setOnAction(actionEvent -> {
             ParticipantDTO selectedParticipant = participantDropdown.getSelectionModel().getSelectedItem();
             if (selectedParticipant != null) {
@@ -231,41 +261,37 @@ public class EventOverviewCtrl {
         Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/flags/" + configManager.getLanguage() + ".png")));
         flag.setImage(image);
         mainCtrl.showEventOverview();
+        boolean loaded = currentEvent != null && currentEvent.id() == event.id() && currentParticipants != null;
         currentEvent = event;
+        requests.cancelAll();
+        if (!loaded) currentVersion = 0;
 
         if (currentParticipantsSubscription != null) currentParticipantsSubscription.unsubscribe();
-        currentParticipants = FXCollections.observableArrayList(server.getParticipants(event.id()));
+        if (!loaded) currentParticipants = FXCollections.observableArrayList();
         currentParticipantsSubscription = server.registerForMessages("/topic/events/" + event.id() + "/participants",
-                ParticipantsMessage.class, message -> Platform.runLater(() -> {
-                    currentParticipants.setAll(message.participants());
-                    populateParticipantsGrid();
-                    clearSelectionAndResetButtonTexts();
-                    populateExpensesGrid(Optional.empty(), ExpenseFilter.ALL);
-                }));
+                ParticipantDeltaMessage.class, message -> Platform.runLater(() -> applyParticipantChange(message)));
 
         if (currentExpensesSubscription != null) currentExpensesSubscription.unsubscribe();
-        currentExpenses = FXCollections.observableArrayList(server.getExpenses(event.id()));
-        currentExpensesSubscription = server.registerForMessages("/topic/events/" + event.id() + "/expenses", ExpensesMessage.class,
-                message -> Platform.runLater(() -> {
-                    currentExpenses.setAll(message.expenses());
-                    populateExpensesGrid(lastFilterParticipant, lastFilterMode);
-                }));
+        if (!loaded) currentExpenses = FXCollections.observableArrayList();
+        currentExpensesSubscription = server.registerForMessages("/topic/events/" + event.id() + "/expenses", ExpenseDeltaMessage.class,
+                message -> Platform.runLater(() -> applyExpenseChange(message)));
 
         if (currentTagsSubscription != null) currentTagsSubscription.unsubscribe();
-        currentTags = FXCollections.observableArrayList(server.getAllTags(event.id()));
-        currentTagsSubscription = server.registerForMessages("/topic/events/" + event.id() + "/tags", TagsMessage.class, message -> {
-            Platform.runLater(() -> {
-                currentTags.setAll(message.tags());
-            });
-        });
+        if (!loaded) currentTags = FXCollections.observableArrayList();
+        currentTagsSubscription = server.registerForMessages("/topic/events/" + event.id() + "/tags", TagsMessage.class,
+                message -> Platform.runLater(() -> applyTags(message)));
 
         if (currentDebtsSubscription != null) currentDebtsSubscription.unsubscribe();
-        currentDebts = FXCollections.observableArrayList(server.getDebts(event.id()));
-        currentDebtsSubscription = server.registerForMessages("/topic/events/" + event.id() + "/debts", DebtsMessage.class, message -> {
-            Platform.runLater(() -> {
-                currentDebts.setAll(message.debts());
-            });
-        });
+        if (!loaded) currentDebts = FXCollections.observableArrayList();
+        currentDebtsSubscription = server.registerForMessages("/topic/events/" + event.id() + "/debts", DebtsChangedMessage.class,
+                message -> Platform.runLater(() -> applyDebts(message)));
+        catchUpOnceSubscribed();
+
+        if (loaded) {
+            loadChanges();
+        } else {
+            loadSnapshot();
+        }
 
         eventNameLabel.setText(event.title());
         inviteCodeLabel.setText(resources.getString("invite_code") + " " + event.inviteCode());
@@ -276,6 +302,237 @@ public class EventOverviewCtrl {
         populateExpensesGrid(Optional.empty(), ExpenseFilter.ALL);
     }
 
+    /**
+     * Applies a change to the participants of the current event sent by the server.
+     *
+     * @param message The change.
+     */
+    private void applyParticipantChange(ParticipantDeltaMessage message) {
+        if (!isNextChange(message)) {
+            return;
+        }
+        if (message instanceof ParticipantUpsertedMessage upserted) {
+            upsert(currentParticipants, List.of(upserted.participant()), ParticipantDTO::id);
+        } else if (message instanceof ParticipantDeletedMessage deleted) {
+            currentParticipants.removeIf(participant -> participant.id() == deleted.participantId());
+        }
+        populateParticipantsGrid();
+        if (lastFilterParticipant.isPresent() && currentParticipants.stream().noneMatch(p -> p.id() == lastFilterParticipant.get().id())) {
+            clearSelectionAndResetButtonTexts();
+            populateExpensesGrid(Optional.empty(), ExpenseFilter.ALL);
+        } else {
+            for (int row = 0; row < expenseRows.size(); row++) {
+                ExpenseDTO expense = expenseRows.get(row);
+                removeExpenseRow(row);
+                insertExpenseRow(row, expense);
+            }
+        }
+    }
+
+    /**
+     * Applies a change to the expenses of the current event sent by the server.
+     *
+     * @param message The change.
+     */
+    private void applyExpenseChange(ExpenseDeltaMessage message) {
+        if (!isNextChange(message)) {
+            return;
+        }
+        if (message instanceof ExpensesUpsertedMessage upserted) {
+            upsert(currentExpenses, upserted.expenses(), ExpenseDTO::id);
+            showExpenseChanges(upserted.expenses().stream().map(ExpenseDTO::id).toList());
+        } else if (message instanceof ExpenseDeletedMessage deleted) {
+            currentExpenses.removeIf(expense -> expense.id() == deleted.expenseId());
+            showExpenseChanges(List.of(deleted.expenseId()));
+        }
+    }
+
+    /**
+     * Replaces the tags of the current event with the ones sent by the server.
+     *
+     * @param message The tags.
+     */
+    private void applyTags(TagsMessage message) {
+        currentTags.setAll(message.tags());
+    }
+
+    /**
+     * Replaces the debts of the current event with the ones sent by the server, if they are the next change.
+     *
+     * @param message The debts.
+     */
+    private void applyDebts(DebtsChangedMessage message) {
+        if (isNextChange(message)) {
+            currentDebts.setAll(message.debts());
+        }
+    }
+
+    /**
+     * Loads what changed while the subscriptions of the current event were being made, once they are.
+     * Nothing is loaded if the subscriptions were replaced in the meantime.
+     */
+    private void catchUpOnceSubscribed() {
+        ServerUtils.Subscription participantsSubscription = currentParticipantsSubscription;
+        CompletableFuture<Void> subscribed = CompletableFuture.allOf(currentParticipantsSubscription.whenSubscribed(),
+                currentExpensesSubscription.whenSubscribed(), currentTagsSubscription.whenSubscribed(),
+                currentDebtsSubscription.whenSubscribed());
+        if (!subscribed.isDone()) {
+            subscribed.thenRun(() -> Platform.runLater(() -> {
+                if (currentParticipantsSubscription == participantsSubscription) {
+                    catchUpAfterSubscribing();
+                }
+            }));
+        }
+    }
+
+    /**
+     * Loads the participants, expenses, tags and debts of the current event in a single request.
+     * The snapshot includes the number of the last change it contains, so the changes that arrive later can be applied on top.
+     */
+    private void loadSnapshot() {
+        startLoading();
+        requests.send(server.getEventSnapshotAsync(currentEvent.id()), snapshot -> {
+            currentSequence = snapshot.sequence();
+            currentVersion = snapshot.version();
+            currentParticipants.setAll(snapshot.participants());
+            currentExpenses.setAll(snapshot.expenses());
+            currentTags.setAll(snapshot.tags());
+            currentDebts.setAll(snapshot.debts());
+            finishLoading();
+        }, this::failLoading);
+    }
+
+    /**
+     * Brings the loaded participants, expenses, tags and debts of the current event up to date by only loading what changed
+     * since the loaded version. Falls back to a snapshot if the server no longer knows everything that was deleted since then.
+     */
+    private void loadChanges() {
+        startLoading();
+        long eventId = currentEvent.id();
+        requests.send(server.getEventChangesAsync(eventId, currentVersion), changes -> {
+            if (changes.snapshotRequired()) {
+                loadSnapshot();
+                return;
+            }
+
+            currentSequence = changes.sequence();
+            currentVersion = changes.version();
+            upsert(currentParticipants, changes.participants(), ParticipantDTO::id);
+            currentParticipants.removeIf(participant -> changes.deletedParticipantIds().contains(participant.id()));
+            upsert(currentExpenses, changes.expenses(), ExpenseDTO::id);
+            currentExpenses.removeIf(expense -> changes.deletedExpenseIds().contains(expense.id()));
+            upsert(currentTags, changes.tags(), TagDTO::id);
+            currentTags.removeIf(tag -> changes.deletedTagIds().contains(tag.id()));
+            requests.send(server.getDebtsAsync(eventId), debts -> {
+                currentDebts.setAll(debts);
+                finishLoading();
+            }, this::failLoading);
+        }, this::failLoading);
+    }
+
+    /**
+     * Loads what changed in the current event before its subscriptions were made, as those changes were never sent
+     * to this client. If the lists are being loaded, the changes are loaded once they are.
+     */
+    private void catchUpAfterSubscribing() {
+        if (isLoading) {
+            skippedSequence = Long.MAX_VALUE;
+        } else if (isOutdated) {
+            loadSnapshot();
+        } else {
+            loadChanges();
+        }
+    }
+
+    /**
+     * Marks the lists as being loaded. The changes sent by the server in the meantime are skipped,
+     * as the loaded lists may already contain them.
+     */
+    private void startLoading() {
+        isLoading = true;
+        isOutdated = false;
+        skippedSequence = 0;
+    }
+
+    /**
+     * Shows the loaded lists, and loads the changes that were skipped while loading if the lists do not contain them.
+     */
+    private void finishLoading() {
+        isLoading = false;
+        populateParticipantsGrid();
+        clearSelectionAndResetButtonTexts();
+        populateExpensesGrid(Optional.empty(), ExpenseFilter.ALL);
+
+        if (skippedSequence > currentSequence) {
+            loadChanges();
+        }
+    }
+
+    /**
+     * Reports a failed load. The next change sent by the server loads the whole event again.
+     *
+     * @param exception The exception the load failed with.
+     */
+    private void failLoading(Throwable exception) {
+        isLoading = false;
+        isOutdated = true;
+        Alert alert = new Alert(Alert.AlertType.ERROR, resources.getString("error_getting_event_details"), ButtonType.OK);
+        alert.showAndWait();
+    }
+
+    /**
+     * Checks whether a change sent by the server is the next change to the current event.
+     * Changes that the loaded lists contain already are skipped. If a change was missed, what changed since the loaded version is loaded.
+     *
+     * @param message The change.
+     * @return true if the change should be applied to the loaded lists.
+     */
+    private boolean isNextChange(EventDeltaMessage message) {
+        if (isLoading) {
+            skippedSequence = Math.max(skippedSequence, message.sequence());
+            return false;
+        }
+        if (isOutdated) {
+            loadSnapshot();
+            return false;
+        }
+        if (message.sequence() <= currentSequence) {
+            return false;
+        }
+        if (message.sequence() > currentSequence + 1) {
+            loadChanges();
+            return false;
+        }
+
+        currentSequence = message.sequence();
+        return true;
+    }
+
+    /**
+     * Replaces the items with the same id as a changed item, and adds the changed items that are new.
+     *
+     * @param items   The loaded items.
+     * @param changed The added or updated items.
+     * @param id      Gets the id of an item.
+     * @param <T>     Item type.
+     */
+    private static <T> void upsert(List<T> items, List<T> changed, ToLongFunction<T> id) {
+        Map<Long, Integer> indices = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            indices.put(id.applyAsLong(items.get(i)), i);
+        }
+
+        for (T item : changed) {
+            Integer index = indices.get(id.applyAsLong(item));
+            if (index == null) {
+                indices.put(id.applyAsLong(item), items.size());
+                items.add(item);
+            } else {
+                items.set(index, item);
+            }
+        }
+    }
+
     /**
      * Generates a button with the corresponding image.
      *
@@ -343,46 +600,54 @@ public class EventOverviewCtrl {
 
         Optional<ButtonType> result = confirmationAlert.showAndWait();
         if (result.isPresent() && result.get().getButtonData() == ButtonBar.ButtonData.YES) {
-            if (isInvolvedInAnyExpense(participant)) {
-                Alert warningDeletion = new Alert(Alert.AlertType.INFORMATION,
-                        resources.getString("delete_participant_warning"), ButtonType.CLOSE);
-                warningDeletion.setHeaderText(resources.getString("delete_warning"));
-                warningDeletion.showAndWait();
-                return;
-            }
+            long eventId = currentEvent.id();
+            requests.send(isInvolvedInAnyExpense(participant), isInvolved -> {
+                if (isInvolved) {
+                    Alert warningDeletion = new Alert(Alert.AlertType.INFORMATION,
+                            resources.getString("delete_participant_warning"), ButtonType.CLOSE);
+                    warningDeletion.setHeaderText(resources.getString("delete_warning"));
+                    warningDeletion.showAndWait();
+                    return;
+                }
 
-            boolean isDeleted = server.deleteParticipant(currentEvent.id(), participant.id());
-            if (isDeleted) {
-                Alert successAlert = new Alert(Alert.AlertType.INFORMATION,
-                        resources.getString("confirm_deletion_success_participant"), ButtonType.OK);
-                successAlert.setTitle(resources.getString("success"));
-                successAlert.showAndWait();
-            } else {
-                Alert errorAlert = new Alert(Alert.AlertType.ERROR, resources.getString("something_went_wrong_participant"), ButtonType.OK);
-                errorAlert.setTitle(resources.getString("error_title"));
-                errorAlert.showAndWait();
-            }
+                requests.write(server.deleteParticipantAsync(eventId, participant.id()), this::showParticipantDeleted,
+                        exception -> showParticipantDeleted(false));
+            }, exception -> showParticipantDeleted(false));
         }
     }
 
     /**
-     * Checks if the participant is involved in any form in an expense.
+     * Tells the user whether the Participant was deleted.
      *
-     * @param participant the participant that we need to check
-     * @return true if participant is part of an expense, else false
+     * @param isDeleted Whether the Participant was deleted.
      */
-    private boolean isInvolvedInAnyExpense(ParticipantDTO participant) {
-        for (ExpenseDTO expense : currentExpenses) {
-            if (expense.payerId() == participant.id() || expense.returnerIds().contains(participant.id())) {
-                return true;
-            }
+    private void showParticipantDeleted(boolean isDeleted) {
+        if (isDeleted) {
+            Alert successAlert = new Alert(Alert.AlertType.INFORMATION,
+                    resources.getString("confirm_deletion_success_participant"), ButtonType.OK);
+            successAlert.setTitle(resources.getString("success"));
+            successAlert.showAndWait();
+        } else {
+            Alert errorAlert = new Alert(Alert.AlertType.ERROR, resources.getString("something_went_wrong_participant"), ButtonType.OK);
+            errorAlert.setTitle(resources.getString("error_title"));
+            errorAlert.showAndWait();
         }
+    }
 
-        return false;
+    /**
+     * Checks if the participant is involved in any form in an expense.
+     *
+     * @param participant the participant that we need to check
+     * @return a future of true if participant is part of an expense, else false
+     */
+    private CompletableFuture<Boolean> isInvolvedInAnyExpense(ParticipantDTO participant) {
+        return server.getExpensePageAsync(currentEvent.id(), 1, null, null, participant.id())
+                .thenApply(page -> !page.expenses().isEmpty());
     }
 
     /**
-     * Populates expensesGrid with data of the Expenses corresponding to the Event.
+     * Populates expensesGrid with the first page of the Expenses corresponding to the Event.
+     * Further pages are loaded as the user scrolls to the bottom of the grid.
      *
      * @param filterParticipant filter for a specific participant.
      * @param filterMode        The type of filter applied to expensesGrid.
@@ -393,46 +658,31 @@ public class EventOverviewCtrl {
         lastFilterMode = filterMode;
 
         expensesGrid.getChildren().clear();
+        expenseRows.clear();
+        nextExpensesCursor = null;
+        expensesScrollPane.setVvalue(expensesScrollPane.getVmin());
 
-        List<ExpenseDTO> filteredExpenses = getFilteredExpenses(filterParticipant, filterMode);
-        int row = 0;
-        for (ExpenseDTO expense : filteredExpenses) {
-            Label tagLabel = generateTagLabel(expense);
-            Label expenseLabel = generateExpenseLabel(expense);
-            if (!isLight) {
-                expenseLabel.setTextFill(Color.rgb(255, 255, 255));
-            }
-            Button editExpenseButton = generateButtonWithIcon("/client/scenes/icons/editIcon.png");
-            Button deleteExpenseButton = generateButtonWithIcon("/client/scenes/icons/deleteIcon.png");
-
-            editExpenseButton.setOnAction(actionEvent ->
-                    mainCtrl.showEditExpense(currentEvent, currentParticipants, currentTags, expense, currentExpenses));
-            deleteExpenseButton.setOnAction(actionEvent -> deleteExpenseConfirmation(expense));
-
-            expensesGrid.addRow(row++, tagLabel, expenseLabel, editExpenseButton, deleteExpenseButton);
-        }
+        if (expensesPageRequest != null) expensesPageRequest.cancel(true);
+        loadExpensesPage(null);
     }
 
     /**
-     * Filters the current expenses with the specified participant and filter mode.
+     * Fetches a page of the expenses matching the current filter from the server, together with the exchange rates
+     * of their dates, and appends it to expensesGrid.
      *
-     * @param filterParticipant Participant to filter with.
-     * @param filterMode        Filter mode.
-     * @return List of filtered expenses.
+     * @param cursor The cursor of the page, or null for the first page.
      */
-    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-    private List<ExpenseDTO> getFilteredExpenses(Optional<ParticipantDTO> filterParticipant, ExpenseFilter filterMode) {
-        Stream<ExpenseDTO> expensesStream = currentExpenses.stream();
-
-        if (filterParticipant.isPresent()) {
-            long participantId = filterParticipant.get().id();
-            switch (filterMode) {
+    private void loadExpensesPage(String cursor) {
+        Long payerId = null;
+        Long participantId = null;
+        if (lastFilterParticipant.isPresent()) {
+            long filterParticipantId = lastFilterParticipant.get().id();
+            switch (lastFilterMode) {
                 case FROM:
-                    expensesStream = expensesStream.filter(expense -> expense.payerId() == participantId);
+                    payerId = filterParticipantId;
                     break;
                 case INCLUDING:
-                    expensesStream = expensesStream.filter(expense -> expense.payerId() == participantId
-                            || expense.returnerIds().contains(participantId));
+                    participantId = filterParticipantId;
                     break;
                 case ALL:
                 default:
@@ -440,7 +690,157 @@ public class EventOverviewCtrl {
             }
         }
 
-        return expensesStream.toList();
+        String currency = configManager.getCurrency();
+        expensesPageRequest = server.getExpensePageAsync(currentEvent.id(), EXPENSES_PAGE_SIZE, cursor, payerId, participantId)
+                .thenCompose(page -> exchange.loadRatesAsync(page.expenses().stream().map(ExpenseDTO::date).toList(), currency)
+                        .thenApply(loaded -> page));
+        requests.send(expensesPageRequest, this::showExpensesPage);
+    }
+
+    /**
+     * Appends a page of expenses to expensesGrid.
+     *
+     * @param page The page of expenses.
+     */
+    private void showExpensesPage(ExpensePageDTO page) {
+        for (ExpenseDTO expense : page.expenses()) {
+            // an expense pushed by the server while the page was loading is shown already
+            if (indexOfExpenseRow(expense.id()) < 0) {
+                insertExpenseRow(expenseRows.size(), expense);
+            }
+        }
+
+        nextExpensesCursor = page.nextCursor();
+    }
+
+    /**
+     * Updates the rows of changed expenses in expensesGrid, without loading the expenses again.
+     * A changed expense is moved to where it belongs in the order of the grid, or removed if it was deleted or
+     * no longer matches the filter. A new expense that belongs after the last loaded row is left to the page it is on.
+     *
+     * @param expenseIds The IDs of the changed expenses. Their current state is taken from the loaded expenses.
+     */
+    private void showExpenseChanges(List<Long> expenseIds) {
+        List<Calendar> dates = currentExpenses.stream()
+                .filter(expense -> expenseIds.contains(expense.id()))
+                .map(ExpenseDTO::date)
+                .toList();
+        requests.send(exchange.loadRatesAsync(dates, configManager.getCurrency()), loaded -> {
+            for (long expenseId : expenseIds) {
+                int row = indexOfExpenseRow(expenseId);
+                if (row >= 0) {
+                    removeExpenseRow(row);
+                }
+
+                Optional<ExpenseDTO> expense = currentExpenses.stream().filter(e -> e.id() == expenseId).findFirst();
+                if (expense.isEmpty() || !matchesFilter(expense.get())) {
+                    continue;
+                }
+
+                int index = 0;
+                while (index < expenseRows.size() && EXPENSE_ORDER.compare(expenseRows.get(index), expense.get()) < 0) {
+                    index++;
+                }
+                boolean isLastPageLoaded = nextExpensesCursor == null && (expensesPageRequest == null || expensesPageRequest.isDone());
+                if (index < expenseRows.size() || isLastPageLoaded) {
+                    insertExpenseRow(index, expense.get());
+                }
+            }
+        });
+    }
+
+    /**
+     * Checks whether an expense is listed with the current filter of expensesGrid, like the server does when loading a page.
+     *
+     * @param expense The expense.
+     * @return true if the expense matches the filter.
+     */
+    private boolean matchesFilter(ExpenseDTO expense) {
+        if (lastFilterParticipant.isEmpty()) {
+            return true;
+        }
+
+        long participantId = lastFilterParticipant.get().id();
+        return switch (lastFilterMode) {
+            case FROM -> expense.payerId() == participantId;
+            case INCLUDING -> expense.payerId() == participantId || expense.returnerIds().contains(participantId);
+            case ALL -> true;
+        };
+    }
+
+    /**
+     * Finds the row of an expense in expensesGrid.
+     *
+     * @param expenseId The ID of the expense.
+     * @return The row, or -1 if the expense is not shown.
+     */
+    private int indexOfExpenseRow(long expenseId) {
+        for (int row = 0; row < expenseRows.size(); row++) {
+            if (expenseRows.get(row).id() == expenseId) {
+                return row;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Inserts a row for an expense into expensesGrid, moving the rows below it down.
+     *
+     * @param row     The row.
+     * @param expense The expense.
+     */
+    private void insertExpenseRow(int row, ExpenseDTO expense) {
+        Label tagLabel = generateTagLabel(expense);
+        Label expenseLabel = generateExpenseLabel(expense);
+        if (!isLight) {
+            expenseLabel.setTextFill(Color.rgb(255, 255, 255));
+        }
+        Button editExpenseButton = generateButtonWithIcon("/client/scenes/icons/editIcon.png");
+        Button deleteExpenseButton = generateButtonWithIcon("/client/scenes/icons/deleteIcon.png");
+
+        editExpenseButton.setOnAction(actionEvent ->
+                mainCtrl.showEditExpense(currentEvent, currentParticipants, currentTags, expense, currentExpenses));
+        deleteExpenseButton.setOnAction(actionEvent -> deleteExpenseConfirmation(expense));
+
+        shiftExpenseRows(row, 1);
+        expensesGrid.addRow(row, tagLabel, expenseLabel, editExpenseButton, deleteExpenseButton);
+        expenseRows.add(row, expense);
+    }
+
+    /**
+     * Removes a row from expensesGrid, moving the rows below it up.
+     *
+     * @param row The row.
+     */
+    private void removeExpenseRow(int row) {
+        expensesGrid.getChildren().removeIf(node -> getRowIndex(node) == row);
+        shiftExpenseRows(row + 1, -1);
+        expenseRows.remove(row);
+    }
+
+    /**
+     * Moves the rows of expensesGrid from a row on.
+     *
+     * @param fromRow The first row to move.
+     * @param offset  The number of rows to move them down by, negative to move them up.
+     */
+    private void shiftExpenseRows(int fromRow, int offset) {
+        for (Node node : expensesGrid.getChildren()) {
+            int row = getRowIndex(node);
+            if (row >= fromRow) {
+                GridPane.setRowIndex(node, row + offset);
+            }
+        }
+    }
+
+    private static int getRowIndex(Node node) {
+        Integer row = GridPane.getRowIndex(node);
+        return row == null ? 0 : row;
+    }
+
+    private static long toMillis(Calendar calendar) {
+        return calendar == null ? Long.MIN_VALUE : calendar.getTimeInMillis();
     }
 
     /**
@@ -458,16 +858,25 @@ public class EventOverviewCtrl {
 
         Optional<ButtonType> result = confirmationAlert.showAndWait();
         if (result.isPresent() && result.get().getButtonData() == ButtonBar.ButtonData.YES) {
-            boolean isDeleted = server.deleteExpense(currentEvent.id(), expense.id());
-            if (isDeleted) {
-                Alert successAlert = new Alert(Alert.AlertType.INFORMATION, resources.getString("delete_success_message"), ButtonType.OK);
-                successAlert.setTitle(resources.getString("success"));
-                successAlert.showAndWait();
-            } else {
-                Alert errorAlert = new Alert(Alert.AlertType.ERROR, resources.getString("delete_error_message"), ButtonType.OK);
-                errorAlert.setTitle(resources.getString("error_title"));
-                errorAlert.showAndWait();
-            }
+            requests.write(server.deleteExpenseAsync(currentEvent.id(), expense.id()), this::showExpenseDeleted,
+                    exception -> showExpenseDeleted(false));
+        }
+    }
+
+    /**
+     * Tells the user whether the Expense was deleted.
+     *
+     * @param isDeleted Whether the Expense was deleted.
+     */
+    private void showExpenseDeleted(boolean isDeleted) {
+        if (isDeleted) {
+            Alert successAlert = new Alert(Alert.AlertType.INFORMATION, resources.getString("delete_success_message"), ButtonType.OK);
+            successAlert.setTitle(resources.getString("success"));
+            successAlert.showAndWait();
+        } else {
+            Alert errorAlert = new Alert(Alert.AlertType.ERROR, resources.getString("delete_error_message"), ButtonType.OK);
+            errorAlert.setTitle(resources.getString("error_title"));
+            errorAlert.showAndWait();
         }
     }
 
@@ -603,6 +1012,7 @@ public class EventOverviewCtrl {
      * @param actionEvent of the button press
      */
     public void onBack(ActionEvent actionEvent) {
+        requests.cancelAll();
         if (backScreen.equals("start")) {
             mainCtrl.showStartScreen();
         } else if (backScreen.equals("admin")) {
@@ -615,21 +1025,17 @@ public class EventOverviewCtrl {
      * Saves the changed name for the Event.
      */
     private void onSave() {
-        try {
-            if (editEventNameField.getText().isEmpty()) {
-                Alert alert = new Alert(Alert.AlertType.INFORMATION, resources.getString("all_fields_must_be_filled_out_message"), ButtonType.OK);
-                alert.showAndWait();
-                return;
-            }
-            EventTitleDTO newTitle = new EventTitleDTO(editEventNameField.getText());
-            EventDTO newEvent = server.updateEvent(newTitle, currentEvent.id());
-            setEvent(newEvent);
-        } catch (Exception exception) {
-            Alert alert = new Alert(Alert.AlertType.ERROR, resources.getString("error_saving_new_name"), ButtonType.OK);
+        editEventNameButton.setText(resources.getString("edit_label"));
+        if (editEventNameField.getText().isEmpty()) {
+            Alert alert = new Alert(Alert.AlertType.INFORMATION, resources.getString("all_fields_must_be_filled_out_message"), ButtonType.OK);
             alert.showAndWait();
-        } finally {
-            editEventNameButton.setText(resources.getString("edit_label"));
+            return;
         }
+        EventTitleDTO newTitle = new EventTitleDTO(editEventNameField.getText());
+        requests.write(server.updateEventAsync(newTitle, currentEvent.id()), this::setEvent, exception -> {
+            Alert alert = new Alert(Alert.AlertType.ERROR, resources.getString("error_saving_new_name"), ButtonType.OK);
+            alert.showAndWait();
+        });
     }
 
     /**
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.ResourceBundle;
 
 import client.utils.ConfigManager;
+import client.utils.PendingRequests;
 import client.utils.ServerUtils;
 
 import commons.dtos.EventDTO;
@@ -21,6 +22,7 @@ public class InviteScreenCtrl {
 
     private final ServerUtils server;
     private final MainCtrl mainCtrl;
+    private final PendingRequests requests = new PendingRequests();
     private ResourceBundle resources;
     private final ConfigManager configManager;
     private final EmailManager emailManager;
@@ -74,6 +76,7 @@ public class InviteScreenCtrl {
      * @param event Action event.
      */
     public void onBack(ActionEvent event) {
+        requests.cancelAll();
         mainCtrl.showEventOverview();
     }
 
@@ -94,6 +97,7 @@ public class InviteScreenCtrl {
             return;
         }
 
+        // the participants are added even if the screen is left, as their invites are sent already
         String[] recipients = textArea.getText().split("\n");
 
         for (String recipient : recipients) {
@@ -101,8 +105,9 @@ public class InviteScreenCtrl {
                     resources.getString("splitty_invite") ,
                     resources.getString("invite_email_message") + " " + currentEvent.inviteCode() + "\nSplitty server: " + configManager.getURL()
             );
-            server.addParticipant(currentEvent.id(),
-                    new ParticipantDTO(0, Arrays.stream(recipient.split("@")).findFirst().get(), recipient, null, null));
+            requests.write(server.addParticipantAsync(currentEvent.id(),
+                    new ParticipantDTO(0, Arrays.stream(recipient.split("@")).findFirst().get(), recipient, null, null)), added -> {
+                    });
         }
 
         textArea.setText("");
@@ -11,12 +11,14 @@ import javafx.scene.layout.Pane;
 
 import java.util.ResourceBundle;
 
+import client.utils.PendingRequests;
 import client.utils.ServerUtils;
 
 public class LoginScreenCtrl {
 
     private final ServerUtils server;
     private final MainCtrl mainCtrl;
+    private final PendingRequests requests = new PendingRequests();
     private ResourceBundle resources;
 
     @FXML
@@ -53,6 +55,7 @@ public class LoginScreenCtrl {
      * @param event Action event.
      */
     public void onBack(ActionEvent event) {
+        requests.cancelAll();
         mainCtrl.showStartScreen();
     }
 
@@ -63,14 +66,25 @@ public class LoginScreenCtrl {
      */
     public void onEnter(ActionEvent event) {
         String password = passwordField.getText();
-        if (password.isEmpty() || !server.validatePassword(password)) {
-            Alert alert = new Alert(Alert.AlertType.ERROR, resources.getString("invalid_password"), ButtonType.OK);
-            alert.showAndWait();
+        if (password.isEmpty()) {
+            showInvalidPassword();
             return;
         }
 
-        mainCtrl.showAdminScreen();
-        passwordField.setText("");
+        requests.send(server.validatePasswordAsync(password), isValid -> {
+            if (!isValid) {
+                showInvalidPassword();
+                return;
+            }
+
+            mainCtrl.showAdminScreen();
+            passwordField.setText("");
+        });
+    }
+
+    private void showInvalidPassword() {
+        Alert alert = new Alert(Alert.AlertType.ERROR, resources.getString("invalid_password"), ButtonType.OK);
+        alert.showAndWait();
     }
 
     /**
@@ -1,5 +1,6 @@
 package client.scenes;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -10,7 +11,11 @@ import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
 import javafx.util.Pair;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.ResourceBundle;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import commons.dtos.EventDTO;
@@ -21,175 +26,120 @@ import commons.Debt;
 
 public class MainCtrl {
 
+    private static final String STYLE_CSS_PATH = "/client/styles/ProjectStyle.css";
+
     private Stage primaryStage;
     private ResourceBundle resources;
+    private SceneLoader loader;
+    private boolean isLightMode = true;
+
+    private final List<LazyScene<?>> scenes = new ArrayList<>();
 
-    private StartScreenCtrl startScreenCtrl;
-    private Scene startScreen;
+    private final LazyScene<StartScreenCtrl> startScreen = new LazyScene<>(StartScreenCtrl.class, "StartScreen.fxml",
+            StartScreenCtrl::updateResources, StartScreenCtrl::changeStyleMode, null);
 
-    private EventOverviewCtrl eventOverviewCtrl;
-    private Scene eventOverview;
+    private final LazyScene<EventOverviewCtrl> eventOverview = new LazyScene<>(EventOverviewCtrl.class, "EventOverview.fxml",
+            EventOverviewCtrl::updateResources, EventOverviewCtrl::changeStyleMode, ctrl -> ctrl.onBack(new ActionEvent()));
 
-    private InviteScreenCtrl inviteScreenCtrl;
-    private Scene inviteScreen;
+    private final LazyScene<InviteScreenCtrl> inviteScreen = new LazyScene<>(InviteScreenCtrl.class, "InviteScreen.fxml",
+            InviteScreenCtrl::updateResources, InviteScreenCtrl::changeStyleMode, ctrl -> ctrl.onBack(new ActionEvent()));
 
-    private AddParticipantCtrl addParticipantCtrl;
-    private Scene addParticipant;
+    private final LazyScene<AddParticipantCtrl> addParticipant = new LazyScene<>(AddParticipantCtrl.class, "AddParticipant.fxml",
+            AddParticipantCtrl::updateResources, AddParticipantCtrl::changeStyleMode, AddParticipantCtrl::cancel);
 
-    private AddExpenseCtrl addExpenseCtrl;
-    private Scene addExpense;
+    private final LazyScene<AddExpenseCtrl> addExpense = new LazyScene<>(AddExpenseCtrl.class, "AddExpense.fxml",
+            AddExpenseCtrl::updateResources, AddExpenseCtrl::changeStyleMode, AddExpenseCtrl::cancel);
 
-    private AddTagCtrl addTagCtrl;
-    private Scene addTagScreen;
+    private final LazyScene<AddTagCtrl> addTagScreen = new LazyScene<>(AddTagCtrl.class, "AddTag.fxml",
+            AddTagCtrl::updateResources, AddTagCtrl::changeStyleMode, ctrl -> ctrl.goBack(new ActionEvent()));
 
-    private EditTagCtrl editTagCtrl;
-    private Scene editTagScreen;
+    private final LazyScene<EditTagCtrl> editTagScreen = new LazyScene<>(EditTagCtrl.class, "EditTag.fxml",
+            EditTagCtrl::updateResources, EditTagCtrl::changeStyleMode, ctrl -> ctrl.goBack(new ActionEvent()));
 
-    private DebtOverviewCtrl debtOverviewCtrl;
-    private Scene debtOverviewScreen;
+    private final LazyScene<DebtOverviewCtrl> debtOverviewScreen = new LazyScene<>(DebtOverviewCtrl.class, "DebtOverview.fxml",
+            DebtOverviewCtrl::updateResources, DebtOverviewCtrl::changeStyleMode, ctrl -> ctrl.onBack(new ActionEvent()));
 
-    private SettingsScreenCtrl settingsScreenCtrl;
-    private Scene settingsScreen;
+    private final LazyScene<SettingsScreenCtrl> settingsScreen = new LazyScene<>(SettingsScreenCtrl.class, "SettingsScreen.fxml",
+            SettingsScreenCtrl::updateResources, SettingsScreenCtrl::changeStyleMode, ctrl -> ctrl.onBack(new ActionEvent()));
 
-    private LoginScreenCtrl loginScreenCtrl;
-    private Scene loginScreen;
+    private final LazyScene<LoginScreenCtrl> loginScreen = new LazyScene<>(LoginScreenCtrl.class, "LoginScreen.fxml",
+            LoginScreenCtrl::updateResources, LoginScreenCtrl::changeStyleMode, ctrl -> ctrl.onBack(new ActionEvent()));
 
-    private AdminPanelCtrl adminPanelCtrl;
-    private Scene adminPanel;
+    private final LazyScene<AdminPanelCtrl> adminPanel = new LazyScene<>(AdminPanelCtrl.class, "AdminPanel.fxml",
+            AdminPanelCtrl::updateResources, AdminPanelCtrl::changeStyleMode, ctrl -> ctrl.onBack(new ActionEvent()));
 
-    private StatisticsScreenCtrl statisticsScreenCtrl;
-    private Scene statisticsScreen;
+    private final LazyScene<StatisticsScreenCtrl> statisticsScreen = new LazyScene<>(StatisticsScreenCtrl.class, "StatisticsScreen.fxml",
+            StatisticsScreenCtrl::updateResources, StatisticsScreenCtrl::changeStyleMode, ctrl -> ctrl.onBack(new ActionEvent()));
 
     /**
-     * Initializes the main control.
+     * Loads the controller and the root node of a scene from its FXML file.
+     */
+    @FunctionalInterface
+    public interface SceneLoader {
+
+        /**
+         * Loads an FXML file.
+         *
+         * @param ctrlClass Class of the controller.
+         * @param resources ResourceBundle resources.
+         * @param parts     Parts of the path of the FXML file.
+         * @param <T>       Controller type.
+         * @return Loaded controller and parent.
+         */
+        <T> Pair<T, Parent> load(Class<T> ctrlClass, ResourceBundle resources, String... parts);
+    }
+
+    /**
+     * Initializes the main control and shows the start screen. The other scenes are loaded when they are first shown.
      *
      * @param primaryStage The primary stage.
-     * @param start        The start screen menu.
-     * @param overview     The event overview menu.
-     * @param invite       The invite screen menu
-     * @param participant  The add participant menu.
-     * @param expense      The add expense menu.
-     * @param tag          The add tag screen.
-     * @param tagEdit      The edit tag screen.
-     * @param debt         The open debts menu
-     * @param settings     The settings screen menu.
-     * @param login        The login screen menu.
-     * @param admin        The admin screen menu.
-     * @param statistics   The statistics screen menu.
+     * @param loader       Loads the scenes from their FXML files.
      * @param resources    ResourceBundle resources
      */
-    public void initialize(Stage primaryStage, Pair<StartScreenCtrl, Parent> start, Pair<EventOverviewCtrl, Parent> overview,
-                           Pair<InviteScreenCtrl, Parent> invite, Pair<AddParticipantCtrl, Parent> participant, Pair<AddExpenseCtrl, Parent> expense,
-                           Pair<AddTagCtrl, Parent> tag, Pair<EditTagCtrl, Parent> tagEdit, Pair<DebtOverviewCtrl, Parent> debt,
-                           Pair<SettingsScreenCtrl, Parent> settings,
-                           Pair<LoginScreenCtrl, Parent> login, Pair<AdminPanelCtrl, Parent> admin, Pair<StatisticsScreenCtrl, Parent> statistics,
-                           ResourceBundle resources) {
+    public void initialize(Stage primaryStage, SceneLoader loader, ResourceBundle resources) {
         this.primaryStage = primaryStage;
+        this.loader = loader;
 
-        reinitialize(start, overview, invite, participant, expense, tag, tagEdit, debt, settings, login, admin, statistics, resources);
+        reinitialize(resources);
 
         showStartScreen();
         primaryStage.show();
     }
 
     /**
-     * Reinitializes the main control.
+     * Reinitializes the main control with new resources. The loaded scenes are dropped, and loaded again
+     * with the new resources when they are shown next.
      *
-     * @param start       The start screen menu.
-     * @param overview    The event overview menu.
-     * @param invite      The invite screen menu
-     * @param participant The add participant menu.
-     * @param expense     The add expense menu.
-     * @param tag         The add tag screen.
-     * @param tagEdit     The edit tag screen.
-     * @param debt        The open debts menu
-     * @param settings    The settings screen menu.
-     * @param login       The login screen menu.
-     * @param admin       The admin screen menu.
-     * @param statistics  The statistics screen menu.
-     * @param resources   ResourceBundle resources.
+     * @param resources ResourceBundle resources.
      */
-    public void reinitialize(Pair<StartScreenCtrl, Parent> start, Pair<EventOverviewCtrl, Parent> overview, Pair<InviteScreenCtrl, Parent> invite,
-                             Pair<AddParticipantCtrl, Parent> participant, Pair<AddExpenseCtrl, Parent> expense,
-                             Pair<AddTagCtrl, Parent> tag, Pair<EditTagCtrl, Parent> tagEdit, Pair<DebtOverviewCtrl, Parent> debt,
-                             Pair<SettingsScreenCtrl, Parent> settings,
-                             Pair<LoginScreenCtrl, Parent> login, Pair<AdminPanelCtrl, Parent> admin, Pair<StatisticsScreenCtrl, Parent> statistics,
-                             ResourceBundle resources) {
-        String styleCssPath = getClass().getResource("/client/styles/ProjectStyle.css").toExternalForm();
-
-        this.startScreenCtrl = start.getKey();
-        this.startScreen = new Scene(start.getValue());
-        this.startScreen.getStylesheets().add(styleCssPath);
-        startScreenCtrl.updateResources(resources);
-
-        this.eventOverviewCtrl = overview.getKey();
-        this.eventOverview = new Scene(overview.getValue());
-        this.eventOverview.getStylesheets().add(styleCssPath);
-        eventOverviewCtrl.updateResources(resources);
-        setUpKeyboardBack(eventOverview, () -> eventOverviewCtrl.onBack(new ActionEvent()));
-
-        this.inviteScreenCtrl = invite.getKey();
-        this.inviteScreen = new Scene(invite.getValue());
-        this.inviteScreen.getStylesheets().add(styleCssPath);
-        inviteScreenCtrl.updateResources(resources);
-        setUpKeyboardBack(inviteScreen, () -> inviteScreenCtrl.onBack(new ActionEvent()));
-
-        this.addParticipantCtrl = participant.getKey();
-        this.addParticipant = new Scene(participant.getValue());
-        this.addParticipant.getStylesheets().add(styleCssPath);
-        addParticipantCtrl.updateResources(resources);
-        setUpKeyboardBack(addParticipant, () -> addParticipantCtrl.cancel());
-
-        this.addExpenseCtrl = expense.getKey();
-        this.addExpense = new Scene(expense.getValue());
-        this.addExpense.getStylesheets().add(styleCssPath);
-        addExpenseCtrl.updateResources(resources);
-        setUpKeyboardBack(addExpense, () -> addExpenseCtrl.cancel());
-
-        this.addTagCtrl = tag.getKey();
-        this.addTagScreen = new Scene(tag.getValue());
-        this.addTagScreen.getStylesheets().add(styleCssPath);
-        addTagCtrl.updateResources(resources);
-        setUpKeyboardBack(addTagScreen, () -> addTagCtrl.goBack(new ActionEvent()));
-
-        this.editTagCtrl = tagEdit.getKey();
-        this.editTagScreen = new Scene(tagEdit.getValue());
-        this.editTagScreen.getStylesheets().add(styleCssPath);
-        editTagCtrl.updateResources(resources);
-        setUpKeyboardBack(editTagScreen, () -> editTagCtrl.goBack(new ActionEvent()));
-
-        this.debtOverviewCtrl = debt.getKey();
-        this.debtOverviewScreen = new Scene(debt.getValue());
-        this.debtOverviewScreen.getStylesheets().add(styleCssPath);
-        debtOverviewCtrl.updateResources(resources);
-        setUpKeyboardBack(debtOverviewScreen, () -> debtOverviewCtrl.onBack(new ActionEvent()));
-
-        this.settingsScreenCtrl = settings.getKey();
-        this.settingsScreen = new Scene(settings.getValue());
-        this.settingsScreen.getStylesheets().add(styleCssPath);
-        settingsScreenCtrl.updateResources(resources);
-        setUpKeyboardBack(settingsScreen, () -> settingsScreenCtrl.onBack(new ActionEvent()));
-
-        this.loginScreenCtrl = login.getKey();
-        this.loginScreen = new Scene(login.getValue());
-        this.loginScreen.getStylesheets().add(styleCssPath);
-        loginScreenCtrl.updateResources(resources);
-        setUpKeyboardBack(loginScreen, () -> loginScreenCtrl.onBack(new ActionEvent()));
-
-        this.adminPanelCtrl = admin.getKey();
-        this.adminPanel = new Scene(admin.getValue());
-        this.adminPanel.getStylesheets().add(styleCssPath);
-        adminPanelCtrl.updateResources(resources);
-        setUpKeyboardBack(adminPanel, () -> adminPanelCtrl.onBack(new ActionEvent()));
-
-        this.statisticsScreenCtrl = statistics.getKey();
-        this.statisticsScreen = new Scene(statistics.getValue());
-        this.statisticsScreen.getStylesheets().add(styleCssPath);
-        statisticsScreenCtrl.updateResources(resources);
-        setUpKeyboardBack(statisticsScreen, () -> statisticsScreenCtrl.onBack(new ActionEvent()));
-
-        settingsScreenCtrl.changeStyleMode(true);
+    public void reinitialize(ResourceBundle resources) {
         this.resources = resources;
+        for (LazyScene<?> scene : scenes) {
+            scene.unload();
+        }
+    }
+
+    /**
+     * Loads the scenes that were not shown yet, one at a time between the pulses of the JavaFX application thread,
+     * so they open without delay later on while the shown scene stays responsive.
+     */
+    public void preloadScenes() {
+        scenes.stream().filter(scene -> !scene.isLoaded()).findFirst().ifPresent(scene -> {
+            scene.getScene();
+            Platform.runLater(this::preloadScenes);
+        });
+    }
+
+    /**
+     * Changes the mode of all screens, including the ones that are loaded later on.
+     *
+     * @param isLightMode True iff in light mode.
+     */
+    public void changeStyleMode(boolean isLightMode) {
+        this.isLightMode = isLightMode;
+        for (LazyScene<?> scene : scenes) {
+            scene.changeStyleMode();
+        }
     }
 
     private void setUpKeyboardBack(Scene scene, Runnable function) {
@@ -208,9 +158,9 @@ public class MainCtrl {
      */
     public void showStartScreen() {
         primaryStage.setTitle(resources.getString("start_screen"));
-        primaryStage.setScene(startScreen);
+        primaryStage.setScene(startScreen.getScene());
         primaryStage.setResizable(false);
-        startScreenCtrl.populateRecentlyViewedGrid();
+        startScreen.getCtrl().populateRecentlyViewedGrid();
     }
 
     /**
@@ -218,7 +168,7 @@ public class MainCtrl {
      */
     public void showEventOverview() {
         primaryStage.setTitle(resources.getString("event_overview"));
-        primaryStage.setScene(eventOverview);
+        primaryStage.setScene(eventOverview.getScene());
         primaryStage.setResizable(false);
     }
 
@@ -229,9 +179,9 @@ public class MainCtrl {
      */
     public void showEventOverview(EventDTO event) {
         primaryStage.setTitle(resources.getString("event_overview"));
-        primaryStage.setScene(eventOverview);
+        primaryStage.setScene(eventOverview.getScene());
         primaryStage.setResizable(false);
-        eventOverviewCtrl.setEvent(event);
+        eventOverview.getCtrl().setEvent(event);
     }
 
     /**
@@ -242,10 +192,10 @@ public class MainCtrl {
      */
     public void showEventOverview(EventDTO event, String backScreen) {
         primaryStage.setTitle(resources.getString("event_overview"));
-        primaryStage.setScene(eventOverview);
-        eventOverviewCtrl.setEvent(event);
+        primaryStage.setScene(eventOverview.getScene());
+        eventOverview.getCtrl().setEvent(event);
         primaryStage.setResizable(false);
-        eventOverviewCtrl.setBackScreen(backScreen);
+        eventOverview.getCtrl().setBackScreen(backScreen);
     }
 
     /**
@@ -255,9 +205,9 @@ public class MainCtrl {
      */
     public void showAddParticipant(EventDTO event) {
         primaryStage.setTitle(resources.getString("add_participant"));
-        primaryStage.setScene(addParticipant);
+        primaryStage.setScene(addParticipant.getScene());
         primaryStage.setResizable(false);
-        addParticipantCtrl.setEvent(event);
+        addParticipant.getCtrl().setEvent(event);
     }
 
     /**
@@ -268,10 +218,10 @@ public class MainCtrl {
      */
     public void showEditParticipant(EventDTO event, ParticipantDTO participant) {
         primaryStage.setTitle(resources.getString("edit_participant"));
-        primaryStage.setScene(addParticipant);
+        primaryStage.setScene(addParticipant.getScene());
         primaryStage.setResizable(false);
-        addParticipantCtrl.setEvent(event);
-        addParticipantCtrl.setParticipant(participant);
+        addParticipant.getCtrl().setEvent(event);
+        addParticipant.getCtrl().setParticipant(participant);
     }
 
     /**
@@ -285,12 +235,12 @@ public class MainCtrl {
     public void showAddExpense(EventDTO event, ObservableList<ParticipantDTO> participants,
                                ObservableList<TagDTO> tags, ObservableList<ExpenseDTO> expenses) {
         primaryStage.setTitle(resources.getString("add_expense"));
-        primaryStage.setScene(addExpense);
+        primaryStage.setScene(addExpense.getScene());
         primaryStage.setResizable(false);
-        addExpenseCtrl.setEvent(event);
-        addExpenseCtrl.setParticipants(participants);
-        addExpenseCtrl.setTags(tags);
-        addExpenseCtrl.setExpenses(expenses);
+        addExpense.getCtrl().setEvent(event);
+        addExpense.getCtrl().setParticipants(participants);
+        addExpense.getCtrl().setTags(tags);
+        addExpense.getCtrl().setExpenses(expenses);
     }
 
     /**
@@ -305,13 +255,13 @@ public class MainCtrl {
     public void showEditExpense(EventDTO event, ObservableList<ParticipantDTO> participants,
                                 ObservableList<TagDTO> tags, ExpenseDTO expense, ObservableList<ExpenseDTO> expenses) {
         primaryStage.setTitle(resources.getString("edit_expense"));
-        primaryStage.setScene(addExpense);
+        primaryStage.setScene(addExpense.getScene());
         primaryStage.setResizable(false);
-        addExpenseCtrl.setEvent(event);
-        addExpenseCtrl.setParticipants(participants);
-        addExpenseCtrl.setTags(tags);
-        addExpenseCtrl.setExpense(expense);
-        addExpenseCtrl.setExpenses(expenses);
+        addExpense.getCtrl().setEvent(event);
+        addExpense.getCtrl().setParticipants(participants);
+        addExpense.getCtrl().setTags(tags);
+        addExpense.getCtrl().setExpense(expense);
+        addExpense.getCtrl().setExpenses(expenses);
     }
 
     /**
@@ -323,11 +273,11 @@ public class MainCtrl {
      */
     public void showOpenDebts(EventDTO event, ObservableList<ParticipantDTO> participants, ObservableList<Debt> debts) {
         primaryStage.setTitle(resources.getString("settle_debts_label"));
-        primaryStage.setScene(debtOverviewScreen);
+        primaryStage.setScene(debtOverviewScreen.getScene());
         primaryStage.setResizable(false);
-        debtOverviewCtrl.setEvent(event);
-        debtOverviewCtrl.setParticipants(participants);
-        debtOverviewCtrl.setDebts(debts);
+        debtOverviewScreen.getCtrl().setEvent(event);
+        debtOverviewScreen.getCtrl().setParticipants(participants);
+        debtOverviewScreen.getCtrl().setDebts(debts);
     }
 
 
@@ -339,9 +289,9 @@ public class MainCtrl {
      */
     public void showStatisticsPage(ObservableList<ExpenseDTO> expenses, ObservableList<TagDTO> tags) {
         primaryStage.setTitle(resources.getString("statistics"));
-        primaryStage.setScene(statisticsScreen);
+        primaryStage.setScene(statisticsScreen.getScene());
         primaryStage.setResizable(false);
-        statisticsScreenCtrl.setUpStatistics(expenses, tags);
+        statisticsScreen.getCtrl().setUpStatistics(expenses, tags);
     }
 
     /**
@@ -351,9 +301,9 @@ public class MainCtrl {
      */
     public void showInviteScreen(EventDTO event) {
         primaryStage.setTitle(resources.getString("invite"));
-        primaryStage.setScene(inviteScreen);
+        primaryStage.setScene(inviteScreen.getScene());
         primaryStage.setResizable(false);
-        inviteScreenCtrl.setEvent(event);
+        inviteScreen.getCtrl().setEvent(event);
     }
 
     /**
@@ -363,9 +313,9 @@ public class MainCtrl {
      */
     public void showSettingsScreen(Function<Void, Void> onBack) {
         primaryStage.setTitle(resources.getString("settings"));
-        primaryStage.setScene(settingsScreen);
+        primaryStage.setScene(settingsScreen.getScene());
         primaryStage.setResizable(false);
-        settingsScreenCtrl.onShowSettings(onBack);
+        settingsScreen.getCtrl().onShowSettings(onBack);
     }
 
     /**
@@ -373,7 +323,7 @@ public class MainCtrl {
      */
     public void showLoginScreen() {
         primaryStage.setTitle(resources.getString("log_in_to_admin_panel"));
-        primaryStage.setScene(loginScreen);
+        primaryStage.setScene(loginScreen.getScene());
         primaryStage.setResizable(false);
     }
 
@@ -382,8 +332,9 @@ public class MainCtrl {
      */
     public void showAdminScreen() {
         primaryStage.setTitle(resources.getString("admin_panel"));
-        primaryStage.setScene(adminPanel);
+        primaryStage.setScene(adminPanel.getScene());
         primaryStage.setResizable(false);
+        adminPanel.getCtrl().populateEventsGrid();
     }
 
     /**
@@ -394,9 +345,9 @@ public class MainCtrl {
      */
     public void showAddTagScreen(EventDTO event, boolean isEditingExpense) {
         primaryStage.setTitle(resources.getString("create_tag_label"));
-        primaryStage.setScene(addTagScreen);
+        primaryStage.setScene(addTagScreen.getScene());
         primaryStage.setResizable(false);
-        addTagCtrl.setEvent(event, isEditingExpense);
+        addTagScreen.getCtrl().setEvent(event, isEditingExpense);
     }
 
     /**
@@ -406,7 +357,7 @@ public class MainCtrl {
      */
     public void returnToAddExpenseScreen(boolean isEditingExpense) {
         primaryStage.setTitle(resources.getString(isEditingExpense ? "edit_expense" : "add_expense"));
-        primaryStage.setScene(addExpense);
+        primaryStage.setScene(addExpense.getScene());
         primaryStage.setResizable(false);
     }
 
@@ -421,10 +372,86 @@ public class MainCtrl {
     public void showEditTagScreen(EventDTO currentEvent, boolean isEditingExpense,
                                   ObservableList<TagDTO> tags, ObservableList<ExpenseDTO> expenses) {
         primaryStage.setTitle(resources.getString("edit_tag_label"));
-        primaryStage.setScene(editTagScreen);
+        primaryStage.setScene(editTagScreen.getScene());
         primaryStage.setResizable(false);
-        editTagCtrl.setEvent(currentEvent, isEditingExpense);
-        editTagCtrl.setTags(tags);
-        editTagCtrl.setExpenses(expenses);
+        editTagScreen.getCtrl().setEvent(currentEvent, isEditingExpense);
+        editTagScreen.getCtrl().setTags(tags);
+        editTagScreen.getCtrl().setExpenses(expenses);
+    }
+
+    /**
+     * A scene that is loaded from its FXML file the first time it is shown.
+     *
+     * @param <T> Controller type.
+     */
+    private final class LazyScene<T> {
+        private final Class<T> ctrlClass;
+        private final String fxml;
+        private final BiConsumer<T, ResourceBundle> updateResources;
+        private final BiConsumer<T, Boolean> changeStyleMode;
+        private final Consumer<T> onBack;
+
+        private T ctrl;
+        private Scene scene;
+
+        /**
+         * Constructs a LazyScene instance.
+         *
+         * @param ctrlClass       Class of the controller.
+         * @param fxml            Name of the FXML file.
+         * @param updateResources Sets the resources of the controller.
+         * @param changeStyleMode Sets the style mode of the controller.
+         * @param onBack          Goes back from the scene when escape or backspace is pressed, or null if it cannot.
+         */
+        private LazyScene(Class<T> ctrlClass, String fxml, BiConsumer<T, ResourceBundle> updateResources,
+                          BiConsumer<T, Boolean> changeStyleMode, Consumer<T> onBack) {
+            this.ctrlClass = ctrlClass;
+            this.fxml = fxml;
+            this.updateResources = updateResources;
+            this.changeStyleMode = changeStyleMode;
+            this.onBack = onBack;
+            scenes.add(this);
+        }
+
+        private boolean isLoaded() {
+            return scene != null;
+        }
+
+        private Scene getScene() {
+            if (scene == null) {
+                load();
+            }
+            return scene;
+        }
+
+        private T getCtrl() {
+            if (scene == null) {
+                load();
+            }
+            return ctrl;
+        }
+
+        private void load() {
+            Pair<T, Parent> loaded = loader.load(ctrlClass, resources, "client", "scenes", fxml);
+            ctrl = loaded.getKey();
+            scene = new Scene(loaded.getValue());
+            scene.getStylesheets().add(getClass().getResource(STYLE_CSS_PATH).toExternalForm());
+            updateResources.accept(ctrl, resources);
+            changeStyleMode.accept(ctrl, isLightMode);
+            if (onBack != null) {
+                setUpKeyboardBack(scene, () -> onBack.accept(ctrl));
+            }
+        }
+
+        private void changeStyleMode() {
+            if (scene != null) {
+                changeStyleMode.accept(ctrl, isLightMode);
+            }
+        }
+
+        private void unload() {
+            ctrl = null;
+            scene = null;
+        }
     }
 }
@@ -16,7 +16,6 @@ import java.io.*;
 import java.util.*;
 import java.util.function.Function;
 
-import client.Main;
 import client.utils.ConfigManager;
 import client.utils.ServerUtils;
 
@@ -32,17 +31,6 @@ public class SettingsScreenCtrl {
     private final ConfigManager configManager;
     private ResourceBundle resources;
     private boolean isLightMode = true;
-    private final StartScreenCtrl startScreenCtrl;
-    private final EventOverviewCtrl eventOverviewCtrl;
-    private final AddExpenseCtrl addExpenseCtrl;
-    private final AddParticipantCtrl addParticipantCtrl;
-    private final AdminPanelCtrl adminPanelCtrl;
-    private final LoginScreenCtrl loginScreenCtrl;
-    private final InviteScreenCtrl inviteScreenCtrl;
-    private final DebtOverviewCtrl debtOverviewCtrl;
-    private final AddTagCtrl addTagCtrl;
-    private final EditTagCtrl editTagCtrl;
-    private final StatisticsScreenCtrl statisticsScreenCtrl;
 
     @FXML
     private ImageView flag;
@@ -67,45 +55,17 @@ public class SettingsScreenCtrl {
     /**
      * Initializes the settings screen controller
      *
-     * @param server               instance to be set
-     * @param mainCtrl             instance to be set
-     * @param configManager        ConfigManager instance to be set
-     * @param resources            ResourceBundle resources.
-     * @param startScreenCtrl      StartScreenCtrl instance
-     * @param eventOverviewCtrl    EventScreenCtrl instance
-     * @param addExpenseCtrl       ExpenseScreenCtrl instance
-     * @param addParticipantCtrl   ParticipantScreenCtrl instance
-     * @param loginScreenCtrl      LoginScreenCtrl instance
-     * @param adminPanelCtrl       AdminScreenCtrl instance
-     * @param inviteScreenCtrl     InviteScreenCtrl instance
-     * @param debtOverviewCtrl     DebtScreenCtrl instance
-     * @param addTagCtrl           AddTagCtrl instance
-     * @param editTagCtrl          EditTagCtrl instance
-     * @param statisticsScreenCtrl StatisticsScreenCtrl instance
+     * @param server        instance to be set
+     * @param mainCtrl      instance to be set
+     * @param configManager ConfigManager instance to be set
+     * @param resources     ResourceBundle resources.
      */
     @Inject
-    public SettingsScreenCtrl(ServerUtils server, MainCtrl mainCtrl, ConfigManager configManager,
-                              ResourceBundle resources, StartScreenCtrl startScreenCtrl,
-                              EventOverviewCtrl eventOverviewCtrl, AddExpenseCtrl addExpenseCtrl,
-                              AddParticipantCtrl addParticipantCtrl, LoginScreenCtrl loginScreenCtrl,
-                              AdminPanelCtrl adminPanelCtrl, InviteScreenCtrl inviteScreenCtrl,
-                              DebtOverviewCtrl debtOverviewCtrl, AddTagCtrl addTagCtrl,
-                              EditTagCtrl editTagCtrl, StatisticsScreenCtrl statisticsScreenCtrl) {
+    public SettingsScreenCtrl(ServerUtils server, MainCtrl mainCtrl, ConfigManager configManager, ResourceBundle resources) {
         this.mainCtrl = mainCtrl;
         this.server = server;
         this.configManager = configManager;
         this.resources = resources;
-        this.startScreenCtrl = startScreenCtrl;
-        this.eventOverviewCtrl = eventOverviewCtrl;
-        this.addExpenseCtrl = addExpenseCtrl;
-        this.addParticipantCtrl = addParticipantCtrl;
-        this.adminPanelCtrl = adminPanelCtrl;
-        this.loginScreenCtrl = loginScreenCtrl;
-        this.inviteScreenCtrl = inviteScreenCtrl;
-        this.debtOverviewCtrl = debtOverviewCtrl;
-        this.addTagCtrl = addTagCtrl;
-        this.editTagCtrl = editTagCtrl;
-        this.statisticsScreenCtrl = statisticsScreenCtrl;
     }
 
     /**
@@ -207,24 +167,8 @@ public class SettingsScreenCtrl {
     void onSave(ActionEvent event) {
         ResourceBundle bundle = ResourceBundle.getBundle("languages.labels", new Locale(configManager.getLanguage()));
 
-        var start = Main.FXML.load(StartScreenCtrl.class, bundle, "client", "scenes", "StartScreen.fxml");
-        var overview = Main.FXML.load(EventOverviewCtrl.class, bundle, "client", "scenes", "EventOverview.fxml");
-        var invite = Main.FXML.load(InviteScreenCtrl.class, bundle, "client", "scenes", "InviteScreen.fxml");
-        var participant = Main.FXML.load(AddParticipantCtrl.class, bundle, "client", "scenes", "AddParticipant.fxml");
-        var expense = Main.FXML.load(AddExpenseCtrl.class, bundle, "client", "scenes", "AddExpense.fxml");
-        var tag = Main.FXML.load(AddTagCtrl.class, bundle, "client", "scenes", "AddTag.fxml");
-        var tagEdit = Main.FXML.load(EditTagCtrl.class, bundle, "client", "scenes", "EditTag.fxml");
-        var debt = Main.FXML.load(DebtOverviewCtrl.class, bundle, "client", "scenes", "DebtOverview.fxml");
-        var settings = Main.FXML.load(SettingsScreenCtrl.class, bundle, "client", "scenes", "SettingsScreen.fxml");
-        var login = Main.FXML.load(LoginScreenCtrl.class, bundle, "client", "scenes", "LoginScreen.fxml");
-        var admin = Main.FXML.load(AdminPanelCtrl.class, bundle, "client", "scenes", "AdminPanel.fxml");
-        var statistics = Main.FXML.load(StatisticsScreenCtrl.class, bundle, "client", "scenes", "StatisticsScreen.fxml");
-
-        var mainCtrl = Main.INJECTOR.getInstance(MainCtrl.class);
-        mainCtrl.reinitialize(start, overview, invite, participant, expense, tag, tagEdit, debt, settings, login, admin, statistics, bundle);
+        mainCtrl.reinitialize(bundle);
         mainCtrl.showSettingsScreen(onReturn);
-
-        changeStyleMode(isLightMode);
     }
 
     /**
@@ -266,33 +210,21 @@ public class SettingsScreenCtrl {
      * @param event of the click
      */
     public void changeMode(ActionEvent event) {
-        isLightMode = !isLightMode;
-        changeStyleMode(isLightMode);
+        mainCtrl.changeStyleMode(!isLightMode);
     }
 
     /**
-     * Changes the mode of all screens.
+     * Changes style mode. The other screens are changed along by MainCtrl.
      *
      * @param isLightMode True iff in light mode.
      */
     public void changeStyleMode(boolean isLightMode) {
+        this.isLightMode = isLightMode;
         if (isLightMode) {
             setLightMode();
         } else {
             setDarkMode();
         }
-
-        startScreenCtrl.changeStyleMode(isLightMode);
-        eventOverviewCtrl.changeStyleMode(isLightMode);
-        inviteScreenCtrl.changeStyleMode(isLightMode);
-        addParticipantCtrl.changeStyleMode(isLightMode);
-        addExpenseCtrl.changeStyleMode(isLightMode);
-        addTagCtrl.changeStyleMode(isLightMode);
-        debtOverviewCtrl.changeStyleMode(isLightMode);
-        loginScreenCtrl.changeStyleMode(isLightMode);
-        adminPanelCtrl.changeStyleMode(isLightMode);
-        statisticsScreenCtrl.changeStyleMode(isLightMode);
-        editTagCtrl.changeStyleMode(isLightMode);
     }
 
     private void setLightMode() {
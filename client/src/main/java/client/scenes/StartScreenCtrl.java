@@ -13,11 +13,11 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.stage.Modality;
 
-import jakarta.ws.rs.WebApplicationException;
-
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import client.utils.ConfigManager;
+import client.utils.PendingRequests;
 import client.utils.ServerUtils;
 
 import commons.dtos.EventDTO;
@@ -28,6 +28,7 @@ public class StartScreenCtrl {
     private final ServerUtils server;
     private final MainCtrl mainCtrl;
     private final ConfigManager configManager;
+    private final PendingRequests requests = new PendingRequests();
     private ResourceBundle resources;
     private boolean isLight;
 
@@ -78,45 +79,40 @@ public class StartScreenCtrl {
      * Shows the event overview screen.
      */
     public void createEvent() {
-        EventDTO event;
-
-        try {
-            event = server.createEvent(new EventTitleDTO(title.getText()));
-        } catch (WebApplicationException e) {
-            var alert = new Alert(Alert.AlertType.ERROR);
-            alert.initModality(Modality.APPLICATION_MODAL);
-            alert.setContentText(e.getMessage());
-            alert.showAndWait();
-            return;
-        }
-
-        configManager.addRecentlyViewedEvent(event.inviteCode());
-        clearFields();
-        mainCtrl.showEventOverview(event);
+        requests.write(server.createEventAsync(new EventTitleDTO(title.getText())), this::showEvent, this::showError);
     }
 
     /**
      * Shows the event overview screen.
      */
     public void joinEvent() {
-        EventDTO event;
-
-        try {
-            event = server.getEvent(inviteCode.getText());
-        } catch (WebApplicationException e) {
-
-            var alert = new Alert(Alert.AlertType.ERROR);
-            alert.initModality(Modality.APPLICATION_MODAL);
-            alert.setContentText(e.getMessage());
-            alert.showAndWait();
-            return;
-        }
+        requests.send(server.getEventAsync(inviteCode.getText()), this::showEvent, this::showError);
+    }
 
+    /**
+     * Adds an event to the recently viewed events and shows it.
+     *
+     * @param event The event.
+     */
+    private void showEvent(EventDTO event) {
+        requests.cancelAll();
         configManager.addRecentlyViewedEvent(event.inviteCode());
         clearFields();
         mainCtrl.showEventOverview(event);
     }
 
+    /**
+     * Shows why a request failed.
+     *
+     * @param exception The exception the request failed with.
+     */
+    private void showError(Throwable exception) {
+        var alert = new Alert(Alert.AlertType.ERROR);
+        alert.initModality(Modality.APPLICATION_MODAL);
+        alert.setContentText(exception.getMessage());
+        alert.showAndWait();
+    }
+
     /**
      * Clears the text fields.
      */
@@ -126,15 +122,23 @@ public class StartScreenCtrl {
     }
 
     /**
-     * Populates the grid RecentlyViewed.
+     * Populates the grid RecentlyViewed once the recently viewed events are loaded.
      */
     public void populateRecentlyViewedGrid() {
         Image flagImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/flags/" + configManager.getLanguage() + ".png")));
         flag.setImage(flagImage);
 
         recentlyViewedGrid.getChildren().clear();
+        requests.cancelAll();
+        requests.send(getEventList(), this::showRecentlyViewedEvents);
+    }
 
-        List<EventDTO> eventList = getEventList();
+    /**
+     * Populates the grid RecentlyViewed.
+     *
+     * @param eventList The recently viewed events.
+     */
+    private void showRecentlyViewedEvents(List<EventDTO> eventList) {
         for (int i = 0; i < eventList.size(); i++) {
             Label eventNameLabel = new Label(eventList.get(i).title());
 
@@ -168,25 +172,20 @@ public class StartScreenCtrl {
     }
 
     /**
-     * Gets the list of recently viewed events, and removes non-existing events from the stored invite codes.
+     * Gets the list of recently viewed events in a single request, and removes non-existing events from the stored invite codes.
      *
      * @return List of recently viewed events.
      */
-    private List<EventDTO> getEventList() {
+    private CompletableFuture<List<EventDTO>> getEventList() {
         List<String> inviteCodeList = configManager.getRecentlyViewedEvents();
-        List<EventDTO> eventList = new ArrayList<>();
-
-        Iterator<String> inviteCodeIt = inviteCodeList.iterator();
-        while (inviteCodeIt.hasNext()) {
-            try {
-                eventList.add(server.getEvent(inviteCodeIt.next()));
-            } catch (WebApplicationException e) {
-                inviteCodeIt.remove();
-            }
+        if (inviteCodeList.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
         }
 
-        configManager.setRecentlyViewedEvents(inviteCodeList);
-        return eventList;
+        return server.getEventsAsync(inviteCodeList).thenApply(eventList -> {
+            configManager.setRecentlyViewedEvents(eventList.stream().map(EventDTO::inviteCode).toList());
+            return eventList;
+        });
     }
 
     /**
@@ -195,6 +194,7 @@ public class StartScreenCtrl {
      * @param actionEvent of the button press
      */
     public void onAdminPress(ActionEvent actionEvent) {
+        requests.cancelAll();
         mainCtrl.showLoginScreen();
     }
 
@@ -204,6 +204,7 @@ public class StartScreenCtrl {
      * @param actionEvent of the button press
      */
     public void onSettingsPress(ActionEvent actionEvent) {
+        requests.cancelAll();
         mainCtrl.showSettingsScreen(null);
     }
 
@@ -213,6 +214,7 @@ public class StartScreenCtrl {
      * @param mouseEvent event of the click
      */
     public void onLanguageClick(MouseEvent mouseEvent) {
+        requests.cancelAll();
         mainCtrl.showSettingsScreen(null);
     }
 
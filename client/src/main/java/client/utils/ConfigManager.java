@@ -13,6 +13,10 @@ public class ConfigManager {
     private static final String DEFAULT_LANGUAGE = "en";
     private static final String DEFAULT_CURRENCY = "EUR";
     private static final int MAX_RECENTLY_VIEWED_EVENTS = 10;
+    private static final String DEFAULT_CONNECT_TIMEOUT = "5000";
+    private static final String DEFAULT_READ_TIMEOUT = "30000";
+    private static final String DEFAULT_MAX_CONNECTIONS = "10";
+    private static final String DEFAULT_PRELOAD_SCENES = "true";
 
     private final Properties properties;
     private final String configFile;
@@ -52,6 +56,10 @@ public class ConfigManager {
             getEmailSenderName();
             getLanguage();
             getCurrency();
+            getConnectTimeout();
+            getReadTimeout();
+            getMaxConnections();
+            getPreloadScenes();
 
             saveProperties();
         } catch (IOException e) {
@@ -69,6 +77,47 @@ public class ConfigManager {
         return properties.getProperty("url");
     }
 
+    /**
+     * @return how long to wait for a connection to the server, in milliseconds
+     */
+    public int getConnectTimeout() {
+        if (!properties.containsKey("connect_timeout")) {
+            properties.setProperty("connect_timeout", DEFAULT_CONNECT_TIMEOUT);
+        }
+        return Integer.parseInt(properties.getProperty("connect_timeout"));
+    }
+
+    /**
+     * @return how long to wait for a response from the server, in milliseconds. The default is longer than the server
+     *         holds a long poll open (polling.events.timeout-millis, 5 seconds), so a poll without changes does not time out
+     */
+    public int getReadTimeout() {
+        if (!properties.containsKey("read_timeout")) {
+            properties.setProperty("read_timeout", DEFAULT_READ_TIMEOUT);
+        }
+        return Integer.parseInt(properties.getProperty("read_timeout"));
+    }
+
+    /**
+     * @return the number of connections to the server that can be open at once
+     */
+    public int getMaxConnections() {
+        if (!properties.containsKey("max_connections")) {
+            properties.setProperty("max_connections", DEFAULT_MAX_CONNECTIONS);
+        }
+        return Integer.parseInt(properties.getProperty("max_connections"));
+    }
+
+    /**
+     * @return whether the screens that were not shown yet are loaded once the start screen is shown
+     */
+    public boolean getPreloadScenes() {
+        if (!properties.containsKey("preload_scenes")) {
+            properties.setProperty("preload_scenes", DEFAULT_PRELOAD_SCENES);
+        }
+        return Boolean.parseBoolean(properties.getProperty("preload_scenes"));
+    }
+
     /**
      * @return the WS URL specified in the config file
      */
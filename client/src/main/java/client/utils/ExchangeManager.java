@@ -7,7 +7,9 @@ import java.math.RoundingMode;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import commons.ExchangeRates;
 
@@ -68,6 +70,27 @@ public class ExchangeManager {
         return amount.divide(exchangeRates.getRates().get(currency.toLowerCase()), 8, RoundingMode.HALF_UP);
     }
 
+    /**
+     * Loads the exchange rates of the specified dates that were not loaded yet without blocking,
+     * so that exchanging to or from the specified currency on these dates afterwards does not wait for the server.
+     * Must be called on the JavaFX application thread, like the other methods.
+     *
+     * @param dates    Dates for exchange rates.
+     * @param currency The currency that will be exchanged.
+     * @return A future that is completed on the JavaFX application thread once the rates are loaded.
+     */
+    public CompletableFuture<Void> loadRatesAsync(Collection<Calendar> dates, String currency) {
+        if (currency.equals("EUR")) return CompletableFuture.completedFuture(null);
+
+        CompletableFuture<?>[] loads = dates.stream()
+                .map(this::calendarToDateString)
+                .distinct()
+                .filter(dateString -> !exchangeData.containsKey(dateString))
+                .map(dateString -> server.getExchangeRatesAsync(dateString).thenAccept(rates -> exchangeData.put(dateString, rates)))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(loads);
+    }
+
     private String calendarToDateString(Calendar date) {
         DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
         return dateFormat.format(date.getTime());
@@ -0,0 +1,113 @@
+package client.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Keeps track of the requests a scene sent with the asynchronous methods of ServerUtils, so they can be cancelled
+ * when the user leaves the scene. The result of a cancelled request is never handed to the scene.
+ * Requests that change data on the server are sent with write instead, as cancelling them would not undo a change
+ * the server may already have made.
+ */
+public class PendingRequests {
+
+    private final Set<CompletableFuture<?>> requests = ConcurrentHashMap.newKeySet();
+    private volatile long timesLeft;
+
+    /**
+     * Handles the result of a request once it arrives. Failures are reported like exceptions thrown on the
+     * JavaFX application thread.
+     *
+     * @param request   The request, completed on the JavaFX application thread.
+     * @param onSuccess Handles the result.
+     * @param <T>       The type of the result.
+     * @return The request.
+     */
+    public <T> CompletableFuture<T> send(CompletableFuture<T> request, Consumer<T> onSuccess) {
+        return send(request, onSuccess, PendingRequests::report);
+    }
+
+    /**
+     * Handles the result of a request once it arrives.
+     *
+     * @param request   The request, completed on the JavaFX application thread.
+     * @param onSuccess Handles the result.
+     * @param onFailure Handles the exception the request failed with.
+     * @param <T>       The type of the result.
+     * @return The request.
+     */
+    public <T> CompletableFuture<T> send(CompletableFuture<T> request, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        requests.add(request);
+        request.whenComplete((result, exception) -> {
+            requests.remove(request);
+            if (request.isCancelled()) {
+                return;
+            }
+
+            if (exception == null) {
+                onSuccess.accept(result);
+            } else {
+                onFailure.accept(exception);
+            }
+        });
+        return request;
+    }
+
+    /**
+     * Handles the result of a request that changes data on the server. The request is not cancelled when the user
+     * leaves the scene. If the scene was left before the request finished, a failure is still handed to onFailure,
+     * but a successful result is dropped, so the scene does not navigate away from wherever the user went.
+     *
+     * @param request   The request, completed on the JavaFX application thread.
+     * @param onSuccess Handles the result if the scene was not left in the meantime.
+     * @param onFailure Handles the exception the request failed with.
+     * @param <T>       The type of the result.
+     * @return The request.
+     */
+    public <T> CompletableFuture<T> write(CompletableFuture<T> request, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        long timesLeftBefore = timesLeft;
+        request.whenComplete((result, exception) -> {
+            if (exception != null) {
+                onFailure.accept(exception);
+            } else if (timesLeft == timesLeftBefore) {
+                onSuccess.accept(result);
+            }
+        });
+        return request;
+    }
+
+    /**
+     * Handles the result of a request that changes data on the server. Failures are reported like exceptions thrown
+     * on the JavaFX application thread.
+     *
+     * @param request   The request, completed on the JavaFX application thread.
+     * @param onSuccess Handles the result if the scene was not left in the meantime.
+     * @param <T>       The type of the result.
+     * @return The request.
+     * @see #write(CompletableFuture, Consumer, Consumer)
+     */
+    public <T> CompletableFuture<T> write(CompletableFuture<T> request, Consumer<T> onSuccess) {
+        return write(request, onSuccess, PendingRequests::report);
+    }
+
+    /**
+     * Cancels all requests that did not finish yet, except writes. Called when the user leaves the scene.
+     */
+    public void cancelAll() {
+        timesLeft++;
+        List<CompletableFuture<?>> pending = new ArrayList<>(requests);
+        requests.clear();
+        for (CompletableFuture<?> request : pending) {
+            request.cancel(true);
+        }
+    }
+
+    private static void report(Throwable exception) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+    }
+}
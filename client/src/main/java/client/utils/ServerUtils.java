@@ -3,13 +3,25 @@ package client.utils;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 
 import com.google.inject.Inject;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
+import javafx.application.Platform;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
 import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
 
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.simp.stomp.*;
@@ -18,20 +30,38 @@ import org.springframework.web.socket.messaging.WebSocketStompClient;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import commons.Debt;
 import commons.ExchangeRates;
 import commons.dtos.*;
 
 public class ServerUtils {
-    private final String server;
-    private final StompSession session;
+    private final Client client;
+    private final WebTarget events;
+    private final WebTarget admin;
+    private final WebTarget exchange;
+    private static final long MAX_RECONNECT_DELAY_SECONDS = 30;
+
+    private final CompletableFuture<StompSession> session = new CompletableFuture<>();
+    private volatile boolean isStopped;
     private static final ExecutorService EXEC = Executors.newSingleThreadExecutor();
+    private static final ExecutorService REQUESTS = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
 
     /**
      * Instantiates the server utils
@@ -40,8 +70,131 @@ public class ServerUtils {
      */
     @Inject
     public ServerUtils(ConfigManager configManager) {
-        this.server = configManager.getURL();
-        this.session = connect(configManager.getWebSocketURL());
+        this.client = createClient(configManager.getConnectTimeout(), configManager.getReadTimeout(), configManager.getMaxConnections());
+        WebTarget api = client.target(configManager.getURL()).path("api");
+        this.events = api.path("events");
+        this.admin = api.path("admin");
+        this.exchange = api.path("exchange");
+        connect(configManager.getWebSocketURL(), 1);
+    }
+
+    /**
+     * Creates the HTTP client shared by all requests. Its connections are pooled and kept alive between requests,
+     * so a request neither sets up a new client nor a new connection.
+     * Every response has to be read or closed, or its connection is not given back to the pool.
+     *
+     * @param connectTimeout how long to wait for a connection to the server, in milliseconds
+     * @param readTimeout    how long to wait for a response, in milliseconds; has to be longer than a long poll
+     * @param maxConnections the number of connections to the server that can be open at once
+     * @return the client
+     */
+    public static Client createClient(int connectTimeout, int readTimeout, int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+        ClientConfig config = new ClientConfig()
+                .connectorProvider(new ApacheConnectorProvider())
+                .property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager)
+                .property(ClientProperties.CONNECT_TIMEOUT, connectTimeout)
+                .property(ClientProperties.READ_TIMEOUT, readTimeout)
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED);
+        return ClientBuilder.newClient(config);
+    }
+
+    /**
+     * Sends a request on a virtual thread, so the JavaFX application thread does not wait for the server.
+     * The returned future is completed on the JavaFX application thread, so the actions chained onto it
+     * with the non-async methods of CompletableFuture can update the UI. Cancelling it interrupts the request.
+     *
+     * @param request the blocking request
+     * @param <T>     the type of the result
+     * @return a future of the result
+     */
+    private static <T> CompletableFuture<T> supplyAsync(Supplier<T> request) {
+        return supplyAsync(request, Platform::runLater);
+    }
+
+    /**
+     * Sends a request on a virtual thread and completes the returned future with the given executor.
+     * Any throwable completes the future exceptionally, so a failed request is never left pending.
+     *
+     * @param request   the blocking request
+     * @param completer the executor that completes the future
+     * @param <T>       the type of the result
+     * @return a future of the result
+     */
+    static <T> CompletableFuture<T> supplyAsync(Supplier<T> request, Executor completer) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = REQUESTS.submit(() -> {
+            try {
+                T value = request.get();
+                completer.execute(() -> result.complete(value));
+            } catch (Throwable e) {
+                completer.execute(() -> result.completeExceptionally(e));
+            }
+        });
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Sends a request without a result on a virtual thread, see {@link #supplyAsync}.
+     *
+     * @param request the blocking request
+     * @return a future that is completed on the JavaFX application thread once the request is done
+     */
+    private static CompletableFuture<Void> runAsync(Runnable request) {
+        return supplyAsync(() -> {
+            request.run();
+            return null;
+        });
+    }
+
+    private record CachedResponse(String etag, Object body) {
+    }
+
+    /**
+     * Gets a resource, sending the ETag of the last response for the same path along.
+     * If the server answers 304 Not Modified, the body of the last response is returned without being sent again.
+     *
+     * @param target the resource
+     * @param type   the type of the body
+     * @param <T>    the type of the body
+     * @return the current body of the resource
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getIfModified(WebTarget target, GenericType<T> type) {
+        String path = target.getUri().toString();
+        CachedResponse cached = responses.get(path);
+        Invocation.Builder request = target
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON);
+        if (cached != null) {
+            request = request.header(HttpHeaders.IF_NONE_MATCH, cached.etag());
+        }
+
+        try (Response response = request.get()) {
+            if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                return (T) cached.body();
+            }
+            if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+                throw new WebApplicationException(response);
+            }
+
+            T body = response.readEntity(type);
+            String etag = response.getHeaderString(HttpHeaders.ETAG);
+            if (etag == null) {
+                responses.remove(path);
+            } else {
+                responses.put(path, new CachedResponse(etag, body));
+            }
+            return body;
+        }
     }
 
     private static class LoggingFilter implements ClientRequestFilter {
@@ -58,13 +211,22 @@ public class ServerUtils {
      * @return Created event.
      */
     public EventDTO createEvent(EventTitleDTO event) {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events")
+        return events
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .post(Entity.entity(event, APPLICATION_JSON), EventDTO.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #createEvent}.
+     *
+     * @param event Event DTO to be created.
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<EventDTO> createEventAsync(EventTitleDTO event) {
+        return supplyAsync(() -> createEvent(event));
+    }
+
     /**
      * Updates an event on the server.
      *
@@ -73,13 +235,23 @@ public class ServerUtils {
      * @return Updated event.
      */
     public EventDTO updateEvent(EventTitleDTO event, long eventId) {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/" + eventId)
+        return events.path(Long.toString(eventId))
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .put(Entity.entity(event, APPLICATION_JSON), EventDTO.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #updateEvent}.
+     *
+     * @param event   new title for the event .
+     * @param eventId id of the event to be updated.
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<EventDTO> updateEventAsync(EventTitleDTO event, long eventId) {
+        return supplyAsync(() -> updateEvent(event, eventId));
+    }
+
     /**
      * Gets an event from the server.
      *
@@ -87,13 +259,94 @@ public class ServerUtils {
      * @return Event data.
      */
     public EventDTO getEvent(String inviteCode) {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/invite/" + inviteCode)
+        return events.path("invite").path(inviteCode)
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .get(EventDTO.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #getEvent}.
+     *
+     * @param inviteCode Invite code of the event.
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<EventDTO> getEventAsync(String inviteCode) {
+        return supplyAsync(() -> getEvent(inviteCode));
+    }
+
+    /**
+     * Gets several events from the server in a single request.
+     *
+     * @param inviteCodes Invite codes of the events.
+     * @return The events that exist, in the order of their invite codes.
+     */
+    public List<EventDTO> getEvents(List<String> inviteCodes) {
+        return events.path("invite").path("batch")
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .post(Entity.entity(inviteCodes, APPLICATION_JSON), new GenericType<>() {
+                });
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEvents}.
+     *
+     * @param inviteCodes Invite codes of the events.
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<List<EventDTO>> getEventsAsync(List<String> inviteCodes) {
+        return supplyAsync(() -> getEvents(inviteCodes));
+    }
+
+    /**
+     * Gets the participants, expenses, tags and debts of an event in a single request.
+     *
+     * @param eventId id of event
+     * @return the snapshot of the event, with the number of the last change it contains
+     */
+    public EventSnapshotDTO getEventSnapshot(long eventId) {
+        return getIfModified(events.path(Long.toString(eventId)).path("snapshot"), new GenericType<>(EventSnapshotDTO.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEventSnapshot}.
+     *
+     * @param eventId id of event
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<EventSnapshotDTO> getEventSnapshotAsync(long eventId) {
+        return supplyAsync(() -> getEventSnapshot(eventId));
+    }
+
+    /**
+     * Gets what changed in an event after a version: the participants, expenses and tags that were added or updated,
+     * and the ids of those that were deleted. If the server no longer knows all deletions since the version,
+     * the result asks for a snapshot instead.
+     *
+     * @param eventId id of event
+     * @param since   the version of the event the client has
+     * @return the changes, with the version and the number of the last change they contain
+     */
+    public EventDeltaDTO getEventChanges(long eventId, long since) {
+        return events.path(Long.toString(eventId)).path("changes")
+                .queryParam("since", since)
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .get(EventDeltaDTO.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEventChanges}.
+     *
+     * @param eventId id of event
+     * @param since   the version of the event the client has
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<EventDeltaDTO> getEventChangesAsync(long eventId, long since) {
+        return supplyAsync(() -> getEventChanges(eventId, since));
+    }
+
     /**
      * Gets all participants of an event
      *
@@ -101,12 +354,18 @@ public class ServerUtils {
      * @return list of participants
      */
     public List<ParticipantDTO> getParticipants(long eventId) {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/" + eventId + "/participants")
-                .request(APPLICATION_JSON)
-                .accept(APPLICATION_JSON)
-                .get(new GenericType<>() {
-                });
+        return getIfModified(events.path(Long.toString(eventId)).path("participants"), new GenericType<>() {
+        });
+    }
+
+    /**
+     * Asynchronous variant of {@link #getParticipants}.
+     *
+     * @param eventId id of event
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<List<ParticipantDTO>> getParticipantsAsync(long eventId) {
+        return supplyAsync(() -> getParticipants(eventId));
     }
 
     /**
@@ -116,12 +375,60 @@ public class ServerUtils {
      * @return list of participants
      */
     public List<ExpenseDTO> getExpenses(long eventId) {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/" + eventId + "/expenses")
-                .request(APPLICATION_JSON)
+        return getIfModified(events.path(Long.toString(eventId)).path("expenses"), new GenericType<>() {
+        });
+    }
+
+    /**
+     * Asynchronous variant of {@link #getExpenses}.
+     *
+     * @param eventId id of event
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<List<ExpenseDTO>> getExpensesAsync(long eventId) {
+        return supplyAsync(() -> getExpenses(eventId));
+    }
+
+    /**
+     * Gets one page of the expenses of an event, newest first.
+     *
+     * @param eventId       id of event
+     * @param limit         maximum number of expenses on the page
+     * @param cursor        the next cursor of the previous page, or null for the first page
+     * @param payerId       if not null, only expenses paid by this participant are returned
+     * @param participantId if not null, only expenses this participant paid or needs to pay back are returned
+     * @return the page of expenses and the cursor of the next page, which is null on the last page
+     */
+    public ExpensePageDTO getExpensePage(long eventId, int limit, String cursor, Long payerId, Long participantId) {
+        WebTarget target = events.path(Long.toString(eventId)).path("expenses")
+                .queryParam("limit", limit);
+        if (cursor != null) {
+            target = target.queryParam("cursor", cursor);
+        }
+        if (payerId != null) {
+            target = target.queryParam("payerId", payerId);
+        }
+        if (participantId != null) {
+            target = target.queryParam("participantId", participantId);
+        }
+
+        return target.request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
-                .get(new GenericType<>() {
-                });
+                .get(ExpensePageDTO.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getExpensePage}.
+     *
+     * @param eventId       id of event
+     * @param limit         maximum number of expenses on the page
+     * @param cursor        the next cursor of the previous page, or null for the first page
+     * @param payerId       if not null, only expenses paid by this participant are returned
+     * @param participantId if not null, only expenses this participant paid or needs to pay back are returned
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<ExpensePageDTO> getExpensePageAsync(long eventId, int limit, String cursor, Long payerId, Long participantId) {
+        return supplyAsync(() -> getExpensePage(eventId, limit, cursor, payerId, participantId));
     }
 
     /**
@@ -131,14 +438,23 @@ public class ServerUtils {
      * @param expense the expense that needs to be created.
      */
     public void addExpense(long eventId, ExpenseDTO expense) {
-        ClientBuilder.newClient(new ClientConfig())
-                .target(server)
-                .path("/api/events/" + eventId + "/expenses")
+        events.path(Long.toString(eventId)).path("expenses")
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .post(Entity.entity(expense, APPLICATION_JSON), ExpenseDTO.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #addExpense}.
+     *
+     * @param eventId id of event ot which the Expense should belong
+     * @param expense the expense that needs to be created.
+     * @return a future that is completed on the JavaFX application thread once the request is done
+     */
+    public CompletableFuture<Void> addExpenseAsync(long eventId, ExpenseDTO expense) {
+        return runAsync(() -> addExpense(eventId, expense));
+    }
+
     /**
      * Updates an Expense on the server.
      *
@@ -147,15 +463,25 @@ public class ServerUtils {
      * @param expense   The Expense that needs to replace the current one.
      */
     public void updateExpense(long eventId, long expenseId, ExpenseDTO expense) {
-        ClientBuilder.newClient(new ClientConfig())
-                .target(server)
-                .path("/api/events/" + eventId + "/expenses")
+        events.path(Long.toString(eventId)).path("expenses")
                 .path(Long.toString(expenseId))
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .put(Entity.entity(expense, APPLICATION_JSON), ExpenseDTO.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #updateExpense}.
+     *
+     * @param eventId   The ID of the Event to which the Expense belongs.
+     * @param expenseId The ID of the Expense that needs to be updated.
+     * @param expense   The Expense that needs to replace the current one.
+     * @return a future that is completed on the JavaFX application thread once the request is done
+     */
+    public CompletableFuture<Void> updateExpenseAsync(long eventId, long expenseId, ExpenseDTO expense) {
+        return runAsync(() -> updateExpense(eventId, expenseId, expense));
+    }
+
     /**
      * Deletes an Expense from the server.
      *
@@ -164,13 +490,22 @@ public class ServerUtils {
      * @return boolean indicating whether deleting the Expense was successful or not.
      */
     public boolean deleteExpense(long eventId, long expenseId) {
-        Response response = ClientBuilder.newClient(new ClientConfig())
-                .target(server)
-                .path("/api/events/" + eventId + "/expenses/" + expenseId)
+        try (Response response = events.path(Long.toString(eventId)).path("expenses").path(Long.toString(expenseId))
                 .request(APPLICATION_JSON)
-                .delete();
+                .delete()) {
+            return response.getStatus() == 200;
+        }
+    }
 
-        return response.getStatus() == 200;
+    /**
+     * Asynchronous variant of {@link #deleteExpense}.
+     *
+     * @param eventId   The ID of the Event to which the Expense belongs.
+     * @param expenseId The ID of the Expense that needs to be deleted.
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<Boolean> deleteExpenseAsync(long eventId, long expenseId) {
+        return supplyAsync(() -> deleteExpense(eventId, expenseId));
     }
 
     /**
@@ -180,12 +515,18 @@ public class ServerUtils {
      * @return list of debts
      */
     public List<Debt> getDebts(long eventId) {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/" + eventId + "/debts")
-                .request(APPLICATION_JSON)
-                .accept(APPLICATION_JSON)
-                .get(new GenericType<>() {
-                });
+        return getIfModified(events.path(Long.toString(eventId)).path("debts"), new GenericType<>() {
+        });
+    }
+
+    /**
+     * Asynchronous variant of {@link #getDebts}.
+     *
+     * @param eventId id of event
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<List<Debt>> getDebtsAsync(long eventId) {
+        return supplyAsync(() -> getDebts(eventId));
     }
 
     /**
@@ -195,13 +536,23 @@ public class ServerUtils {
      * @param participant the participant to be added
      */
     public void addParticipant(long eventId, ParticipantDTO participant) {
-        ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/" + eventId + "/participants")
+        events.path(Long.toString(eventId)).path("participants")
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .post(Entity.entity(participant, APPLICATION_JSON), ParticipantDTO.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #addParticipant}.
+     *
+     * @param eventId     the ID of the event to which the participant is being added
+     * @param participant the participant to be added
+     * @return a future that is completed on the JavaFX application thread once the request is done
+     */
+    public CompletableFuture<Void> addParticipantAsync(long eventId, ParticipantDTO participant) {
+        return runAsync(() -> addParticipant(eventId, participant));
+    }
+
     /**
      * Updates a participant on the server.
      *
@@ -210,10 +561,7 @@ public class ServerUtils {
      * @param participant   the updated participant data
      */
     public void updateParticipant(long eventId, long participantId, ParticipantDTO participant) {
-        ClientBuilder.newClient(new ClientConfig())
-                .target(server)
-                .path("/api/events/")
-                .path(Long.toString(eventId))
+        events.path(Long.toString(eventId))
                 .path("participants")
                 .path(Long.toString(participantId))
                 .request(APPLICATION_JSON)
@@ -222,6 +570,18 @@ public class ServerUtils {
 
     }
 
+    /**
+     * Asynchronous variant of {@link #updateParticipant}.
+     *
+     * @param eventId       the ID of the event to which the participant belongs
+     * @param participantId the ID of the participant to be updated
+     * @param participant   the updated participant data
+     * @return a future that is completed on the JavaFX application thread once the request is done
+     */
+    public CompletableFuture<Void> updateParticipantAsync(long eventId, long participantId, ParticipantDTO participant) {
+        return runAsync(() -> updateParticipant(eventId, participantId, participant));
+    }
+
     /**
      * Deletes a participant from the server.
      *
@@ -230,13 +590,22 @@ public class ServerUtils {
      * @return boolean indicating whether deleting teh Participant was successful or not.
      */
     public boolean deleteParticipant(long eventId, long participantId) {
-        Response response = ClientBuilder.newClient(new ClientConfig())
-                .target(server)
-                .path("/api/events/" + eventId + "/participants/" + participantId)
+        try (Response response = events.path(Long.toString(eventId)).path("participants").path(Long.toString(participantId))
                 .request(APPLICATION_JSON)
-                .delete();
+                .delete()) {
+            return (response.getStatus() == Response.Status.OK.getStatusCode() || response.getStatus() == Response.Status.NO_CONTENT.getStatusCode());
+        }
+    }
 
-        return (response.getStatus() == Response.Status.OK.getStatusCode() || response.getStatus() == Response.Status.NO_CONTENT.getStatusCode());
+    /**
+     * Asynchronous variant of {@link #deleteParticipant}.
+     *
+     * @param eventId       The ID of the Event to which the participant belongs.
+     * @param participantId The ID of the Participant that needs to be deleted.
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<Boolean> deleteParticipantAsync(long eventId, long participantId) {
+        return supplyAsync(() -> deleteParticipant(eventId, participantId));
     }
 
     /**
@@ -247,10 +616,7 @@ public class ServerUtils {
      * @return the participant DTO representing the retrieved participant
      */
     public ParticipantDTO getParticipant(long eventId, long participantId) {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server)
-                .path("/api/events/")
-                .path(Long.toString(eventId))
+        return events.path(Long.toString(eventId))
                 .path("participants")
                 .path(Long.toString(participantId))
                 .request(APPLICATION_JSON)
@@ -258,6 +624,17 @@ public class ServerUtils {
                 .get(ParticipantDTO.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #getParticipant}.
+     *
+     * @param eventId       the ID of the event from which the participant is being retrieved
+     * @param participantId the ID of the participant to be retrieved
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<ParticipantDTO> getParticipantAsync(long eventId, long participantId) {
+        return supplyAsync(() -> getParticipant(eventId, participantId));
+    }
+
     /**
      * Checks if the user provided password is valid.
      *
@@ -265,15 +642,23 @@ public class ServerUtils {
      * @return true iff password is valid
      */
     public boolean validatePassword(String password) {
-        Response response = ClientBuilder.newClient(new ClientConfig())
-                .target(server)
-                .path("/api/admin")
+        try (Response response = admin
                 .path("validate-password")
                 .queryParam("password", password)
                 .request()
-                .get();
+                .get()) {
+            return response.getStatus() == Response.Status.OK.getStatusCode();
+        }
+    }
 
-        return response.getStatus() == Response.Status.OK.getStatusCode();
+    /**
+     * Asynchronous variant of {@link #validatePassword}.
+     *
+     * @param password provided password to be checked
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<Boolean> validatePasswordAsync(String password) {
+        return supplyAsync(() -> validatePassword(password));
     }
 
     /**
@@ -283,9 +668,7 @@ public class ServerUtils {
      * @return the JSON dump
      */
     public String getEventDump(long eventId) {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server)
-                .path("/api/admin")
+        return admin
                 .path("event-dump")
                 .path(Long.toString(eventId))
                 .request()
@@ -293,32 +676,97 @@ public class ServerUtils {
                 .get(String.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #getEventDump}.
+     *
+     * @param eventId provided id of an event
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<String> getEventDumpAsync(long eventId) {
+        return supplyAsync(() -> getEventDump(eventId));
+    }
+
     /**
      * Gets a list of all events.
      *
      * @return the event list.
      */
     public List<EventDTO> getEvents() {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/")
+        return events
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .get(new GenericType<>() {
                 });
     }
 
+    /**
+     * Asynchronous variant of {@link #getEvents}.
+     *
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<List<EventDTO>> getEventsAsync() {
+        return supplyAsync(this::getEvents);
+    }
+
+    /**
+     * Gets one page of the events for the admin panel.
+     *
+     * @param limit  maximum number of events on the page
+     * @param sort   title, createdOn or updatedOn; titles are sorted A to Z and times newest first
+     * @param search if not empty, only events whose title starts with it are returned
+     * @param cursor the next cursor of the previous page, or null for the first page
+     * @return the page of events and the cursor of the next page, which is null on the last page
+     */
+    public EventPageDTO getAdminEvents(int limit, String sort, String search, String cursor) {
+        WebTarget target = admin.path("events")
+                .queryParam("limit", limit)
+                .queryParam("sort", sort);
+        if (search != null && !search.isEmpty()) {
+            target = target.queryParam("search", search);
+        }
+        if (cursor != null) {
+            target = target.queryParam("cursor", cursor);
+        }
+
+        return target.request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .get(EventPageDTO.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAdminEvents}.
+     *
+     * @param limit  maximum number of events on the page
+     * @param sort   title, createdOn or updatedOn; titles are sorted A to Z and times newest first
+     * @param search if not empty, only events whose title starts with it are returned
+     * @param cursor the next cursor of the previous page, or null for the first page
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<EventPageDTO> getAdminEventsAsync(int limit, String sort, String search, String cursor) {
+        return supplyAsync(() -> getAdminEvents(limit, sort, search, cursor));
+    }
+
     /**
      * Deletes an event
      *
      * @param id of the event to be deleted
      */
     public void deleteEvent(long id) {
-        ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/")
-                .path(Long.toString(id))
+        events.path(Long.toString(id))
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
-                .delete();
+                .delete()
+                .close();
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteEvent}.
+     *
+     * @param id of the event to be deleted
+     * @return a future that is completed on the JavaFX application thread once the request is done
+     */
+    public CompletableFuture<Void> deleteEventAsync(long id) {
+        return runAsync(() -> deleteEvent(id));
     }
 
     /**
@@ -327,11 +775,21 @@ public class ServerUtils {
      * @param eventDump the event to be uploaded
      */
     public void uploadEvent(String eventDump) {
-        ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/admin/event-dump")
+        admin.path("event-dump")
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
-                .post(Entity.entity(eventDump, APPLICATION_JSON));
+                .post(Entity.entity(eventDump, APPLICATION_JSON))
+                .close();
+    }
+
+    /**
+     * Asynchronous variant of {@link #uploadEvent}.
+     *
+     * @param eventDump the event to be uploaded
+     * @return a future that is completed on the JavaFX application thread once the request is done
+     */
+    public CompletableFuture<Void> uploadEventAsync(String eventDump) {
+        return runAsync(() -> uploadEvent(eventDump));
     }
 
     /**
@@ -341,12 +799,18 @@ public class ServerUtils {
      * @return a list with all tagsof the event
      */
     public List<TagDTO> getAllTags(long eventId) {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/" + eventId + "/tags")
-                .request(APPLICATION_JSON)
-                .accept(APPLICATION_JSON)
-                .get(new GenericType<>() {
-                });
+        return getIfModified(events.path(Long.toString(eventId)).path("tags"), new GenericType<>() {
+        });
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAllTags}.
+     *
+     * @param eventId id of the event
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<List<TagDTO>> getAllTagsAsync(long eventId) {
+        return supplyAsync(() -> getAllTags(eventId));
     }
 
     /**
@@ -356,13 +820,23 @@ public class ServerUtils {
      * @param tagDTO  the tag to be added
      */
     public void addTag(long eventId, TagDTO tagDTO) {
-        ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/" + eventId + "/tags")
+        events.path(Long.toString(eventId)).path("tags")
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .post(Entity.entity(tagDTO, APPLICATION_JSON), TagDTO.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #addTag}.
+     *
+     * @param eventId id of the event
+     * @param tagDTO  the tag to be added
+     * @return a future that is completed on the JavaFX application thread once the request is done
+     */
+    public CompletableFuture<Void> addTagAsync(long eventId, TagDTO tagDTO) {
+        return runAsync(() -> addTag(eventId, tagDTO));
+    }
+
     /**
      * updates a tag from the server
      *
@@ -370,13 +844,23 @@ public class ServerUtils {
      * @param tagDTO  the tag to be updated
      */
     public void updateTag(long eventId, TagDTO tagDTO){
-        ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/" + Long.toString(eventId) + "/tags/" + Long.toString(tagDTO.id()))
+        events.path(Long.toString(eventId)).path("tags").path(Long.toString(tagDTO.id()))
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .put(Entity.entity(tagDTO, APPLICATION_JSON), TagDTO.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #updateTag}.
+     *
+     * @param eventId id of the event
+     * @param tagDTO  the tag to be updated
+     * @return a future that is completed on the JavaFX application thread once the request is done
+     */
+    public CompletableFuture<Void> updateTagAsync(long eventId, TagDTO tagDTO) {
+        return runAsync(() -> updateTag(eventId, tagDTO));
+    }
+
     /**
      * Deletes a tag
      *
@@ -384,11 +868,22 @@ public class ServerUtils {
      * @param tagId id of tag to be deleted
      */
     public  void deleteTag(long eventId, long tagId){
-        ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/events/" + eventId + "/tags/" + tagId)
+        events.path(Long.toString(eventId)).path("tags").path(Long.toString(tagId))
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
-                .delete();
+                .delete()
+                .close();
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteTag}.
+     *
+     * @param eventId of the event
+     * @param tagId id of tag to be deleted
+     * @return a future that is completed on the JavaFX application thread once the request is done
+     */
+    public CompletableFuture<Void> deleteTagAsync(long eventId, long tagId) {
+        return runAsync(() -> deleteTag(eventId, tagId));
     }
     
     /**
@@ -398,77 +893,173 @@ public class ServerUtils {
      * @return Exchange rates.
      */
     public ExchangeRates getExchangeRates(String date) {
-        return ClientBuilder.newClient(new ClientConfig())
-                .target(server).path("/api/exchange/" + date)
+        return exchange.path(date)
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .get(ExchangeRates.class);
     }
 
     /**
-     * Registers for event updates via long-polling.
+     * Asynchronous variant of {@link #getExchangeRates}.
+     *
+     * @param date Date string.
+     * @return a future of the result, completed on the JavaFX application thread
+     */
+    public CompletableFuture<ExchangeRates> getExchangeRatesAsync(String date) {
+        return supplyAsync(() -> getExchangeRates(date));
+    }
+
+    /**
+     * Registers for event updates via long-polling. Only the changes since the previous poll are sent by the server.
+     * The first poll just learns the current version, since the caller has loaded the events itself.
+     * If the server is too busy, polling waits as long as the server asks. If a poll fails, because the server cannot be
+     * reached, the response does not arrive within the read timeout, or the server answers with an error, the failure is
+     * reported and polling is retried after a delay, which doubles with every failure up to
+     * {@value #MAX_RECONNECT_DELAY_SECONDS} seconds.
      *
-     * @param consumer Consumer that handles the updates.
+     * @param onChanges Consumer that applies the changed events.
+     * @param onResync  Called when the server no longer knows the changes since the previous poll,
+     *                  so all events have to be loaded again.
      */
-    public void registerForEventUpdates(Consumer<List<EventDTO>> consumer) {
+    public void registerForEventUpdates(Consumer<List<EventChangeDTO>> onChanges, Runnable onResync) {
+        WebTarget updates = events.path("updates");
         EXEC.submit(() -> {
-            while (!Thread.interrupted()) {
-                Response response = ClientBuilder.newClient(new ClientConfig())
-                        .target(server)
-                        .path("/api/events/updates")
-                        .request(APPLICATION_JSON)
-                        .accept(APPLICATION_JSON)
-                        .get();
-
-                if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode()) {
-                    continue;
+            long since = -1;
+            int failures = 0;
+            while (!Thread.interrupted() && !isStopped) {
+                long delaySeconds;
+                try (Response response = updates.queryParam("since", since).request(APPLICATION_JSON).accept(APPLICATION_JSON).get()) {
+                    int status = response.getStatus();
+                    if (status == Response.Status.NO_CONTENT.getStatusCode()) {
+                        failures = 0;
+                        continue;
+                    }
+                    if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+                        EventChangesDTO changes = response.readEntity(EventChangesDTO.class);
+                        failures = 0;
+                        if (changes.resync()) {
+                            if (since >= 0) {
+                                onResync.run();
+                            }
+                        } else {
+                            onChanges.accept(changes.changes());
+                        }
+                        since = changes.version();
+                        continue;
+                    }
+
+                    if (status == Response.Status.SERVICE_UNAVAILABLE.getStatusCode()) {
+                        delaySeconds = parseRetryAfter(response.getHeaderString("Retry-After"));
+                    } else {
+                        System.err.println("Polling for event updates failed with status " + status);
+                        delaySeconds = getRetryDelay(++failures);
+                    }
+                } catch (ProcessingException e) {
+                    System.err.println("Polling for event updates failed: " + e.getMessage());
+                    delaySeconds = getRetryDelay(++failures);
                 }
 
-                consumer.accept(response.readEntity(new GenericType<>() {
-                }));
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(delaySeconds));
+                } catch (InterruptedException e) {
+                    return;
+                }
             }
         });
     }
 
     /**
-     * Stops executors.
+     * Computes how long to wait before polling again after a number of failed polls in a row.
+     *
+     * @param failures the number of failed polls, at least 1
+     * @return the delay in seconds, doubling with every failure up to {@value #MAX_RECONNECT_DELAY_SECONDS}
+     */
+    static long getRetryDelay(int failures) {
+        return Math.min(MAX_RECONNECT_DELAY_SECONDS, 1L << Math.min(failures - 1, 5));
+    }
+
+    /**
+     * Reads how long a busy server asks to wait before polling again.
+     *
+     * @param retryAfter the Retry-After header, either a number of seconds or an HTTP date, or null if it was not sent
+     * @return the delay in seconds, at least 1
+     */
+    static long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null) {
+            return 1;
+        }
+
+        try {
+            return Math.max(1, Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(1, Duration.between(ZonedDateTime.now(date.getZone()), date).toSeconds());
+            } catch (DateTimeParseException ignored) {
+                return 1;
+            }
+        }
+    }
+
+    /**
+     * Stops executors, cancelling the requests that are still running, and closes the HTTP client,
+     * with the connections it kept open.
      */
     public void stopExecutors() {
+        isStopped = true;
+        session.thenAccept(StompSession::disconnect);
         EXEC.shutdownNow();
+        REQUESTS.shutdownNow();
+        client.close();
     }
 
-    private StompSession connect(String url) {
-        var client = new StandardWebSocketClient();
-        var stomp = new WebSocketStompClient(client);
+    /**
+     * Starts connecting to the WebSocket endpoint of the server without waiting for the connection,
+     * so a slow or unreachable server does not hold up the start of the client. The session is completed once
+     * the connection is established. A failed attempt is reported and retried after a delay, which doubles
+     * with every failure up to {@value #MAX_RECONNECT_DELAY_SECONDS} seconds, until the executors are stopped.
+     *
+     * @param url        URL of the WebSocket endpoint.
+     * @param retryDelay Seconds to wait before retrying if this attempt fails.
+     */
+    private void connect(String url, long retryDelay) {
+        var webSocketClient = new StandardWebSocketClient();
+        var stomp = new WebSocketStompClient(webSocketClient);
         stomp.setMessageConverter(new MappingJackson2MessageConverter());
 
-        try {
-            return stomp.connect(url, new StompSessionHandlerAdapter() {
-                @Override
-                public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
-                    throw new RuntimeException("Failure in WebSocket handling", exception);
-                }
-            }).get();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        } catch (ExecutionException e) {
-            throw new RuntimeException(e);
-        }
+        stomp.connectAsync(url, new StompSessionHandlerAdapter() {
+            @Override
+            public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+                throw new RuntimeException("Failure in WebSocket handling", exception);
+            }
+        }).whenComplete((connected, exception) -> {
+            if (exception == null) {
+                session.complete(connected);
+                return;
+            }
+            if (isStopped) {
+                return;
+            }
 
-        throw new IllegalStateException();
+            System.err.println("Could not connect to " + url + ", retrying in " + retryDelay + " s: " + exception.getMessage());
+            CompletableFuture.delayedExecutor(retryDelay, TimeUnit.SECONDS)
+                    .execute(() -> connect(url, Math.min(2 * retryDelay, MAX_RECONNECT_DELAY_SECONDS)));
+        });
     }
 
     /**
-     * Registers for incoming WebSocket messages.
+     * Registers for incoming WebSocket messages. If the connection to the server is not established yet,
+     * the subscription is made as soon as it is.
      *
      * @param dest     URL of the message.
      * @param type     Class type of the message.
      * @param consumer Consumer that handles the message.
      * @param <T>      Message type.
-     * @return A STOMP subscription.
+     * @return The subscription.
      */
-    public <T> StompSession.Subscription registerForMessages(String dest, Class<T> type, Consumer<T> consumer) {
-        return session.subscribe(dest, new StompFrameHandler() {
+    public <T> Subscription registerForMessages(String dest, Class<T> type, Consumer<T> consumer) {
+        Subscription subscription = new Subscription();
+        session.thenAccept(connected -> subscription.subscribed(connected.subscribe(dest, new StompFrameHandler() {
             @Override
             public Type getPayloadType(StompHeaders headers) {
                 return type;
@@ -479,6 +1070,47 @@ public class ServerUtils {
             public void handleFrame(StompHeaders headers, Object payload) {
                 consumer.accept((T) payload);
             }
-        });
+        })));
+        return subscription;
+    }
+
+    /**
+     * A subscription to WebSocket messages, which can be cancelled before the connection to the server is established.
+     */
+    public static final class Subscription {
+        private final CompletableFuture<Void> made = new CompletableFuture<>();
+        private StompSession.Subscription subscription;
+        private boolean isUnsubscribed;
+
+        private void subscribed(StompSession.Subscription subscription) {
+            synchronized (this) {
+                if (isUnsubscribed) {
+                    subscription.unsubscribe();
+                    return;
+                }
+                this.subscription = subscription;
+            }
+            made.complete(null);
+        }
+
+        /**
+         * Gets a future that is completed once the subscription is made, on the thread that made it.
+         * Messages sent before that were not received. The future is never completed if the subscription is cancelled first.
+         *
+         * @return The future.
+         */
+        public CompletableFuture<Void> whenSubscribed() {
+            return made;
+        }
+
+        /**
+         * Stops receiving the messages, or makes sure they are never received if the subscription was not made yet.
+         */
+        public synchronized void unsubscribe() {
+            isUnsubscribed = true;
+            if (subscription != null) {
+                subscription.unsubscribe();
+            }
+        }
     }
 }
@@ -0,0 +1,54 @@
+package client.utils;
+
+import javafx.animation.AnimationTimer;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures how long the client takes to start, from the start of the JVM until the first frame is on the screen.
+ * Run the client with {@code -Dclient.startupTiming=true} to print the time of every step of the startup, or with
+ * {@code -Dclient.startupTiming=exit} to also quit after the first frame, so the measurement can be repeated from a script.
+ */
+public final class StartupTimer {
+
+    private static final String MODE = System.getProperty("client.startupTiming");
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Prints the time since the start of the JVM at a step of the startup, if the startup is being timed.
+     *
+     * @param step The step that was reached.
+     */
+    public static void mark(String step) {
+        if (MODE != null) {
+            System.out.println("Startup: " + step + " after " + ManagementFactory.getRuntimeMXBean().getUptime() + " ms");
+        }
+    }
+
+    /**
+     * Runs an action once the first frame of the shown scene is on the screen. JavaFX renders a frame at the end
+     * of each pulse, so the first frame has been rendered when the second pulse starts.
+     *
+     * @param action The action to run on the JavaFX application thread.
+     */
+    public static void afterFirstFrame(Runnable action) {
+        new AnimationTimer() {
+            private int pulses;
+
+            @Override
+            public void handle(long now) {
+                if (++pulses < 2) {
+                    return;
+                }
+                stop();
+                mark("first frame");
+                if ("exit".equals(MODE)) {
+                    System.exit(0);
+                }
+                action.run();
+            }
+        }.start();
+    }
+}
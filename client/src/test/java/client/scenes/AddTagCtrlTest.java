@@ -19,6 +19,7 @@ import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.*;
 
@@ -67,6 +68,7 @@ class AddTagCtrlTest {
         addTagCtrl.setEvent(eventDTO, false);
 
         reset(serverUtils, mainCtrl);
+        when(serverUtils.addTagAsync(anyLong(), any(TagDTO.class))).thenReturn(CompletableFuture.completedFuture(null));
     }
 
     @Test
@@ -77,7 +79,7 @@ class AddTagCtrlTest {
         robot.clickOn("OK");
         robot.clickOn("OK");
 
-        verify(serverUtils).addTag(anyLong(), any(TagDTO.class));
+        verify(serverUtils).addTagAsync(anyLong(), any(TagDTO.class));
 
         robot.clickOn("#backButton");
         verify(mainCtrl).returnToAddExpenseScreen(any(Boolean.class));
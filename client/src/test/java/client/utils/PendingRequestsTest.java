@@ -0,0 +1,101 @@
+package client.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PendingRequestsTest {
+
+    private final PendingRequests requests = new PendingRequests();
+    private final List<Object> results = new ArrayList<>();
+    private final List<Throwable> failures = new ArrayList<>();
+
+    @Test
+    void send_Completed_HandsOverResult() {
+        CompletableFuture<String> request = new CompletableFuture<>();
+        requests.send(request, results::add, failures::add);
+
+        request.complete("value");
+
+        assertEquals(List.of("value"), results);
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    void send_Failed_HandsOverException() {
+        CompletableFuture<String> request = new CompletableFuture<>();
+        IllegalStateException exception = new IllegalStateException("failed");
+        requests.send(request, results::add, failures::add);
+
+        request.completeExceptionally(exception);
+
+        assertTrue(results.isEmpty());
+        assertEquals(List.of(exception), failures);
+    }
+
+    @Test
+    void send_CancelledWhilePending_IsCancelledAndNotHandled() {
+        CompletableFuture<String> request = new CompletableFuture<>();
+        requests.send(request, results::add, failures::add);
+
+        requests.cancelAll();
+        request.complete("value");
+
+        assertTrue(request.isCancelled());
+        assertTrue(results.isEmpty());
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    void cancelAll_FinishedSend_IsNotCancelled() {
+        CompletableFuture<String> request = new CompletableFuture<>();
+        requests.send(request, results::add, failures::add);
+        request.complete("value");
+
+        requests.cancelAll();
+
+        assertFalse(request.isCancelled());
+        assertEquals(List.of("value"), results);
+    }
+
+    @Test
+    void write_FinishedAfterCancelAll_IsNotCancelledButResultIsDropped() {
+        CompletableFuture<String> request = new CompletableFuture<>();
+        requests.write(request, results::add, failures::add);
+
+        requests.cancelAll();
+        request.complete("value");
+
+        assertFalse(request.isCancelled());
+        assertTrue(results.isEmpty());
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    void write_FailedAfterCancelAll_HandsOverException() {
+        CompletableFuture<String> request = new CompletableFuture<>();
+        IllegalStateException exception = new IllegalStateException("failed");
+        requests.write(request, results::add, failures::add);
+
+        requests.cancelAll();
+        request.completeExceptionally(exception);
+
+        assertTrue(results.isEmpty());
+        assertEquals(List.of(exception), failures);
+    }
+
+    @Test
+    void write_SentAfterCancelAll_HandsOverResult() {
+        requests.cancelAll();
+        CompletableFuture<String> request = new CompletableFuture<>();
+        requests.write(request, results::add, failures::add);
+
+        request.complete("value");
+
+        assertEquals(List.of("value"), results);
+    }
+}
@@ -0,0 +1,85 @@
+package client.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerUtilsTest {
+
+    @Test
+    void parseRetryAfter_Seconds() {
+        assertEquals(7, ServerUtils.parseRetryAfter("7"));
+        assertEquals(1, ServerUtils.parseRetryAfter("0"));
+    }
+
+    @Test
+    void parseRetryAfter_HttpDate() {
+        String date = ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(120).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+        long delay = ServerUtils.parseRetryAfter(date);
+
+        assertTrue(delay >= 110 && delay <= 120, "delay was " + delay);
+    }
+
+    @Test
+    void parseRetryAfter_MissingOrMalformed_WaitsOneSecond() {
+        assertEquals(1, ServerUtils.parseRetryAfter(null));
+        assertEquals(1, ServerUtils.parseRetryAfter("soon"));
+    }
+
+    @Test
+    void getRetryDelay_DoublesUpToMaximum() {
+        assertEquals(1, ServerUtils.getRetryDelay(1));
+        assertEquals(2, ServerUtils.getRetryDelay(2));
+        assertEquals(16, ServerUtils.getRetryDelay(5));
+        assertEquals(30, ServerUtils.getRetryDelay(6));
+        assertEquals(30, ServerUtils.getRetryDelay(100));
+    }
+
+    @Test
+    void supplyAsync_CompletesWithResult() throws Exception {
+        CompletableFuture<String> result = ServerUtils.supplyAsync(() -> "value", Runnable::run);
+
+        assertEquals("value", result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void supplyAsync_Error_CompletesExceptionally() {
+        AssertionError error = new AssertionError("failed");
+        CompletableFuture<String> result = ServerUtils.supplyAsync(() -> {
+            throw error;
+        }, Runnable::run);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertSame(error, exception.getCause());
+    }
+
+    @Test
+    void supplyAsync_Cancelled_InterruptsRequest() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> result = ServerUtils.supplyAsync(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "value";
+        }, Runnable::run);
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        result.cancel(true);
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(result.isCancelled());
+    }
+}
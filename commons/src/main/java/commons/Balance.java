@@ -0,0 +1,162 @@
+package commons;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.MULTI_LINE_STYLE;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "participant_id"}))
+public class Balance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id")
+    private long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Event event;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "participant_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Participant participant;
+
+    @Column(name = "amount_in_eur", precision = 24, scale = 8)
+    private BigDecimal amountInEUR;
+
+    /**
+     * No-arg constructor used for object mapper.
+     */
+    @SuppressWarnings("unused")
+    public Balance() {
+        // for object mapper
+    }
+
+    /**
+     * Constructs a Balance instance.
+     *
+     * @param event       The event the balance belongs to.
+     * @param participant The participant whose net balance this is.
+     * @param amountInEUR How much the participant is owed by (positive) or owes to (negative) the group.
+     */
+    public Balance(Event event, Participant participant, BigDecimal amountInEUR) {
+        this.event = event;
+        this.participant = participant;
+        this.amountInEUR = amountInEUR;
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return Id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets id.
+     *
+     * @param id Id.
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets event.
+     *
+     * @return Event.
+     */
+    public Event getEvent() {
+        return event;
+    }
+
+    /**
+     * Sets event.
+     *
+     * @param event Event.
+     */
+    public void setEvent(Event event) {
+        this.event = event;
+    }
+
+    /**
+     * Gets participant.
+     *
+     * @return Participant.
+     */
+    public Participant getParticipant() {
+        return participant;
+    }
+
+    /**
+     * Sets participant.
+     *
+     * @param participant Participant.
+     */
+    public void setParticipant(Participant participant) {
+        this.participant = participant;
+    }
+
+    /**
+     * Gets the net amount.
+     *
+     * @return The net amount.
+     */
+    public BigDecimal getAmountInEUR() {
+        return amountInEUR;
+    }
+
+    /**
+     * Sets the net amount.
+     *
+     * @param amountInEUR The net amount.
+     */
+    public void setAmountInEUR(BigDecimal amountInEUR) {
+        this.amountInEUR = amountInEUR;
+    }
+
+    /**
+     * Equals method.
+     *
+     * @param obj Object to be compared with.
+     * @return Boolean whether they are equal.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return EqualsBuilder.reflectionEquals(this, obj);
+    }
+
+    /**
+     * Generates a hash code.
+     * The event is left out, since hashing it would load and hash everything else in the event.
+     * Equal objects still get equal hash codes.
+     *
+     * @return Hash code.
+     */
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this, "event");
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this, MULTI_LINE_STYLE);
+    }
+}
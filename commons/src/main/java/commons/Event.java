@@ -7,10 +7,20 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.*;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_event_title", columnList = "title, id"),
+    @Index(name = "idx_event_title_desc", columnList = "title DESC, id DESC"),
+    @Index(name = "idx_event_search_title", columnList = "search_title, id"),
+    @Index(name = "idx_event_created_on", columnList = "created_on, id"),
+    @Index(name = "idx_event_created_on_desc", columnList = "created_on DESC, id DESC"),
+    @Index(name = "idx_event_updated_on", columnList = "updated_on, id"),
+    @Index(name = "idx_event_updated_on_desc", columnList = "updated_on DESC, id DESC")
+})
 public class Event {
 
     @Id
@@ -21,6 +31,13 @@ public class Event {
     @Column(name = "title")
     private String title;
 
+    /**
+     * The title in upper case, so that searching for a title prefix while ignoring case can use an index.
+     * Kept in sync with the title by the constructors and setTitle.
+     */
+    @Column(name = "search_title")
+    private String searchTitle;
+
     @Column(name = "invite_code", unique = true)
     private String inviteCode;
 
@@ -41,6 +58,21 @@ public class Event {
     @Column(name = "updated_on")
     private Calendar updatedOn;
 
+    /**
+     * Bumped with every change to the event. Only written by an atomic update query, never by saving the entity.
+     */
+    @ColumnDefault("0")
+    @Column(name = "version", updatable = false)
+    private long version;
+
+    /**
+     * The highest version of which deletions were forgotten. Changes since an older version can no longer be listed.
+     * Only written by an atomic update query, never by saving the entity.
+     */
+    @ColumnDefault("0")
+    @Column(name = "purged_version", updatable = false)
+    private long purgedVersion;
+
     /**
      * No-arg constructor used for object mapper.
      */
@@ -61,6 +93,7 @@ public class Event {
     public Event(String title, String inviteCode, Set<Participant> participants,
                  Set<Expense> expenses, Set<Tag> availableTags) {
         this.title = title;
+        this.searchTitle = toSearchTitle(title);
         this.inviteCode = inviteCode;
         this.participants = participants;
         this.expenses = expenses;
@@ -76,6 +109,7 @@ public class Event {
     @SuppressWarnings("unused")
     public Event(String title, String inviteCode) {
         this.title = title;
+        this.searchTitle = toSearchTitle(title);
         this.inviteCode = inviteCode;
     }
 
@@ -86,6 +120,17 @@ public class Event {
      */
     public Event(String title) {
         this.title = title;
+        this.searchTitle = toSearchTitle(title);
+    }
+
+    /**
+     * Normalizes a title, or the start of one, the way it is stored for searching.
+     *
+     * @param title The title.
+     * @return The title in upper case, or null if the title is null.
+     */
+    public static String toSearchTitle(String title) {
+        return title == null ? null : title.toUpperCase(Locale.ROOT);
     }
 
     @PrePersist
@@ -117,6 +162,42 @@ public class Event {
         this.updatedOn = updatedOn;
     }
 
+    /**
+     * Gets version
+     *
+     * @return the number of changes made to the event
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets version
+     *
+     * @param version new value for version
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Gets purgedVersion
+     *
+     * @return the highest version of which deletions were forgotten
+     */
+    public long getPurgedVersion() {
+        return purgedVersion;
+    }
+
+    /**
+     * Sets purgedVersion
+     *
+     * @param purgedVersion new value for purgedVersion
+     */
+    public void setPurgedVersion(long purgedVersion) {
+        this.purgedVersion = purgedVersion;
+    }
+
     /**
      * Gets createdOn
      *
@@ -160,6 +241,7 @@ public class Event {
      */
     public void setTitle(String title) {
         this.title = title;
+        this.searchTitle = toSearchTitle(title);
     }
 
     /**
@@ -7,6 +7,7 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -14,6 +15,10 @@ import java.math.BigDecimal;
 import java.util.*;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_expense_event_date", columnList = "event_id DESC, date DESC, updated_on DESC, id DESC"),
+    @Index(name = "idx_expense_event_changed", columnList = "event_id, changed_version")
+})
 public class Expense {
 
     @Id
@@ -54,6 +59,13 @@ public class Expense {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Event event;
 
+    /**
+     * The version of the event in which this expense was last added or changed.
+     */
+    @ColumnDefault("0")
+    @Column(name = "changed_version")
+    private long changedVersion;
+
     @Temporal(TemporalType.TIMESTAMP)
     @Column(name = "updated_on")
     private Calendar updatedOn;
@@ -166,6 +178,24 @@ public class Expense {
         this.event = event;
     }
 
+    /**
+     * Gets the version of the event in which this expense was last added or changed.
+     *
+     * @return The version.
+     */
+    public long getChangedVersion() {
+        return changedVersion;
+    }
+
+    /**
+     * Sets the version of the event in which this expense was last added or changed.
+     *
+     * @param changedVersion The version.
+     */
+    public void setChangedVersion(long changedVersion) {
+        this.changedVersion = changedVersion;
+    }
+
     /**
      * Gets the ID of the expense.
      *
@@ -350,12 +380,14 @@ public class Expense {
 
     /**
      * Generates a hash code.
+     * The event is left out, since hashing it would load and hash everything else in the event.
+     * Equal objects still get equal hash codes.
      *
      * @return Hash code.
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return HashCodeBuilder.reflectionHashCode(this, "event");
     }
 
     /**
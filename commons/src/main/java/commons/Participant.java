@@ -7,6 +7,7 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -35,6 +36,13 @@ public class Participant {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Event event;
 
+    /**
+     * The version of the event in which this participant was last added or changed.
+     */
+    @ColumnDefault("0")
+    @Column(name = "changed_version")
+    private long changedVersion;
+
     /**
      * Default constructor used for serialization
      */
@@ -166,6 +174,24 @@ public class Participant {
         this.event = event;
     }
 
+    /**
+     * Gets the version of the event in which this participant was last added or changed.
+     *
+     * @return The version.
+     */
+    public long getChangedVersion() {
+        return changedVersion;
+    }
+
+    /**
+     * Sets the version of the event in which this participant was last added or changed.
+     *
+     * @param changedVersion The version.
+     */
+    public void setChangedVersion(long changedVersion) {
+        this.changedVersion = changedVersion;
+    }
+
     /**
      * Equals method.
      *
@@ -179,12 +205,14 @@ public class Participant {
 
     /**
      * Generates a hash code.
+     * The event is left out, since hashing it would load and hash everything else in the event.
+     * Equal objects still get equal hash codes.
      *
      * @return Hash code.
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return HashCodeBuilder.reflectionHashCode(this, "event");
     }
 
     /**
@@ -7,6 +7,7 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -31,6 +32,13 @@ public class Tag {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Event event;
 
+    /**
+     * The version of the event in which this tag was last added or changed.
+     */
+    @ColumnDefault("0")
+    @Column(name = "changed_version")
+    private long changedVersion;
+
     @OneToMany(mappedBy = "tag", cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REFRESH, CascadeType.DETACH}, fetch = FetchType.LAZY)
     private Set<Expense> expenses;
 
@@ -120,6 +128,24 @@ public class Tag {
         this.event = event;
     }
 
+    /**
+     * Gets the version of the event in which this tag was last added or changed.
+     *
+     * @return The version.
+     */
+    public long getChangedVersion() {
+        return changedVersion;
+    }
+
+    /**
+     * Sets the version of the event in which this tag was last added or changed.
+     *
+     * @param changedVersion The version.
+     */
+    public void setChangedVersion(long changedVersion) {
+        this.changedVersion = changedVersion;
+    }
+
     /**
      * getter for expenses
      *
@@ -149,12 +175,14 @@ public class Tag {
 
     /**
      * Generates a hash code.
+     * The event is left out, since hashing it would load and hash everything else in the event.
+     * Equal objects still get equal hash codes.
      *
      * @return Hash code.
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return HashCodeBuilder.reflectionHashCode(this, "event");
     }
 
     /**
@@ -0,0 +1,5 @@
+package commons.dtos;
+
+public record CacheStatsDTO(long hits, long misses, double hitRatio, long evictions, long loads,
+                            double averageLoadMillis, int size, int maxSize) {
+}
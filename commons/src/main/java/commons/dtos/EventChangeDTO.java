@@ -0,0 +1,10 @@
+package commons.dtos;
+
+public record EventChangeDTO(long version, Type type, long eventId, EventDTO event) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,6 @@
+package commons.dtos;
+
+import java.util.List;
+
+public record EventChangesDTO(long version, boolean resync, List<EventChangeDTO> changes) {
+}
@@ -0,0 +1,9 @@
+package commons.dtos;
+
+import java.util.List;
+
+public record EventDeltaDTO(long version, long sequence, boolean snapshotRequired,
+                            List<ParticipantDTO> participants, List<Long> deletedParticipantIds,
+                            List<ExpenseDTO> expenses, List<Long> deletedExpenseIds,
+                            List<TagDTO> tags, List<Long> deletedTagIds) {
+}
@@ -0,0 +1,6 @@
+package commons.dtos;
+
+import java.util.List;
+
+public record EventPageDTO(List<EventDTO> events, String nextCursor) {
+}
@@ -0,0 +1,9 @@
+package commons.dtos;
+
+import java.util.List;
+
+import commons.Debt;
+
+public record EventSnapshotDTO(long version, long sequence, List<ParticipantDTO> participants, List<ExpenseDTO> expenses,
+                               List<TagDTO> tags, List<Debt> debts) {
+}
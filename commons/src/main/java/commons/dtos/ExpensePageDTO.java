@@ -0,0 +1,6 @@
+package commons.dtos;
+
+import java.util.List;
+
+public record ExpensePageDTO(List<ExpenseDTO> expenses, String nextCursor) {
+}
@@ -0,0 +1,5 @@
+package commons.dtos;
+
+public record PollingStatsDTO(int parked, int maxParked, long rejected, long fanOuts, double averageFanOutMillis,
+                              double maxFanOutMillis) {
+}
@@ -0,0 +1,8 @@
+package commons.messages;
+
+import java.util.List;
+
+import commons.Debt;
+
+public record DebtsChangedMessage(long sequence, List<Debt> debts) implements EventDeltaMessage {
+}
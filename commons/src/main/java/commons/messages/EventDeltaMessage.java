@@ -0,0 +1,13 @@
+package commons.messages;
+
+/**
+ * A change to an event that is broadcast to the clients that have the event open.
+ * The changes of an event are numbered one after another, so a client that misses one can tell and load the event again.
+ */
+public interface EventDeltaMessage {
+
+    /**
+     * @return the number of this change within its event
+     */
+    long sequence();
+}
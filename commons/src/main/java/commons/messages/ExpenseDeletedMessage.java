@@ -0,0 +1,4 @@
+package commons.messages;
+
+public record ExpenseDeletedMessage(long sequence, long expenseId) implements ExpenseDeltaMessage {
+}
@@ -0,0 +1,12 @@
+package commons.messages;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = ExpensesUpsertedMessage.class, name = "upserted"),
+    @JsonSubTypes.Type(value = ExpenseDeletedMessage.class, name = "deleted")
+})
+public interface ExpenseDeltaMessage extends EventDeltaMessage {
+}
@@ -1,8 +0,0 @@
-package commons.messages;
-
-import java.util.List;
-
-import commons.dtos.ExpenseDTO;
-
-public record ExpensesMessage(List<ExpenseDTO> expenses) {
-}
@@ -0,0 +1,8 @@
+package commons.messages;
+
+import java.util.List;
+
+import commons.dtos.ExpenseDTO;
+
+public record ExpensesUpsertedMessage(long sequence, List<ExpenseDTO> expenses) implements ExpenseDeltaMessage {
+}
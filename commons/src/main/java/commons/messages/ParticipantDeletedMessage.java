@@ -0,0 +1,4 @@
+package commons.messages;
+
+public record ParticipantDeletedMessage(long sequence, long participantId) implements ParticipantDeltaMessage {
+}
@@ -0,0 +1,12 @@
+package commons.messages;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = ParticipantUpsertedMessage.class, name = "upserted"),
+    @JsonSubTypes.Type(value = ParticipantDeletedMessage.class, name = "deleted")
+})
+public interface ParticipantDeltaMessage extends EventDeltaMessage {
+}
@@ -0,0 +1,6 @@
+package commons.messages;
+
+import commons.dtos.ParticipantDTO;
+
+public record ParticipantUpsertedMessage(long sequence, ParticipantDTO participant) implements ParticipantDeltaMessage {
+}
@@ -1,15 +1,37 @@
 package server;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+    private final int outboundThreads;
+
+    /**
+     * Creates the WebSocket configuration.
+     *
+     * @param sendTimeLimitMillis How long sending to one client may take before its session is closed.
+     * @param sendBufferSizeLimit How many bytes may be buffered for a client that is slow to receive before its session is closed.
+     * @param outboundThreads     The number of threads that send messages to the clients.
+     */
+    public WebSocketConfig(@Value("${websocket.send-time-limit-millis:5000}") int sendTimeLimitMillis,
+                           @Value("${websocket.send-buffer-size-limit:1048576}") int sendBufferSizeLimit,
+                           @Value("${websocket.outbound-threads:8}") int outboundThreads) {
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.outboundThreads = outboundThreads;
+    }
+
     /**
      * Registers the STOMP endpoint.
      *
@@ -22,6 +44,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     /**
      * Configures the message broker.
+     * Messages to a client are sent in the order they were published, since clients check the sequence numbers of changes.
      *
      * @param config MessageBrokerRegistry instance.
      */
@@ -29,5 +52,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
         config.setApplicationDestinationPrefixes("/app");
+        config.setPreservePublishOrder(true);
+    }
+
+    /**
+     * Limits how long sending to a client may take and how much may be buffered for it.
+     * A client that is slow to receive only fills its own buffer, and is disconnected once it exceeds a limit,
+     * instead of holding up the threads that send to the other clients.
+     *
+     * @param registration WebSocketTransportRegistration instance.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis);
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+
+    /**
+     * Sizes the pool of threads that send messages to the clients.
+     *
+     * @param registration ChannelRegistration instance.
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor().corePoolSize(outboundThreads).maxPoolSize(outboundThreads);
     }
 }
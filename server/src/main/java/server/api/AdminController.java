@@ -4,9 +4,19 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
+import server.exceptions.InvalidPayloadException;
 import server.service.AdminService;
+import server.service.DebtService;
 import server.service.EventPollingService;
+import server.service.EventService;
+import server.service.SubscriptionService;
+import commons.dtos.CacheStatsDTO;
+import commons.dtos.EventDTO;
 import commons.dtos.EventDump;
+import commons.dtos.EventPageDTO;
+import commons.dtos.PollingStatsDTO;
 
 @Controller
 @ResponseBody
@@ -15,16 +25,26 @@ public class AdminController {
 
     private final AdminService adminService;
     private final EventPollingService eventPollingService;
+    private final DebtService debtService;
+    private final EventService eventService;
+    private final SubscriptionService subscriptionService;
 
     /**
      * Creates an instance of the AdminController.
      *
      * @param adminService        Service for admin.
      * @param eventPollingService EventPollingService instance for long-polling event updates
+     * @param debtService         Service for debts.
+     * @param eventService        Service for events.
+     * @param subscriptionService Service that keeps track of the WebSocket subscriptions.
      */
-    public AdminController(AdminService adminService, EventPollingService eventPollingService) {
+    public AdminController(AdminService adminService, EventPollingService eventPollingService, DebtService debtService,
+                           EventService eventService, SubscriptionService subscriptionService) {
         this.adminService = adminService;
         this.eventPollingService = eventPollingService;
+        this.debtService = debtService;
+        this.eventService = eventService;
+        this.subscriptionService = subscriptionService;
     }
 
     /**
@@ -42,6 +62,29 @@ public class AdminController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * GET `/api/admin/events` endpoint for listing the events page by page
+     *
+     * @param limit     maximum number of events on the page
+     * @param sort      title, createdOn or updatedOn
+     * @param direction asc or desc
+     * @param search    if given, only events whose title starts with it are returned
+     * @param cursor    the nextCursor of the previous page, absent for the first page
+     * @return a page of events and the cursor of the next page
+     */
+    @GetMapping("/events")
+    public ResponseEntity<EventPageDTO> getEvents(@RequestParam(name = "limit", defaultValue = "50") int limit,
+                                                  @RequestParam(name = "sort", required = false) String sort,
+                                                  @RequestParam(name = "direction", required = false) String direction,
+                                                  @RequestParam(name = "search", required = false) String search,
+                                                  @RequestParam(name = "cursor", required = false) String cursor) {
+        try {
+            return ResponseEntity.ok(eventService.getEventPage(limit, sort, direction, search, cursor));
+        } catch (InvalidPayloadException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * GET `/api/admin/event-dump/{id}` endpoint
      *
@@ -61,12 +104,42 @@ public class AdminController {
      */
     @PostMapping("/event-dump")
     public ResponseEntity<?> uploadDump(@RequestBody EventDump eventDump) {
-        adminService.uploadEventDump(eventDump);
+        EventDTO event = adminService.uploadEventDump(eventDump);
 
         if (eventPollingService != null) {
-            eventPollingService.sendEventsToListeners();
+            eventPollingService.eventCreated(event);
         }
 
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * GET `/api/admin/debt-cache` endpoint
+     *
+     * @return the hit ratio, evictions and load times of the cache of computed debts
+     */
+    @GetMapping("/debt-cache")
+    public ResponseEntity<CacheStatsDTO> getDebtCacheStats() {
+        return ResponseEntity.ok(debtService.getCacheStats());
+    }
+
+    /**
+     * GET `/api/admin/polling` endpoint
+     *
+     * @return the number of parked long-polling requests for event updates and how long answering them takes
+     */
+    @GetMapping("/polling")
+    public ResponseEntity<PollingStatsDTO> getPollingStats() {
+        return ResponseEntity.ok(eventPollingService.getStats());
+    }
+
+    /**
+     * GET `/api/admin/subscriptions` endpoint
+     *
+     * @return the number of WebSocket subscribers of every topic that has any
+     */
+    @GetMapping("/subscriptions")
+    public ResponseEntity<Map<String, Integer>> getSubscriptions() {
+        return ResponseEntity.ok(subscriptionService.getSubscriberCounts());
+    }
 }
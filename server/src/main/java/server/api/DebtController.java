@@ -1,11 +1,15 @@
 package server.api;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+import server.exceptions.InvalidPayloadException;
+
 import server.service.DebtService;
+import server.service.EventService;
 import commons.Debt;
 
 @RestController
@@ -13,24 +17,39 @@ import commons.Debt;
 public class DebtController {
 
     private final DebtService debtService;
+    private final EventService eventService;
 
     /**
      * Creates an instance of the DebtController.
      *
-     * @param debtService Service for debts.
+     * @param debtService  Service for debts.
+     * @param eventService Service for reading the version of the event.
      */
-    public DebtController(DebtService debtService) {
+    public DebtController(DebtService debtService, EventService eventService) {
         this.debtService = debtService;
+        this.eventService = eventService;
     }
 
     /**
-     * GET /events/{eventID}/debts
+     * GET /events/{eventID}/debts?strategy={strategy}
      *
-     * @param eventId Id of the event.
-     * @return The associated debts.
+     * @param eventId     Id of the event.
+     * @param strategy    Optional name of the settlement strategy (greedy, heap or minimum-transfer).
+     * @param ifNoneMatch The ETag of the debts the client has, if any.
+     * @return The associated debts, or 304 Not Modified if they did not change.
      */
     @GetMapping(path = {"", "/"})
-    public ResponseEntity<List<Debt>> getAllDebts(@PathVariable(name = "eventId") long eventId) {
-        return ResponseEntity.ok(debtService.getAllDebts(eventId));
+    public ResponseEntity<List<Debt>> getAllDebts(@PathVariable(name = "eventId") long eventId,
+                                                  @RequestParam(name = "strategy", required = false) String strategy,
+                                                  @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (strategy == null) {
+            return EventETags.ifModified(eventService, eventId, ifNoneMatch, () -> debtService.getAllDebts(eventId));
+        }
+
+        try {
+            return EventETags.ifModified(eventService, eventId, ifNoneMatch, () -> debtService.getAllDebts(eventId, strategy));
+        } catch (InvalidPayloadException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 }
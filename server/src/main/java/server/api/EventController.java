@@ -1,5 +1,6 @@
 package server.api;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -9,11 +10,16 @@ import java.util.List;
 import org.springframework.web.context.request.async.DeferredResult;
 import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
+import server.exceptions.ServiceUnavailableException;
 import server.exceptions.SystemErrorException;
 
+import server.service.EventBroadcastService;
 import server.service.EventPollingService;
 import server.service.EventService;
+import commons.dtos.EventChangesDTO;
 import commons.dtos.EventDTO;
+import commons.dtos.EventDeltaDTO;
+import commons.dtos.EventSnapshotDTO;
 import commons.dtos.EventTitleDTO;
 
 @RestController
@@ -22,16 +28,19 @@ public class EventController {
 
     private final EventService service;
     private final EventPollingService pollingService;
+    private final EventBroadcastService broadcastService;
 
     /**
      * Constructs an EventController instance
      *
-     * @param service        EventService instance
-     * @param pollingService EventPollingService instance for long-polling event updates
+     * @param service          EventService instance
+     * @param pollingService   EventPollingService instance for long-polling event updates
+     * @param broadcastService EventBroadcastService instance that numbers the changes sent over WebSockets
      */
-    public EventController(EventService service, EventPollingService pollingService) {
+    public EventController(EventService service, EventPollingService pollingService, EventBroadcastService broadcastService) {
         this.service = service;
         this.pollingService = pollingService;
+        this.broadcastService = broadcastService;
     }
 
     /**
@@ -45,32 +54,54 @@ public class EventController {
     }
 
     /**
-     * GET `/api/events/updates` endpoint, used for long-polling
+     * GET `/api/events/updates` endpoint, used for long-polling.
+     * Answers right away if there are changes after the given version, and otherwise waits for the next change.
      *
-     * @return A list of all events, if any changes occurred
+     * @param since         the last version of the events the client has seen, or a negative number for none
+     * @param timeoutMillis how long the client wants to wait for a change, at most the configured timeout
+     * @return the changes after that version, or a resync marker if they are no longer known;
+     *     204 No Content if nothing changed before the poll timed out;
+     *     503 Service Unavailable with a Retry-After header if too many clients are waiting already
      */
     @GetMapping("/updates")
-    public DeferredResult<ResponseEntity<List<EventDTO>>> getUpdates() {
-        var noContent = ResponseEntity.status(HttpStatus.NO_CONTENT).build();
-        DeferredResult<ResponseEntity<List<EventDTO>>> res = new DeferredResult<>(5000L, noContent);
-
-        var key = pollingService.addListener(events -> res.setResult(ResponseEntity.ok(events)));
+    public DeferredResult<ResponseEntity<EventChangesDTO>> getUpdates(@RequestParam(name = "since", defaultValue = "-1") long since,
+                                                                      @RequestParam(name = "timeout", required = false) Long timeoutMillis) {
+        long maxTimeout = pollingService.getTimeoutMillis();
+        long timeout = timeoutMillis == null ? maxTimeout : Math.max(1, Math.min(timeoutMillis, maxTimeout));
+        var noContent = ResponseEntity.status(HttpStatus.NO_CONTENT).<EventChangesDTO>build();
+        DeferredResult<ResponseEntity<EventChangesDTO>> res = new DeferredResult<>(timeout, noContent);
+
+        Object key;
+        try {
+            key = pollingService.addListener(change -> res.setResult(ResponseEntity.ok(pollingService.getChangesSince(since))));
+        } catch (ServiceUnavailableException e) {
+            res.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.ceilDiv(maxTimeout, 1000)))
+                    .build());
+            return res;
+        }
         res.onCompletion(() -> pollingService.removeListener(key));
 
+        EventChangesDTO changes = pollingService.getChangesSince(since);
+        if (changes.resync() || !changes.changes().isEmpty()) {
+            res.setResult(ResponseEntity.ok(changes));
+        }
+
         return res;
     }
 
     /**
      * GET `/api/events/{id}` endpoint
      *
-     * @param eventId of the event.
-     * @return the event found with that id.
+     * @param eventId     of the event.
+     * @param ifNoneMatch the ETag of the event the client has, if any.
+     * @return the event found with that id, or 304 Not Modified if it did not change.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EventDTO> getById(@PathVariable("id") long eventId) {
+    public ResponseEntity<EventDTO> getById(@PathVariable("id") long eventId,
+                                            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            EventDTO event = service.getEventById(eventId);
-            return ResponseEntity.ok(event);
+            return EventETags.ifModified(service, eventId, ifNoneMatch, () -> service.getEventById(eventId));
         } catch (NotFoundException e) {
             return ResponseEntity.notFound().build();
         } catch (SystemErrorException e) {
@@ -78,6 +109,53 @@ public class EventController {
         }
     }
 
+    /**
+     * GET `/api/events/{id}/snapshot` endpoint.
+     * Returns everything a client needs to open an event in one response, read in one transaction.
+     * The number of the last broadcast change is read first, so later changes can be applied on top of the snapshot.
+     * Its ETag combines the version of the event with that number, so a client that reopens an unchanged event
+     * gets 304 Not Modified without anything being loaded.
+     *
+     * @param eventId     of the event.
+     * @param ifNoneMatch the ETag of the snapshot the client has, if any.
+     * @return the participants, expenses, tags and debts of the event, with its version.
+     */
+    @GetMapping("/{id}/snapshot")
+    public ResponseEntity<EventSnapshotDTO> getSnapshot(@PathVariable("id") long eventId,
+                                                        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            long sequence = broadcastService == null ? 0 : broadcastService.getSequence(eventId);
+            String etag = EventETags.of(service.getEventVersion(eventId), sequence);
+            if (EventETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            EventSnapshotDTO snapshot = service.getEventSnapshot(eventId, sequence);
+            return ResponseEntity.ok().eTag(EventETags.of(snapshot.version(), sequence)).body(snapshot);
+        } catch (NotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * GET `/api/events/{id}/changes?since={version}` endpoint.
+     * Returns what was added, changed or deleted in an event after a version the client has, so a client that
+     * comes back to an event only downloads the difference. If that cannot be answered, a snapshot is required.
+     *
+     * @param eventId of the event.
+     * @param since   the version of the event the client has.
+     * @return the changes since the version, with the current version and the number of the last broadcast change.
+     */
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<EventDeltaDTO> getChanges(@PathVariable("id") long eventId, @RequestParam(name = "since") long since) {
+        try {
+            long sequence = broadcastService == null ? 0 : broadcastService.getSequence(eventId);
+            return ResponseEntity.ok(service.getEventChanges(eventId, since, sequence));
+        } catch (NotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     /**
      * GET `/api/events/invite/{inviteCode}` endpoint.
      * Retrieves an event based on its invite code.
@@ -95,6 +173,22 @@ public class EventController {
         }
     }
 
+    /**
+     * POST `/api/events/invite/batch` endpoint.
+     * Retrieves the events with any of the given invite codes in one request, leaving out the codes of events that do not exist.
+     *
+     * @param inviteCodes of the events.
+     * @return the events found, in the order of their invite codes, or bad request if there are too many codes.
+     */
+    @PostMapping("/invite/batch")
+    public ResponseEntity<List<EventDTO>> getByInviteCodes(@RequestBody List<String> inviteCodes) {
+        try {
+            return ResponseEntity.ok(service.getEventsByInviteCodes(inviteCodes));
+        } catch (InvalidPayloadException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * POST endpoint `/api/events` for creating a new event.
      *
@@ -106,7 +200,7 @@ public class EventController {
         try {
             EventDTO addedEvent = service.createEvent(event);
             if (pollingService != null) {
-                pollingService.sendEventsToListeners();
+                pollingService.eventCreated(addedEvent);
             }
             return ResponseEntity.status(HttpStatus.CREATED).body(addedEvent);
         } catch (InvalidPayloadException e) {
@@ -125,7 +219,7 @@ public class EventController {
         try {
             service.deleteEvent(id);
             if (pollingService != null) {
-                pollingService.sendEventsToListeners();
+                pollingService.eventDeleted(id);
             }
             return ResponseEntity.ok().build();
         } catch (NotFoundException e) {
@@ -145,7 +239,7 @@ public class EventController {
         try {
             EventDTO updatedEvent = service.updateEvent(eventId, event);
             if (pollingService != null) {
-                pollingService.sendEventsToListeners();
+                pollingService.eventUpdated(updatedEvent);
             }
             return ResponseEntity.ok(updatedEvent);
         } catch (NotFoundException e) {
@@ -0,0 +1,79 @@
+package server.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import server.exceptions.NotFoundException;
+
+import server.service.EventService;
+
+/**
+ * Answers conditional GET requests for the data of an event, using the version of the event as a strong ETag.
+ * The version is read before the data, so an ETag never claims a newer version than the body it is sent with.
+ */
+final class EventETags {
+
+    private EventETags() {
+    }
+
+    /**
+     * Creates a strong ETag out of one or more numbers, such as the version of an event.
+     *
+     * @param parts The numbers that identify the data.
+     * @return The quoted ETag.
+     */
+    static String of(long... parts) {
+        return Arrays.stream(parts).mapToObj(Long::toString).collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    /**
+     * Checks whether the If-None-Match header of a request names an ETag.
+     *
+     * @param ifNoneMatch The If-None-Match header, null if the request has none.
+     * @param etag        The current ETag.
+     * @return true if the client already has the data of the ETag.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    /**
+     * Responds with 304 Not Modified if the client already has the current version of an event's data,
+     * and with the data and its ETag otherwise. The data is only loaded when it is sent.
+     * Without an EventService, or for an event that does not exist, the data is sent as is.
+     *
+     * @param eventService EventService instance that reads the version, may be null.
+     * @param eventId      The ID of the event.
+     * @param ifNoneMatch  The If-None-Match header, null if the request has none.
+     * @param body         Loads the data.
+     * @param <T>          The type of the data.
+     * @return The response.
+     */
+    static <T> ResponseEntity<T> ifModified(EventService eventService, long eventId, String ifNoneMatch, Supplier<T> body) {
+        if (eventService == null) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        String etag;
+        try {
+            etag = of(eventService.getEventVersion(eventId));
+        } catch (NotFoundException e) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(body.get());
+    }
+}
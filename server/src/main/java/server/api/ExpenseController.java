@@ -1,8 +1,7 @@
 package server.api;
 
-import commons.messages.DebtsMessage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -10,46 +9,74 @@ import java.util.List;
 import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
 
-import server.service.DebtService;
+import server.service.EventBroadcastService;
 import server.service.EventPollingService;
+import server.service.EventService;
 import server.service.ExpenseService;
 import commons.dtos.ExpenseDTO;
-import commons.messages.ExpensesMessage;
+import commons.dtos.ExpensePageDTO;
 
 @RestController
 @RequestMapping("/api/events/{eventId}/expenses")
 public class ExpenseController {
 
     private final ExpenseService expenseService;
-    private final DebtService debtService;
-    private final SimpMessagingTemplate template;
+    private final EventService eventService;
+    private final EventBroadcastService broadcastService;
     private final EventPollingService eventPollingService;
 
     /**
      * Constructs an ExpenseController instance
      *
      * @param expenseService      ExpenseService instance
-     * @param debtService         DebtService instance
-     * @param template            SimpMessagingTemplate instance for sending WebSocket messages
+     * @param eventService        EventService instance for reading the version of the event
+     * @param broadcastService    EventBroadcastService instance for sending changes over WebSockets
      * @param eventPollingService EventPollingService instance for long-polling event updates
      */
-    public ExpenseController(ExpenseService expenseService, DebtService debtService,
-                             SimpMessagingTemplate template, EventPollingService eventPollingService) {
+    public ExpenseController(ExpenseService expenseService, EventService eventService,
+                             EventBroadcastService broadcastService, EventPollingService eventPollingService) {
         this.expenseService = expenseService;
-        this.debtService = debtService;
-        this.template = template;
+        this.eventService = eventService;
+        this.broadcastService = broadcastService;
         this.eventPollingService = eventPollingService;
     }
 
     /**
      * GET `/api/events/{eventId}/expenses/` endpoint
      *
-     * @param eventId of the event
-     * @return a list of all expenses in an event
+     * @param eventId     of the event
+     * @param ifNoneMatch the ETag of the expenses the client has, if any
+     * @return a list of all expenses in an event, or 304 Not Modified if they did not change
      */
     @GetMapping(path = {"", "/"})
-    public List<ExpenseDTO> getAll(@PathVariable("eventId") long eventId) {
-        return expenseService.getAllExpenses(eventId);
+    public ResponseEntity<List<ExpenseDTO>> getAll(@PathVariable("eventId") long eventId,
+                                                   @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EventETags.ifModified(eventService, eventId, ifNoneMatch, () -> expenseService.getAllExpenses(eventId));
+    }
+
+    /**
+     * GET `/api/events/{eventId}/expenses?limit=` endpoint for reading the expenses of an event page by page, newest first.
+     *
+     * @param eventId       of the event
+     * @param limit         maximum number of expenses on the page
+     * @param cursor        the nextCursor of the previous page, absent for the first page
+     * @param payerId       if given, only expenses paid by this participant are returned
+     * @param returnerId    if given, only expenses this participant needs to pay back are returned
+     * @param participantId if given, only expenses this participant paid or needs to pay back are returned
+     * @return a page of expenses and the cursor of the next page
+     */
+    @GetMapping(path = {"", "/"}, params = "limit")
+    public ResponseEntity<ExpensePageDTO> getPage(@PathVariable("eventId") long eventId,
+                                                  @RequestParam(name = "limit") int limit,
+                                                  @RequestParam(name = "cursor", required = false) String cursor,
+                                                  @RequestParam(name = "payerId", required = false) Long payerId,
+                                                  @RequestParam(name = "returnerId", required = false) Long returnerId,
+                                                  @RequestParam(name = "participantId", required = false) Long participantId) {
+        try {
+            return ResponseEntity.ok(expenseService.getExpensePage(eventId, limit, cursor, payerId, returnerId, participantId));
+        } catch (InvalidPayloadException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -64,13 +91,13 @@ public class ExpenseController {
         try {
             ExpenseDTO savedExpense = expenseService.addExpense(eventId, expense);
 
-            if (template != null) {
-                template.convertAndSend("/topic/events/" + eventId + "/expenses", new ExpensesMessage(expenseService.getAllExpenses(eventId)));
-                template.convertAndSend("/topic/events/" + eventId + "/debts", new DebtsMessage(debtService.getAllDebts(eventId)));
+            if (broadcastService != null) {
+                broadcastService.expensesUpserted(eventId, List.of(savedExpense));
+                broadcastService.debtsChanged(eventId);
             }
 
             if (eventPollingService != null) {
-                eventPollingService.sendEventsToListeners();
+                eventPollingService.eventChanged(eventId);
             }
 
             return ResponseEntity.ok(savedExpense);
@@ -79,6 +106,36 @@ public class ExpenseController {
         }
     }
 
+    /**
+     * POST `/api/events/{eventId}/expenses/batch` for creating many expenses at once, e.g. when importing a bank statement.
+     * Subscribers are notified once for the whole batch.
+     *
+     * @param eventId  of the event
+     * @param expenses Expenses to be created.
+     * @return Created expenses, in the order they were given.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ExpenseDTO>> addAll(@PathVariable("eventId") long eventId, @RequestBody List<ExpenseDTO> expenses) {
+        try {
+            List<ExpenseDTO> savedExpenses = expenseService.addExpenses(eventId, expenses);
+
+            if (broadcastService != null) {
+                broadcastService.expensesUpserted(eventId, savedExpenses);
+                broadcastService.debtsChanged(eventId);
+            }
+
+            if (eventPollingService != null) {
+                eventPollingService.eventChanged(eventId);
+            }
+
+            return ResponseEntity.ok(savedExpenses);
+        } catch (NotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (InvalidPayloadException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * PUT endpoint `/api/events/{eventId}/expenses/{expenseId}` for updating an expense.
      *
@@ -93,13 +150,13 @@ public class ExpenseController {
         try {
             ExpenseDTO updatedExpense = expenseService.updateExpense(eventId, expenseId, expense);
 
-            if (template != null) {
-                template.convertAndSend("/topic/events/" + eventId + "/expenses", new ExpensesMessage(expenseService.getAllExpenses(eventId)));
-                template.convertAndSend("/topic/events/" + eventId + "/debts", new DebtsMessage(debtService.getAllDebts(eventId)));
+            if (broadcastService != null) {
+                broadcastService.expensesUpserted(eventId, List.of(updatedExpense));
+                broadcastService.debtsChanged(eventId);
             }
 
             if (eventPollingService != null) {
-                eventPollingService.sendEventsToListeners();
+                eventPollingService.eventChanged(eventId);
             }
 
             return ResponseEntity.ok(updatedExpense);
@@ -122,13 +179,13 @@ public class ExpenseController {
         try {
             expenseService.deleteExpense(eventId, expenseId);
 
-            if (template != null) {
-                template.convertAndSend("/topic/events/" + eventId + "/expenses", new ExpensesMessage(expenseService.getAllExpenses(eventId)));
-                template.convertAndSend("/topic/events/" + eventId + "/debts", new DebtsMessage(debtService.getAllDebts(eventId)));
+            if (broadcastService != null) {
+                broadcastService.expenseDeleted(eventId, expenseId);
+                broadcastService.debtsChanged(eventId);
             }
 
             if (eventPollingService != null) {
-                eventPollingService.sendEventsToListeners();
+                eventPollingService.eventChanged(eventId);
             }
 
             return ResponseEntity.ok().build();
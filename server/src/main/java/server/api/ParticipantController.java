@@ -1,7 +1,7 @@
 package server.api;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -9,41 +9,49 @@ import java.util.List;
 import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
 
+import server.service.EventBroadcastService;
 import server.service.EventPollingService;
+import server.service.EventService;
 import server.service.ParticipantService;
 import commons.dtos.ParticipantDTO;
-import commons.messages.ParticipantsMessage;
 
 @RestController
 @RequestMapping("/api/events/{eventId}/participants")
 public class ParticipantController {
 
     private final ParticipantService participantService;
-    private final SimpMessagingTemplate template;
+    private final EventService eventService;
+    private final EventBroadcastService broadcastService;
     private final EventPollingService eventPollingService;
 
     /**
      * Constructs a ParticipantController with the specified ParticipantService
      *
      * @param participantService  the ParticipantService to be used by the controller
-     * @param template            SimpMessagingTemplate instance for sending WebSocket messages
+     * @param eventService        EventService instance for reading the version of the event
+     * @param broadcastService    EventBroadcastService instance for sending changes over WebSockets
      * @param eventPollingService EventPollingService instance for long-polling event updates
      */
-    public ParticipantController(ParticipantService participantService, SimpMessagingTemplate template, EventPollingService eventPollingService) {
+    public ParticipantController(ParticipantService participantService, EventService eventService,
+                                 EventBroadcastService broadcastService, EventPollingService eventPollingService) {
         this.participantService = participantService;
-        this.template = template;
+        this.eventService = eventService;
+        this.broadcastService = broadcastService;
         this.eventPollingService = eventPollingService;
     }
 
     /**
-     * Gets all participants for the specified event
+     * Gets all participants for the specified event, unless the client already has them
      *
-     * @param eventId the ID of the event
-     * @return a list of all participants in the event
+     * @param eventId     the ID of the event
+     * @param ifNoneMatch the ETag of the participants the client has, if any
+     * @return a list of all participants in the event, or 304 Not Modified if they did not change
      */
     @GetMapping(path = {"", "/"})
-    public List<ParticipantDTO> getAllParticipants(@PathVariable("eventId") long eventId) {
-        return participantService.getAllParticipants(eventId);
+    public ResponseEntity<List<ParticipantDTO>> getAllParticipants(
+            @PathVariable("eventId") long eventId,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EventETags.ifModified(eventService, eventId, ifNoneMatch, () -> participantService.getAllParticipants(eventId));
     }
 
     /**
@@ -58,13 +66,12 @@ public class ParticipantController {
         try {
             ParticipantDTO savedParticipant = participantService.addParticipant(eventId, participant);
 
-            if (template != null) {
-                template.convertAndSend("/topic/events/" + eventId + "/participants",
-                        new ParticipantsMessage(participantService.getAllParticipants(eventId)));
+            if (broadcastService != null) {
+                broadcastService.participantUpserted(eventId, savedParticipant);
             }
 
             if (eventPollingService != null) {
-                eventPollingService.sendEventsToListeners();
+                eventPollingService.eventChanged(eventId);
             }
 
             return ResponseEntity.ok(savedParticipant);
@@ -87,13 +94,12 @@ public class ParticipantController {
         try {
             ParticipantDTO updatedParticipant = participantService.updateParticipant(participantId, participant);
 
-            if (template != null) {
-                template.convertAndSend("/topic/events/" + eventId + "/participants",
-                        new ParticipantsMessage(participantService.getAllParticipants(eventId)));
+            if (broadcastService != null) {
+                broadcastService.participantUpserted(eventId, updatedParticipant);
             }
 
             if (eventPollingService != null) {
-                eventPollingService.sendEventsToListeners();
+                eventPollingService.eventChanged(eventId);
             }
 
             return ResponseEntity.ok(updatedParticipant);
@@ -135,13 +141,12 @@ public class ParticipantController {
         try {
             participantService.deleteParticipant(eventId, participantId);
 
-            if (template != null) {
-                template.convertAndSend("/topic/events/" + eventId + "/participants",
-                        new ParticipantsMessage(participantService.getAllParticipants(eventId)));
+            if (broadcastService != null) {
+                broadcastService.participantDeleted(eventId, participantId);
             }
 
             if (eventPollingService != null) {
-                eventPollingService.sendEventsToListeners();
+                eventPollingService.eventChanged(eventId);
             }
 
             return ResponseEntity.noContent().build();
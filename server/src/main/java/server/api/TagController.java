@@ -1,7 +1,7 @@
 package server.api;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -9,42 +9,49 @@ import java.util.List;
 import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
 
+import server.service.EventBroadcastService;
 import server.service.EventPollingService;
+import server.service.EventService;
 import server.service.TagService;
 import commons.dtos.TagDTO;
-import commons.messages.TagsMessage;
 
 @RestController
 @RequestMapping("/api/events/{eventId}/tags")
 public class TagController {
 
     private final TagService tagService;
-    private final SimpMessagingTemplate template;
+    private final EventService eventService;
+    private final EventBroadcastService broadcastService;
     private final EventPollingService eventPollingService;
 
     /**
      * Creates an instance of the TagsController
      *
      * @param tagService          service for tags
-     * @param template            SimpMessagingTemplate instance for sending WebSocket messages
+     * @param eventService        service for reading the version of the event
+     * @param broadcastService    EventBroadcastService instance for sending changes over WebSockets
      * @param eventPollingService EventPollingService instance for long-polling event updates
      */
 
-    public TagController(TagService tagService, SimpMessagingTemplate template, EventPollingService eventPollingService) {
+    public TagController(TagService tagService, EventService eventService, EventBroadcastService broadcastService,
+                         EventPollingService eventPollingService) {
         this.tagService = tagService;
-        this.template = template;
+        this.eventService = eventService;
+        this.broadcastService = broadcastService;
         this.eventPollingService = eventPollingService;
     }
 
     /**
      * GET /events/{eventID}/tags
      *
-     * @param eventId id of event
-     * @return tags
+     * @param eventId     id of event
+     * @param ifNoneMatch the ETag of the tags the client has, if any
+     * @return tags, or 304 Not Modified if they did not change
      */
     @GetMapping(path = {"", "/"})
-    public ResponseEntity<List<TagDTO>> getAllTags(@PathVariable(name = "eventId") long eventId) {
-        return ResponseEntity.ok(tagService.getAllTags(eventId));
+    public ResponseEntity<List<TagDTO>> getAllTags(@PathVariable(name = "eventId") long eventId,
+                                                   @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EventETags.ifModified(eventService, eventId, ifNoneMatch, () -> tagService.getAllTags(eventId));
     }
 
     /**
@@ -75,12 +82,12 @@ public class TagController {
         try {
             TagDTO addedTag = tagService.createTag(eventId, tag);
 
-            if (template != null) {
-                template.convertAndSend("/topic/events/" + eventId + "/tags", new TagsMessage(tagService.getAllTags(eventId)));
+            if (broadcastService != null) {
+                broadcastService.tagsChanged(eventId);
             }
 
             if (eventPollingService != null) {
-                eventPollingService.sendEventsToListeners();
+                eventPollingService.eventChanged(eventId);
             }
 
             return ResponseEntity.ok(addedTag);
@@ -106,12 +113,12 @@ public class TagController {
         try {
             TagDTO updatedTag = tagService.editTag(eventId, tagId, tag);
 
-            if (template != null) {
-                template.convertAndSend("/topic/events/" + eventId + "/tags", new TagsMessage(tagService.getAllTags(eventId)));
+            if (broadcastService != null) {
+                broadcastService.tagsChanged(eventId);
             }
 
             if (eventPollingService != null) {
-                eventPollingService.sendEventsToListeners();
+                eventPollingService.eventChanged(eventId);
             }
 
             return ResponseEntity.ok(updatedTag);
@@ -134,12 +141,12 @@ public class TagController {
         try {
             tagService.deleteTag(eventId, tagId);
 
-            if (template != null) {
-                template.convertAndSend("/topic/events/" + eventId + "/tags", new TagsMessage(tagService.getAllTags(eventId)));
+            if (broadcastService != null) {
+                broadcastService.tagsChanged(eventId);
             }
 
             if (eventPollingService != null) {
-                eventPollingService.sendEventsToListeners();
+                eventPollingService.eventChanged(eventId);
             }
 
             return ResponseEntity.ok().build();
@@ -0,0 +1,31 @@
+package server.database;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Collection;
+import java.util.List;
+
+import commons.Balance;
+
+public interface BalanceRepository extends JpaRepository<Balance, Long> {
+
+    /**
+     * Fetches the balances of all participants of an event.
+     *
+     * @param eventId The ID of the event.
+     * @return The balances of the event.
+     */
+    List<Balance> findByEventId(long eventId);
+
+    /**
+     * Fetches and locks the balances of some participants of an event, so deltas can be applied safely.
+     *
+     * @param eventId        The ID of the event.
+     * @param participantIds The IDs of the participants.
+     * @return The balances found for those participants.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Balance> findByEventIdAndParticipantIdIn(long eventId, Collection<Long> participantIds);
+}
@@ -0,0 +1,10 @@
+package server.database;
+
+/**
+ * The id of a participant together with the id of its event.
+ *
+ * @param eventId       The id of the event.
+ * @param participantId The id of the participant.
+ */
+public record EventParticipant(long eventId, long participantId) {
+}
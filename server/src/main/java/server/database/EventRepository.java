@@ -1,12 +1,19 @@
 package server.database;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import commons.Event;
 
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
 
     /**
      * Finds an event based on its invite code.
@@ -15,4 +22,102 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      * @return An Optional with the Event if available, an empty Optional otherwise.
      */
     Optional<Event> findByInviteCode(String inviteCode);
+
+    /**
+     * Finds the events with any of the given invite codes in one query.
+     *
+     * @param inviteCodes The invite codes of the events.
+     * @return The events that exist, in no particular order.
+     */
+    List<Event> findByInviteCodeIn(Collection<String> inviteCodes);
+
+    /**
+     * Fetches the columns of all events, without loading their participants.
+     *
+     * @return The events, ordered by id.
+     */
+    @Query("SELECT new server.database.EventRow(e.id, e.title, e.inviteCode, e.createdOn, e.updatedOn) "
+            + "FROM Event e ORDER BY e.id")
+    List<EventRow> findAllRows();
+
+    /**
+     * Fetches the ids of the participants of all events in one go, so that listing the events
+     * does not load the participants collection of every event.
+     *
+     * @return A row per participant that belongs to an event.
+     */
+    @Query("SELECT new server.database.EventParticipant(p.event.id, p.id) FROM Participant p WHERE p.event IS NOT NULL")
+    List<EventParticipant> findAllParticipantIds();
+
+    /**
+     * Fetches the ids of the participants of several events at once.
+     *
+     * @param eventIds The IDs of the events.
+     * @return A row per participant of the events.
+     */
+    @Query("SELECT new server.database.EventParticipant(p.event.id, p.id) FROM Participant p WHERE p.event.id IN :eventIds")
+    List<EventParticipant> findParticipantIds(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * Fetches the version of an event without loading it.
+     *
+     * @param eventId The ID of the event.
+     * @return An Optional with the version if the event exists, an empty Optional otherwise.
+     */
+    @Query("SELECT e.version FROM Event e WHERE e.id = :eventId")
+    Optional<Long> findVersionById(@Param("eventId") long eventId);
+
+    /**
+     * Atomically bumps the version of an event. Called wherever the event is marked as updated.
+     *
+     * @param eventId The ID of the event.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.version = e.version + 1 WHERE e.id = :eventId")
+    void incrementVersion(@Param("eventId") long eventId);
+
+    /**
+     * Bumps the version of an event and reads the new version, to mark what changed with it.
+     * The update locks the row of the event until the surrounding transaction commits, so concurrent changes
+     * to the same event get different versions, and readers never see a version without the changes made with it.
+     *
+     * @param eventId The ID of the event.
+     * @return The new version.
+     */
+    @Transactional
+    default long nextVersion(long eventId) {
+        incrementVersion(eventId);
+        return findVersionById(eventId).orElseThrow(() -> new IllegalStateException("Event " + eventId + " does not exist"));
+    }
+
+    /**
+     * Fetches the highest version of which the deletions were forgotten, without loading the event.
+     *
+     * @param eventId The ID of the event.
+     * @return An Optional with the version if the event exists, an empty Optional otherwise.
+     */
+    @Query("SELECT e.purgedVersion FROM Event e WHERE e.id = :eventId")
+    Optional<Long> findPurgedVersionById(@Param("eventId") long eventId);
+
+    /**
+     * Raises the highest version of which the deletions were forgotten, if it is lower.
+     *
+     * @param eventId The ID of the event.
+     * @param version The version of the last forgotten deletion.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.purgedVersion = :version WHERE e.id = :eventId AND e.purgedVersion < :version")
+    void raisePurgedVersion(@Param("eventId") long eventId, @Param("version") long version);
+
+    /**
+     * Fills in the upper case title of events stored before it was kept, so the title search finds them.
+     *
+     * @return The number of events updated.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.searchTitle = UPPER(e.title) WHERE e.searchTitle IS NULL AND e.title IS NOT NULL")
+    int fillMissingSearchTitles();
 }
@@ -0,0 +1,15 @@
+package server.database;
+
+import java.util.Calendar;
+
+/**
+ * The columns of an event, as read by queries that list events without loading their participants.
+ *
+ * @param id         The id of the event.
+ * @param title      The title of the event.
+ * @param inviteCode The invite code of the event.
+ * @param createdOn  The time the event was created.
+ * @param updatedOn  The time of the last update of the event.
+ */
+public record EventRow(long id, String title, String inviteCode, Calendar createdOn, Calendar updatedOn) {
+}
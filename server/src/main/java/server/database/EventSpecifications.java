@@ -0,0 +1,84 @@
+package server.database;
+
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import commons.Event;
+
+/**
+ * Conditions for listing events page by page.
+ */
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    /**
+     * Only includes events whose title starts with a prefix, ignoring case.
+     * The prefix is matched against the stored upper case title, so the database can scan its index for the range
+     * of titles starting with it instead of converting the title of every event.
+     *
+     * @param prefix The start of the title. An empty prefix includes every event.
+     * @return The condition.
+     */
+    public static Specification<Event> titleStartsWithIgnoreCase(String prefix) {
+        return (root, query, builder) -> {
+            if (prefix.isEmpty()) {
+                return null;
+            }
+
+            String pattern = Event.toSearchTitle(prefix)
+                    .replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_") + "%";
+            return builder.like(root.get("searchTitle"), pattern, '\\');
+        };
+    }
+
+    /**
+     * Sorts the events by a property and then by id, in the same direction.
+     * The order is part of the condition instead of a {@code Sort}, because the fluent query API of
+     * Spring Data adds a {@code Sort} to the ORDER BY twice, and H2 does not sort through an index then.
+     *
+     * @param property  The property to sort by.
+     * @param ascending Whether to sort in ascending order.
+     * @return The condition, which includes every event.
+     */
+    public static Specification<Event> orderBy(String property, boolean ascending) {
+        return (root, query, builder) -> {
+            query.orderBy(ascending
+                    ? List.of(builder.asc(root.get(property)), builder.asc(root.get("id")))
+                    : List.of(builder.desc(root.get(property)), builder.desc(root.get("id"))));
+            return null;
+        };
+    }
+
+    /**
+     * Only includes events that come after a given event when sorted by a property and then by id, in the same direction.
+     * Besides the exact keyset condition, the sort property is bounded on its own, since the database can only start an
+     * index scan from a plain range condition, not from the OR in the keyset condition.
+     *
+     * @param property  The property the events are sorted by.
+     * @param value     The value of the property of the given event.
+     * @param id        The id of the given event.
+     * @param ascending Whether the events are sorted in ascending order.
+     * @param <T>       The type of the property.
+     * @return The condition.
+     */
+    public static <T extends Comparable<? super T>> Specification<Event> after(String property, T value, long id,
+                                                                             boolean ascending) {
+        return (root, query, builder) -> {
+            Path<T> key = root.get(property);
+            Path<Long> eventId = root.get("id");
+            if (ascending) {
+                return builder.and(builder.greaterThanOrEqualTo(key, value),
+                        builder.or(builder.greaterThan(key, value), builder.greaterThan(eventId, id)));
+            }
+
+            return builder.and(builder.lessThanOrEqualTo(key, value),
+                    builder.or(builder.lessThan(key, value), builder.lessThan(eventId, id)));
+        };
+    }
+}
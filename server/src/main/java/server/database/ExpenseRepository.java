@@ -1,11 +1,15 @@
 package server.database;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -13,6 +17,13 @@ import commons.Expense;
 
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
 
+    /**
+     * The select clause of the queries returning {@link ExpenseRow}s. The payer and tag ids are read
+     * from the foreign keys, so neither the entities nor their associations are loaded.
+     */
+    String ROW_SELECT = "SELECT new server.database.ExpenseRow(e.id, e.amountInEUR, e.currency, e.date, e.purpose, "
+            + "e.updatedOn, e.createdOn, e.payer.id, e.tag.id, e.isDebt) FROM Expense e ";
+
     /**
      * Fetches all expenses associated with that event
      *
@@ -30,6 +41,134 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
      */
     Optional<Expense> findByIdAndEventId(long expenseId, long eventId);
 
+    /**
+     * Fetches the columns of all expenses of an event, newest first.
+     *
+     * @param eventId The ID of the Event.
+     * @return The expenses, ordered by date, last update and id, all descending.
+     */
+    @Query(ROW_SELECT + "WHERE e.event.id = :eventId ORDER BY e.event.id DESC, e.date DESC, e.updatedOn DESC, e.id DESC")
+    List<ExpenseRow> findRowsByEventId(@Param("eventId") long eventId);
+
+    /**
+     * Fetches the columns of an expense by its ID and the corresponding Event.
+     *
+     * @param expenseId The ID of the Expense to be retrieved.
+     * @param eventId   The ID of the Event to which the Expense belongs.
+     * @return An Optional containing the expense if found, or an empty Optional otherwise.
+     */
+    @Query(ROW_SELECT + "WHERE e.id = :expenseId AND e.event.id = :eventId")
+    Optional<ExpenseRow> findRowByIdAndEventId(@Param("expenseId") long expenseId, @Param("eventId") long eventId);
+
+    /**
+     * Fetches the columns of the expenses of an event that were added or changed after a version of the event.
+     *
+     * @param eventId The ID of the Event.
+     * @param version The version after which to look.
+     * @return The changed expenses.
+     */
+    @Query(ROW_SELECT + "WHERE e.event.id = :eventId AND e.changedVersion > :version")
+    List<ExpenseRow> findRowsChangedSince(@Param("eventId") long eventId, @Param("version") long version);
+
+    /**
+     * Fetches the returners of the expenses of an event that were added or changed after a version of the event.
+     *
+     * @param eventId The ID of the Event.
+     * @param version The version after which to look.
+     * @return A row per changed expense and returner.
+     */
+    @Query("SELECT new server.database.ExpenseReturner(e.id, r.id) FROM Expense e JOIN e.returners r "
+            + "WHERE e.event.id = :eventId AND e.changedVersion > :version")
+    List<ExpenseReturner> findReturnersChangedSince(@Param("eventId") long eventId, @Param("version") long version);
+
+    /**
+     * Fetches a page of the expenses of an event, newest first, starting after a given position.
+     * The expenses are ordered by date, last update and id, all descending, which matches the
+     * idx_expense_event_date index, so the database reads only the rows of the page.
+     * The event id is part of the ORDER BY even though it is fixed, because H2 only sorts by an index
+     * whose leading columns all appear in the ORDER BY.
+     *
+     * @param eventId         The ID of the Event.
+     * @param payerId         If not null, only expenses paid by this participant are included.
+     * @param returnerId      If not null, only expenses this participant needs to pay back are included.
+     * @param participantId   If not null, only expenses this participant paid or needs to pay back are included.
+     * @param cursorDate      The date of the last expense of the previous page, or null for the first page.
+     * @param cursorUpdatedOn The last update of the last expense of the previous page, or null for the first page.
+     * @param cursorId        The ID of the last expense of the previous page, or null for the first page.
+     * @param limit           The maximum number of expenses to fetch.
+     * @return The columns of the expenses of the page.
+     */
+    @Query(ROW_SELECT + "WHERE e.event.id = :eventId "
+            + "AND (:payerId IS NULL OR e.payer.id = :payerId) "
+            + "AND (:returnerId IS NULL OR :returnerId IN (SELECT r.id FROM e.returners r)) "
+            + "AND (:participantId IS NULL OR e.payer.id = :participantId "
+            + "OR :participantId IN (SELECT r.id FROM e.returners r)) "
+            + "AND (:cursorId IS NULL OR e.date < :cursorDate OR (e.date = :cursorDate "
+            + "AND (e.updatedOn < :cursorUpdatedOn OR (e.updatedOn = :cursorUpdatedOn AND e.id < :cursorId)))) "
+            + "ORDER BY e.event.id DESC, e.date DESC, e.updatedOn DESC, e.id DESC")
+    List<ExpenseRow> findPage(@Param("eventId") long eventId, @Param("payerId") Long payerId,
+                              @Param("returnerId") Long returnerId, @Param("participantId") Long participantId,
+                              @Param("cursorDate") Calendar cursorDate, @Param("cursorUpdatedOn") Calendar cursorUpdatedOn,
+                              @Param("cursorId") Long cursorId, Limit limit);
+
+    /**
+     * Fetches the returners of several expenses at once, without loading the collections.
+     *
+     * @param expenseIds The IDs of the Expenses.
+     * @return A row per expense and returner.
+     */
+    @Query("SELECT new server.database.ExpenseReturner(e.id, r.id) FROM Expense e JOIN e.returners r WHERE e.id IN :expenseIds")
+    List<ExpenseReturner> findReturners(@Param("expenseIds") Collection<Long> expenseIds);
+
+    /**
+     * Fetches the returners of all expenses of an event at once, without loading the collections.
+     *
+     * @param eventId The ID of the Event.
+     * @return A row per expense and returner.
+     */
+    @Query("SELECT new server.database.ExpenseReturner(e.id, r.id) FROM Expense e JOIN e.returners r WHERE e.event.id = :eventId")
+    List<ExpenseReturner> findReturnersByEventId(@Param("eventId") long eventId);
+
+    /**
+     * Fetches the IDs of the returners of an expense as they are stored, without loading the collection.
+     *
+     * @param expenseId The ID of the Expense.
+     * @return The IDs of the participants who need to pay back the expense.
+     */
+    @Query(value = "SELECT er.participant_id FROM EXPENSE_RETURNERS er WHERE er.expense_id = :expenseId", nativeQuery = true)
+    List<Long> findReturnerIds(@Param("expenseId") long expenseId);
+
+    /**
+     * Sums how much every participant paid for the expenses of an event.
+     *
+     * @param eventId The ID of the Event.
+     * @return The amount paid per payer, in minor units of 10^-8 EUR.
+     */
+    @Query(value = "SELECT e.payer_id AS participantId, "
+            + "CAST(SUM(CAST(e.amount_in_eur * 100000000 AS BIGINT)) AS BIGINT) AS amount "
+            + "FROM EXPENSE e WHERE e.event_id = :eventId AND e.payer_id IS NOT NULL "
+            + "GROUP BY e.payer_id", nativeQuery = true)
+    List<ParticipantAmount> sumPaidAmounts(@Param("eventId") long eventId);
+
+    /**
+     * Sums how much every participant owes for the expenses of an event.
+     * An expense is split in equal shares, and the units that do not divide evenly go one each
+     * to the returners with the lowest ids, the same way {@code FixedPointBalanceEngine} splits it.
+     *
+     * @param eventId The ID of the Event.
+     * @return The amount owed per returner, in minor units of 10^-8 EUR.
+     */
+    @Query(value = "SELECT s.participant_id AS participantId, "
+            + "CAST(SUM(s.units / s.returner_count "
+            + "+ CASE WHEN s.returner_index < MOD(s.units, s.returner_count) THEN 1 ELSE 0 END) AS BIGINT) AS amount "
+            + "FROM (SELECT er.participant_id, CAST(e.amount_in_eur * 100000000 AS BIGINT) AS units, "
+            + "(SELECT COUNT(*) FROM EXPENSE_RETURNERS c WHERE c.expense_id = er.expense_id) AS returner_count, "
+            + "ROW_NUMBER() OVER (PARTITION BY er.expense_id ORDER BY er.participant_id) - 1 AS returner_index "
+            + "FROM EXPENSE_RETURNERS er JOIN EXPENSE e ON e.id = er.expense_id "
+            + "WHERE e.event_id = :eventId AND e.payer_id IS NOT NULL) s "
+            + "GROUP BY s.participant_id", nativeQuery = true)
+    List<ParticipantAmount> sumOwedAmounts(@Param("eventId") long eventId);
+
     /**
      * Deletes all expense returners from an expense
      *
@@ -0,0 +1,10 @@
+package server.database;
+
+/**
+ * A row of the expense_returners join table.
+ *
+ * @param expenseId     The id of the expense.
+ * @param participantId The id of the participant who needs to pay back the expense.
+ */
+public record ExpenseReturner(long expenseId, long participantId) {
+}
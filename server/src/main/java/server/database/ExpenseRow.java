@@ -0,0 +1,23 @@
+package server.database;
+
+import java.math.BigDecimal;
+import java.util.Calendar;
+
+/**
+ * The columns of an expense, as read by queries that build DTOs without loading the entity and its associations.
+ * This is a class rather than an interface projection, so reading a row does not go through a proxy.
+ *
+ * @param id          The id of the expense.
+ * @param amountInEUR The amount in EUR.
+ * @param currency    The currency the expense was paid in.
+ * @param date        The date of the expense.
+ * @param purpose     The purpose of the expense.
+ * @param updatedOn   The time of the last update of the expense.
+ * @param createdOn   The time the expense was created.
+ * @param payerId     The id of the participant who paid, or null if the expense has no payer.
+ * @param tagId       The id of the tag, or null if the expense has no tag.
+ * @param isDebt      true iff the expense is a debt repayment.
+ */
+public record ExpenseRow(long id, BigDecimal amountInEUR, String currency, Calendar date, String purpose,
+                         Calendar updatedOn, Calendar createdOn, Long payerId, Long tagId, boolean isDebt) {
+}
@@ -0,0 +1,21 @@
+package server.database;
+
+/**
+ * A row of an aggregate query: an amount summed per participant, in minor units of 10^-8 EUR.
+ */
+public interface ParticipantAmount {
+
+    /**
+     * Gets the id of the participant.
+     *
+     * @return The id of the participant.
+     */
+    Long getParticipantId();
+
+    /**
+     * Gets the summed amount.
+     *
+     * @return The amount in minor units.
+     */
+    Long getAmount();
+}
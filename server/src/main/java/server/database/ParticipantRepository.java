@@ -2,6 +2,7 @@ package server.database;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 import commons.Participant;
@@ -16,4 +17,22 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
      * @return A list of participants for the given event ID.
      */
     List<ParticipantDTO> findByEventId(long eventId);
+
+    /**
+     * Searches for the participants of an event that were added or changed after a version of the event.
+     *
+     * @param eventId The ID of the event.
+     * @param version The version after which to look.
+     * @return A list of the changed participants.
+     */
+    List<ParticipantDTO> findByEventIdAndChangedVersionGreaterThan(long eventId, long version);
+
+    /**
+     * Fetches the participants of an event with the given IDs in a single query.
+     *
+     * @param eventId The ID of the event.
+     * @param ids     The IDs of the participants.
+     * @return The participants of the event among the given IDs; unknown IDs are left out.
+     */
+    List<Participant> findByEventIdAndIdIn(long eventId, Collection<Long> ids);
 }
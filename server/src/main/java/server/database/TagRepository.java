@@ -2,6 +2,7 @@ package server.database;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 import commons.Tag;
@@ -13,4 +14,20 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
      * @return List of tags
      */
     List<Tag> findByEventId(Long eventId);
+
+    /**
+     * @param eventId the event id to search by
+     * @param version the version of the event after which to look
+     * @return List of the tags added or changed after the version
+     */
+    List<Tag> findByEventIdAndChangedVersionGreaterThan(long eventId, long version);
+
+    /**
+     * Fetches the tags of an event with the given IDs in a single query.
+     *
+     * @param eventId The ID of the event.
+     * @param ids     The IDs of the tags.
+     * @return The tags of the event among the given IDs; unknown IDs are left out.
+     */
+    List<Tag> findByEventIdAndIdIn(long eventId, Collection<Long> ids);
 }
@@ -0,0 +1,110 @@
+package server.database;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.Calendar;
+
+import commons.Event;
+
+/**
+ * Records that an expense, participant or tag was deleted from an event, so that clients asking what changed
+ * since an earlier version learn about the deletion. Tombstones are only kept for a limited time.
+ */
+@Entity
+@Table(indexes = @Index(name = "tombstone_event_version", columnList = "event_id, version"))
+public class Tombstone {
+
+    /**
+     * The kinds of things a tombstone can stand for.
+     */
+    public enum Kind {
+        EXPENSE, PARTICIPANT, TAG
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id")
+    private long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Event event;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind")
+    private Kind kind;
+
+    @Column(name = "entity_id")
+    private long entityId;
+
+    @Column(name = "version")
+    private long version;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "deleted_on")
+    private Calendar deletedOn;
+
+    /**
+     * No-arg constructor used by JPA.
+     */
+    @SuppressWarnings("unused")
+    protected Tombstone() {
+        // for JPA
+    }
+
+    /**
+     * Constructs a Tombstone instance.
+     *
+     * @param event     The event the deleted thing belonged to.
+     * @param kind      What was deleted.
+     * @param entityId  The ID of what was deleted.
+     * @param version   The version of the event in which it was deleted.
+     * @param deletedOn The time it was deleted.
+     */
+    public Tombstone(Event event, Kind kind, long entityId, long version, Calendar deletedOn) {
+        this.event = event;
+        this.kind = kind;
+        this.entityId = entityId;
+        this.version = version;
+        this.deletedOn = deletedOn;
+    }
+
+    /**
+     * Gets the kind of the deleted thing.
+     *
+     * @return The kind.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the ID of the deleted thing.
+     *
+     * @return The ID.
+     */
+    public long getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Gets the version of the event in which the thing was deleted.
+     *
+     * @return The version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the time the thing was deleted.
+     *
+     * @return The time.
+     */
+    public Calendar getDeletedOn() {
+        return deletedOn;
+    }
+}
@@ -0,0 +1,43 @@
+package server.database;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.Optional;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    /**
+     * Fetches the deletions from an event after a version.
+     *
+     * @param eventId The ID of the event.
+     * @param version The version after which to look.
+     * @return The tombstones of the deletions.
+     */
+    @Query("SELECT t FROM Tombstone t WHERE t.event.id = :eventId AND t.version > :version")
+    List<Tombstone> findDeletedSince(@Param("eventId") long eventId, @Param("version") long version);
+
+    /**
+     * Finds the highest version among the tombstones of an event that are older than a time.
+     *
+     * @param eventId The ID of the event.
+     * @param before  The time before which tombstones have expired.
+     * @return The highest version of the expired tombstones, empty if none expired.
+     */
+    @Query("SELECT MAX(t.version) FROM Tombstone t WHERE t.event.id = :eventId AND t.deletedOn < :before")
+    Optional<Long> findMaxExpiredVersion(@Param("eventId") long eventId, @Param("before") Calendar before);
+
+    /**
+     * Deletes the tombstones of an event that are older than a time.
+     *
+     * @param eventId The ID of the event.
+     * @param before  The time before which tombstones have expired.
+     */
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.event.id = :eventId AND t.deletedOn < :before")
+    void deleteExpired(@Param("eventId") long eventId, @Param("before") Calendar before);
+}
@@ -0,0 +1,14 @@
+package server.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new ServiceUnavailableException with a message.
+     * This exception is thrown when the server is too busy to take a request, which the client should retry later.
+     *
+     * @param message the message of the exception.
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
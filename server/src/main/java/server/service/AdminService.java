@@ -1,5 +1,6 @@
 package server.service;
 
+import commons.dtos.EventDTO;
 import commons.dtos.EventDump;
 
 public interface AdminService {
@@ -24,6 +25,7 @@ public interface AdminService {
      * Restore info for an event
      *
      * @param event the event to upload
+     * @return the created event, with its participants
      */
-    void uploadEventDump(EventDump event);
+    EventDTO uploadEventDump(EventDump event);
 }
@@ -85,9 +85,10 @@ public class AdminServiceImplementation implements AdminService {
      * Uploads the info from an event dump to the db
      *
      * @param eventDump the event to upload
+     * @return the created event, with its participants
      */
     @Override
-    public void uploadEventDump(EventDump eventDump) {
+    public EventDTO uploadEventDump(EventDump eventDump) {
         EventDTO newEvent = eventService.createEvent(new EventTitleDTO(eventDump.name()));
         List<ParticipantDTO> participants = new ArrayList<>();
         List<TagDTO> tags = new ArrayList<>();
@@ -124,6 +125,8 @@ public class AdminServiceImplementation implements AdminService {
 
             expenseService.addExpense(newEvent.id(), modifiedExpense);
         }
+
+        return eventService.getEventById(newEvent.id());
     }
 
     private String generatePassword() {
@@ -0,0 +1,42 @@
+package server.service;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+
+import commons.Expense;
+
+public interface BalanceService {
+
+    /**
+     * Returns the net balance of every participant of an event.
+     *
+     * @param eventId id of the event.
+     * @return A map with keys of participants' Ids and values of how much each owes to/is owed by the group.
+     */
+    Map<Long, BigDecimal> getBalances(long eventId);
+
+    /**
+     * Adds the contribution of an expense to the balances of its event.
+     *
+     * @param eventId id of the event.
+     * @param expense the expense being added.
+     */
+    void applyExpense(long eventId, Expense expense);
+
+    /**
+     * Adds the contribution of several expenses to the balances of their event at once.
+     *
+     * @param eventId  id of the event.
+     * @param expenses the expenses being added.
+     */
+    void applyExpenses(long eventId, Collection<Expense> expenses);
+
+    /**
+     * Removes the contribution of an expense from the balances of its event.
+     *
+     * @param eventId id of the event.
+     * @param expense the expense being removed, in the state it was last applied.
+     */
+    void revertExpense(long eventId, Expense expense);
+}
@@ -0,0 +1,238 @@
+package server.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import server.database.BalanceRepository;
+import server.database.ExpenseRepository;
+import server.database.ParticipantAmount;
+import commons.Balance;
+import commons.Event;
+import commons.Expense;
+import commons.Participant;
+
+@Service
+public class BalanceServiceImplementation implements BalanceService {
+
+    private final BalanceRepository balanceRepository;
+    private final ExpenseRepository expenseRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Constructs a new BalanceServiceImplementation.
+     *
+     * @param balanceRepository The repository for the per-participant balances.
+     * @param expenseRepository The repository for managing expenses.
+     * @param entityManager     The entity manager for managing entities.
+     */
+    public BalanceServiceImplementation(BalanceRepository balanceRepository, ExpenseRepository expenseRepository,
+                                        EntityManager entityManager) {
+        this.balanceRepository = balanceRepository;
+        this.expenseRepository = expenseRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Returns the net balance of every participant of an event.
+     * Events that have no ledger yet (created before it existed) get it built once from their expenses.
+     * The ledger is only built while holding the lock on the event row, which every change to the expenses takes first,
+     * so an expense added concurrently is never counted twice.
+     *
+     * @param eventId id of the event.
+     * @return A map with keys of participants' Ids and values of how much each owes to/is owed by the group.
+     */
+    @Override
+    @Transactional
+    public Map<Long, BigDecimal> getBalances(long eventId) {
+        List<Balance> balances = balanceRepository.findByEventId(eventId);
+        if (balances.isEmpty()) {
+            lockEvent(eventId);
+            balances = balanceRepository.findByEventId(eventId);
+            if (balances.isEmpty()) {
+                return rebuildBalances(eventId);
+            }
+        }
+
+        Map<Long, BigDecimal> owedAmounts = new HashMap<>();
+        for (Balance balance : balances) {
+            owedAmounts.put(balance.getParticipant().getId(), balance.getAmountInEUR());
+        }
+
+        return owedAmounts;
+    }
+
+    /**
+     * Adds the contribution of an expense to the balances of its event.
+     *
+     * @param eventId id of the event.
+     * @param expense the expense being added.
+     */
+    @Override
+    @Transactional
+    public void applyExpense(long eventId, Expense expense) {
+        initializeIfMissing(eventId);
+        applyDeltas(eventId, getShares(expense, getReturnerIds(expense), 1));
+    }
+
+    /**
+     * Adds the contribution of several expenses to the balances of their event at once.
+     * The shares are summed first, so every touched balance row is read and written once.
+     *
+     * @param eventId  id of the event.
+     * @param expenses the expenses being added.
+     */
+    @Override
+    @Transactional
+    public void applyExpenses(long eventId, Collection<Expense> expenses) {
+        initializeIfMissing(eventId);
+        FixedPointBalanceEngine engine = new FixedPointBalanceEngine();
+        for (Expense expense : expenses) {
+            addExpense(engine, expense, getReturnerIds(expense), 1);
+        }
+        applyDeltas(eventId, engine.toOwedAmounts());
+    }
+
+    /**
+     * Removes the contribution of an expense from the balances of its event.
+     * The returners are read as they are stored, since the loaded collection may already have been replaced.
+     *
+     * @param eventId id of the event.
+     * @param expense the expense being removed, in the state it was last applied.
+     */
+    @Override
+    @Transactional
+    public void revertExpense(long eventId, Expense expense) {
+        initializeIfMissing(eventId);
+        List<Long> returnerIds = expenseRepository.findReturnerIds(expense.getId());
+        applyDeltas(eventId, getShares(expense, returnerIds, -1));
+    }
+
+    /**
+     * Computes how an expense changes the balances: the payer is owed the full amount,
+     * and the returners owe it in equal shares that add up to it exactly.
+     *
+     * @param expense     the expense.
+     * @param returnerIds the IDs of the participants who need to pay back the expense.
+     * @param sign        1 to add the expense, -1 to remove it.
+     * @return A map with keys of participants' Ids and values of the change of their balance.
+     */
+    static Map<Long, BigDecimal> getShares(Expense expense, Collection<Long> returnerIds, int sign) {
+        FixedPointBalanceEngine engine = new FixedPointBalanceEngine(returnerIds.size() + 1);
+        addExpense(engine, expense, returnerIds, sign);
+        return engine.toOwedAmounts();
+    }
+
+    /**
+     * Feeds an expense to a balance engine, skipping expenses without a payer or an amount.
+     *
+     * @param engine      the engine.
+     * @param expense     the expense.
+     * @param returnerIds the IDs of the participants who need to pay back the expense.
+     * @param sign        1 to add the expense, -1 to remove it.
+     */
+    private static void addExpense(FixedPointBalanceEngine engine, Expense expense,
+                                   Collection<Long> returnerIds, int sign) {
+        if (expense.getPayer() == null || expense.getAmountInEUR() == null) {
+            return;
+        }
+
+        long[] ids = returnerIds.stream().mapToLong(Long::longValue).toArray();
+        engine.applyExpense(expense.getPayer().getId(), FixedPointBalanceEngine.toUnits(expense.getAmountInEUR()),
+                ids, sign);
+    }
+
+    /**
+     * Collects the IDs of the returners of an expense.
+     *
+     * @param expense the expense.
+     * @return the IDs of the participants who need to pay back the expense.
+     */
+    private static List<Long> getReturnerIds(Expense expense) {
+        if (expense.getReturners() == null) {
+            return List.of();
+        }
+
+        return expense.getReturners().stream().map(Participant::getId).toList();
+    }
+
+    /**
+     * Makes sure the ledger of an event reflects its existing expenses before a delta is applied to it.
+     *
+     * @param eventId id of the event.
+     */
+    private void initializeIfMissing(long eventId) {
+        if (balanceRepository.findByEventId(eventId).isEmpty()) {
+            lockEvent(eventId);
+            if (balanceRepository.findByEventId(eventId).isEmpty()) {
+                rebuildBalances(eventId);
+            }
+        }
+    }
+
+    /**
+     * Locks the row of an event until the surrounding transaction ends, so no expense of the event changes while its
+     * ledger is built. The check for a missing ledger is repeated after taking the lock, as another transaction may
+     * have built it in the meantime.
+     *
+     * @param eventId id of the event.
+     */
+    private void lockEvent(long eventId) {
+        entityManager.find(Event.class, eventId, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    /**
+     * Recomputes the balances of an event from its full expense history and stores them.
+     * The totals are aggregated by the database, so no expense is loaded.
+     *
+     * @param eventId id of the event.
+     * @return The recomputed balances.
+     */
+    private Map<Long, BigDecimal> rebuildBalances(long eventId) {
+        FixedPointBalanceEngine engine = new FixedPointBalanceEngine();
+        for (ParticipantAmount paid : expenseRepository.sumPaidAmounts(eventId)) {
+            engine.add(paid.getParticipantId(), paid.getAmount());
+        }
+        for (ParticipantAmount owed : expenseRepository.sumOwedAmounts(eventId)) {
+            engine.add(owed.getParticipantId(), -owed.getAmount());
+        }
+
+        Map<Long, BigDecimal> owedAmounts = engine.toOwedAmounts();
+
+        if (!owedAmounts.isEmpty()) {
+            applyDeltas(eventId, owedAmounts);
+        }
+
+        return owedAmounts;
+    }
+
+    /**
+     * Adds signed amounts to the stored balances, creating missing rows.
+     *
+     * @param eventId id of the event.
+     * @param deltas  A map with keys of participants' Ids and values of the change of their balance.
+     */
+    private void applyDeltas(long eventId, Map<Long, BigDecimal> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, BigDecimal> remaining = new HashMap<>(deltas);
+        List<Balance> changed = new ArrayList<>();
+        for (Balance balance : balanceRepository.findByEventIdAndParticipantIdIn(eventId, deltas.keySet())) {
+            BigDecimal delta = remaining.remove(balance.getParticipant().getId());
+            balance.setAmountInEUR(balance.getAmountInEUR().add(delta));
+            changed.add(balance);
+        }
+
+        Event eventReference = entityManager.getReference(Event.class, eventId);
+        remaining.forEach((participantId, delta) -> changed.add(
+                new Balance(eventReference, entityManager.getReference(Participant.class, participantId), delta)));
+
+        balanceRepository.saveAll(changed);
+    }
+}
@@ -0,0 +1,158 @@
+package server.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import commons.Debt;
+import commons.dtos.CacheStatsDTO;
+
+/**
+ * Keeps the last computed debts of the most recently used events, tagged with the event version they were
+ * computed for. An entry is only served while the event is still at that version, so a change to an event
+ * invalidates its entry without having to notify the cache.
+ */
+@Component
+public class DebtCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final int maxSize;
+    private final Map<Key, Entry> entries;
+    private final Map<Load, CompletableFuture<List<Debt>>> loading = new ConcurrentHashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long loads;
+    private long loadNanos;
+
+    /**
+     * Constructs a cache holding up to {@link #DEFAULT_MAX_SIZE} entries.
+     */
+    public DebtCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructs a cache holding up to the given number of entries.
+     *
+     * @param maxSize The maximum number of entries, the least recently used one is evicted past it.
+     */
+    public DebtCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > DebtCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the debts of an event, computing them if the cached ones are missing or outdated.
+     * Concurrent misses for the same event version wait for a single computation.
+     *
+     * @param eventId  The id of the event.
+     * @param strategy The name of the settlement strategy.
+     * @param version  The current version of the event.
+     * @param loader   Computes the debts.
+     * @return The debts, as an unmodifiable list.
+     */
+    public List<Debt> get(long eventId, String strategy, long version, Supplier<List<Debt>> loader) {
+        Key key = new Key(eventId, strategy);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version() == version) {
+                hits++;
+                return entry.debts();
+            }
+
+            misses++;
+        }
+
+        Load load = new Load(key, version);
+        CompletableFuture<List<Debt>> created = new CompletableFuture<>();
+        CompletableFuture<List<Debt>> pending = loading.putIfAbsent(load, created);
+        if (pending != null) {
+            return await(pending);
+        }
+
+        try {
+            long start = System.nanoTime();
+            List<Debt> debts = List.copyOf(loader.get());
+            store(key, new Entry(version, debts), System.nanoTime() - start);
+            created.complete(debts);
+            return debts;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(load, created);
+        }
+    }
+
+    /**
+     * Gets the statistics of the cache since it was created.
+     *
+     * @return The statistics.
+     */
+    public synchronized CacheStatsDTO getStats() {
+        long requests = hits + misses;
+        return new CacheStatsDTO(hits, misses, requests == 0 ? 0 : (double) hits / requests, evictions, loads,
+                loads == 0 ? 0 : loadNanos / 1e6 / loads, entries.size(), maxSize);
+    }
+
+    /**
+     * Stores computed debts, unless debts of a newer version were stored in the meantime.
+     *
+     * @param key       The event and strategy.
+     * @param entry     The debts and the version they were computed for.
+     * @param loadNanos How long the computation took.
+     */
+    private synchronized void store(Key key, Entry entry, long loadNanos) {
+        loads++;
+        this.loadNanos += loadNanos;
+
+        Entry current = entries.get(key);
+        if (current == null || current.version() <= entry.version()) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Waits for a computation started by another request.
+     *
+     * @param pending The computation.
+     * @return The debts.
+     */
+    private static List<Debt> await(CompletableFuture<List<Debt>> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private record Key(long eventId, String strategy) {
+    }
+
+    private record Load(Key key, long version) {
+    }
+
+    private record Entry(long version, List<Debt> debts) {
+    }
+}
@@ -2,7 +2,10 @@ package server.service;
 
 import java.util.List;
 
+import server.exceptions.InvalidPayloadException;
+
 import commons.Debt;
+import commons.dtos.CacheStatsDTO;
 
 public interface DebtService {
 
@@ -13,4 +16,21 @@ public interface DebtService {
      * @return The associated debts.
      */
     List<Debt> getAllDebts(long eventId);
+
+    /**
+     * Returns all debts associated with an event, settled with a specific strategy.
+     *
+     * @param eventId  of the debts.
+     * @param strategy name of the settlement strategy.
+     * @return The associated debts.
+     * @throws InvalidPayloadException if no strategy with that name exists.
+     */
+    List<Debt> getAllDebts(long eventId, String strategy);
+
+    /**
+     * Returns the statistics of the cache of computed debts.
+     *
+     * @return The cache statistics.
+     */
+    CacheStatsDTO getCacheStats();
 }
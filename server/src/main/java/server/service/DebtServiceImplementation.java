@@ -3,93 +3,99 @@ package server.service;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.*;
 
-import server.database.ExpenseRepository;
-import commons.Expense;
+import server.database.EventRepository;
+import server.exceptions.InvalidPayloadException;
+
 import commons.Debt;
-import commons.Participant;
+import commons.dtos.CacheStatsDTO;
 
 @Service
 public class DebtServiceImplementation implements DebtService {
 
-    private final ExpenseRepository expenseRepository;
+    /**
+     * Strategy used when a request does not ask for one.
+     */
+    public static final String DEFAULT_STRATEGY = MinimumTransferSettlementStrategy.NAME;
+
+    private final BalanceService balanceService;
+    private final EventRepository eventRepository;
+    private final DebtCache debtCache;
+    private final Map<String, SettlementStrategy> strategies = new HashMap<>();
 
     /**
-     * Constructs a new ExpenseServiceImpl with the specified ExpenseRepository and EntityManager.
+     * Constructs a new DebtServiceImplementation with the specified BalanceService.
      *
-     * @param expenseRepository The repository for managing expenses.
+     * @param balanceService  The service keeping the per-participant balances of events.
+     * @param strategies      The available settlement strategies.
+     * @param eventRepository The repository for managing events.
+     * @param debtCache       The cache of computed debts.
      */
-    public DebtServiceImplementation(ExpenseRepository expenseRepository) {
-        this.expenseRepository = expenseRepository;
+    public DebtServiceImplementation(BalanceService balanceService, List<SettlementStrategy> strategies,
+                                     EventRepository eventRepository, DebtCache debtCache) {
+        this.balanceService = balanceService;
+        this.eventRepository = eventRepository;
+        this.debtCache = debtCache;
+        for (SettlementStrategy strategy : strategies) {
+            this.strategies.put(strategy.getName(), strategy);
+        }
     }
 
     /**
-     * Returns all debts associated with an event.
+     * Returns all debts associated with an event, settled with the default strategy.
      *
      * @param eventId of the debts.
      * @return The associated debts.
      */
     @Override
     public List<Debt> getAllDebts(long eventId) {
-        Map<Long, BigDecimal> owedAmounts = getOwedAmounts(eventId);
-        Map<Long, BigDecimal> oweToGroup = selectWhoOweToGroup(owedAmounts);
-        Map<Long, BigDecimal> owedByGroup = selectWhoAreOwedByGroup(owedAmounts);
+        return getAllDebts(eventId, DEFAULT_STRATEGY);
+    }
 
-        if (oweToGroup.isEmpty() || owedByGroup.isEmpty()) {
-            return List.of();
+    /**
+     * Returns all debts associated with an event, settled with the given strategy.
+     * The result is cached until the version of the event changes.
+     *
+     * @param eventId  of the debts.
+     * @param strategy name of the settlement strategy.
+     * @return The associated debts.
+     * @throws InvalidPayloadException if no strategy with that name exists.
+     */
+    @Override
+    public List<Debt> getAllDebts(long eventId, String strategy) {
+        SettlementStrategy settlementStrategy = strategies.get(strategy);
+        if (settlementStrategy == null) {
+            throw new InvalidPayloadException("Unknown settlement strategy " + strategy + ".");
         }
 
-        List<Debt> debts = new ArrayList<>();
-
-        Iterator<Map.Entry<Long, BigDecimal>> oweIt = oweToGroup.entrySet().iterator();
-        Iterator<Map.Entry<Long, BigDecimal>> owedIt = owedByGroup.entrySet().iterator();
-        Map.Entry<Long, BigDecimal> oweEntry = oweIt.next();
-        Map.Entry<Long, BigDecimal> owedEntry = owedIt.next();
-
-        while ((oweEntry.getValue().compareTo(BigDecimal.ZERO) != 0 || oweIt.hasNext()) &&
-                (owedEntry.getValue().compareTo(BigDecimal.ZERO) != 0 || owedIt.hasNext())) {
-            if (oweEntry.getValue().compareTo(BigDecimal.ZERO) == 0) oweEntry = oweIt.next();
-            if (owedEntry.getValue().compareTo(BigDecimal.ZERO) == 0) owedEntry = owedIt.next();
-
-            BigDecimal amount = oweEntry.getValue().min(owedEntry.getValue());
-            debts.add(new Debt(oweEntry.getKey(), owedEntry.getKey(), amount));
-            oweEntry.setValue(oweEntry.getValue().subtract(amount));
-            owedEntry.setValue(owedEntry.getValue().subtract(amount));
+        Optional<Long> version = eventRepository.findVersionById(eventId);
+        if (version.isEmpty()) {
+            return settlementStrategy.settle(getOwedAmounts(eventId));
         }
 
-        return debts;
+        return debtCache.get(eventId, strategy, version.get(), () -> settlementStrategy.settle(getOwedAmounts(eventId)));
+    }
+
+    /**
+     * Returns the statistics of the cache of computed debts.
+     *
+     * @return The cache statistics.
+     */
+    @Override
+    public CacheStatsDTO getCacheStats() {
+        return debtCache.getStats();
     }
 
     /**
      * Returns a map with keys of participants' Ids and values of how much each owes to/is owed by the group.
+     * The values are read from the event's balance ledger instead of being recomputed from every expense.
      *
      * @param eventId id of the event.
      * @return A map with keys of participants' Ids and values of how much each owes to/is owed by the group.
      */
     public Map<Long, BigDecimal> getOwedAmounts(long eventId) {
-        Set<Expense> expenses = expenseRepository.findByEventId(eventId);
-        Map<Long, BigDecimal> owedAmounts = new HashMap<>();
-
-        for (Expense expense : expenses) {
-            if (!owedAmounts.containsKey(expense.getPayer().getId()))
-                owedAmounts.put(expense.getPayer().getId(), BigDecimal.ZERO);
-
-            owedAmounts.put(expense.getPayer().getId(), owedAmounts.get(expense.getPayer().getId()).add(expense.getAmountInEUR()));
-
-            Set<Participant> returners = expense.getReturners();
-            if (returners.isEmpty()) continue;
-            BigDecimal eachOwe = expense.getAmountInEUR().divide(new BigDecimal(returners.size()), 8, RoundingMode.HALF_UP);
-            for (Participant returner : returners) {
-                if (!owedAmounts.containsKey(returner.getId()))
-                    owedAmounts.put(returner.getId(), BigDecimal.ZERO);
-
-                owedAmounts.put(returner.getId(), owedAmounts.get(returner.getId()).subtract(eachOwe));
-            }
-        }
-
-        return owedAmounts;
+        return new HashMap<>(balanceService.getBalances(eventId));
     }
 
     /**
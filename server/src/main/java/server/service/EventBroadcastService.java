@@ -0,0 +1,292 @@
+package server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+import commons.Debt;
+import commons.dtos.ExpenseDTO;
+import commons.dtos.ParticipantDTO;
+import commons.messages.DebtsChangedMessage;
+import commons.messages.EventDeltaMessage;
+import commons.messages.ExpenseDeletedMessage;
+import commons.messages.ExpensesUpsertedMessage;
+import commons.messages.ParticipantDeletedMessage;
+import commons.messages.ParticipantUpsertedMessage;
+import commons.messages.TagsMessage;
+
+/**
+ * Broadcasts the changes to an event to the clients that have it open, instead of the full lists of the event.
+ * The changes of every event are numbered one after another. A client that sees a number skipped has missed a change,
+ * and loads the event again.
+ * All messages are sent on a separate thread, so a request that changes something does not wait for them.
+ * Topics that have to be computed, such as the debts, are only marked as changed. They are computed and sent once
+ * after a short window, however often the event changed in the meantime.
+ * Nothing is computed or sent for a topic that no client subscribed to, but its changes are still numbered: a client
+ * whose subscription arrives after it loaded the event sees the gap at the next message, and catches up.
+ * Every message is serialized to JSON once, and the broker sends the same bytes to all subscribers.
+ */
+@Service
+public class EventBroadcastService {
+
+    public static final long DEFAULT_WINDOW_MILLIS = 50;
+
+    private enum Topic {
+        DEBTS("/debts", true), TAGS("/tags", false);
+
+        private final String path;
+        private final boolean isNumbered;
+
+        Topic(String path, boolean isNumbered) {
+            this.path = path;
+            this.isNumbered = isNumbered;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(EventBroadcastService.class);
+
+    private final SimpMessagingTemplate template;
+    private final ObjectMapper objectMapper;
+    private final DebtService debtService;
+    private final TagService tagService;
+    private final SubscriptionService subscriptionService;
+    private final long windowMillis;
+    private final ScheduledExecutorService executor;
+    private final ConcurrentMap<Long, Sequence> sequences = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Topic>> changedTopics = new HashMap<>();
+
+    /**
+     * Constructs an EventBroadcastService instance, which sends messages on its own thread.
+     *
+     * @param template            SimpMessagingTemplate instance for sending WebSocket messages.
+     * @param objectMapper        ObjectMapper instance that serializes the messages.
+     * @param debtService         DebtService instance.
+     * @param tagService          TagService instance.
+     * @param subscriptionService SubscriptionService instance, which knows the topics clients subscribed to.
+     * @param windowMillis        How long changes to a computed topic are collected before it is computed and sent.
+     */
+    @Autowired
+    public EventBroadcastService(SimpMessagingTemplate template, ObjectMapper objectMapper, DebtService debtService,
+                                 TagService tagService, SubscriptionService subscriptionService,
+                                 @Value("${broadcast.window-millis:" + DEFAULT_WINDOW_MILLIS + "}") long windowMillis) {
+        this(template, objectMapper, debtService, tagService, subscriptionService, windowMillis, Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("event-broadcast").daemon().factory()));
+    }
+
+    /**
+     * Constructs an EventBroadcastService instance.
+     *
+     * @param template            SimpMessagingTemplate instance for sending WebSocket messages.
+     * @param objectMapper        ObjectMapper instance that serializes the messages.
+     * @param debtService         DebtService instance.
+     * @param tagService          TagService instance.
+     * @param subscriptionService SubscriptionService instance, which knows the topics clients subscribed to.
+     * @param windowMillis        How long changes to a computed topic are collected before it is computed and sent.
+     * @param executor            The executor that computes and sends the messages. A single thread keeps them in order.
+     */
+    public EventBroadcastService(SimpMessagingTemplate template, ObjectMapper objectMapper, DebtService debtService,
+                                 TagService tagService, SubscriptionService subscriptionService, long windowMillis,
+                                 ScheduledExecutorService executor) {
+        this.template = template;
+        this.objectMapper = objectMapper;
+        this.debtService = debtService;
+        this.tagService = tagService;
+        this.subscriptionService = subscriptionService;
+        this.windowMillis = windowMillis;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the number of the last change broadcast for an event.
+     * A client reads it before loading the event, and then applies the changes after it.
+     *
+     * @param eventId The ID of the event.
+     * @return The number of the last change, 0 if none was broadcast yet.
+     */
+    public long getSequence(long eventId) {
+        Sequence sequence = sequences.get(eventId);
+        if (sequence == null) {
+            return 0;
+        }
+
+        synchronized (sequence) {
+            return sequence.last;
+        }
+    }
+
+    /**
+     * Broadcasts that expenses were added to or updated in an event.
+     *
+     * @param eventId  The ID of the event.
+     * @param expenses The added or updated expenses.
+     */
+    public void expensesUpserted(long eventId, List<ExpenseDTO> expenses) {
+        executor.execute(() -> send(eventId, "/expenses", sequence -> new ExpensesUpsertedMessage(sequence, expenses)));
+    }
+
+    /**
+     * Broadcasts that an expense was deleted from an event.
+     *
+     * @param eventId   The ID of the event.
+     * @param expenseId The ID of the deleted expense.
+     */
+    public void expenseDeleted(long eventId, long expenseId) {
+        executor.execute(() -> send(eventId, "/expenses", sequence -> new ExpenseDeletedMessage(sequence, expenseId)));
+    }
+
+    /**
+     * Broadcasts that a participant was added to or updated in an event.
+     *
+     * @param eventId     The ID of the event.
+     * @param participant The added or updated participant.
+     */
+    public void participantUpserted(long eventId, ParticipantDTO participant) {
+        executor.execute(() -> send(eventId, "/participants", sequence -> new ParticipantUpsertedMessage(sequence, participant)));
+    }
+
+    /**
+     * Broadcasts that a participant was deleted from an event.
+     *
+     * @param eventId       The ID of the event.
+     * @param participantId The ID of the deleted participant.
+     */
+    public void participantDeleted(long eventId, long participantId) {
+        executor.execute(() -> send(eventId, "/participants", sequence -> new ParticipantDeletedMessage(sequence, participantId)));
+    }
+
+    /**
+     * Marks the debts of an event as changed, because its expenses changed.
+     * They are computed and broadcast once the window has passed.
+     *
+     * @param eventId The ID of the event.
+     */
+    public void debtsChanged(long eventId) {
+        markChanged(eventId, Topic.DEBTS);
+    }
+
+    /**
+     * Marks the tags of an event as changed. They are read and broadcast once the window has passed.
+     *
+     * @param eventId The ID of the event.
+     */
+    public void tagsChanged(long eventId) {
+        markChanged(eventId, Topic.TAGS);
+    }
+
+    /**
+     * Marks a topic of an event as changed. The first mark of an event schedules sending its changed topics,
+     * later marks within the window are sent along with it. Numbered topics are marked even if nobody watches them,
+     * so their change still gets its number.
+     */
+    private void markChanged(long eventId, Topic topic) {
+        if (!topic.isNumbered && !isWatched(eventId, topic.path)) {
+            return;
+        }
+
+        boolean isScheduled;
+        synchronized (changedTopics) {
+            Set<Topic> topics = changedTopics.computeIfAbsent(eventId, id -> EnumSet.noneOf(Topic.class));
+            isScheduled = !topics.isEmpty();
+            topics.add(topic);
+        }
+
+        if (!isScheduled) {
+            executor.schedule(() -> sendChangedTopics(eventId), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void sendChangedTopics(long eventId) {
+        Set<Topic> topics;
+        synchronized (changedTopics) {
+            topics = changedTopics.remove(eventId);
+        }
+
+        for (Topic topic : topics) {
+            try {
+                switch (topic) {
+                    case DEBTS -> send(eventId, topic.path, () -> {
+                        List<Debt> debts = debtService.getAllDebts(eventId);
+                        return sequence -> new DebtsChangedMessage(sequence, debts);
+                    });
+                    case TAGS -> {
+                        if (isWatched(eventId, topic.path)) {
+                            sendSerialized("/topic/events/" + eventId + topic.path, new TagsMessage(tagService.getAllTags(eventId)));
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Could not broadcast the {} of event {}", topic, eventId, e);
+            }
+        }
+    }
+
+    private boolean isWatched(long eventId, String topic) {
+        return subscriptionService.hasSubscribers("/topic/events/" + eventId + topic);
+    }
+
+    private void send(long eventId, String topic, LongFunction<EventDeltaMessage> message) {
+        send(eventId, topic, () -> message);
+    }
+
+    /**
+     * Numbers a change and sends it. Both happen while holding the event's sequence,
+     * so the changes of an event are sent in the order of their numbers.
+     * The payload is computed before, so reading the sequence never waits for it.
+     * A change to a topic nobody watches only takes its number; the message is neither built nor sent.
+     */
+    private void send(long eventId, String topic, Supplier<LongFunction<EventDeltaMessage>> payload) {
+        LongFunction<EventDeltaMessage> message = isWatched(eventId, topic) ? payload.get() : null;
+        Sequence sequence = sequences.computeIfAbsent(eventId, id -> new Sequence());
+        synchronized (sequence) {
+            sequence.last++;
+            if (message != null) {
+                sendSerialized("/topic/events/" + eventId + topic, message.apply(sequence.last));
+            }
+        }
+    }
+
+    /**
+     * Serializes a message once and hands the bytes to the broker. The broker shares them between all subscribers,
+     * so the cost of serializing does not grow with the number of subscribers.
+     */
+    private void sendSerialized(String destination, Object payload) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("Could not serialize " + payload.getClass().getSimpleName(), e);
+        }
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers.setLeaveMutable(true);
+        template.send(destination, MessageBuilder.createMessage(json, headers.getMessageHeaders()));
+    }
+
+    private static final class Sequence {
+        private long last;
+    }
+}
@@ -0,0 +1,81 @@
+package server.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Calendar;
+
+import server.exceptions.InvalidPayloadException;
+import commons.dtos.EventDTO;
+
+/**
+ * The position of an event in a sorted listing of events, which a page of events hands out so that
+ * the next page can continue right after it. Clients only see it as an opaque string.
+ *
+ * @param value The value of the sort key of the event: the title, or a time in milliseconds since the epoch.
+ * @param id    The ID of the event.
+ */
+record EventCursor(String value, long id) {
+
+    /**
+     * Creates the cursor pointing at an event.
+     *
+     * @param event   The event.
+     * @param sortKey The property the events are sorted by.
+     * @return The cursor.
+     */
+    static EventCursor of(EventDTO event, String sortKey) {
+        String value = switch (sortKey) {
+            case "title" -> event.title();
+            case "updatedOn" -> String.valueOf(event.updatedOn().getTimeInMillis());
+            default -> String.valueOf(event.createdOn().getTimeInMillis());
+        };
+
+        return new EventCursor(value, event.id());
+    }
+
+    /**
+     * Reads a cursor previously created by {@link #encode()}.
+     *
+     * @param cursor The encoded cursor.
+     * @return The cursor.
+     * @throws InvalidPayloadException if the string is not a valid cursor.
+     */
+    static EventCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            if (parts.length != 2) {
+                throw new InvalidPayloadException("Invalid cursor");
+            }
+
+            return new EventCursor(parts[1], Long.parseLong(parts[0]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPayloadException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Turns the cursor into the opaque string handed out to clients.
+     *
+     * @return The encoded cursor.
+     */
+    String encode() {
+        String cursor = id + ":" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the value of the cursor as a time, for listings sorted by creation or last update.
+     *
+     * @return The time.
+     * @throws InvalidPayloadException if the cursor does not hold a time.
+     */
+    Calendar time() {
+        try {
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTimeInMillis(Long.parseLong(value));
+            return calendar;
+        } catch (NumberFormatException e) {
+            throw new InvalidPayloadException("Invalid cursor");
+        }
+    }
+}
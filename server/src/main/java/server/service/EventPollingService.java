@@ -1,29 +1,169 @@
 package server.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
+import server.exceptions.NotFoundException;
+import commons.dtos.EventChangeDTO;
+import commons.dtos.EventChangesDTO;
 import commons.dtos.EventDTO;
 
+/**
+ * Keeps a feed of the changes to events, so that long-polling clients only receive what changed since their last poll.
+ * Every change gets the next version number, and the most recent changes are kept in a ring buffer.
+ * A client whose last seen version is no longer in the buffer is told to load all events again.
+ * Events changed through their participants or expenses are only read again on the fan-out thread when a client
+ * is waiting, or otherwise when the next client asks for the changes.
+ */
 @Service
-public class EventPollingService extends PollingServiceImplementation<List<EventDTO>> {
+public class EventPollingService extends PollingServiceImplementation<EventChangeDTO> {
+
+    public static final int BUFFER_SIZE = 1024;
 
     private final EventService eventService;
+    private final Executor fanOutExecutor;
+    private final Set<Long> staleEvents = new LinkedHashSet<>();
+    private final EventChangeDTO[] buffer = new EventChangeDTO[BUFFER_SIZE];
+    private long version;
+
+    /**
+     * Constructs an EventPollingService instance, which sends changes to the listeners on its own thread.
+     *
+     * @param eventService  EventService instance.
+     * @param maxListeners  The maximum number of parked long-polling requests, further requests are refused.
+     * @param timeoutMillis How long a long-polling request may be parked at most.
+     */
+    @Autowired
+    public EventPollingService(EventService eventService,
+                               @Value("${polling.events.max-parked:" + DEFAULT_MAX_LISTENERS + "}") int maxListeners,
+                               @Value("${polling.events.timeout-millis:" + DEFAULT_TIMEOUT_MILLIS + "}") long timeoutMillis) {
+        this(eventService, maxListeners, timeoutMillis, Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("event-polling-fan-out").daemon().factory()));
+    }
 
     /**
      * Constructs an EventPollingService instance.
      *
-     * @param eventService EventService instance.
+     * @param eventService   EventService instance.
+     * @param maxListeners   The maximum number of parked long-polling requests, further requests are refused.
+     * @param timeoutMillis  How long a long-polling request may be parked at most.
+     * @param fanOutExecutor The executor that sends changes to the listeners.
      */
-    public EventPollingService(EventService eventService) {
+    public EventPollingService(EventService eventService, int maxListeners, long timeoutMillis, Executor fanOutExecutor) {
+        super(maxListeners, timeoutMillis, fanOutExecutor);
         this.eventService = eventService;
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    /**
+     * Records that an event was created.
+     *
+     * @param event The created event.
+     */
+    public void eventCreated(EventDTO event) {
+        record(EventChangeDTO.Type.CREATED, event.id(), event);
+    }
+
+    /**
+     * Records that an event was updated.
+     *
+     * @param event The updated event.
+     */
+    public void eventUpdated(EventDTO event) {
+        record(EventChangeDTO.Type.UPDATED, event.id(), event);
     }
 
     /**
-     * Sends a list of events to the listeners.
+     * Records that something in an event changed, such as its participants or expenses.
+     * The event is read again on the fan-out thread if a client is waiting, otherwise once a client asks for the changes,
+     * so the request that changed it does not wait for the read. Several changes to an event before then read it once.
+     *
+     * @param eventId The ID of the event.
      */
-    public void sendEventsToListeners() {
-        sendToListeners(eventService.getAllEvents());
+    public void eventChanged(long eventId) {
+        synchronized (staleEvents) {
+            staleEvents.add(eventId);
+        }
+
+        fanOutExecutor.execute(() -> {
+            if (hasListeners()) {
+                recordStaleEvents();
+            }
+        });
+    }
+
+    /**
+     * Records that an event was deleted.
+     *
+     * @param eventId The ID of the deleted event.
+     */
+    public void eventDeleted(long eventId) {
+        record(EventChangeDTO.Type.DELETED, eventId, null);
+    }
+
+    /**
+     * Gets the changes after a version.
+     *
+     * @param since The last version the client has seen, or a negative number if it has not seen any.
+     * @return The changes after that version, which may be none. If the changes are no longer known,
+     *     or the client has not seen any version yet, only the current version and a resync marker are returned.
+     */
+    public EventChangesDTO getChangesSince(long since) {
+        recordStaleEvents();
+        synchronized (this) {
+            long oldest = Math.max(version - BUFFER_SIZE, 0);
+            if (since < oldest || since > version) {
+                return new EventChangesDTO(version, true, List.of());
+            }
+
+            List<EventChangeDTO> changes = new ArrayList<>((int) (version - since));
+            for (long v = since + 1; v <= version; v++) {
+                changes.add(buffer[(int) (v % BUFFER_SIZE)]);
+            }
+
+            return new EventChangesDTO(version, false, changes);
+        }
+    }
+
+    /**
+     * Reads the events changed since they were last read, and records them as updated, or as deleted if they are gone.
+     */
+    private void recordStaleEvents() {
+        List<Long> eventIds;
+        synchronized (staleEvents) {
+            if (staleEvents.isEmpty()) {
+                return;
+            }
+
+            eventIds = new ArrayList<>(staleEvents);
+            staleEvents.clear();
+        }
+
+        for (long eventId : eventIds) {
+            try {
+                eventUpdated(eventService.getEventById(eventId));
+            } catch (NotFoundException e) {
+                eventDeleted(eventId);
+            }
+        }
+    }
+
+    private void record(EventChangeDTO.Type type, long eventId, EventDTO event) {
+        EventChangeDTO change;
+        synchronized (this) {
+            version++;
+            change = new EventChangeDTO(version, type, eventId, event);
+            buffer[(int) (version % BUFFER_SIZE)] = change;
+        }
+
+        sendToListeners(change);
     }
 }
@@ -7,6 +7,9 @@ import server.exceptions.NotFoundException;
 import server.exceptions.SystemErrorException;
 
 import commons.dtos.EventDTO;
+import commons.dtos.EventDeltaDTO;
+import commons.dtos.EventPageDTO;
+import commons.dtos.EventSnapshotDTO;
 import commons.dtos.EventTitleDTO;
 
 public interface EventService {
@@ -18,6 +21,19 @@ public interface EventService {
      */
     List<EventDTO> getAllEvents();
 
+    /**
+     * Retrieves a page of the events, sorted by title, creation or last update.
+     *
+     * @param limit     the maximum number of events on the page.
+     * @param sort      the property to sort by: title, createdOn or updatedOn; createdOn if null.
+     * @param direction asc or desc; ascending for titles and descending for times if null.
+     * @param search    if not null, only events whose title starts with it, ignoring case, are included.
+     * @param cursor    the cursor returned with the previous page, or null for the first page.
+     * @return the events of the page and the cursor of the next page, which is null on the last page.
+     * @throws InvalidPayloadException if any of the parameters is invalid.
+     */
+    EventPageDTO getEventPage(int limit, String sort, String direction, String search, String cursor);
+
     /**
      * Retrieves an event based on its identifier.
      *
@@ -28,6 +44,39 @@ public interface EventService {
      */
     EventDTO getEventById(Long id);
 
+    /**
+     * Retrieves the version of an event without loading it.
+     * The version changes whenever the event, its participants, expenses or tags change.
+     *
+     * @param id the identifier of the event.
+     * @return the version of the event.
+     * @throws NotFoundException if no event with the specified id exists.
+     */
+    long getEventVersion(long id);
+
+    /**
+     * Retrieves everything needed to show an event at once: its participants, expenses, tags and debts.
+     * They are read in a single read-only transaction, so they belong to the same version of the event.
+     *
+     * @param id       the identifier of the event.
+     * @param sequence the number of the last change broadcast for the event before reading, sent along with the snapshot.
+     * @return the snapshot of the event.
+     * @throws NotFoundException if no event with the specified id exists.
+     */
+    EventSnapshotDTO getEventSnapshot(long id, long sequence);
+
+    /**
+     * Retrieves the participants, expenses and tags of an event that were added, changed or deleted after a version.
+     * If deletions after that version were already forgotten, or the version is unknown, only asks for a snapshot.
+     *
+     * @param id       the identifier of the event.
+     * @param since    the version of the event the client has.
+     * @param sequence the number of the last change broadcast for the event before reading, sent along with the changes.
+     * @return the changes since the version.
+     * @throws NotFoundException if no event with the specified id exists.
+     */
+    EventDeltaDTO getEventChanges(long id, long since, long sequence);
+
     /**
      * Retrieves an event based on its invite code.
      *
@@ -38,6 +87,15 @@ public interface EventService {
      */
     EventDTO getEventByInviteCode(String inviteCode);
 
+    /**
+     * Retrieves the events with any of the given invite codes at once.
+     *
+     * @param inviteCodes the invite codes of the events to be retrieved.
+     * @return the events that exist, in the order of their invite codes. Unknown invite codes are left out.
+     * @throws InvalidPayloadException if the list is missing or too long.
+     */
+    List<EventDTO> getEventsByInviteCodes(List<String> inviteCodes);
+
     /**
      * Saves a new event to the database.
      *
@@ -1,6 +1,11 @@
 package server.service;
 
+import jakarta.annotation.PostConstruct;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -13,7 +18,11 @@ import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
 import server.exceptions.SystemErrorException;
 
+import server.database.EventParticipant;
 import server.database.EventRepository;
+import server.database.EventRow;
+import server.database.EventSpecifications;
+import server.database.Tombstone;
 import commons.Event;
 import commons.Participant;
 import commons.dtos.*;
@@ -21,10 +30,19 @@ import commons.dtos.*;
 @Service
 public class EventServiceImplementation implements EventService {
 
+    /**
+     * The largest page of events a client can ask for.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final Set<String> SORT_KEYS = Set.of("title", "createdOn", "updatedOn");
+
     private final EventRepository eventRepository;
     private final ExpenseService expenseService;
     private final ParticipantService participantService;
     private final TagService tagService;
+    private final DebtService debtService;
+    private final TombstoneService tombstoneService;
     private final PasswordGenerator passwordGenerator;
 
     /**
@@ -34,28 +52,104 @@ public class EventServiceImplementation implements EventService {
      * @param expenseService     The expense service.
      * @param participantService The participant service.
      * @param tagService         The tag service.
+     * @param debtService        The debt service.
+     * @param tombstoneService   The service keeping the tombstones of deleted expenses, participants and tags.
      * @param passwordGenerator  PasswordGenerator instance.
      */
     public EventServiceImplementation(EventRepository eventRepository, ExpenseService expenseService,
                                       ParticipantService participantService, TagService tagService,
+                                      DebtService debtService, TombstoneService tombstoneService,
                                       PasswordGenerator passwordGenerator) {
         this.eventRepository = eventRepository;
         this.expenseService = expenseService;
         this.participantService = participantService;
         this.tagService = tagService;
+        this.debtService = debtService;
+        this.tombstoneService = tombstoneService;
         this.passwordGenerator = passwordGenerator;
     }
 
+    /**
+     * Fills in the search titles of events stored before they were kept, once when the server starts.
+     */
+    @PostConstruct
+    public void init() {
+        eventRepository.fillMissingSearchTitles();
+    }
+
     /**
      * Retrieves all events from the eventRepository.
+     * The events and the ids of their participants are read with one query each, whatever the number of events.
      *
      * @return a list of all events.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<EventDTO> getAllEvents() {
-        return eventRepository.findAll().stream()
-                .map(this::convertToEventDTO)
+        List<EventRow> rows = eventRepository.findAllRows();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Set<Long>> participantIds = new HashMap<>();
+        for (EventParticipant participant : eventRepository.findAllParticipantIds()) {
+            participantIds.computeIfAbsent(participant.eventId(), id -> new HashSet<>()).add(participant.participantId());
+        }
+
+        return rows.stream()
+                .map(row -> new EventDTO(row.id(), row.title(), row.inviteCode(), row.createdOn(), row.updatedOn(),
+                        participantIds.getOrDefault(row.id(), new HashSet<>())))
+                .toList();
+    }
+
+    /**
+     * Retrieves a page of the events, sorted by title, creation or last update.
+     * The database continues from the position of the cursor through an index on the sort key, so the
+     * cost of a page does not depend on the number of events or on how far the client has scrolled.
+     * Every sort key has an index in both directions, since H2 does not scan indexes backwards.
+     *
+     * @param limit     the maximum number of events on the page, at most {@value #MAX_PAGE_SIZE}.
+     * @param sort      the property to sort by: title, createdOn or updatedOn; createdOn if null.
+     * @param direction asc or desc; ascending for titles and descending for times if null.
+     * @param search    if not null, only events whose title starts with it, ignoring case, are included.
+     * @param cursor    the cursor returned with the previous page, or null for the first page.
+     * @return the events of the page and the cursor of the next page, which is null on the last page.
+     * @throws InvalidPayloadException if any of the parameters is invalid.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EventPageDTO getEventPage(int limit, String sort, String direction, String search, String cursor) {
+        String sortKey = sort == null ? "createdOn" : sort;
+        if (limit < 1 || limit > MAX_PAGE_SIZE || !SORT_KEYS.contains(sortKey)) {
+            throw new InvalidPayloadException("Invalid page request");
+        }
+
+        Sort.Direction sortDirection = toSortDirection(direction, sortKey);
+        Specification<Event> specification = EventSpecifications.orderBy(sortKey, sortDirection.isAscending())
+                .and(EventSpecifications.titleStartsWithIgnoreCase(search == null ? "" : search));
+        if (cursor != null && !cursor.isEmpty()) {
+            EventCursor after = EventCursor.decode(cursor);
+            specification = specification.and("title".equals(sortKey)
+                    ? EventSpecifications.after(sortKey, after.value(), after.id(), sortDirection.isAscending())
+                    : EventSpecifications.after(sortKey, after.time(), after.id(), sortDirection.isAscending()));
+        }
+
+        List<Event> rows = eventRepository.findBy(specification, query -> query.limit(limit + 1).all());
+        boolean hasNext = rows.size() > limit;
+        List<Event> events = hasNext ? rows.subList(0, limit) : rows;
+        Map<Long, Set<Long>> participantIds = new HashMap<>();
+        if (!events.isEmpty()) {
+            for (EventParticipant participant : eventRepository.findParticipantIds(events.stream().map(Event::getId).toList())) {
+                participantIds.computeIfAbsent(participant.eventId(), id -> new HashSet<>()).add(participant.participantId());
+            }
+        }
+
+        List<EventDTO> eventDtos = events.stream()
+                .map(event -> new EventDTO(event.getId(), event.getTitle(), event.getInviteCode(), event.getCreatedOn(),
+                        event.getUpdatedOn(), participantIds.getOrDefault(event.getId(), new HashSet<>())))
                 .toList();
+        String nextCursor = hasNext ? EventCursor.of(eventDtos.get(eventDtos.size() - 1), sortKey).encode() : null;
+        return new EventPageDTO(eventDtos, nextCursor);
     }
 
     /**
@@ -80,6 +174,73 @@ public class EventServiceImplementation implements EventService {
         return convertToEventDTO(event);
     }
 
+    /**
+     * Retrieves the version of an event with a query for just that column.
+     *
+     * @param eventId the ID of the event.
+     * @return the version of the event.
+     * @throws NotFoundException if the event is not found.
+     */
+    @Override
+    public long getEventVersion(long eventId) {
+        return eventRepository.findVersionById(eventId)
+                .orElseThrow(() -> new NotFoundException("Event with id " + eventId + " is not found."));
+    }
+
+    /**
+     * Retrieves the participants, expenses, tags and debts of an event in one repeatable-read transaction,
+     * so that none of them reflects a change the others do not.
+     *
+     * @param eventId  the ID of the event.
+     * @param sequence the number of the last change broadcast for the event before reading.
+     * @return the snapshot of the event.
+     * @throws NotFoundException if the event is not found.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public EventSnapshotDTO getEventSnapshot(long eventId, long sequence) {
+        Optional<Long> version = eventRepository.findVersionById(eventId);
+        if (version.isEmpty()) {
+            throw new NotFoundException("Event with id " + eventId + " is not found.");
+        }
+
+        return new EventSnapshotDTO(version.get(), sequence, participantService.getAllParticipants(eventId),
+                expenseService.getAllExpenses(eventId), tagService.getAllTags(eventId), debtService.getAllDebts(eventId));
+    }
+
+    /**
+     * Retrieves what changed in an event after a version, in one repeatable-read transaction.
+     * Added and changed participants, expenses and tags are found by the version they were last changed in,
+     * deleted ones by their tombstones. A version older than the last forgotten tombstone, or newer than the
+     * event, cannot be answered this way, so the client is asked to load a snapshot instead.
+     *
+     * @param eventId  the ID of the event.
+     * @param since    the version of the event the client has.
+     * @param sequence the number of the last change broadcast for the event before reading.
+     * @return the changes since the version.
+     * @throws NotFoundException if the event is not found.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public EventDeltaDTO getEventChanges(long eventId, long since, long sequence) {
+        long version = eventRepository.findVersionById(eventId)
+                .orElseThrow(() -> new NotFoundException("Event with id " + eventId + " is not found."));
+        if (since < tombstoneService.getPurgedVersion(eventId) || since > version) {
+            return new EventDeltaDTO(version, sequence, true, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        }
+
+        Map<Tombstone.Kind, List<Long>> deletedIds = tombstoneService.getDeletedSince(eventId, since).stream()
+                .collect(Collectors.groupingBy(Tombstone::getKind,
+                        Collectors.mapping(Tombstone::getEntityId, Collectors.toList())));
+        return new EventDeltaDTO(version, sequence, false,
+                participantService.getParticipantsChangedSince(eventId, since),
+                deletedIds.getOrDefault(Tombstone.Kind.PARTICIPANT, List.of()),
+                expenseService.getExpensesChangedSince(eventId, since),
+                deletedIds.getOrDefault(Tombstone.Kind.EXPENSE, List.of()),
+                tagService.getTagsChangedSince(eventId, since),
+                deletedIds.getOrDefault(Tombstone.Kind.TAG, List.of()));
+    }
+
     /**
      * Retrieves an event based on its invite code.
      *
@@ -98,6 +259,44 @@ public class EventServiceImplementation implements EventService {
         return convertToEventDTO(event);
     }
 
+    /**
+     * Retrieves the events with any of the given invite codes with one query for the events and one for
+     * the ids of their participants, however many invite codes there are.
+     *
+     * @param inviteCodes the invite codes of the events to be retrieved, at most {@value #MAX_PAGE_SIZE}.
+     * @return the events that exist, in the order of their invite codes. Unknown invite codes are left out.
+     * @throws InvalidPayloadException if the list is missing or too long.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventDTO> getEventsByInviteCodes(List<String> inviteCodes) {
+        if (inviteCodes == null || inviteCodes.size() > MAX_PAGE_SIZE) {
+            throw new InvalidPayloadException("Invalid invite codes");
+        }
+        if (inviteCodes.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Event> events = new HashMap<>();
+        for (Event event : eventRepository.findByInviteCodeIn(new HashSet<>(inviteCodes))) {
+            events.put(event.getInviteCode(), event);
+        }
+        Map<Long, Set<Long>> participantIds = new HashMap<>();
+        if (!events.isEmpty()) {
+            for (EventParticipant participant : eventRepository.findParticipantIds(events.values().stream().map(Event::getId).toList())) {
+                participantIds.computeIfAbsent(participant.eventId(), id -> new HashSet<>()).add(participant.participantId());
+            }
+        }
+
+        return inviteCodes.stream()
+                .distinct()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .map(event -> new EventDTO(event.getId(), event.getTitle(), event.getInviteCode(), event.getCreatedOn(),
+                        event.getUpdatedOn(), participantIds.getOrDefault(event.getId(), new HashSet<>())))
+                .toList();
+    }
+
     /**
      * Saves a new event to the repository.
      *
@@ -150,7 +349,9 @@ public class EventServiceImplementation implements EventService {
 
         Event updatedEvent = currentEvent.get();
         updatedEvent.setTitle(event.title());
+        updatedEvent.setUpdatedOn(Calendar.getInstance());
         eventRepository.save(updatedEvent);
+        eventRepository.incrementVersion(eventId);
 
         return convertToEventDTO(updatedEvent);
     }
@@ -195,6 +396,23 @@ public class EventServiceImplementation implements EventService {
         return s == null || s.trim().isEmpty();
     }
 
+    /**
+     * Reads the direction of a listing of events.
+     *
+     * @param direction asc, desc or null for the default direction of the sort key.
+     * @param sortKey   the property the events are sorted by.
+     * @return ascending for titles and descending for times by default, the given direction otherwise.
+     * @throws InvalidPayloadException if the direction is neither asc nor desc.
+     */
+    private static Sort.Direction toSortDirection(String direction, String sortKey) {
+        if (direction == null) {
+            return "title".equals(sortKey) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        }
+
+        return Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new InvalidPayloadException("Invalid sort direction"));
+    }
+
     /**
      * Generate a random code of 6 alphanumeric characters
      *
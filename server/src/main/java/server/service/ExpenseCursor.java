@@ -0,0 +1,84 @@
+package server.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Calendar;
+
+import server.exceptions.InvalidPayloadException;
+import commons.dtos.ExpenseDTO;
+
+/**
+ * The position of an expense in the newest-first order of an event's expenses, which a page of
+ * expenses hands out so that the next page can continue right after it.
+ * Clients only see it as an opaque string.
+ *
+ * @param date      The date of the expense, in milliseconds since the epoch.
+ * @param updatedOn The time of the last update of the expense, in milliseconds since the epoch.
+ * @param id        The ID of the expense.
+ */
+record ExpenseCursor(long date, long updatedOn, long id) {
+
+    /**
+     * Creates the cursor pointing at an expense.
+     *
+     * @param expense The expense.
+     * @return The cursor.
+     */
+    static ExpenseCursor of(ExpenseDTO expense) {
+        return new ExpenseCursor(expense.date().getTimeInMillis(), expense.updatedOn().getTimeInMillis(), expense.id());
+    }
+
+    /**
+     * Reads a cursor previously created by {@link #encode()}.
+     *
+     * @param cursor The encoded cursor.
+     * @return The cursor.
+     * @throws InvalidPayloadException if the string is not a valid cursor.
+     */
+    static ExpenseCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new InvalidPayloadException("Invalid cursor");
+            }
+
+            return new ExpenseCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPayloadException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Turns the cursor into the opaque string handed out to clients.
+     *
+     * @return The encoded cursor.
+     */
+    String encode() {
+        String value = date + ":" + updatedOn + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets the date as a calendar.
+     *
+     * @return The date of the expense.
+     */
+    Calendar dateCalendar() {
+        return toCalendar(date);
+    }
+
+    /**
+     * Gets the time of the last update as a calendar.
+     *
+     * @return The time of the last update of the expense.
+     */
+    Calendar updatedOnCalendar() {
+        return toCalendar(updatedOn);
+    }
+
+    private static Calendar toCalendar(long millis) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(millis);
+        return calendar;
+    }
+}
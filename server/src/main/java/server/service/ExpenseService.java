@@ -3,6 +3,7 @@ package server.service;
 import java.util.List;
 
 import commons.dtos.ExpenseDTO;
+import commons.dtos.ExpensePageDTO;
 
 public interface ExpenseService {
 
@@ -14,6 +15,28 @@ public interface ExpenseService {
      */
     List<ExpenseDTO> getAllExpenses(long eventId);
 
+    /**
+     * Retrieves the expenses of an event that were added or changed after a version of the event.
+     *
+     * @param eventId the ID of the event
+     * @param version the version after which to look
+     * @return the changed expenses
+     */
+    List<ExpenseDTO> getExpensesChangedSince(long eventId, long version);
+
+    /**
+     * Retrieves a page of the expenses of a given event, newest first.
+     *
+     * @param eventId       the ID of the event
+     * @param limit         the maximum number of expenses on the page
+     * @param cursor        the cursor returned with the previous page, or null for the first page
+     * @param payerId       if not null, only expenses paid by this participant are included
+     * @param returnerId    if not null, only expenses this participant needs to pay back are included
+     * @param participantId if not null, only expenses this participant paid or needs to pay back are included
+     * @return the expenses of the page and the cursor of the next page, which is null on the last page
+     */
+    ExpensePageDTO getExpensePage(long eventId, int limit, String cursor, Long payerId, Long returnerId, Long participantId);
+
     /**
      * Adds a new expense to the specified event.
      *
@@ -23,6 +46,16 @@ public interface ExpenseService {
      */
     ExpenseDTO addExpense(long eventId, ExpenseDTO expense);
 
+    /**
+     * Adds several new expenses to the specified event in one go.
+     * Either all expenses are added or, if any of them is invalid, none is.
+     *
+     * @param eventId  the ID of the event
+     * @param expenses the ExpenseDto objects representing the new expenses
+     * @return the ExpenseDto objects representing the added expenses, in the order they were given
+     */
+    List<ExpenseDTO> addExpenses(long eventId, List<ExpenseDTO> expenses);
+
     /**
      * Updates an existing expense.
      *
@@ -1,6 +1,7 @@
 package server.service;
 
 import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,44 +17,139 @@ import server.exceptions.NotFoundException;
 
 import server.database.EventRepository;
 import server.database.ExpenseRepository;
+import server.database.ExpenseReturner;
+import server.database.ExpenseRow;
+import server.database.ParticipantRepository;
+import server.database.TagRepository;
+import server.database.Tombstone;
 import commons.Event;
 import commons.Expense;
 import commons.Participant;
 import commons.Tag;
 import commons.dtos.ExpenseDTO;
+import commons.dtos.ExpensePageDTO;
 
 @Service
 public class ExpenseServiceImplementation implements ExpenseService {
 
+    /**
+     * The largest page of expenses a client can ask for.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final EventRepository eventRepository;
     private final ExpenseRepository expenseRepository;
+    private final ParticipantRepository participantRepository;
+    private final TagRepository tagRepository;
     private final EntityManager entityManager;
+    private final BalanceService balanceService;
+    private final TombstoneService tombstoneService;
 
     /**
      * Constructs a new ExpenseServiceImplementation.
      *
-     * @param eventRepository   The repository for events expenses.
-     * @param expenseRepository The repository for managing expenses.
-     * @param entityManager     The entity manager for managing entities.
+     * @param eventRepository       The repository for events expenses.
+     * @param expenseRepository     The repository for managing expenses.
+     * @param participantRepository The repository for participants, used to resolve batches of expenses.
+     * @param tagRepository         The repository for tags, used to resolve batches of expenses.
+     * @param entityManager         The entity manager for managing entities.
+     * @param balanceService        The service keeping the per-participant balances of events.
+     * @param tombstoneService      The service recording deleted expenses.
      */
-    public ExpenseServiceImplementation(EventRepository eventRepository, ExpenseRepository expenseRepository, EntityManager entityManager) {
+    public ExpenseServiceImplementation(EventRepository eventRepository, ExpenseRepository expenseRepository,
+                                        ParticipantRepository participantRepository, TagRepository tagRepository,
+                                        EntityManager entityManager, BalanceService balanceService,
+                                        TombstoneService tombstoneService) {
         this.eventRepository = eventRepository;
         this.expenseRepository = expenseRepository;
+        this.participantRepository = participantRepository;
+        this.tagRepository = tagRepository;
         this.entityManager = entityManager;
+        this.balanceService = balanceService;
+        this.tombstoneService = tombstoneService;
     }
 
     /**
-     * Retrieves all expenses associated with the specified event.
+     * Retrieves all expenses associated with the specified event, newest first.
+     * The expenses are read as rows and their returners with one more query, so the number of
+     * statements does not depend on the number of expenses of the event.
      *
      * @param eventId The ID of the event.
      * @return A List of all expenses associated with the event.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<ExpenseDTO> getAllExpenses(long eventId) {
-        return expenseRepository.findByEventId(eventId).stream()
-                .map(this::convertToExpenseDto)
-                .sorted(Comparator.comparing(ExpenseDTO::date)
-                        .thenComparing(ExpenseDTO::updatedOn).reversed()).toList();
+        List<ExpenseRow> rows = expenseRepository.findRowsByEventId(eventId);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Set<Long>> returnerIds = groupReturners(expenseRepository.findReturnersByEventId(eventId));
+        return rows.stream()
+                .map(row -> convertToExpenseDto(row, returnerIds.getOrDefault(row.id(), Set.of())))
+                .toList();
+    }
+
+    /**
+     * Retrieves the expenses of an event that were added or changed after a version of the event,
+     * with the same two queries as {@link #getAllExpenses(long)}.
+     *
+     * @param eventId The ID of the event.
+     * @param version The version after which to look.
+     * @return The changed expenses.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExpenseDTO> getExpensesChangedSince(long eventId, long version) {
+        List<ExpenseRow> rows = expenseRepository.findRowsChangedSince(eventId, version);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Set<Long>> returnerIds = groupReturners(expenseRepository.findReturnersChangedSince(eventId, version));
+        return rows.stream()
+                .map(row -> convertToExpenseDto(row, returnerIds.getOrDefault(row.id(), Set.of())))
+                .toList();
+    }
+
+    /**
+     * Retrieves a page of the expenses of an event, newest first.
+     * The database sorts and limits the expenses, and the returners of the page are fetched with a
+     * single query, so the cost of a page does not depend on the number of expenses of the event.
+     *
+     * @param eventId       The ID of the event.
+     * @param limit         The maximum number of expenses on the page, at most {@value #MAX_PAGE_SIZE}.
+     * @param cursor        The cursor returned with the previous page, or null for the first page.
+     * @param payerId       If not null, only expenses paid by this participant are included.
+     * @param returnerId    If not null, only expenses this participant needs to pay back are included.
+     * @param participantId If not null, only expenses this participant paid or needs to pay back are included.
+     * @return The expenses of the page and the cursor of the next page, which is null on the last page.
+     * @throws InvalidPayloadException if the limit is out of range or the cursor is malformed.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ExpensePageDTO getExpensePage(long eventId, int limit, String cursor, Long payerId, Long returnerId,
+                                         Long participantId) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidPayloadException("Invalid page size");
+        }
+
+        ExpenseCursor after = cursor == null || cursor.isEmpty() ? null : ExpenseCursor.decode(cursor);
+        List<ExpenseRow> rows = expenseRepository.findPage(eventId, payerId, returnerId, participantId,
+                after == null ? null : after.dateCalendar(), after == null ? null : after.updatedOnCalendar(),
+                after == null ? null : after.id(), Limit.of(limit + 1));
+
+        boolean hasNext = rows.size() > limit;
+        List<ExpenseRow> page = hasNext ? rows.subList(0, limit) : rows;
+        Map<Long, Set<Long>> returnerIds = page.isEmpty() ? Map.of()
+                : groupReturners(expenseRepository.findReturners(page.stream().map(ExpenseRow::id).toList()));
+
+        List<ExpenseDTO> expenseDtos = page.stream()
+                .map(row -> convertToExpenseDto(row, returnerIds.getOrDefault(row.id(), Set.of())))
+                .toList();
+        String nextCursor = hasNext ? ExpenseCursor.of(expenseDtos.get(expenseDtos.size() - 1)).encode() : null;
+        return new ExpensePageDTO(expenseDtos, nextCursor);
     }
 
     /**
@@ -65,6 +161,7 @@ public class ExpenseServiceImplementation implements ExpenseService {
      * @throws InvalidPayloadException if the expense data is invalid.
      */
     @Override
+    @Transactional
     public ExpenseDTO addExpense(long eventId, ExpenseDTO expenseDto) {
         if (expenseDto.amountInEUR().compareTo(BigDecimal.ZERO) <= 0 ||
                 expenseDto.date().compareTo(GregorianCalendar.from(LocalDate.now().atStartOfDay(ZoneOffset.UTC))) > 0 ||
@@ -90,11 +187,80 @@ public class ExpenseServiceImplementation implements ExpenseService {
         Event event = eventRepository.findById(eventId).get();
         event.setUpdatedOn(Calendar.getInstance());
         eventRepository.save(event);
+        expense.setChangedVersion(eventRepository.nextVersion(eventId));
 
+        balanceService.applyExpense(eventId, expense);
         Expense savedExpense = expenseRepository.save(expense);
         return convertToExpenseDto(savedExpense);
     }
 
+    /**
+     * Adds several new expenses to the specified event in one go.
+     * All expenses are validated before anything is written. Their payers, returners and tags are
+     * resolved with one query per table, and the expenses are saved together so that Hibernate can
+     * batch the inserts. The event is touched and its balances are updated once for the whole batch.
+     *
+     * @param eventId     The ID of the event.
+     * @param expenseDtos The ExpenseDto objects representing the new expenses.
+     * @return The ExpenseDto objects representing the added expenses, in the order they were given.
+     * @throws NotFoundException       if the event is not found.
+     * @throws InvalidPayloadException if any of the expenses is invalid or refers to a participant or tag
+     *                                 that is not part of the event.
+     */
+    @Override
+    @Transactional
+    public List<ExpenseDTO> addExpenses(long eventId, List<ExpenseDTO> expenseDtos) {
+        Calendar today = GregorianCalendar.from(LocalDate.now().atStartOfDay(ZoneOffset.UTC));
+        if (expenseDtos == null || expenseDtos.isEmpty()
+                || !expenseDtos.stream().allMatch(expenseDto -> isValidNewExpense(expenseDto, today))) {
+            throw new InvalidPayloadException("Invalid expense data");
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new NotFoundException("Event not found"));
+
+        Set<Long> participantIds = new HashSet<>();
+        Set<Long> tagIds = new HashSet<>();
+        for (ExpenseDTO expenseDto : expenseDtos) {
+            participantIds.add(expenseDto.payerId());
+            participantIds.addAll(expenseDto.returnerIds());
+            if (expenseDto.tagId() != 0) {
+                tagIds.add(expenseDto.tagId());
+            }
+        }
+
+        Map<Long, Participant> participants = participantRepository.findByEventIdAndIdIn(eventId, participantIds).stream()
+                .collect(Collectors.toMap(Participant::getId, participant -> participant));
+        Map<Long, Tag> tags = tagIds.isEmpty() ? Map.of() : tagRepository.findByEventIdAndIdIn(eventId, tagIds).stream()
+                .collect(Collectors.toMap(Tag::getId, tag -> tag));
+        if (participants.size() != participantIds.size() || tags.size() != tagIds.size()) {
+            throw new InvalidPayloadException("Unknown participant or tag");
+        }
+
+        List<Expense> expenses = new ArrayList<>(expenseDtos.size());
+        for (ExpenseDTO expenseDto : expenseDtos) {
+            Expense expense = new Expense(participants.get(expenseDto.payerId()),
+                    expenseDto.amountInEUR().setScale(8, RoundingMode.HALF_UP), expenseDto.currency(),
+                    expenseDto.date(), expenseDto.purpose(), new HashSet<>(), null, expenseDto.isDebt());
+            expense.setEvent(event);
+            expense.setReturners(expenseDto.returnerIds().stream()
+                    .map(participants::get)
+                    .collect(Collectors.toSet()));
+            expense.setTag(tags.get(expenseDto.tagId()));
+            expenses.add(expense);
+        }
+
+        event.setUpdatedOn(Calendar.getInstance());
+        eventRepository.save(event);
+        long version = eventRepository.nextVersion(eventId);
+        expenses.forEach(expense -> expense.setChangedVersion(version));
+
+        balanceService.applyExpenses(eventId, expenses);
+        return expenseRepository.saveAll(expenses).stream()
+                .map(this::convertToExpenseDto)
+                .toList();
+    }
+
     /**
      * Updates an existing expense.
      *
@@ -117,6 +283,13 @@ public class ExpenseServiceImplementation implements ExpenseService {
             throw new InvalidPayloadException("Invalid expense data");
         }
 
+        // bumping the version locks the event row first, like addExpense does, so ledger changes never interleave
+        Event event = eventRepository.findById(eventId).get();
+        event.setUpdatedOn(Calendar.getInstance());
+        eventRepository.save(event);
+        long version = eventRepository.nextVersion(eventId);
+
+        balanceService.revertExpense(eventId, existingExpense);
         existingExpense.setAmountInEUR(expenseDto.amountInEUR().setScale(8, RoundingMode.HALF_UP));
         existingExpense.setCurrency(expenseDto.currency());
         existingExpense.setPurpose(expenseDto.purpose());
@@ -138,10 +311,9 @@ public class ExpenseServiceImplementation implements ExpenseService {
             existingExpense.setTag(null);
         }
 
-        Event event = eventRepository.findById(eventId).get();
-        event.setUpdatedOn(Calendar.getInstance());
-        eventRepository.save(event);
+        existingExpense.setChangedVersion(version);
 
+        balanceService.applyExpense(eventId, existingExpense);
         Expense updatedExpense = expenseRepository.saveAndFlush(existingExpense);
         return convertToExpenseDto(updatedExpense);
     }
@@ -151,26 +323,27 @@ public class ExpenseServiceImplementation implements ExpenseService {
      *
      * @param eventId   The ID of the event to which the expense belongs
      * @param expenseId The ID of the expense to be deleted.
-     * @throws NotFoundException if the expense is not found.
+     * @throws NotFoundException if the expense is not found in the event.
      */
     @Override
+    @Transactional
     public void deleteExpense(long eventId, long expenseId) {
-        if (!expenseRepository.existsById(expenseId)) {
-            throw new NotFoundException("Expense not found");
-        }
+        Expense expense = expenseRepository.findByIdAndEventId(expenseId, eventId)
+                .orElseThrow(() -> new NotFoundException("Expense not found"));
+        Event event = eventRepository.findById(eventId).get();
+        event.setUpdatedOn(Calendar.getInstance());
+        eventRepository.save(event);
+        long version = eventRepository.nextVersion(eventId);
 
-        Expense expense = expenseRepository.findById(expenseId).get();
+        balanceService.revertExpense(eventId, expense);
         expense.setReturners(new HashSet<>());
         expense.setPayer(null);
         expense.setTag(null);
         expense.setEvent(null);
 
-        Event event = eventRepository.findById(eventId).get();
-        event.setUpdatedOn(Calendar.getInstance());
-        eventRepository.save(event);
-
         expenseRepository.saveAndFlush(expense);
         expenseRepository.deleteById(expenseId);
+        tombstoneService.recordDeletion(eventId, Tombstone.Kind.EXPENSE, expenseId, version);
     }
 
     /**
@@ -182,10 +355,11 @@ public class ExpenseServiceImplementation implements ExpenseService {
      * @throws NotFoundException if the expense is not found.
      */
     @Override
+    @Transactional(readOnly = true)
     public ExpenseDTO getExpense(long eventId, long expenseId) {
-        Expense expense = expenseRepository.findByIdAndEventId(expenseId, eventId)
+        ExpenseRow row = expenseRepository.findRowByIdAndEventId(expenseId, eventId)
                 .orElseThrow(() -> new NotFoundException("Expense not found"));
-        return convertToExpenseDto(expense);
+        return convertToExpenseDto(row, new HashSet<>(expenseRepository.findReturnerIds(expenseId)));
     }
 
     /**
@@ -198,6 +372,21 @@ public class ExpenseServiceImplementation implements ExpenseService {
         return s == null || s.isEmpty();
     }
 
+    /**
+     * Checks if an expense that is about to be created has a positive amount, a date that is not
+     * in the future, a currency, a purpose and a set of returners.
+     *
+     * @param expenseDto The expense to be checked.
+     * @param today      The start of the current day.
+     * @return true if the expense can be created, false otherwise.
+     */
+    private static boolean isValidNewExpense(ExpenseDTO expenseDto, Calendar today) {
+        return expenseDto != null && expenseDto.amountInEUR() != null && expenseDto.date() != null
+                && expenseDto.returnerIds() != null
+                && expenseDto.amountInEUR().compareTo(BigDecimal.ZERO) > 0 && expenseDto.date().compareTo(today) <= 0
+                && !isNullOrEmpty(expenseDto.currency()) && !isNullOrEmpty(expenseDto.purpose());
+    }
+
     private ExpenseDTO convertToExpenseDto(Expense expense) {
         long payerId;
         if (expense.getPayer() != null) {
@@ -205,12 +394,13 @@ public class ExpenseServiceImplementation implements ExpenseService {
         } else {
             throw new InvalidPayloadException("Something went wrong");
         }
+
+        long tagId = expense.getTag() != null ? expense.getTag().getId() : 0;
+
         Set<Long> returnerIds = expense.getReturners().stream()
                 .map(Participant::getId)
                 .collect(Collectors.toSet());
 
-        long tagId = expense.getTag() != null ? expense.getTag().getId() : 0;
-
         return new ExpenseDTO(
                 expense.getAmountInEUR(),
                 expense.getCurrency(),
@@ -225,4 +415,46 @@ public class ExpenseServiceImplementation implements ExpenseService {
                 expense.isDebt()
         );
     }
+
+    /**
+     * Converts the columns of an expense whose returners were fetched separately.
+     *
+     * @param row         The columns of the expense.
+     * @param returnerIds The IDs of the participants who need to pay back the expense.
+     * @return The ExpenseDto object representing the expense.
+     */
+    private static ExpenseDTO convertToExpenseDto(ExpenseRow row, Set<Long> returnerIds) {
+        if (row.payerId() == null) {
+            throw new InvalidPayloadException("Something went wrong");
+        }
+
+        return new ExpenseDTO(
+                row.amountInEUR(),
+                row.currency(),
+                row.date(),
+                row.purpose(),
+                row.updatedOn(),
+                row.createdOn(),
+                row.id(),
+                row.payerId(),
+                returnerIds,
+                row.tagId() != null ? row.tagId() : 0,
+                row.isDebt()
+        );
+    }
+
+    /**
+     * Groups rows of the expense_returners table by expense.
+     *
+     * @param returners The rows.
+     * @return The IDs of the returners, by the ID of their expense.
+     */
+    private static Map<Long, Set<Long>> groupReturners(List<ExpenseReturner> returners) {
+        Map<Long, Set<Long>> returnerIds = new HashMap<>();
+        for (ExpenseReturner returner : returners) {
+            returnerIds.computeIfAbsent(returner.expenseId(), id -> new HashSet<>()).add(returner.participantId());
+        }
+
+        return returnerIds;
+    }
 }
@@ -0,0 +1,177 @@
+package server.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Computes balances on primitive longs holding amounts in minor units of 10^-8 EUR,
+ * the scale amounts are stored with. Balances are kept in an open-addressing map keyed by participant id,
+ * and BigDecimal is only used when converting in and out.
+ */
+public class FixedPointBalanceEngine {
+
+    public static final int SCALE = 8;
+
+    private static final long FREE = Long.MIN_VALUE;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    /**
+     * Constructs an empty engine.
+     */
+    public FixedPointBalanceEngine() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty engine sized for a number of participants.
+     *
+     * @param expectedParticipants The number of participants expected.
+     */
+    public FixedPointBalanceEngine(int expectedParticipants) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedParticipants * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, FREE);
+    }
+
+    /**
+     * Converts an amount in EUR to minor units.
+     *
+     * @param amount The amount in EUR.
+     * @return The amount in minor units.
+     */
+    public static long toUnits(BigDecimal amount) {
+        return amount.scaleByPowerOfTen(SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Converts an amount in minor units to EUR.
+     *
+     * @param units The amount in minor units.
+     * @return The amount in EUR.
+     */
+    public static BigDecimal fromUnits(long units) {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    /**
+     * Adds (sign 1) or removes (sign -1) an expense: the payer is owed the full amount and the returners owe it
+     * in equal shares. The units that do not divide evenly go one each to the returners with the lowest ids,
+     * so the shares always add up to the amount exactly.
+     *
+     * @param payerId     The id of the payer.
+     * @param amount      The amount in minor units.
+     * @param returnerIds The ids of the returners.
+     * @param sign        1 to add the expense, -1 to remove it.
+     */
+    public void applyExpense(long payerId, long amount, long[] returnerIds, int sign) {
+        add(payerId, sign * amount);
+        if (returnerIds.length == 0) {
+            return;
+        }
+
+        long[] sorted = returnerIds.clone();
+        Arrays.sort(sorted);
+        long share = amount / sorted.length;
+        long remainder = amount % sorted.length;
+        for (int i = 0; i < sorted.length; i++) {
+            add(sorted[i], -sign * (i < remainder ? share + 1 : share));
+        }
+    }
+
+    /**
+     * Adds an amount to the balance of a participant.
+     *
+     * @param participantId The id of the participant.
+     * @param delta         The amount in minor units.
+     */
+    public void add(long participantId, long delta) {
+        int slot = find(participantId);
+        if (keys[slot] == FREE) {
+            keys[slot] = participantId;
+            values[slot] = delta;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+        } else {
+            values[slot] += delta;
+        }
+    }
+
+    /**
+     * Gets the balance of a participant.
+     *
+     * @param participantId The id of the participant.
+     * @return The balance in minor units, 0 if the participant has none.
+     */
+    public long get(long participantId) {
+        int slot = find(participantId);
+        return keys[slot] == FREE ? 0 : values[slot];
+    }
+
+    /**
+     * Gets the number of participants with a balance.
+     *
+     * @return The number of participants.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Converts the balances to EUR.
+     *
+     * @return A map with keys of participants' Ids and values of how much each owes to/is owed by the group.
+     */
+    public Map<Long, BigDecimal> toOwedAmounts() {
+        Map<Long, BigDecimal> owedAmounts = new HashMap<>();
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE) {
+                owedAmounts.put(keys[slot], fromUnits(values[slot]));
+            }
+        }
+
+        return owedAmounts;
+    }
+
+    /**
+     * Finds the slot holding a participant, or the free slot where it would go.
+     *
+     * @param participantId The id of the participant.
+     * @return The slot.
+     */
+    private int find(long participantId) {
+        int mask = keys.length - 1;
+        int slot = (int) ((participantId * GOLDEN_RATIO) >>> 32) & mask;
+        while (keys[slot] != FREE && keys[slot] != participantId) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Doubles the capacity of the map.
+     */
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldValues.length * 2];
+        Arrays.fill(keys, FREE);
+        size = 0;
+
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != FREE) {
+                add(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+}
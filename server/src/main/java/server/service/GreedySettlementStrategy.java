@@ -0,0 +1,61 @@
+package server.service;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import commons.Debt;
+
+@Component
+public class GreedySettlementStrategy implements SettlementStrategy {
+
+    public static final String NAME = "greedy";
+
+    /**
+     * Gets the name used to select this strategy.
+     *
+     * @return The name of the strategy.
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Matches debtors and creditors in map order, moving on as soon as one of them is settled.
+     * Kept for comparison with the other strategies.
+     *
+     * @param owedAmounts A map with keys of participants' Ids and values of how much each owes to/is owed by the group.
+     * @return The debts that settle the group.
+     */
+    @Override
+    public List<Debt> settle(Map<Long, BigDecimal> owedAmounts) {
+        Map<Long, BigDecimal> oweToGroup = DebtServiceImplementation.selectWhoOweToGroup(owedAmounts);
+        Map<Long, BigDecimal> owedByGroup = DebtServiceImplementation.selectWhoAreOwedByGroup(owedAmounts);
+
+        if (oweToGroup.isEmpty() || owedByGroup.isEmpty()) {
+            return List.of();
+        }
+
+        List<Debt> debts = new ArrayList<>();
+
+        Iterator<Map.Entry<Long, BigDecimal>> oweIt = oweToGroup.entrySet().iterator();
+        Iterator<Map.Entry<Long, BigDecimal>> owedIt = owedByGroup.entrySet().iterator();
+        Map.Entry<Long, BigDecimal> oweEntry = oweIt.next();
+        Map.Entry<Long, BigDecimal> owedEntry = owedIt.next();
+
+        while ((oweEntry.getValue().compareTo(BigDecimal.ZERO) != 0 || oweIt.hasNext()) &&
+                (owedEntry.getValue().compareTo(BigDecimal.ZERO) != 0 || owedIt.hasNext())) {
+            if (oweEntry.getValue().compareTo(BigDecimal.ZERO) == 0) oweEntry = oweIt.next();
+            if (owedEntry.getValue().compareTo(BigDecimal.ZERO) == 0) owedEntry = owedIt.next();
+
+            BigDecimal amount = oweEntry.getValue().min(owedEntry.getValue());
+            debts.add(new Debt(oweEntry.getKey(), owedEntry.getKey(), amount));
+            oweEntry.setValue(oweEntry.getValue().subtract(amount));
+            owedEntry.setValue(owedEntry.getValue().subtract(amount));
+        }
+
+        return debts;
+    }
+}
@@ -0,0 +1,89 @@
+package server.service;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import commons.Debt;
+
+@Component
+public class HeapSettlementStrategy implements SettlementStrategy {
+
+    public static final String NAME = "heap";
+
+    private static final Comparator<Party> LARGEST_FIRST =
+            Comparator.comparing(Party::amount).reversed().thenComparingLong(Party::id);
+
+    /**
+     * Gets the name used to select this strategy.
+     *
+     * @return The name of the strategy.
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Repeatedly lets the largest debtor pay the largest creditor, which takes O(n log n) time.
+     *
+     * @param owedAmounts A map with keys of participants' Ids and values of how much each owes to/is owed by the group.
+     * @return The debts that settle the group.
+     */
+    @Override
+    public List<Debt> settle(Map<Long, BigDecimal> owedAmounts) {
+        return settleByLargest(owedAmounts.entrySet());
+    }
+
+    /**
+     * Settles a group by always matching the largest remaining debtor with the largest remaining creditor.
+     * Ties are broken by participant id, so the result does not depend on the iteration order of the input.
+     *
+     * @param balances The balances of the group.
+     * @return The debts that settle the group.
+     */
+    static List<Debt> settleByLargest(Collection<Map.Entry<Long, BigDecimal>> balances) {
+        PriorityQueue<Party> debtors = new PriorityQueue<>(LARGEST_FIRST);
+        PriorityQueue<Party> creditors = new PriorityQueue<>(LARGEST_FIRST);
+
+        for (Map.Entry<Long, BigDecimal> balance : balances) {
+            if (balance.getValue().compareTo(TOLERANCE) > 0) {
+                creditors.add(new Party(balance.getKey(), balance.getValue()));
+            } else if (balance.getValue().negate().compareTo(TOLERANCE) > 0) {
+                debtors.add(new Party(balance.getKey(), balance.getValue().negate()));
+            }
+        }
+
+        List<Debt> debts = new ArrayList<>();
+        while (!debtors.isEmpty() && !creditors.isEmpty()) {
+            Party debtor = debtors.poll();
+            Party creditor = creditors.poll();
+
+            BigDecimal amount = debtor.amount().min(creditor.amount());
+            debts.add(new Debt(debtor.id(), creditor.id(), amount));
+
+            offerRemainder(debtors, debtor, amount);
+            offerRemainder(creditors, creditor, amount);
+        }
+
+        return debts;
+    }
+
+    /**
+     * Puts a party back in its queue if it is not settled yet.
+     *
+     * @param queue  The queue of the party.
+     * @param party  The party.
+     * @param amount The amount that was just transferred by or to the party.
+     */
+    private static void offerRemainder(PriorityQueue<Party> queue, Party party, BigDecimal amount) {
+        BigDecimal remainder = party.amount().subtract(amount);
+        if (remainder.compareTo(TOLERANCE) > 0) {
+            queue.add(new Party(party.id(), remainder));
+        }
+    }
+
+    private record Party(long id, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,158 @@
+package server.service;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import commons.Debt;
+
+@Component
+public class MinimumTransferSettlementStrategy implements SettlementStrategy {
+
+    public static final String NAME = "minimum-transfer";
+
+    /**
+     * Largest number of unsettled participants solved exactly; the DP needs 2^n states.
+     */
+    static final int MAX_EXACT_PARTICIPANTS = 18;
+
+    private static final int SCALE = 8;
+    private static final long TOLERANCE_UNITS = TOLERANCE.movePointRight(SCALE).longValueExact();
+
+    /**
+     * Gets the name used to select this strategy.
+     *
+     * @return The name of the strategy.
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Computes a settlement with the fewest possible transfers.
+     * A group of k participants whose balances sum to zero needs k - 1 transfers, so the minimum is reached by
+     * splitting everyone into as many zero-sum groups as possible. Groups larger than
+     * {@link #MAX_EXACT_PARTICIPANTS} fall back to the largest-debtor/largest-creditor heuristic.
+     *
+     * @param owedAmounts A map with keys of participants' Ids and values of how much each owes to/is owed by the group.
+     * @return The debts that settle the group.
+     */
+    @Override
+    public List<Debt> settle(Map<Long, BigDecimal> owedAmounts) {
+        List<Map.Entry<Long, BigDecimal>> open = owedAmounts.entrySet().stream()
+                .filter(entry -> entry.getValue().abs().compareTo(TOLERANCE) > 0)
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+
+        if (open.size() > MAX_EXACT_PARTICIPANTS) {
+            return HeapSettlementStrategy.settleByLargest(open);
+        }
+
+        int full = (1 << open.size()) - 1;
+        long[] sums = getSubsetSums(open);
+        int[] groups = getMaxGroups(sums, full);
+
+        List<Debt> debts = new ArrayList<>();
+        int mask = full;
+        int groupMask = full;
+        while (mask != 0) {
+            mask ^= pickRemoval(sums, groups, mask, full);
+            if (mask == 0 || isClosed(sums, mask, full)) {
+                debts.addAll(HeapSettlementStrategy.settleByLargest(select(open, groupMask ^ mask)));
+                groupMask = mask;
+            }
+        }
+
+        return debts;
+    }
+
+    /**
+     * Computes the sum of the balances of every subset, in minor units.
+     *
+     * @param open The unsettled balances.
+     * @return The sums, indexed by subset bitmask.
+     */
+    private static long[] getSubsetSums(List<Map.Entry<Long, BigDecimal>> open) {
+        long[] sums = new long[1 << open.size()];
+        for (int mask = 1; mask < sums.length; mask++) {
+            int lowest = Integer.numberOfTrailingZeros(mask);
+            long units = open.get(lowest).getValue().movePointRight(SCALE).longValue();
+            sums[mask] = sums[mask & (mask - 1)] + units;
+        }
+
+        return sums;
+    }
+
+    /**
+     * Computes, for every subset, the largest number of disjoint zero-sum groups it can be split into.
+     * Removing elements one at a time, a subset scores one extra group whenever it sums to zero itself.
+     *
+     * @param sums The subset sums.
+     * @param full The bitmask of all participants.
+     * @return The number of groups, indexed by subset bitmask.
+     */
+    private static int[] getMaxGroups(long[] sums, int full) {
+        int[] groups = new int[sums.length];
+        for (int mask = 1; mask < groups.length; mask++) {
+            int best = 0;
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                best = Math.max(best, groups[mask ^ Integer.lowestOneBit(rest)]);
+            }
+
+            groups[mask] = best + (isClosed(sums, mask, full) ? 1 : 0);
+        }
+
+        return groups;
+    }
+
+    /**
+     * Finds an element whose removal keeps the optimal number of groups.
+     *
+     * @param sums   The subset sums.
+     * @param groups The number of groups per subset.
+     * @param mask   The current subset.
+     * @param full   The bitmask of all participants.
+     * @return A bitmask with the element to remove.
+     */
+    private static int pickRemoval(long[] sums, int[] groups, int mask, int full) {
+        int target = groups[mask] - (isClosed(sums, mask, full) ? 1 : 0);
+        for (int rest = mask; rest != 0; rest &= rest - 1) {
+            int bit = Integer.lowestOneBit(rest);
+            if (groups[mask ^ bit] == target) {
+                return bit;
+            }
+        }
+
+        return Integer.lowestOneBit(mask);
+    }
+
+    /**
+     * Checks whether a subset can be settled on its own. The whole group always can, whatever rounding is left.
+     *
+     * @param sums The subset sums.
+     * @param mask The subset.
+     * @param full The bitmask of all participants.
+     * @return true iff the subset sums to zero.
+     */
+    private static boolean isClosed(long[] sums, int mask, int full) {
+        return mask == full || Math.abs(sums[mask]) <= TOLERANCE_UNITS;
+    }
+
+    /**
+     * Selects the balances of a subset.
+     *
+     * @param open The unsettled balances.
+     * @param mask The subset.
+     * @return The balances in the subset.
+     */
+    private static List<Map.Entry<Long, BigDecimal>> select(List<Map.Entry<Long, BigDecimal>> open, int mask) {
+        List<Map.Entry<Long, BigDecimal>> selected = new ArrayList<>();
+        for (int rest = mask; rest != 0; rest &= rest - 1) {
+            selected.add(open.get(Integer.numberOfTrailingZeros(rest)));
+        }
+
+        return selected;
+    }
+}
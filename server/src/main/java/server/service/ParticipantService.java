@@ -14,6 +14,15 @@ public interface ParticipantService {
      */
     List<ParticipantDTO> getAllParticipants(long eventId);
 
+    /**
+     * Retrieves the participants of an event that were added or changed after a version of the event.
+     *
+     * @param eventId the ID of the event
+     * @param version the version after which to look
+     * @return a list of ParticipantDto representing the changed participants
+     */
+    List<ParticipantDTO> getParticipantsChangedSince(long eventId, long version);
+
     /**
      * Adds a new participant to the specified event.
      *
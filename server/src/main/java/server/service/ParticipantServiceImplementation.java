@@ -2,6 +2,7 @@ package server.service;
 
 import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Calendar;
 import java.util.List;
@@ -11,6 +12,7 @@ import server.exceptions.NotFoundException;
 
 import server.database.EventRepository;
 import server.database.ParticipantRepository;
+import server.database.Tombstone;
 import commons.Event;
 import commons.Participant;
 import commons.dtos.ParticipantDTO;
@@ -21,18 +23,22 @@ public class ParticipantServiceImplementation implements ParticipantService {
     private final EventRepository eventRepository;
     private final ParticipantRepository participantRepository;
     private final EntityManager entityManager;
+    private final TombstoneService tombstoneService;
 
     /**
      * Constructs an ParticipantController instance
      *
-     * @param eventRepository EventRepository instance
-     * @param repo            ParticipantRepository instance
-     * @param entityManager   EntityManager instance
+     * @param eventRepository  EventRepository instance
+     * @param repo             ParticipantRepository instance
+     * @param entityManager    EntityManager instance
+     * @param tombstoneService TombstoneService instance, which records deleted participants
      */
-    public ParticipantServiceImplementation(EventRepository eventRepository, ParticipantRepository repo, EntityManager entityManager) {
+    public ParticipantServiceImplementation(EventRepository eventRepository, ParticipantRepository repo, EntityManager entityManager,
+                                            TombstoneService tombstoneService) {
         this.eventRepository = eventRepository;
         this.participantRepository = repo;
         this.entityManager = entityManager;
+        this.tombstoneService = tombstoneService;
     }
 
     /**
@@ -46,6 +52,18 @@ public class ParticipantServiceImplementation implements ParticipantService {
         return participantRepository.findByEventId(eventId);
     }
 
+    /**
+     * Gets the participants of an Event that were added or changed after a version of the Event
+     *
+     * @param eventId of the event
+     * @param version after which to look
+     * @return a list of the changed participants
+     */
+    @Override
+    public List<ParticipantDTO> getParticipantsChangedSince(long eventId, long version) {
+        return participantRepository.findByEventIdAndChangedVersionGreaterThan(eventId, version);
+    }
+
     /**
      * Creates a participant in an Event
      *
@@ -54,6 +72,7 @@ public class ParticipantServiceImplementation implements ParticipantService {
      * @return Created participant.
      */
     @Override
+    @Transactional
     public ParticipantDTO addParticipant(long eventId, ParticipantDTO participantDto) {
         if (isNullOrEmpty(participantDto.name()) ||
                 (!isNullOrEmpty(participantDto.email()) && !validEmail(participantDto.email())) ||
@@ -65,6 +84,7 @@ public class ParticipantServiceImplementation implements ParticipantService {
         Event eventReference = entityManager.find(Event.class, eventId);
         Participant participant = new Participant(participantDto.name(), participantDto.email(), participantDto.iban(), participantDto.bic());
         participant.setEvent(eventReference);
+        participant.setChangedVersion(eventRepository.nextVersion(eventId));
 
         Participant saved = participantRepository.save(participant);
         Event event = eventRepository.findById(eventId).get();
@@ -82,6 +102,7 @@ public class ParticipantServiceImplementation implements ParticipantService {
      * @return the updated participant
      */
     @Override
+    @Transactional
     public ParticipantDTO updateParticipant(long participantId, ParticipantDTO participantDto) {
         Participant oldParticipant = participantRepository.findById(participantId)
                 .orElseThrow(() -> new NotFoundException("Participant with id " + participantId + " not found."));
@@ -97,9 +118,11 @@ public class ParticipantServiceImplementation implements ParticipantService {
         oldParticipant.setEmail(participantDto.email());
         oldParticipant.setIban(participantDto.iban());
         oldParticipant.setBic(participantDto.bic());
+        long eventId = oldParticipant.getEvent().getId();
+        oldParticipant.setChangedVersion(eventRepository.nextVersion(eventId));
 
         Participant updatedParticipant = participantRepository.save(oldParticipant);
-        Event event = eventRepository.findById(oldParticipant.getEvent().getId()).get();
+        Event event = eventRepository.findById(eventId).get();
         event.setUpdatedOn(Calendar.getInstance());
         eventRepository.save(event);
 
@@ -130,6 +153,7 @@ public class ParticipantServiceImplementation implements ParticipantService {
      * @throws NotFoundException If the participant with the given ID is not found.
      */
     @Override
+    @Transactional
     public void deleteParticipant(long eventId, long participantId) {
         if (!participantRepository.existsById(participantId)) {
             throw new NotFoundException("Participant not found");
@@ -140,6 +164,8 @@ public class ParticipantServiceImplementation implements ParticipantService {
         Event event = eventRepository.findById(eventId).get();
         event.setUpdatedOn(Calendar.getInstance());
         eventRepository.save(event);
+        long version = eventRepository.nextVersion(eventId);
+        tombstoneService.recordDeletion(eventId, Tombstone.Kind.PARTICIPANT, participantId, version);
     }
 
 
@@ -2,6 +2,9 @@ package server.service;
 
 import java.util.function.Consumer;
 
+import server.exceptions.ServiceUnavailableException;
+import commons.dtos.PollingStatsDTO;
+
 public interface PollingService<T> {
 
     /**
@@ -9,6 +12,7 @@ public interface PollingService<T> {
      *
      * @param listener Listener.
      * @return Key of the added listener.
+     * @throws ServiceUnavailableException if the maximum number of listeners is reached.
      */
     Object addListener(Consumer<T> listener);
 
@@ -20,9 +24,30 @@ public interface PollingService<T> {
     void removeListener(Object key);
 
     /**
-     * Sends data to the known listeners.
+     * Checks whether anyone is listening.
+     *
+     * @return true iff there is at least one listener.
+     */
+    boolean hasListeners();
+
+    /**
+     * Sends data to the known listeners. This does not wait for the listeners to be called.
      *
      * @param data Data.
      */
     void sendToListeners(T data);
+
+    /**
+     * Gets how long a listener may wait for data at most.
+     *
+     * @return The timeout in milliseconds.
+     */
+    long getTimeoutMillis();
+
+    /**
+     * Gets the number of listeners and how long sending data to them takes.
+     *
+     * @return The statistics.
+     */
+    PollingStatsDTO getStats();
 }
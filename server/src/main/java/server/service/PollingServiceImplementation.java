@@ -1,24 +1,72 @@
 package server.service;
 
-import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
-@Service
+import server.exceptions.ServiceUnavailableException;
+import commons.dtos.PollingStatsDTO;
+
+/**
+ * Keeps the listeners of long-polling requests. Listeners are added and removed by request threads while data is
+ * sent to them, so they are kept in a concurrent map. The data is sent on a separate thread, so a request that
+ * changes something does not wait for all waiting clients to be answered.
+ *
+ * @param <T> The type of the data sent to the listeners.
+ */
 public class PollingServiceImplementation<T> implements PollingService<T> {
 
-    private final Map<Object, Consumer<T>> listeners = new HashMap<>();
+    public static final int DEFAULT_MAX_LISTENERS = 10_000;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 5_000;
+
+    private final Logger logger = LoggerFactory.getLogger(PollingServiceImplementation.class);
+
+    private final Map<Object, Consumer<T>> listeners = new ConcurrentHashMap<>();
+    private final AtomicInteger listenerCount = new AtomicInteger();
+    private final int maxListeners;
+    private final long timeoutMillis;
+    private final Executor fanOutExecutor;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder fanOuts = new LongAdder();
+    private final LongAdder fanOutNanos = new LongAdder();
+    private final AtomicLong maxFanOutNanos = new AtomicLong();
+
+    /**
+     * Constructs a PollingServiceImplementation instance.
+     *
+     * @param maxListeners   The maximum number of listeners, further listeners are refused.
+     * @param timeoutMillis  How long a listener may wait for data at most.
+     * @param fanOutExecutor The executor that sends data to the listeners. A single thread keeps the data in order.
+     */
+    public PollingServiceImplementation(int maxListeners, long timeoutMillis, Executor fanOutExecutor) {
+        this.maxListeners = maxListeners;
+        this.timeoutMillis = timeoutMillis;
+        this.fanOutExecutor = fanOutExecutor;
+    }
 
     /**
      * Adds a listener to the known listeners.
      *
      * @param listener Listener.
      * @return Key of the added listener.
+     * @throws ServiceUnavailableException if the maximum number of listeners is reached.
      */
     @Override
     public Object addListener(Consumer<T> listener) {
+        if (listenerCount.incrementAndGet() > maxListeners) {
+            listenerCount.decrementAndGet();
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many listeners");
+        }
+
         var key = new Object(); // Objects are never equal to each other!
         listeners.put(key, listener);
         return key;
@@ -31,16 +79,64 @@ public class PollingServiceImplementation<T> implements PollingService<T> {
      */
     @Override
     public void removeListener(Object key) {
-        listeners.remove(key);
+        if (listeners.remove(key) != null) {
+            listenerCount.decrementAndGet();
+        }
     }
 
     /**
-     * Sends data to the known listeners.
+     * Checks whether anyone is listening.
+     *
+     * @return true iff there is at least one listener.
+     */
+    @Override
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Sends data to the known listeners on the fan-out executor. A listener that fails does not stop the others.
      *
      * @param data Data.
      */
     @Override
     public void sendToListeners(T data) {
-        listeners.forEach((key, listener) -> listener.accept(data));
+        fanOutExecutor.execute(() -> {
+            long start = System.nanoTime();
+            listeners.values().forEach(listener -> {
+                try {
+                    listener.accept(data);
+                } catch (RuntimeException e) {
+                    logger.warn("Listener failed to receive data", e);
+                }
+            });
+
+            long nanos = System.nanoTime() - start;
+            maxFanOutNanos.accumulateAndGet(nanos, Math::max);
+            fanOutNanos.add(nanos);
+            fanOuts.increment();
+        });
+    }
+
+    /**
+     * Gets how long a listener may wait for data at most.
+     *
+     * @return The timeout in milliseconds.
+     */
+    @Override
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Gets the number of listeners and how long sending data to them takes, since the service was created.
+     *
+     * @return The statistics.
+     */
+    @Override
+    public PollingStatsDTO getStats() {
+        long count = fanOuts.sum();
+        return new PollingStatsDTO(listenerCount.get(), maxListeners, rejected.sum(), count,
+                count == 0 ? 0 : fanOutNanos.sum() / 1e6 / count, maxFanOutNanos.get() / 1e6);
     }
 }
@@ -0,0 +1,30 @@
+package server.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import commons.Debt;
+
+public interface SettlementStrategy {
+
+    /**
+     * Amounts at or below half a cent are shown as zero to the user, so they are considered settled.
+     */
+    BigDecimal TOLERANCE = new BigDecimal("0.005");
+
+    /**
+     * Gets the name used to select this strategy.
+     *
+     * @return The name of the strategy.
+     */
+    String getName();
+
+    /**
+     * Computes the transfers that settle all balances of a group.
+     *
+     * @param owedAmounts A map with keys of participants' Ids and values of how much each owes to/is owed by the group.
+     * @return The debts that settle the group.
+     */
+    List<Debt> settle(Map<Long, BigDecimal> owedAmounts);
+}
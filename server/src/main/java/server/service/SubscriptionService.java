@@ -0,0 +1,99 @@
+package server.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the STOMP subscriptions of the connected clients, so that nothing is computed for topics
+ * that nobody subscribed to.
+ */
+@Service
+public class SubscriptionService {
+
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> subscriberCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Records a new subscription.
+     *
+     * @param event The event published when a client subscribes.
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor headers = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = headers.getDestination();
+        if (headers.getSessionId() == null || headers.getSubscriptionId() == null || destination == null) {
+            return;
+        }
+
+        String previous = sessions.computeIfAbsent(headers.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(headers.getSubscriptionId(), destination);
+        if (previous != null) {
+            removeSubscriber(previous);
+        }
+        subscriberCounts.merge(destination, 1, Integer::sum);
+    }
+
+    /**
+     * Removes a subscription that the client ended.
+     *
+     * @param event The event published when a client unsubscribes.
+     */
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor headers = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = headers.getSessionId() == null ? null : sessions.get(headers.getSessionId());
+        if (subscriptions == null || headers.getSubscriptionId() == null) {
+            return;
+        }
+
+        String destination = subscriptions.remove(headers.getSubscriptionId());
+        if (destination != null) {
+            removeSubscriber(destination);
+        }
+    }
+
+    /**
+     * Removes all subscriptions of a client that disconnected.
+     *
+     * @param event The event published when a client disconnects.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::removeSubscriber);
+        }
+    }
+
+    /**
+     * Checks whether any client subscribed to a destination.
+     *
+     * @param destination The destination, such as /topic/events/1/debts.
+     * @return true if at least one client subscribed to it.
+     */
+    public boolean hasSubscribers(String destination) {
+        return subscriberCounts.containsKey(destination);
+    }
+
+    /**
+     * Gets the number of subscribers of every destination that has any.
+     *
+     * @return The number of subscribers per destination, sorted by destination.
+     */
+    public Map<String, Integer> getSubscriberCounts() {
+        return new TreeMap<>(subscriberCounts);
+    }
+
+    private void removeSubscriber(String destination) {
+        subscriberCounts.computeIfPresent(destination, (key, count) -> count == 1 ? null : count - 1);
+    }
+}
@@ -14,6 +14,15 @@ public interface TagService {
      */
     List<TagDTO> getAllTags(long eventId);
 
+    /**
+     * Returns the tags of an event that were added or changed after a version of the event
+     *
+     * @param eventId of the tags
+     * @param version after which to look
+     * @return the changed tags
+     */
+    List<TagDTO> getTagsChangedSince(long eventId, long version);
+
     /**
      * Returns the tag with the associated id
      *
@@ -1,6 +1,7 @@
 package server.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Calendar;
 import java.util.List;
@@ -11,6 +12,7 @@ import server.exceptions.NotFoundException;
 
 import server.database.EventRepository;
 import server.database.TagRepository;
+import server.database.Tombstone;
 import commons.Event;
 import commons.Tag;
 import commons.dtos.TagDTO;
@@ -20,16 +22,19 @@ public class TagServiceImplementation implements TagService {
 
     private final TagRepository tagRepository;
     private final EventRepository eventRepository;
+    private final TombstoneService tombstoneService;
 
     /**
      * Constructs a TagsServiceImplementation instance
      *
-     * @param tagRepository   to be added to the service
-     * @param eventRepository to be added to the service
+     * @param tagRepository    to be added to the service
+     * @param eventRepository  to be added to the service
+     * @param tombstoneService records the deleted tags
      */
-    public TagServiceImplementation(TagRepository tagRepository, EventRepository eventRepository) {
+    public TagServiceImplementation(TagRepository tagRepository, EventRepository eventRepository, TombstoneService tombstoneService) {
         this.tagRepository = tagRepository;
         this.eventRepository = eventRepository;
+        this.tombstoneService = tombstoneService;
     }
 
     /**
@@ -45,6 +50,20 @@ public class TagServiceImplementation implements TagService {
         ).toList();
     }
 
+    /**
+     * Returns the tags of an event that were added or changed after a version of the event
+     *
+     * @param eventId of the tags
+     * @param version after which to look
+     * @return the changed tags
+     */
+    @Override
+    public List<TagDTO> getTagsChangedSince(long eventId, long version) {
+        return tagRepository.findByEventIdAndChangedVersionGreaterThan(eventId, version).stream().map(tag ->
+                new TagDTO(tag.getName(), tag.getColor(), tag.getId())
+        ).toList();
+    }
+
     /**
      * Returns the tag with the associated id
      *
@@ -70,6 +89,7 @@ public class TagServiceImplementation implements TagService {
      * @param newTag  body of new tag to create
      */
     @Override
+    @Transactional
     public TagDTO createTag(long eventId, TagDTO newTag) {
         if (newTag == null || isNullOrEmpty(newTag.color()) || isNullOrEmpty(newTag.name())) {
             throw new InvalidPayloadException("The payload provided was not in the correct format.");
@@ -82,6 +102,7 @@ public class TagServiceImplementation implements TagService {
 
         Tag tag = new Tag(newTag.name(), newTag.color());
         tag.setEvent(event.get());
+        tag.setChangedVersion(eventRepository.nextVersion(eventId));
         tagRepository.save(tag);
 
         event.get().setUpdatedOn(Calendar.getInstance());
@@ -98,6 +119,7 @@ public class TagServiceImplementation implements TagService {
      * @param newTag  new info for the tag
      */
     @Override
+    @Transactional
     public TagDTO editTag(long eventId, long tagId, TagDTO newTag) {
         if (newTag == null || isNullOrEmpty(newTag.color()) || isNullOrEmpty(newTag.name())) {
             throw new InvalidPayloadException("The payload provided was not in the correct format.");
@@ -111,6 +133,7 @@ public class TagServiceImplementation implements TagService {
         Tag tag = currentTag.get();
         tag.setName(newTag.name());
         tag.setColor(newTag.color());
+        tag.setChangedVersion(eventRepository.nextVersion(eventId));
         tagRepository.save(tag);
 
         Event event = eventRepository.findById(eventId).get();
@@ -127,6 +150,7 @@ public class TagServiceImplementation implements TagService {
      * @param tagId   id of the deleted tag
      */
     @Override
+    @Transactional
     public void deleteTag(long eventId, long tagId) {
         Optional<Tag> currentTag = tagRepository.findById(tagId);
         if (currentTag.isEmpty()) {
@@ -139,6 +163,8 @@ public class TagServiceImplementation implements TagService {
         Event event = eventRepository.findById(eventId).get();
         event.setUpdatedOn(Calendar.getInstance());
         eventRepository.save(event);
+        long version = eventRepository.nextVersion(eventId);
+        tombstoneService.recordDeletion(eventId, Tombstone.Kind.TAG, tagId, version);
     }
 
     /**
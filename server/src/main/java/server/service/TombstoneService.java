@@ -0,0 +1,100 @@
+package server.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Calendar;
+import java.util.List;
+import java.util.function.Supplier;
+
+import server.database.EventRepository;
+import server.database.Tombstone;
+import server.database.TombstoneRepository;
+
+/**
+ * Keeps tombstones of the expenses, participants and tags deleted from events, so clients can ask what was deleted
+ * since a version. Tombstones older than the retention window are forgotten, and the version of the newest forgotten
+ * one is remembered on the event: clients that last looked before it have to load the whole event again.
+ */
+@Service
+public class TombstoneService {
+
+    private final TombstoneRepository tombstoneRepository;
+    private final EventRepository eventRepository;
+    private final Duration retention;
+    private final Supplier<Calendar> clock;
+
+    /**
+     * Constructs a TombstoneService instance.
+     *
+     * @param tombstoneRepository TombstoneRepository instance.
+     * @param eventRepository     EventRepository instance.
+     * @param retention           How long tombstones are kept.
+     */
+    @Autowired
+    public TombstoneService(TombstoneRepository tombstoneRepository, EventRepository eventRepository,
+                            @Value("${changes.tombstone-retention:30d}") Duration retention) {
+        this(tombstoneRepository, eventRepository, retention, Calendar::getInstance);
+    }
+
+    /**
+     * Constructs a TombstoneService instance.
+     *
+     * @param tombstoneRepository TombstoneRepository instance.
+     * @param eventRepository     EventRepository instance.
+     * @param retention           How long tombstones are kept.
+     * @param clock               Gives the current time.
+     */
+    public TombstoneService(TombstoneRepository tombstoneRepository, EventRepository eventRepository, Duration retention,
+                            Supplier<Calendar> clock) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.eventRepository = eventRepository;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    /**
+     * Records that something was deleted from an event, and forgets the tombstones of the event that expired.
+     *
+     * @param eventId  The ID of the event.
+     * @param kind     What was deleted.
+     * @param entityId The ID of what was deleted.
+     * @param version  The version of the event in which it was deleted.
+     */
+    @Transactional
+    public void recordDeletion(long eventId, Tombstone.Kind kind, long entityId, long version) {
+        Calendar now = clock.get();
+        Calendar expiry = (Calendar) now.clone();
+        expiry.setTimeInMillis(now.getTimeInMillis() - retention.toMillis());
+
+        tombstoneRepository.findMaxExpiredVersion(eventId, expiry).ifPresent(purgedVersion -> {
+            eventRepository.raisePurgedVersion(eventId, purgedVersion);
+            tombstoneRepository.deleteExpired(eventId, expiry);
+        });
+        tombstoneRepository.save(new Tombstone(eventRepository.getReferenceById(eventId), kind, entityId, version, now));
+    }
+
+    /**
+     * Gets the deletions from an event after a version.
+     *
+     * @param eventId The ID of the event.
+     * @param version The version after which to look.
+     * @return The tombstones of the deletions.
+     */
+    public List<Tombstone> getDeletedSince(long eventId, long version) {
+        return tombstoneRepository.findDeletedSince(eventId, version);
+    }
+
+    /**
+     * Gets the highest version of an event of which the deletions were forgotten.
+     *
+     * @param eventId The ID of the event.
+     * @return The version, 0 if nothing was forgotten or the event does not exist.
+     */
+    public long getPurgedVersion(long eventId) {
+        return eventRepository.findPurgedVersionById(eventId).orElse(0L);
+    }
+}
@@ -1,6 +1,9 @@
 package server.api;
 
+import commons.dtos.CacheStatsDTO;
+import commons.dtos.EventDTO;
 import commons.dtos.EventDump;
+import commons.dtos.EventPageDTO;
 import commons.dtos.ExpenseDTO;
 import commons.dtos.ParticipantDTO;
 import commons.dtos.TagDTO;
@@ -11,11 +14,16 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import server.service.AdminService;
+import server.exceptions.InvalidPayloadException;
+import server.service.DebtService;
+import server.service.EventService;
+import server.service.SubscriptionService;
 
 import java.math.BigDecimal;
 import java.util.Calendar;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -25,12 +33,21 @@ public class AdminControllerTest {
     @Mock
     private AdminService adminService;
 
+    @Mock
+    private DebtService debtService;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private SubscriptionService subscriptionService;
+
     private AdminController adminController;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        adminController = new AdminController(adminService, null);
+        adminController = new AdminController(adminService, null, debtService, eventService, subscriptionService);
     }
 
 
@@ -87,4 +104,46 @@ public class AdminControllerTest {
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
+
+    @Test
+    void getDebtCacheStats_ReturnsStats() {
+        CacheStatsDTO stats = new CacheStatsDTO(3, 1, 0.75, 0, 1, 2.5, 1, 1024);
+        when(debtService.getCacheStats()).thenReturn(stats);
+
+        ResponseEntity<CacheStatsDTO> response = adminController.getDebtCacheStats();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(stats, response.getBody());
+    }
+
+    @Test
+    void getSubscriptions_ReturnsCounts() {
+        Map<String, Integer> counts = Map.of("/topic/events/1/debts", 2);
+        when(subscriptionService.getSubscriberCounts()).thenReturn(counts);
+
+        ResponseEntity<Map<String, Integer>> response = adminController.getSubscriptions();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(counts, response.getBody());
+    }
+
+    @Test
+    void getEvents_ValidRequest_ReturnsPage() {
+        EventPageDTO page = new EventPageDTO(List.of(new EventDTO(1L, "Party", "ABC123", null, null, new HashSet<>())), "next");
+        when(eventService.getEventPage(50, "title", "asc", "Pa", null)).thenReturn(page);
+
+        ResponseEntity<EventPageDTO> response = adminController.getEvents(50, "title", "asc", "Pa", null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void getEvents_InvalidRequest_ReturnsBadRequest() {
+        when(eventService.getEventPage(50, "inviteCode", null, null, null)).thenThrow(new InvalidPayloadException("Invalid page request"));
+
+        ResponseEntity<EventPageDTO> response = adminController.getEvents(50, "inviteCode", null, null, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
 }
@@ -7,7 +7,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import server.exceptions.InvalidPayloadException;
 import server.service.DebtService;
+import server.service.EventService;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -24,12 +26,15 @@ public class DebtControllerTest {
     @Mock
     private DebtService debtService;
 
+    @Mock
+    private EventService eventService;
+
     private DebtController debtController;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        debtController = new DebtController(debtService);
+        debtController = new DebtController(debtService, eventService);
     }
 
     @Test
@@ -41,12 +46,41 @@ public class DebtControllerTest {
         when(debtService.getAllDebts(eventId)).thenReturn(debts);
 
 
-        ResponseEntity<List<Debt>> response = debtController.getAllDebts(eventId);
+        ResponseEntity<List<Debt>> response = debtController.getAllDebts(eventId, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(debts, response.getBody());
         verify(debtService, times(1)).getAllDebts(eventId);
     }
 
+    @Test
+    void getAllDebts_WithStrategy_UsesThatStrategy() {
+        List<Debt> debts = List.of(new Debt(1L, 2L, new BigDecimal("10.00")));
+        when(debtService.getAllDebts(1L, "heap")).thenReturn(debts);
 
+        ResponseEntity<List<Debt>> response = debtController.getAllDebts(1L, "heap", null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(debts, response.getBody());
+    }
+
+    @Test
+    void getAllDebts_WithUnknownStrategy_ReturnsBadRequest() {
+        when(debtService.getAllDebts(1L, "unknown")).thenThrow(new InvalidPayloadException("Unknown settlement strategy"));
+
+        ResponseEntity<List<Debt>> response = debtController.getAllDebts(1L, "unknown", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void getAllDebts_unchanged_shouldReturnNotModifiedWithoutComputing() {
+        when(eventService.getEventVersion(1L)).thenReturn(2L);
+
+        ResponseEntity<List<Debt>> response = debtController.getAllDebts(1L, null, "\"2\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"2\"", response.getHeaders().getETag());
+        verifyNoInteractions(debtService);
+    }
 }
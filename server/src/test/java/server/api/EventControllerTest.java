@@ -1,5 +1,6 @@
 package server.api;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -7,18 +8,25 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.util.*;
 
 import commons.Event;
+import commons.dtos.EventChangesDTO;
 import commons.dtos.EventDTO;
+import commons.dtos.EventSnapshotDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.async.DeferredResult;
 import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
 import server.exceptions.SystemErrorException;
+import server.service.EventPollingService;
 import server.service.EventService;
 
 public class EventControllerTest {
@@ -75,12 +83,26 @@ public class EventControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(eventId))
                 .andExpect(jsonPath("$.title").value("Event 1"))
-                .andExpect(jsonPath("$.inviteCode").value("inviteCode1"));
+                .andExpect(jsonPath("$.inviteCode").value("inviteCode1"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
 
+        verify(eventService, times(1)).getEventVersion(eventId);
         verify(eventService, times(1)).getEventById(eventId);
         verifyNoMoreInteractions(eventService);
     }
 
+    @Test
+    public void testGetByIdNotModified() throws Exception {
+        long eventId = 1L;
+        when(eventService.getEventVersion(eventId)).thenReturn(4L);
+
+        mockMvc.perform(get("/api/events/{id}", eventId).header(HttpHeaders.IF_NONE_MATCH, "\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        verify(eventService, never()).getEventById(eventId);
+    }
+
     @Test
     public void testGetByIdNotFound() throws Exception {
         long eventId = 1L;
@@ -90,6 +112,7 @@ public class EventControllerTest {
         mockMvc.perform(get("/api/events/{id}", eventId))
                 .andExpect(status().isNotFound());
 
+        verify(eventService, times(1)).getEventVersion(eventId);
         verify(eventService, times(1)).getEventById(eventId);
         verifyNoMoreInteractions(eventService);
     }
@@ -103,6 +126,7 @@ public class EventControllerTest {
         mockMvc.perform(get("/api/events/{id}", eventId))
                 .andExpect(status().isInternalServerError());
 
+        verify(eventService, times(1)).getEventVersion(eventId);
         verify(eventService, times(1)).getEventById(eventId);
         verifyNoMoreInteractions(eventService);
     }
@@ -140,6 +164,34 @@ public class EventControllerTest {
         verifyNoMoreInteractions(eventService);
     }
 
+    @Test
+    public void testGetByInviteCodes() throws Exception {
+        Calendar testDate = Calendar.getInstance();
+        EventDTO event = new EventDTO(1L, "Event 1", "inviteCode1", testDate, testDate, new HashSet<>());
+
+        when(eventService.getEventsByInviteCodes(List.of("inviteCode1", "inviteCode2"))).thenReturn(List.of(event));
+
+        mockMvc.perform(post("/api/events/invite/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"inviteCode1\",\"inviteCode2\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].inviteCode").value("inviteCode1"));
+
+        verify(eventService, times(1)).getEventsByInviteCodes(List.of("inviteCode1", "inviteCode2"));
+        verifyNoMoreInteractions(eventService);
+    }
+
+    @Test
+    public void testGetByInviteCodesTooMany() throws Exception {
+        when(eventService.getEventsByInviteCodes(anyList())).thenThrow(new InvalidPayloadException("Invalid invite codes"));
+
+        mockMvc.perform(post("/api/events/invite/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"inviteCode1\"]"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testUpdateEvent() throws Exception {
         long eventId = 1L;
@@ -266,4 +318,56 @@ public class EventControllerTest {
         verifyNoMoreInteractions(eventService);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testGetSnapshot() throws Exception {
+        long eventId = 1L;
+        EventSnapshotDTO snapshot = new EventSnapshotDTO(3L, 0L, List.of(), List.of(), List.of(), List.of());
+        when(eventService.getEventSnapshot(eventId, 0L)).thenReturn(snapshot);
+
+        mockMvc.perform(get("/api/events/{id}/snapshot", eventId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(3))
+                .andExpect(jsonPath("$.expenses").isEmpty())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-0\""));
+    }
+
+    @Test
+    public void testGetSnapshotNotModified() throws Exception {
+        when(eventService.getEventVersion(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/events/{id}/snapshot", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"3-0\""))
+                .andExpect(status().isNotModified());
+
+        verify(eventService, never()).getEventSnapshot(anyLong(), anyLong());
+    }
+
+    @Test
+    public void testGetSnapshotNotFound() throws Exception {
+        when(eventService.getEventVersion(1L)).thenThrow(new NotFoundException("Event not found"));
+
+        mockMvc.perform(get("/api/events/{id}/snapshot", 1L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testGetUpdatesUnknownVersionResyncs() {
+        EventController controller = new EventController(eventService, new EventPollingService(eventService, 1, 1000, Runnable::run), null);
+
+        ResponseEntity<?> response = (ResponseEntity<?>) controller.getUpdates(-1, null).getResult();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(((EventChangesDTO) response.getBody()).resync());
+    }
+
+    @Test
+    public void testGetUpdatesTooManyClients() {
+        EventController controller = new EventController(eventService, new EventPollingService(eventService, 1, 1000, Runnable::run), null);
+        DeferredResult<ResponseEntity<EventChangesDTO>> parked = controller.getUpdates(0, null);
+
+        ResponseEntity<?> response = (ResponseEntity<?>) controller.getUpdates(0, null).getResult();
+
+        assertFalse(parked.hasResult());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
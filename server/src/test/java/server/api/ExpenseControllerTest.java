@@ -1,6 +1,7 @@
 package server.api;
 
 import commons.dtos.ExpenseDTO;
+import commons.dtos.ExpensePageDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -58,6 +59,34 @@ public class ExpenseControllerTest {
         verifyNoMoreInteractions(expenseService);
     }
 
+    @Test
+    public void testGetExpensePage() throws Exception {
+        long eventId = 1L;
+        ExpensePageDTO page = new ExpensePageDTO(List.of(new ExpenseDTO(new BigDecimal("100.00"), "USD", Calendar.getInstance(), "Expense 1",
+                Calendar.getInstance(), Calendar.getInstance(), 1L, 1L, Set.of(2L), 0L, false)), "next");
+        when(expenseService.getExpensePage(eventId, 1, "abc", 2L, null, null)).thenReturn(page);
+
+        mockMvc.perform(get("/api/events/{eventId}/expenses", eventId)
+                        .param("limit", "1")
+                        .param("cursor", "abc")
+                        .param("payerId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expenses[0].purpose").value("Expense 1"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(expenseService, times(1)).getExpensePage(eventId, 1, "abc", 2L, null, null);
+        verifyNoMoreInteractions(expenseService);
+    }
+
+    @Test
+    public void testGetExpensePageInvalid() throws Exception {
+        long eventId = 1L;
+        when(expenseService.getExpensePage(eventId, 0, null, null, null, null)).thenThrow(new InvalidPayloadException("Invalid page size"));
+
+        mockMvc.perform(get("/api/events/{eventId}/expenses", eventId).param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testAddExpense() throws Exception {
         long eventId = 1L;
@@ -107,6 +136,55 @@ public class ExpenseControllerTest {
     }
 
 
+    @Test
+    public void testAddExpenses() throws Exception {
+        long eventId = 1L;
+
+        List<ExpenseDTO> expenses = List.of(
+                new ExpenseDTO(new BigDecimal("10.00"), "EUR", Calendar.getInstance(), "Groceries",
+                        Calendar.getInstance(), Calendar.getInstance(), 1L, 1L, Set.of(2L), 0L, false),
+                new ExpenseDTO(new BigDecimal("20.00"), "EUR", Calendar.getInstance(), "Rent",
+                        Calendar.getInstance(), Calendar.getInstance(), 2L, 2L, Set.of(1L), 0L, false));
+
+        when(expenseService.addExpenses(eq(eventId), anyList())).thenReturn(expenses);
+
+        mockMvc.perform(post("/api/events/{eventId}/expenses/batch", eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"amountInEUR\": 10.0, \"currency\": \"EUR\", \"date\": \"2022-01-01\", \"purpose\": \"Groceries\", \"payerId\": 1, \"returnerIds\": [2]},"
+                                + "{\"amountInEUR\": 20.0, \"currency\": \"EUR\", \"date\": \"2022-01-01\", \"purpose\": \"Rent\", \"payerId\": 2, \"returnerIds\": [1]}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].purpose").value("Groceries"))
+                .andExpect(jsonPath("$[1].purpose").value("Rent"));
+
+        verify(expenseService, times(1)).addExpenses(eq(eventId), argThat(list -> list.size() == 2));
+        verifyNoMoreInteractions(expenseService);
+    }
+
+    @Test
+    public void testAddExpensesInvalidPayload() throws Exception {
+        long eventId = 1L;
+
+        when(expenseService.addExpenses(eq(eventId), anyList())).thenThrow(new InvalidPayloadException("Invalid payload"));
+
+        mockMvc.perform(post("/api/events/{eventId}/expenses/batch", eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"amountInEUR\": -1.0, \"currency\": \"EUR\", \"date\": \"2022-01-01\", \"purpose\": \"Groceries\", \"payerId\": 1, \"returnerIds\": [2]}]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testAddExpensesEventNotFound() throws Exception {
+        long eventId = 1L;
+
+        when(expenseService.addExpenses(eq(eventId), anyList())).thenThrow(new NotFoundException("Event not found"));
+
+        mockMvc.perform(post("/api/events/{eventId}/expenses/batch", eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testUpdateExpense() throws Exception {
         long eventId = 1L;
@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
+import server.service.EventService;
 import server.service.ParticipantService;
 
 import java.util.ArrayList;
@@ -22,12 +23,15 @@ class ParticipantControllerTest {
     @Mock
     private ParticipantService participantService;
 
+    @Mock
+    private EventService eventService;
+
     private ParticipantController participantController;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        participantController = new ParticipantController(participantService, null, null);
+        participantController = new ParticipantController(participantService, eventService, null, null);
     }
 
     @Test
@@ -38,12 +42,32 @@ class ParticipantControllerTest {
         participants.add(new ParticipantDTO(2L, "Jane Smith", "jane.smith@example.com", "0987654321", "FEDCBA"));
         when(participantService.getAllParticipants(eventId)).thenReturn(participants);
 
-        List<ParticipantDTO> result = participantController.getAllParticipants(eventId);
+        ResponseEntity<List<ParticipantDTO>> result = participantController.getAllParticipants(eventId, null);
 
-        assertEquals(participants, result);
+        assertEquals(participants, result.getBody());
         verify(participantService, times(1)).getAllParticipants(eventId);
     }
 
+    @Test
+    void getAllParticipants_shouldSendVersionAsETag() {
+        when(eventService.getEventVersion(1L)).thenReturn(5L);
+
+        ResponseEntity<List<ParticipantDTO>> result = participantController.getAllParticipants(1L, null);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"5\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    void getAllParticipants_unchanged_shouldReturnNotModifiedWithoutLoading() {
+        when(eventService.getEventVersion(1L)).thenReturn(5L);
+
+        ResponseEntity<List<ParticipantDTO>> result = participantController.getAllParticipants(1L, "\"4\", \"5\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        verifyNoInteractions(participantService);
+    }
+
     @Test
     void addParticipant_shouldReturnCreatedParticipant() {
         long eventId = 1L;
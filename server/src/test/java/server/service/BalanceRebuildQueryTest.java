@@ -0,0 +1,150 @@
+package server.service;
+
+import commons.Event;
+import commons.Expense;
+import commons.Participant;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import server.database.BalanceRepository;
+import server.database.ExpenseRepository;
+import server.database.ParticipantAmount;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class BalanceRebuildQueryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BalanceRepository balanceRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    private BalanceServiceImplementation balanceService;
+
+    @BeforeEach
+    void setUp() {
+        balanceService = new BalanceServiceImplementation(balanceRepository, expenseRepository, entityManager);
+    }
+
+    @Test
+    void sumOwedAmounts_RemainderGoesToLowestIds() {
+        Event event = createEvent();
+        List<Participant> participants = createParticipants(event, 3);
+        persistExpense(event, participants.get(2), "0.00000005", new HashSet<>(participants));
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<Long, Long> owed = toMap(expenseRepository.sumOwedAmounts(event.getId()));
+        Map<Long, Long> paid = toMap(expenseRepository.sumPaidAmounts(event.getId()));
+
+        assertEquals(Map.of(participants.get(0).getId(), 2L, participants.get(1).getId(), 2L,
+                participants.get(2).getId(), 1L), owed);
+        assertEquals(Map.of(participants.get(2).getId(), 5L), paid);
+    }
+
+    @Test
+    void getBalances_RebuildMatchesIncrementalLedger() {
+        Event incremental = createEvent();
+        List<Participant> incrementalParticipants = createParticipants(incremental, 4);
+        Event rebuilt = createEvent();
+        List<Participant> rebuiltParticipants = createParticipants(rebuilt, 4);
+
+        addExpenses(incremental, incrementalParticipants, true);
+        addExpenses(rebuilt, rebuiltParticipants, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertFalse(balanceRepository.findByEventId(incremental.getId()).isEmpty());
+        assertTrue(balanceRepository.findByEventId(rebuilt.getId()).isEmpty());
+        List<Long> incrementalBalances = toUnits(balanceService.getBalances(incremental.getId()), incrementalParticipants);
+        List<Long> rebuiltBalances = toUnits(balanceService.getBalances(rebuilt.getId()), rebuiltParticipants);
+
+        assertEquals(incrementalBalances, rebuiltBalances);
+        assertEquals(0, rebuiltBalances.stream().mapToLong(Long::longValue).sum());
+        assertEquals(List.of(491666665L, -3841666664L, 6158333332L, -2808333333L), rebuiltBalances);
+    }
+
+    /**
+     * Adds expenses whose amounts do not divide evenly between their returners, split between different sets of
+     * returners, so the remainder does not always go to the same participant.
+     *
+     * @param event        The event.
+     * @param participants Its four participants, in the order of their ids.
+     * @param updateLedger Whether to apply every expense to the ledger as it is added.
+     */
+    private void addExpenses(Event event, List<Participant> participants, boolean updateLedger) {
+        Participant p0 = participants.get(0);
+        Participant p1 = participants.get(1);
+        Participant p2 = participants.get(2);
+        Participant p3 = participants.get(3);
+        List<Expense> expenses = List.of(
+                newExpense(event, p0, "10", Set.of(p0, p1, p2)),
+                newExpense(event, p1, "0.00000005", Set.of(p1, p2, p3)),
+                newExpense(event, p3, "7.00000001", Set.of(p0, p1, p2, p3)),
+                newExpense(event, p2, "100", Set.of(p3, p2, p1)));
+
+        for (Expense expense : expenses) {
+            if (updateLedger) {
+                balanceService.applyExpense(event.getId(), expense);
+            }
+            entityManager.persist(expense);
+        }
+    }
+
+    private Event createEvent() {
+        Event event = new Event("Trip");
+        entityManager.persist(event);
+        return event;
+    }
+
+    private List<Participant> createParticipants(Event event, int count) {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Participant participant = new Participant("Participant " + i, null, null, null);
+            participant.setEvent(event);
+            entityManager.persist(participant);
+            participants.add(participant);
+        }
+
+        entityManager.flush();
+        return participants;
+    }
+
+    private void persistExpense(Event event, Participant payer, String amount, Set<Participant> returners) {
+        entityManager.persist(newExpense(event, payer, amount, returners));
+    }
+
+    private Expense newExpense(Event event, Participant payer, String amount, Set<Participant> returners) {
+        Calendar date = new GregorianCalendar(2024, Calendar.JANUARY, 1);
+        Expense expense = new Expense(payer, new BigDecimal(amount), "EUR", date, "Expense",
+                new HashSet<>(returners), null);
+        expense.setEvent(event);
+        return expense;
+    }
+
+    private static Map<Long, Long> toMap(List<ParticipantAmount> amounts) {
+        Map<Long, Long> map = new HashMap<>();
+        for (ParticipantAmount amount : amounts) {
+            map.put(amount.getParticipantId(), amount.getAmount());
+        }
+
+        return map;
+    }
+
+    private static List<Long> toUnits(Map<Long, BigDecimal> balances, List<Participant> participants) {
+        return participants.stream()
+                .map(participant -> balances.getOrDefault(participant.getId(), BigDecimal.ZERO))
+                .map(FixedPointBalanceEngine::toUnits)
+                .toList();
+    }
+}
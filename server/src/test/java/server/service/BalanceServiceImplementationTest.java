@@ -0,0 +1,162 @@
+package server.service;
+
+import commons.Balance;
+import commons.Event;
+import commons.Expense;
+import commons.Participant;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import server.database.BalanceRepository;
+import server.database.ExpenseRepository;
+import server.database.ParticipantAmount;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BalanceServiceImplementationTest {
+
+    @Mock
+    private BalanceRepository balanceRepository;
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private BalanceServiceImplementation balanceService;
+
+    private Participant alice;
+    private Participant bob;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        balanceService = new BalanceServiceImplementation(balanceRepository, expenseRepository, entityManager);
+
+        alice = new Participant("Alice", null, null, null);
+        alice.setId(1L);
+        bob = new Participant("Bob", null, null, null);
+        bob.setId(2L);
+        when(entityManager.getReference(Participant.class, 1L)).thenReturn(alice);
+        when(entityManager.getReference(Participant.class, 2L)).thenReturn(bob);
+    }
+
+    @Test
+    void getShares_SplitsAmountBetweenReturners() {
+        Expense expense = new Expense(alice, new BigDecimal("30"), "EUR", Calendar.getInstance(), "Food",
+                new HashSet<>(), null);
+
+        Map<Long, BigDecimal> shares = BalanceServiceImplementation.getShares(expense, List.of(1L, 2L), 1);
+
+        assertEquals(0, new BigDecimal("15").compareTo(shares.get(1L)));
+        assertEquals(0, new BigDecimal("-15").compareTo(shares.get(2L)));
+    }
+
+    @Test
+    void getShares_WithoutPayer_ReturnsEmptyMap() {
+        assertTrue(BalanceServiceImplementation.getShares(new Expense(), List.of(1L), 1).isEmpty());
+    }
+
+    @Test
+    void getBalances_ReadsStoredRows() {
+        when(balanceRepository.findByEventId(1L)).thenReturn(List.of(
+                new Balance(null, alice, new BigDecimal("10")),
+                new Balance(null, bob, new BigDecimal("-10"))));
+
+        Map<Long, BigDecimal> balances = balanceService.getBalances(1L);
+
+        assertEquals(Map.of(1L, new BigDecimal("10"), 2L, new BigDecimal("-10")), balances);
+        verifyNoInteractions(expenseRepository);
+    }
+
+    @Test
+    void getBalances_WithoutLedger_RebuildsFromAggregates() {
+        when(balanceRepository.findByEventId(1L)).thenReturn(List.of());
+        when(expenseRepository.sumPaidAmounts(1L)).thenReturn(List.of(amount(1L, 20_00000000L)));
+        when(expenseRepository.sumOwedAmounts(1L)).thenReturn(List.of(amount(2L, 20_00000000L)));
+
+        Map<Long, BigDecimal> balances = balanceService.getBalances(1L);
+
+        assertEquals(0, new BigDecimal("20").compareTo(balances.get(1L)));
+        assertEquals(0, new BigDecimal("-20").compareTo(balances.get(2L)));
+        verify(balanceRepository).saveAll(anyList());
+        verify(expenseRepository, never()).findByEventId(anyLong());
+    }
+
+    @Test
+    void getBalances_LedgerBuiltWhileWaitingForLock_IsNotRebuilt() {
+        when(balanceRepository.findByEventId(1L)).thenReturn(List.of())
+                .thenReturn(List.of(new Balance(null, alice, new BigDecimal("10"))));
+
+        Map<Long, BigDecimal> balances = balanceService.getBalances(1L);
+
+        assertEquals(Map.of(1L, new BigDecimal("10")), balances);
+        verify(entityManager).find(Event.class, 1L, LockModeType.PESSIMISTIC_WRITE);
+        verify(expenseRepository, never()).sumPaidAmounts(anyLong());
+        verify(balanceRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void revertExpense_SubtractsFromExistingRows() {
+        Balance aliceBalance = new Balance(null, alice, new BigDecimal("20"));
+        Balance bobBalance = new Balance(null, bob, new BigDecimal("-20"));
+        when(balanceRepository.findByEventId(1L)).thenReturn(List.of(aliceBalance, bobBalance));
+        when(balanceRepository.findByEventIdAndParticipantIdIn(eq(1L), anyCollection()))
+                .thenReturn(List.of(aliceBalance, bobBalance));
+        Expense expense = new Expense(alice, new BigDecimal("20"), "EUR", Calendar.getInstance(), "Food",
+                new HashSet<>(), null);
+        expense.setId(7L);
+        when(expenseRepository.findReturnerIds(7L)).thenReturn(List.of(2L));
+
+        balanceService.revertExpense(1L, expense);
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(aliceBalance.getAmountInEUR()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(bobBalance.getAmountInEUR()));
+        verify(expenseRepository, never()).sumPaidAmounts(anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void applyExpense_CreatesMissingRows() {
+        Balance aliceBalance = new Balance(null, alice, new BigDecimal("5"));
+        when(balanceRepository.findByEventId(1L)).thenReturn(List.of(aliceBalance));
+        when(balanceRepository.findByEventIdAndParticipantIdIn(eq(1L), anyCollection()))
+                .thenReturn(List.of(aliceBalance));
+        Expense expense = new Expense(alice, new BigDecimal("10"), "EUR", Calendar.getInstance(), "Food",
+                Set.of(bob), null);
+
+        balanceService.applyExpense(1L, expense);
+
+        ArgumentCaptor<List<Balance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(balanceRepository).saveAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals(0, new BigDecimal("15").compareTo(aliceBalance.getAmountInEUR()));
+        Balance created = captor.getValue().get(1);
+        assertSame(bob, created.getParticipant());
+        assertEquals(0, new BigDecimal("-10").compareTo(created.getAmountInEUR()));
+    }
+
+    private static ParticipantAmount amount(long participantId, long units) {
+        return new ParticipantAmount() {
+            @Override
+            public Long getParticipantId() {
+                return participantId;
+            }
+
+            @Override
+            public Long getAmount() {
+                return units;
+            }
+        };
+    }
+}
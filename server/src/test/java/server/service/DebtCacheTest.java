@@ -0,0 +1,130 @@
+package server.service;
+
+import commons.Debt;
+import commons.dtos.CacheStatsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DebtCacheTest {
+
+    private static final List<Debt> DEBTS = List.of(new Debt(1L, 2L, BigDecimal.TEN));
+
+    @Test
+    void get_SameVersion_LoadsOnce() {
+        DebtCache cache = new DebtCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, "heap", 0, () -> {
+            loads.incrementAndGet();
+            return DEBTS;
+        });
+        List<Debt> debts = cache.get(1L, "heap", 0, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertEquals(DEBTS, debts);
+        assertEquals(1, loads.get());
+        CacheStatsDTO stats = cache.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRatio());
+    }
+
+    @Test
+    void get_NewVersion_Reloads() {
+        DebtCache cache = new DebtCache();
+
+        cache.get(1L, "heap", 0, () -> DEBTS);
+        List<Debt> debts = cache.get(1L, "heap", 1, List::of);
+
+        assertTrue(debts.isEmpty());
+        assertEquals(1, cache.getStats().size());
+    }
+
+    @Test
+    void get_OverMaxSize_EvictsLeastRecentlyUsed() {
+        DebtCache cache = new DebtCache(2);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, "heap", 0, () -> DEBTS);
+        cache.get(2L, "heap", 0, () -> DEBTS);
+        cache.get(1L, "heap", 0, () -> DEBTS);
+        cache.get(3L, "heap", 0, () -> DEBTS);
+        cache.get(1L, "heap", 0, () -> {
+            loads.incrementAndGet();
+            return DEBTS;
+        });
+        cache.get(2L, "heap", 0, () -> {
+            loads.incrementAndGet();
+            return DEBTS;
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.getStats().evictions());
+        assertEquals(2, cache.getStats().size());
+    }
+
+    @Test
+    void get_ConcurrentMisses_ShareOneLoad() throws Exception {
+        DebtCache cache = new DebtCache();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<List<Debt>> first = executor.submit(() -> cache.get(1L, "heap", 0, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return DEBTS;
+            }));
+            started.await();
+            List<Future<List<Debt>>> others = List.of(
+                    executor.submit(() -> cache.get(1L, "heap", 0, () -> {
+                        loads.incrementAndGet();
+                        return DEBTS;
+                    })),
+                    executor.submit(() -> cache.get(1L, "heap", 0, () -> {
+                        loads.incrementAndGet();
+                        return DEBTS;
+                    })));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals(DEBTS, first.get(5, TimeUnit.SECONDS));
+            for (Future<List<Debt>> other : others) {
+                assertEquals(DEBTS, other.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_LoadFails_DoesNotCache() {
+        DebtCache cache = new DebtCache();
+
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, "heap", 0, () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(DEBTS, cache.get(1L, "heap", 0, () -> DEBTS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
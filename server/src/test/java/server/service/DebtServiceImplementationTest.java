@@ -1,13 +1,18 @@
 package server.service;
 
+import commons.Balance;
 import commons.Debt;
-import commons.Expense;
 import commons.Participant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import jakarta.persistence.EntityManager;
+import server.database.BalanceRepository;
+import server.database.EventRepository;
 import server.database.ExpenseRepository;
+import server.database.ParticipantAmount;
+import server.exceptions.InvalidPayloadException;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -18,21 +23,35 @@ import static org.mockito.Mockito.*;
 
 class DebtServiceImplementationTest {
 
+    private static final List<SettlementStrategy> STRATEGIES = List.of(new GreedySettlementStrategy(),
+            new HeapSettlementStrategy(), new MinimumTransferSettlementStrategy());
+
     @Mock
     private ExpenseRepository expenseRepository;
 
+    @Mock
+    private BalanceRepository balanceRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EventRepository eventRepository;
+
     private DebtServiceImplementation debtService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        debtService = new DebtServiceImplementation(expenseRepository);
+        debtService = new DebtServiceImplementation(
+                new BalanceServiceImplementation(balanceRepository, expenseRepository, entityManager), STRATEGIES,
+                eventRepository, new DebtCache());
     }
 
     @Test
     void testGetOwedAmounts_NoExpenses_ReturnsEmptyMap() {
         long eventId = 1L;
-        when(expenseRepository.findByEventId(eventId)).thenReturn(Collections.emptySet());
+        when(expenseRepository.sumPaidAmounts(eventId)).thenReturn(List.of());
 
         Map<Long, BigDecimal> owedAmounts = debtService.getOwedAmounts(eventId);
 
@@ -42,7 +61,7 @@ class DebtServiceImplementationTest {
     @Test
     void testGetAllDebts_NoDebts_ReturnsEmptyList() {
         long eventId = 1L;
-        when(expenseRepository.findByEventId(eventId)).thenReturn(Collections.emptySet());
+        when(expenseRepository.sumPaidAmounts(eventId)).thenReturn(List.of());
 
         List<Debt> debts = debtService.getAllDebts(eventId);
 
@@ -99,7 +118,7 @@ class DebtServiceImplementationTest {
     @Test
     void getAllDebts_WhenNoOwedAmounts_ReturnsEmptyList() {
         long eventId = 1L;
-        when(expenseRepository.findByEventId(eventId)).thenReturn(Collections.emptySet());
+        when(expenseRepository.sumPaidAmounts(eventId)).thenReturn(List.of());
 
         List<Debt> debts = debtService.getAllDebts(eventId);
 
@@ -109,12 +128,8 @@ class DebtServiceImplementationTest {
     @Test
     void getAllDebts_WhenSomeOwedAmounts_ReturnsDebts() {
         long eventId = 1L;
-        Set<Expense> expenses = new HashSet<>();
-        expenses.add(new Expense(new Participant("John", "john@example.com", "DE89370400440532013000", "COBADEFF"),
-                BigDecimal.valueOf(50.0), "USD", Calendar.getInstance(), "Expense 1", new HashSet<>(), null));
-        expenses.add(new Expense(new Participant("Jane", "jane@example.com", "DE89370400440532013001", "COBADEFF"),
-                BigDecimal.valueOf(100.0), "USD", Calendar.getInstance(), "Expense 2", new HashSet<>(), null));
-        when(expenseRepository.findByEventId(eventId)).thenReturn(expenses);
+        when(expenseRepository.sumPaidAmounts(eventId)).thenReturn(List.of(
+                amount(1L, 50_00000000L), amount(2L, 100_00000000L)));
 
         List<Debt> debts = debtService.getAllDebts(eventId);
 
@@ -124,12 +139,8 @@ class DebtServiceImplementationTest {
     @Test
     void getAllDebts_WhenAllOweToGroup_ReturnsEmptyList() {
         long eventId = 1L;
-        Set<Expense> expenses = new HashSet<>();
-        expenses.add(new Expense(new Participant("John", "john@example.com", "DE89370400440532013000", "COBADEFF"),
-                BigDecimal.valueOf(50.0), "USD", Calendar.getInstance(), "Expense 1", new HashSet<>(), null));
-        expenses.add(new Expense(new Participant("Jane", "jane@example.com", "DE89370400440532013001", "COBADEFF"),
-                BigDecimal.valueOf(50.0), "USD", Calendar.getInstance(), "Expense 2", new HashSet<>(), null));
-        when(expenseRepository.findByEventId(eventId)).thenReturn(expenses);
+        when(expenseRepository.sumPaidAmounts(eventId)).thenReturn(List.of(
+                amount(1L, 50_00000000L), amount(2L, 50_00000000L)));
 
         List<Debt> debts = debtService.getAllDebts(eventId);
 
@@ -139,12 +150,8 @@ class DebtServiceImplementationTest {
     @Test
     void getAllDebts_WhenAllAreOwedByGroup_ReturnsEmptyList() {
         long eventId = 1L;
-        Set<Expense> expenses = new HashSet<>();
-        expenses.add(new Expense(new Participant("John", "john@example.com", "DE89370400440532013000", "COBADEFF"),
-                BigDecimal.valueOf(50.0), "USD", Calendar.getInstance(), "Expense 1", new HashSet<>(), null));
-        expenses.add(new Expense(new Participant("Jane", "jane@example.com", "DE89370400440532013001", "COBADEFF"),
-                BigDecimal.valueOf(50.0), "USD", Calendar.getInstance(), "Expense 2", new HashSet<>(), null));
-        when(expenseRepository.findByEventId(eventId)).thenReturn(expenses);
+        when(expenseRepository.sumPaidAmounts(eventId)).thenReturn(List.of(
+                amount(1L, 50_00000000L), amount(2L, 50_00000000L)));
 
         List<Debt> debts = debtService.getAllDebts(eventId);
 
@@ -197,15 +204,12 @@ class DebtServiceImplementationTest {
 
         // Mock the dependencies
         ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
-        DebtServiceImplementation debtService = new DebtServiceImplementation(expenseRepository);
+        DebtServiceImplementation debtService = new DebtServiceImplementation(
+                new BalanceServiceImplementation(mock(BalanceRepository.class), expenseRepository, mock(EntityManager.class)),
+                STRATEGIES, mock(EventRepository.class), new DebtCache());
 
-        // Mock the expense data
-        Set<Expense> expenses = new HashSet<>();
-        expenses.add(new Expense(new Participant("John", "john@example.com", "DE89370400440532013000", "COBADEFF"),
-                BigDecimal.valueOf(50.0), "USD", Calendar.getInstance(), "Expense 1", new HashSet<>(), null));
-        expenses.add(new Expense(new Participant("Jane", "jane@example.com", "DE89370400440532013001", "COBADEFF"),
-                BigDecimal.valueOf(100.0), "USD", Calendar.getInstance(), "Expense 2", new HashSet<>(), null));
-        when(expenseRepository.findByEventId(eventId)).thenReturn(expenses);
+        when(expenseRepository.sumPaidAmounts(eventId)).thenReturn(List.of(
+                amount(1L, 50_00000000L), amount(2L, 100_00000000L)));
 
         // Call the method under test
         List<Debt> debts = debtService.getAllDebts(eventId);
@@ -214,4 +218,99 @@ class DebtServiceImplementationTest {
         assertFalse(!debts.isEmpty());
         assertEquals(0, debts.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllDebts_ReadsStoredBalancesWithoutLoadingExpenses() {
+        long eventId = 1L;
+        Participant alice = new Participant();
+        alice.setId(1L);
+        Participant bob = new Participant();
+        bob.setId(2L);
+        when(balanceRepository.findByEventId(eventId)).thenReturn(List.of(
+                new Balance(null, alice, BigDecimal.valueOf(30)),
+                new Balance(null, bob, BigDecimal.valueOf(-30))));
+
+        List<Debt> debts = debtService.getAllDebts(eventId);
+
+        assertEquals(List.of(new Debt(2L, 1L, BigDecimal.valueOf(30))), debts);
+        verifyNoInteractions(expenseRepository);
+    }
+
+    @Test
+    void getAllDebts_WithEachStrategy_SettlesAllBalances() {
+        long eventId = 1L;
+        Participant alice = new Participant();
+        alice.setId(1L);
+        Participant bob = new Participant();
+        bob.setId(2L);
+        Participant carol = new Participant();
+        carol.setId(3L);
+        when(balanceRepository.findByEventId(eventId)).thenReturn(List.of(
+                new Balance(null, alice, BigDecimal.valueOf(40)),
+                new Balance(null, bob, BigDecimal.valueOf(-10)),
+                new Balance(null, carol, BigDecimal.valueOf(-30))));
+
+        for (SettlementStrategy strategy : STRATEGIES) {
+            List<Debt> debts = debtService.getAllDebts(eventId, strategy.getName());
+
+            assertEquals(2, debts.size());
+            assertTrue(debts.stream().allMatch(debt -> debt.getTo() == 1L));
+            assertEquals(0, BigDecimal.valueOf(40).compareTo(
+                    debts.stream().map(Debt::getAmountInEUR).reduce(BigDecimal.ZERO, BigDecimal::add)));
+        }
+    }
+
+    @Test
+    void getAllDebts_WithUnknownStrategy_Throws() {
+        assertThrows(InvalidPayloadException.class, () -> debtService.getAllDebts(1L, "unknown"));
+    }
+
+    @Test
+    void getAllDebts_SameVersion_ServesCachedDebts() {
+        long eventId = 1L;
+        Participant alice = new Participant();
+        alice.setId(1L);
+        Participant bob = new Participant();
+        bob.setId(2L);
+        when(eventRepository.findVersionById(eventId)).thenReturn(Optional.of(3L));
+        when(balanceRepository.findByEventId(eventId)).thenReturn(List.of(
+                new Balance(null, alice, BigDecimal.valueOf(30)),
+                new Balance(null, bob, BigDecimal.valueOf(-30))));
+
+        List<Debt> first = debtService.getAllDebts(eventId);
+        List<Debt> second = debtService.getAllDebts(eventId);
+
+        assertEquals(first, second);
+        verify(balanceRepository, times(1)).findByEventId(eventId);
+        assertEquals(1, debtService.getCacheStats().hits());
+    }
+
+    @Test
+    void getAllDebts_NewVersion_Recomputes() {
+        long eventId = 1L;
+        when(eventRepository.findVersionById(eventId)).thenReturn(Optional.of(3L)).thenReturn(Optional.of(4L));
+        Participant alice = new Participant();
+        alice.setId(1L);
+        when(balanceRepository.findByEventId(eventId)).thenReturn(List.of(new Balance(null, alice, BigDecimal.ZERO)));
+
+        debtService.getAllDebts(eventId);
+        debtService.getAllDebts(eventId);
+
+        verify(balanceRepository, times(2)).findByEventId(eventId);
+        assertEquals(2, debtService.getCacheStats().misses());
+    }
+
+    private static ParticipantAmount amount(long participantId, long units) {
+        return new ParticipantAmount() {
+            @Override
+            public Long getParticipantId() {
+                return participantId;
+            }
+
+            @Override
+            public Long getAmount() {
+                return units;
+            }
+        };
+    }
+}
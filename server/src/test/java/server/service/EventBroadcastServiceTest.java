@@ -0,0 +1,198 @@
+package server.service;
+
+import commons.Debt;
+import commons.dtos.ParticipantDTO;
+import commons.dtos.TagDTO;
+import commons.messages.DebtsChangedMessage;
+import commons.messages.ExpenseDeletedMessage;
+import commons.messages.ParticipantUpsertedMessage;
+import commons.messages.TagsMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventBroadcastServiceTest {
+
+    private static final List<Debt> DEBTS = List.of(new Debt(1L, 2L, BigDecimal.TEN));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpMessagingTemplate template;
+    private DebtService debtService;
+    private TagService tagService;
+    private SubscriptionService subscriptionService;
+    private ScheduledExecutorService executor;
+    private EventBroadcastService broadcastService;
+
+    @BeforeEach
+    void setUp() {
+        template = mock(SimpMessagingTemplate.class);
+        debtService = mock(DebtService.class);
+        tagService = mock(TagService.class);
+        subscriptionService = mock(SubscriptionService.class);
+        executor = Executors.newSingleThreadScheduledExecutor();
+        broadcastService = new EventBroadcastService(template, objectMapper, debtService, tagService, subscriptionService, 200, executor);
+        when(debtService.getAllDebts(anyLong())).thenReturn(DEBTS);
+        when(subscriptionService.hasSubscribers(anyString())).thenReturn(true);
+    }
+
+    /**
+     * Waits until every scheduled broadcast has been sent.
+     */
+    private void awaitBroadcasts() throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Checks that a message was sent to a destination as the JSON of a payload.
+     */
+    @SuppressWarnings("unchecked")
+    private void verifySent(String destination, Object payload) throws JsonProcessingException {
+        ArgumentCaptor<Message<?>> message = ArgumentCaptor.forClass(Message.class);
+        verify(template, atLeastOnce()).send(eq(destination), message.capture());
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(payload), (byte[]) message.getValue().getPayload());
+        assertEquals(MimeTypeUtils.APPLICATION_JSON, message.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE));
+    }
+
+    @Test
+    void getSequence_NothingBroadcast_IsZero() {
+        assertEquals(0, broadcastService.getSequence(1L));
+    }
+
+    @Test
+    void changes_SameEvent_AreNumberedInOrder() throws Exception {
+        ParticipantDTO participant = new ParticipantDTO(3L, "Ann", "ann@example.com", "IBAN", "BIC");
+
+        broadcastService.participantUpserted(1L, participant);
+        broadcastService.expenseDeleted(1L, 7L);
+        broadcastService.debtsChanged(1L);
+        awaitBroadcasts();
+
+        verifySent("/topic/events/1/participants", new ParticipantUpsertedMessage(1, participant));
+        verifySent("/topic/events/1/expenses", new ExpenseDeletedMessage(2, 7L));
+        verifySent("/topic/events/1/debts", new DebtsChangedMessage(3, DEBTS));
+        assertEquals(3, broadcastService.getSequence(1L));
+    }
+
+    @Test
+    void changes_OtherEvent_HaveOwnSequence() throws Exception {
+        broadcastService.expenseDeleted(1L, 7L);
+        broadcastService.expenseDeleted(2L, 8L);
+        awaitBroadcasts();
+
+        verifySent("/topic/events/2/expenses", new ExpenseDeletedMessage(1, 8L));
+        assertEquals(1, broadcastService.getSequence(1L));
+        assertEquals(1, broadcastService.getSequence(2L));
+    }
+
+    @Test
+    void debtsChanged_ManyTimesWithinWindow_ComputesOnce() throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            broadcastService.debtsChanged(1L);
+        }
+        awaitBroadcasts();
+
+        verify(debtService, times(1)).getAllDebts(1L);
+        verify(template, times(1)).send(eq("/topic/events/1/debts"), any());
+    }
+
+    @Test
+    void debtsChanged_WhileComputing_SequenceCanBeRead() throws Exception {
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(debtService.getAllDebts(1L)).thenAnswer(invocation -> {
+            computing.countDown();
+            release.await();
+            return DEBTS;
+        });
+
+        broadcastService.expenseDeleted(1L, 7L);
+        broadcastService.debtsChanged(1L);
+        assertTrue(computing.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, assertTimeoutPreemptively(Duration.ofSeconds(1), () -> broadcastService.getSequence(1L)));
+        release.countDown();
+        awaitBroadcasts();
+        verifySent("/topic/events/1/debts", new DebtsChangedMessage(2, DEBTS));
+    }
+
+    @Test
+    void tagsChanged_SendsTagsOnce() throws Exception {
+        List<TagDTO> tags = List.of(new TagDTO("Food", "Red", 1L));
+        when(tagService.getAllTags(1L)).thenReturn(tags);
+
+        broadcastService.tagsChanged(1L);
+        broadcastService.tagsChanged(1L);
+        awaitBroadcasts();
+
+        verify(tagService, times(1)).getAllTags(1L);
+        verify(template, times(1)).send(eq("/topic/events/1/tags"), any());
+        verifySent("/topic/events/1/tags", new TagsMessage(tags));
+        assertEquals(0, broadcastService.getSequence(1L));
+    }
+
+    @Test
+    void debtsChanged_ReturnsBeforeComputing() {
+        EventBroadcastService slowBroadcastService = new EventBroadcastService(template, objectMapper, debtService, tagService, subscriptionService, 60_000, executor);
+
+        slowBroadcastService.debtsChanged(1L);
+
+        verifyNoInteractions(debtService, template);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void changes_NoSubscribers_AreNumberedButNeitherComputedNorSent() throws InterruptedException {
+        when(subscriptionService.hasSubscribers(anyString())).thenReturn(false);
+
+        broadcastService.expenseDeleted(1L, 7L);
+        broadcastService.debtsChanged(1L);
+        broadcastService.tagsChanged(1L);
+        awaitBroadcasts();
+
+        verifyNoInteractions(debtService, tagService, template);
+        assertEquals(2, broadcastService.getSequence(1L));
+    }
+
+    @Test
+    void changes_SubscribedLate_NextMessageShowsGap() throws Exception {
+        ParticipantDTO participant = new ParticipantDTO(3L, "Ann", "ann@example.com", "IBAN", "BIC");
+        when(subscriptionService.hasSubscribers("/topic/events/1/expenses")).thenReturn(false);
+
+        broadcastService.expenseDeleted(1L, 7L);
+        broadcastService.participantUpserted(1L, participant);
+        awaitBroadcasts();
+
+        verify(template, never()).send(eq("/topic/events/1/expenses"), any());
+        verifySent("/topic/events/1/participants", new ParticipantUpsertedMessage(2, participant));
+    }
+
+    @Test
+    void debtsChanged_SubscribersLeftWithinWindow_IsNotComputed() throws InterruptedException {
+        broadcastService.debtsChanged(1L);
+        when(subscriptionService.hasSubscribers(anyString())).thenReturn(false);
+        awaitBroadcasts();
+
+        verifyNoInteractions(debtService, template);
+        assertEquals(1, broadcastService.getSequence(1L));
+    }
+}
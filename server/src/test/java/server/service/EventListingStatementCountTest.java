@@ -0,0 +1,109 @@
+package server.service;
+
+import commons.Event;
+import commons.Participant;
+import commons.dtos.EventDTO;
+import commons.dtos.EventPageDTO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import server.database.EventRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EventListingStatementCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void getAllEvents_StatementCountDoesNotGrowWithEvents() {
+        EventServiceImplementation eventService = new EventServiceImplementation(eventRepository, null, null, null, null, null, null);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        createEvents(3);
+
+        entityManager.clear();
+        statistics.clear();
+        assertEquals(3, eventService.getAllEvents().size());
+        long fewEventsStatements = statistics.getPrepareStatementCount();
+
+        createEvents(30);
+        entityManager.clear();
+        statistics.clear();
+        List<EventDTO> events = eventService.getAllEvents();
+
+        assertEquals(33, events.size());
+        assertEquals(2, fewEventsStatements);
+        assertEquals(fewEventsStatements, statistics.getPrepareStatementCount());
+        assertTrue(events.stream().allMatch(event -> event.participantIds().size() == 2));
+    }
+
+    @Test
+    void getEventPage_WalksAllEventsInOrder() {
+        EventServiceImplementation eventService = new EventServiceImplementation(eventRepository, null, null, null, null, null, null);
+        createEvents(25);
+        entityManager.clear();
+
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        do {
+            EventPageDTO page = eventService.getEventPage(10, "title", "desc", "event 1", cursor);
+            page.events().forEach(event -> titles.add(event.title()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        List<String> expected = new ArrayList<>(List.of("Event 1", "Event 10", "Event 11", "Event 12", "Event 13",
+                "Event 14", "Event 15", "Event 16", "Event 17", "Event 18", "Event 19"));
+        Collections.reverse(expected);
+        assertEquals(expected, titles);
+    }
+
+    @Test
+    void getEventPage_SearchIgnoresCaseOfRenamedEvents() {
+        EventServiceImplementation eventService = new EventServiceImplementation(eventRepository, null, null, null, null, null, null);
+        createEvents(3);
+        Event renamed = eventRepository.findAll().get(0);
+        renamed.setTitle("Weekend Trip");
+        entityManager.flush();
+        entityManager.clear();
+
+        EventPageDTO page = eventService.getEventPage(10, "title", "asc", "wEEK", null);
+
+        assertEquals(List.of("Weekend Trip"), page.events().stream().map(EventDTO::title).toList());
+    }
+
+    @Test
+    void titleSearch_ScansSearchTitleIndex() {
+        createEvents(3);
+
+        String plan = (String) entityManager.createNativeQuery(
+                "EXPLAIN SELECT id FROM event WHERE search_title LIKE 'EVENT 1%' ESCAPE '\\'").getSingleResult();
+
+        assertTrue(plan.toUpperCase().contains("IDX_EVENT_SEARCH_TITLE"), plan);
+    }
+
+    private void createEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            Event event = new Event("Event " + i);
+            entityManager.persist(event);
+            for (int j = 0; j < 2; j++) {
+                Participant participant = new Participant("Participant " + j, null, null, null);
+                participant.setEvent(event);
+                entityManager.persist(participant);
+            }
+        }
+
+        entityManager.flush();
+    }
+}
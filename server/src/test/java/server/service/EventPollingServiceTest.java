@@ -0,0 +1,111 @@
+package server.service;
+
+import commons.dtos.EventChangeDTO;
+import commons.dtos.EventChangesDTO;
+import commons.dtos.EventDTO;
+import org.junit.jupiter.api.Test;
+import server.exceptions.NotFoundException;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventPollingServiceTest {
+
+    private static EventPollingService pollingService(EventService eventService) {
+        return new EventPollingService(eventService, 10, 1000, Runnable::run);
+    }
+
+    private static EventDTO event(long id) {
+        return new EventDTO(id, "Event " + id, "code" + id, Calendar.getInstance(), Calendar.getInstance(), Set.of());
+    }
+
+    @Test
+    void getChangesSince_ReturnsOnlyNewerChanges() {
+        EventPollingService pollingService = pollingService(null);
+        pollingService.eventCreated(event(1));
+        pollingService.eventUpdated(event(1));
+        pollingService.eventDeleted(1);
+
+        EventChangesDTO changes = pollingService.getChangesSince(1);
+
+        assertEquals(3, changes.version());
+        assertFalse(changes.resync());
+        assertEquals(List.of(EventChangeDTO.Type.UPDATED, EventChangeDTO.Type.DELETED),
+                changes.changes().stream().map(EventChangeDTO::type).toList());
+        assertTrue(pollingService.getChangesSince(3).changes().isEmpty());
+    }
+
+    @Test
+    void getChangesSince_UnknownVersion_ReturnsResync() {
+        EventPollingService pollingService = pollingService(null);
+        for (int i = 0; i < EventPollingService.BUFFER_SIZE + 1; i++) {
+            pollingService.eventCreated(event(i));
+        }
+
+        assertTrue(pollingService.getChangesSince(-1).resync());
+        assertTrue(pollingService.getChangesSince(0).resync());
+        assertTrue(pollingService.getChangesSince(EventPollingService.BUFFER_SIZE + 2).resync());
+
+        EventChangesDTO changes = pollingService.getChangesSince(1);
+        assertFalse(changes.resync());
+        assertEquals(EventPollingService.BUFFER_SIZE, changes.changes().size());
+        assertEquals(2, changes.changes().get(0).version());
+    }
+
+    @Test
+    void eventChanged_ReadsEventAndNotifiesListeners() {
+        EventService eventService = mock(EventService.class);
+        when(eventService.getEventById(1L)).thenReturn(event(1));
+        when(eventService.getEventById(2L)).thenThrow(new NotFoundException("Event not found"));
+        EventPollingService pollingService = pollingService(eventService);
+        List<EventChangeDTO> received = new ArrayList<>();
+        pollingService.addListener(received::add);
+
+        pollingService.eventChanged(1L);
+        pollingService.eventChanged(2L);
+
+        assertEquals(2, received.size());
+        assertEquals(EventChangeDTO.Type.UPDATED, received.get(0).type());
+        assertEquals(event(1).title(), received.get(0).event().title());
+        assertEquals(EventChangeDTO.Type.DELETED, received.get(1).type());
+        assertEquals(2L, received.get(1).eventId());
+    }
+
+    @Test
+    void eventChanged_NoListeners_ReadsEventOnceWhenAskedForChanges() {
+        EventService eventService = mock(EventService.class);
+        when(eventService.getEventById(1L)).thenReturn(event(1));
+        EventPollingService pollingService = pollingService(eventService);
+
+        pollingService.eventChanged(1L);
+        pollingService.eventChanged(1L);
+        verifyNoInteractions(eventService);
+
+        EventChangesDTO changes = pollingService.getChangesSince(0);
+        assertEquals(1, changes.version());
+        assertEquals(List.of(EventChangeDTO.Type.UPDATED), changes.changes().stream().map(EventChangeDTO::type).toList());
+        assertTrue(pollingService.getChangesSince(1).changes().isEmpty());
+        verify(eventService, times(1)).getEventById(1L);
+    }
+
+    @Test
+    void eventChanged_ReadsEventOnFanOutExecutor() {
+        EventService eventService = mock(EventService.class);
+        when(eventService.getEventById(1L)).thenReturn(event(1));
+        List<Runnable> tasks = new ArrayList<>();
+        EventPollingService pollingService = new EventPollingService(eventService, 10, 1000, tasks::add);
+        pollingService.addListener(change -> { });
+
+        pollingService.eventChanged(1L);
+        verifyNoInteractions(eventService);
+
+        tasks.remove(0).run();
+        verify(eventService).getEventById(1L);
+        assertEquals(1, pollingService.getChangesSince(0).changes().size());
+    }
+}
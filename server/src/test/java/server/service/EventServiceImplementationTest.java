@@ -2,6 +2,7 @@ package server.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -9,11 +10,16 @@ import commons.Event;
 import commons.dtos.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.passay.PasswordGenerator;
+import org.springframework.data.jpa.domain.Specification;
+import server.database.EventParticipant;
 import server.database.EventRepository;
+import server.database.EventRow;
+import server.database.Tombstone;
 import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
 import server.exceptions.SystemErrorException;
@@ -34,6 +40,10 @@ class EventServiceImplementationTest {
     private ParticipantService participantService;
     @Mock
     private TagService tagService;
+    @Mock
+    private DebtService debtService;
+    @Mock
+    private TombstoneService tombstoneService;
 
     @InjectMocks
     private EventServiceImplementation eventService;
@@ -45,14 +55,45 @@ class EventServiceImplementationTest {
 
     @Test
     void getAllEventsSuccessTest() {
+        EventRow event1 = new EventRow(1L, "Party", "ABC123", null, null);
+        EventRow event2 = new EventRow(2L, "Trip", "DEF456", null, null);
+
+        when(eventRepository.findAllRows()).thenReturn(List.of(event1, event2));
+        when(eventRepository.findAllParticipantIds()).thenReturn(List.of(new EventParticipant(1L, 3L), new EventParticipant(1L, 4L)));
+
+        List<EventDTO> events = eventService.getAllEvents();
+
+        assertEquals(List.of("Party", "Trip"), events.stream().map(EventDTO::title).toList());
+        assertEquals(Set.of(3L, 4L), events.get(0).participantIds());
+        assertEquals(Set.of(), events.get(1).participantIds());
+        verify(eventRepository, never()).findAll();
+    }
+
+    @Test
+    void getEventPageTest() {
         Event event1 = new Event("Party", "ABC123");
-        Event event2 = new Event("Trip", "DEF456");
+        event1.setId(1L);
+        Event event2 = new Event("Picnic", "DEF456");
+        event2.setId(2L);
+        Event event3 = new Event("Pool", "GHI789");
+        event3.setId(3L);
 
-        when(eventRepository.findAll()).thenReturn(List.of(event1, event2));
+        when(eventRepository.<Event, List<Event>>findBy(ArgumentMatchers.<Specification<Event>>any(), any())).thenReturn(List.of(event1, event2, event3));
+        when(eventRepository.findParticipantIds(List.of(1L, 2L))).thenReturn(List.of(new EventParticipant(2L, 5L)));
 
-        eventService.getAllEvents();
+        EventPageDTO page = eventService.getEventPage(2, "title", null, "P", null);
 
-        verify(eventRepository).findAll();
+        assertEquals(List.of("Party", "Picnic"), page.events().stream().map(EventDTO::title).toList());
+        assertEquals(Set.of(5L), page.events().get(1).participantIds());
+        assertNotNull(page.nextCursor());
+    }
+
+    @Test
+    void getEventPageInvalidTest() {
+        assertThrows(InvalidPayloadException.class, () -> eventService.getEventPage(0, null, null, null, null));
+        assertThrows(InvalidPayloadException.class, () -> eventService.getEventPage(10, "inviteCode", null, null, null));
+        assertThrows(InvalidPayloadException.class, () -> eventService.getEventPage(10, "title", "up", null, null));
+        assertThrows(InvalidPayloadException.class, () -> eventService.getEventPage(10, "title", null, null, "not a cursor"));
     }
 
     @Test
@@ -107,6 +148,107 @@ class EventServiceImplementationTest {
         verify(eventRepository).findByInviteCode(event.getInviteCode());
     }
 
+    @Test
+    void getEventsByInviteCodesSuccessTest() {
+        Event party = new Event("Party", "ABC123");
+        party.setId(1L);
+        Event trip = new Event("Trip", "DEF456");
+        trip.setId(2L);
+
+        when(eventRepository.findByInviteCodeIn(Set.of("DEF456", "XYZ999", "ABC123"))).thenReturn(List.of(party, trip));
+        when(eventRepository.findParticipantIds(anyCollection())).thenReturn(List.of(new EventParticipant(2L, 5L)));
+
+        List<EventDTO> events = eventService.getEventsByInviteCodes(List.of("DEF456", "XYZ999", "ABC123"));
+
+        assertEquals(List.of("DEF456", "ABC123"), events.stream().map(EventDTO::inviteCode).toList());
+        assertEquals(Set.of(5L), events.get(0).participantIds());
+        assertEquals(Set.of(), events.get(1).participantIds());
+        verify(eventRepository, never()).findByInviteCode(anyString());
+    }
+
+    @Test
+    void getEventsByInviteCodesEmptyTest() {
+        assertEquals(List.of(), eventService.getEventsByInviteCodes(List.of()));
+
+        verify(eventRepository, never()).findByInviteCodeIn(anyCollection());
+    }
+
+    @Test
+    void getEventsByInviteCodesTooManyTest() {
+        List<String> inviteCodes = Collections.nCopies(EventServiceImplementation.MAX_PAGE_SIZE + 1, "ABC123");
+
+        assertThrows(InvalidPayloadException.class, () -> eventService.getEventsByInviteCodes(inviteCodes));
+    }
+
+    @Test
+    void getEventSnapshotSuccessTest() {
+        long eventId = 1L;
+        List<ParticipantDTO> participants = List.of(new ParticipantDTO(2L, "Ann", "ann@example.com", null, null));
+        List<TagDTO> tags = List.of(new TagDTO("Food", "Red", 3L));
+        when(eventRepository.findVersionById(eventId)).thenReturn(Optional.of(7L));
+        when(participantService.getAllParticipants(eventId)).thenReturn(participants);
+        when(expenseService.getAllExpenses(eventId)).thenReturn(List.of());
+        when(tagService.getAllTags(eventId)).thenReturn(tags);
+        when(debtService.getAllDebts(eventId)).thenReturn(List.of());
+
+        EventSnapshotDTO snapshot = eventService.getEventSnapshot(eventId, 4L);
+
+        assertEquals(new EventSnapshotDTO(7L, 4L, participants, List.of(), tags, List.of()), snapshot);
+    }
+
+    @Test
+    void getEventSnapshotNotFoundTest() {
+        when(eventRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> eventService.getEventSnapshot(1L, 0L));
+        verify(participantService, never()).getAllParticipants(anyLong());
+    }
+
+    @Test
+    void getEventChangesSuccessTest() {
+        long eventId = 1L;
+        List<ParticipantDTO> participants = List.of(new ParticipantDTO(2L, "Ann", "ann@example.com", null, null));
+        when(eventRepository.findVersionById(eventId)).thenReturn(Optional.of(9L));
+        when(participantService.getParticipantsChangedSince(eventId, 5L)).thenReturn(participants);
+        when(expenseService.getExpensesChangedSince(eventId, 5L)).thenReturn(List.of());
+        when(tagService.getTagsChangedSince(eventId, 5L)).thenReturn(List.of());
+        when(tombstoneService.getDeletedSince(eventId, 5L)).thenReturn(List.of(
+                new Tombstone(null, Tombstone.Kind.EXPENSE, 10L, 6L, null),
+                new Tombstone(null, Tombstone.Kind.EXPENSE, 11L, 8L, null),
+                new Tombstone(null, Tombstone.Kind.TAG, 3L, 7L, null)));
+
+        EventDeltaDTO changes = eventService.getEventChanges(eventId, 5L, 2L);
+
+        assertEquals(new EventDeltaDTO(9L, 2L, false, participants, List.of(), List.of(), List.of(10L, 11L),
+                List.of(), List.of(3L)), changes);
+    }
+
+    @Test
+    void getEventChangesPurgedVersionRequiresSnapshotTest() {
+        when(eventRepository.findVersionById(1L)).thenReturn(Optional.of(9L));
+        when(tombstoneService.getPurgedVersion(1L)).thenReturn(6L);
+
+        EventDeltaDTO changes = eventService.getEventChanges(1L, 5L, 0L);
+
+        assertTrue(changes.snapshotRequired());
+        verify(expenseService, never()).getExpensesChangedSince(anyLong(), anyLong());
+    }
+
+    @Test
+    void getEventChangesUnknownVersionRequiresSnapshotTest() {
+        when(eventRepository.findVersionById(1L)).thenReturn(Optional.of(9L));
+
+        assertTrue(eventService.getEventChanges(1L, 10L, 0L).snapshotRequired());
+        assertTrue(eventService.getEventChanges(1L, -1L, 0L).snapshotRequired());
+    }
+
+    @Test
+    void getEventChangesNotFoundTest() {
+        when(eventRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> eventService.getEventChanges(1L, 0L, 0L));
+    }
+
     @Test
     void getEventByInviteCodeNotFoundTest() {
         String inviteCode = "ABC123";
@@ -118,7 +260,8 @@ class EventServiceImplementationTest {
 
     @Test
     void createEventSuccessTest() {
-        eventService = new EventServiceImplementation(eventRepository, expenseService, participantService, tagService, new PasswordGenerator());
+        eventService = new EventServiceImplementation(eventRepository, expenseService, participantService, tagService, debtService,
+                tombstoneService, new PasswordGenerator());
 
         long eventId = 1L;
         EventTitleDTO eventTitleDTO = new EventTitleDTO("Party");
@@ -162,6 +305,22 @@ class EventServiceImplementationTest {
         eventService.updateEvent(eventId, newEvent);
 
         verify(eventRepository).save(any(Event.class));
+        verify(eventRepository).incrementVersion(eventId);
+    }
+
+    @Test
+    void getEventVersionSuccessTest() {
+        when(eventRepository.findVersionById(1L)).thenReturn(Optional.of(7L));
+
+        assertEquals(7L, eventService.getEventVersion(1L));
+        verify(eventRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getEventVersionNotFoundTest() {
+        when(eventRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> eventService.getEventVersion(1L));
     }
 
     @Test
@@ -274,7 +433,8 @@ class EventServiceImplementationTest {
 
     @Test
     void generateCodeUsingCreateEventTest() {
-        eventService = new EventServiceImplementation(eventRepository, expenseService, participantService, tagService, new PasswordGenerator());
+        eventService = new EventServiceImplementation(eventRepository, expenseService, participantService, tagService, debtService,
+                tombstoneService, new PasswordGenerator());
 
         EventTitleDTO eventTitleDTO = new EventTitleDTO("Party");
         Event event = new Event("Party", "ABC123");
@@ -0,0 +1,131 @@
+package server.service;
+
+import commons.Event;
+import commons.Expense;
+import commons.Participant;
+import commons.Tag;
+import commons.dtos.ExpenseDTO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import server.database.EventRepository;
+import server.database.ExpenseRepository;
+import server.database.ParticipantRepository;
+import server.database.TagRepository;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ExpenseReadStatementCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    private ExpenseServiceImplementation expenseService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        expenseService = new ExpenseServiceImplementation(eventRepository, expenseRepository, participantRepository,
+                tagRepository, entityManager, null, null);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllExpenses_StatementCountDoesNotGrowWithExpenses() {
+        long small = createEvent(5);
+        long large = createEvent(50);
+
+        List<ExpenseDTO> smallExpenses = countStatements(() -> expenseService.getAllExpenses(small));
+        long smallStatements = statistics.getPrepareStatementCount();
+        List<ExpenseDTO> largeExpenses = countStatements(() -> expenseService.getAllExpenses(large));
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(5, smallExpenses.size());
+        assertEquals(50, largeExpenses.size());
+        assertEquals(2, smallStatements);
+        assertEquals(smallStatements, largeStatements);
+        assertTrue(largeExpenses.stream().allMatch(expense -> expense.returnerIds().size() == 3));
+        assertEquals(25, largeExpenses.stream().filter(expense -> expense.tagId() != 0).count());
+    }
+
+    @Test
+    void getExpense_UsesTwoStatements() {
+        long eventId = createEvent(3);
+        long expenseId = expenseService.getAllExpenses(eventId).get(0).id();
+
+        ExpenseDTO expense = countStatements(() -> expenseService.getExpense(eventId, expenseId));
+
+        assertEquals(expenseId, expense.id());
+        assertEquals(3, expense.returnerIds().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getExpensePage_StatementCountDoesNotGrowWithPageSize() {
+        long eventId = createEvent(50);
+
+        countStatements(() -> expenseService.getExpensePage(eventId, 5, null, null, null, null));
+        long smallStatements = statistics.getPrepareStatementCount();
+        countStatements(() -> expenseService.getExpensePage(eventId, 40, null, null, null, null));
+
+        assertEquals(2, smallStatements);
+        assertEquals(smallStatements, statistics.getPrepareStatementCount());
+    }
+
+    private <T> T countStatements(Supplier<T> read) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return read.get();
+    }
+
+    private long createEvent(int expenses) {
+        Event event = new Event("Trip");
+        entityManager.persist(event);
+
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Participant participant = new Participant("Participant " + i, null, null, null);
+            participant.setEvent(event);
+            entityManager.persist(participant);
+            participants.add(participant);
+        }
+
+        Tag tag = new Tag("Food", "#00ff00");
+        tag.setEvent(event);
+        entityManager.persist(tag);
+
+        for (int i = 0; i < expenses; i++) {
+            Calendar date = new GregorianCalendar(2024, Calendar.JANUARY, 1 + i % 28);
+            Expense expense = new Expense(participants.get(i % 3), BigDecimal.TEN, "EUR", date, "Expense " + i,
+                    new HashSet<>(participants), i % 2 == 0 ? tag : null);
+            expense.setEvent(event);
+            entityManager.persist(expense);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return event.getId();
+    }
+}
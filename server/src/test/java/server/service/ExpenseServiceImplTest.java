@@ -6,13 +6,21 @@ import commons.Expense;
 import commons.Participant;
 import commons.Tag;
 import commons.dtos.ExpenseDTO;
+import commons.dtos.ExpensePageDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 import server.database.EventRepository;
 import server.database.ExpenseRepository;
+import server.database.ExpenseReturner;
+import server.database.ExpenseRow;
+import server.database.ParticipantRepository;
+import server.database.TagRepository;
+import server.database.Tombstone;
 import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
 
@@ -27,6 +35,8 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("ALL")
@@ -38,9 +48,21 @@ class ExpenseServiceImplTest {
     @Mock
     private ExpenseRepository expenseRepository;
 
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private BalanceService balanceService;
+
+    @Mock
+    private TombstoneService tombstoneService;
+
     @InjectMocks
     private ExpenseServiceImplementation expenseService;
 
@@ -52,20 +74,56 @@ class ExpenseServiceImplTest {
     @Test
     void getAllExpensesTest() {
         long eventId = 1L;
-        Participant payer = new Participant();
-        BigDecimal amount = new BigDecimal("1.00");
-        String currency = "EURO";
         Calendar date = new GregorianCalendar(2005, Calendar.JANUARY, 6);
-        String purpose = "Food";
-        Tag tag = new Tag();
-        Expense expense = new Expense(payer, amount, currency, date, purpose, Set.of(payer), tag);
-        Set<Expense> expenses = Set.of(expense);
-
-        when(expenseRepository.findByEventId(eventId)).thenReturn(expenses);
+        when(expenseRepository.findRowsByEventId(eventId)).thenReturn(List.of(row(2L, date, 3L, 4L), row(1L, date, 3L, null)));
+        when(expenseRepository.findReturnersByEventId(eventId)).thenReturn(List.of(returner(2L, 3L), returner(2L, 5L)));
 
         List<ExpenseDTO> results = expenseService.getAllExpenses(eventId);
 
-        verify(expenseRepository).findByEventId(eventId);
+        assertEquals(List.of(2L, 1L), results.stream().map(ExpenseDTO::id).toList());
+        assertEquals(Set.of(3L, 5L), results.get(0).returnerIds());
+        assertEquals(4L, results.get(0).tagId());
+        assertEquals(Set.of(), results.get(1).returnerIds());
+        assertEquals(0L, results.get(1).tagId());
+        verify(expenseRepository, never()).findByEventId(anyLong());
+    }
+
+    @Test
+    void getExpensePageTest() {
+        long eventId = 1L;
+        List<ExpenseRow> rows = new ArrayList<>();
+        for (long i = 3; i > 0; i--) {
+            rows.add(row(i, new GregorianCalendar(2024, Calendar.JANUARY, (int) i), 2L, null));
+        }
+
+        when(expenseRepository.findPage(eq(eventId), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(Limit.of(3))))
+                .thenReturn(rows);
+        when(expenseRepository.findReturners(List.of(3L, 2L))).thenReturn(List.of(returner(3L, 2L), returner(3L, 4L)));
+
+        ExpensePageDTO page = expenseService.getExpensePage(eventId, 2, null, null, null, null);
+
+        assertEquals(2, page.expenses().size());
+        assertEquals(Set.of(2L, 4L), page.expenses().get(0).returnerIds());
+        assertEquals(Set.of(), page.expenses().get(1).returnerIds());
+        assertNotNull(page.nextCursor());
+
+        when(expenseRepository.findPage(eq(eventId), isNull(), isNull(), isNull(), any(), any(), eq(2L), eq(Limit.of(3))))
+                .thenReturn(rows.subList(2, 3));
+        when(expenseRepository.findReturners(List.of(1L))).thenReturn(List.of());
+
+        ExpensePageDTO nextPage = expenseService.getExpensePage(eventId, 2, page.nextCursor(), null, null, null);
+
+        assertEquals(1, nextPage.expenses().size());
+        assertEquals(1L, nextPage.expenses().get(0).id());
+        assertNull(nextPage.nextCursor());
+    }
+
+    @Test
+    void getExpensePageInvalidTest() {
+        assertThrows(InvalidPayloadException.class, () -> expenseService.getExpensePage(1L, 0, null, null, null, null));
+        assertThrows(InvalidPayloadException.class,
+                () -> expenseService.getExpensePage(1L, ExpenseServiceImplementation.MAX_PAGE_SIZE + 1, null, null, null, null));
+        assertThrows(InvalidPayloadException.class, () -> expenseService.getExpensePage(1L, 10, "not a cursor", null, null, null));
     }
 
     @Test
@@ -89,6 +147,7 @@ class ExpenseServiceImplTest {
         ExpenseDTO result = expenseService.addExpense(eventId, expenseDTO);
 
         verify(expenseRepository).save(any(Expense.class));
+        verify(balanceService).applyExpense(eq(eventId), any(Expense.class));
     }
 
     @Test
@@ -113,6 +172,85 @@ class ExpenseServiceImplTest {
         assertThrows(InvalidPayloadException.class, () -> expenseService.addExpense(eventId, invalidExpenseDTO3));
     }
 
+    @Test
+    void addExpensesSuccessTest() {
+        long eventId = 1L;
+        Event event = new Event();
+        event.setId(eventId);
+        Participant payer = new Participant();
+        payer.setId(2L);
+        Participant returner = new Participant();
+        returner.setId(3L);
+        Tag tag = new Tag();
+        tag.setId(4L);
+        Calendar date = GregorianCalendar.from(LocalDate.now().atStartOfDay(ZoneOffset.UTC));
+        List<ExpenseDTO> expenseDTOs = List.of(
+                new ExpenseDTO(new BigDecimal("1.00"), "EUR", date, "Food", date, date, 0, 2L, Set.of(2L, 3L), 4L, false),
+                new ExpenseDTO(new BigDecimal("2.00"), "EUR", date, "Drinks", date, date, 0, 3L, Set.of(2L), 0L, false));
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(participantRepository.findByEventIdAndIdIn(eventId, Set.of(2L, 3L))).thenReturn(List.of(payer, returner));
+        when(tagRepository.findByEventIdAndIdIn(eventId, Set.of(4L))).thenReturn(List.of(tag));
+        when(expenseRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventRepository.nextVersion(eventId)).thenReturn(5L);
+
+        List<ExpenseDTO> result = expenseService.addExpenses(eventId, expenseDTOs);
+
+        assertEquals(2, result.size());
+        assertEquals("Food", result.get(0).purpose());
+        assertEquals(Set.of(2L, 3L), result.get(0).returnerIds());
+        assertEquals(4L, result.get(0).tagId());
+        assertEquals(3L, result.get(1).payerId());
+        assertEquals(0L, result.get(1).tagId());
+        verify(participantRepository, times(1)).findByEventIdAndIdIn(eq(eventId), any());
+        verify(eventRepository, times(1)).save(event);
+        verify(eventRepository, times(1)).nextVersion(eventId);
+        verify(expenseRepository).saveAll(argThat(expenses -> {
+            expenses.forEach(expense -> assertEquals(5L, expense.getChangedVersion()));
+            return true;
+        }));
+        verify(balanceService, times(1)).applyExpenses(eq(eventId), anyList());
+        verify(expenseRepository, never()).save(any(Expense.class));
+    }
+
+    @Test
+    void addExpensesInvalidPayloadTest() {
+        long eventId = 1L;
+        Calendar date = GregorianCalendar.from(LocalDate.now().atStartOfDay(ZoneOffset.UTC));
+        ExpenseDTO valid = new ExpenseDTO(new BigDecimal("1.00"), "EUR", date, "Food", date, date, 0, 2L, Set.of(2L), 0L, false);
+        ExpenseDTO invalid = new ExpenseDTO(new BigDecimal("-1.00"), "EUR", date, "Food", date, date, 0, 2L, Set.of(2L), 0L, false);
+
+        assertThrows(InvalidPayloadException.class, () -> expenseService.addExpenses(eventId, List.of(valid, invalid)));
+        assertThrows(InvalidPayloadException.class, () -> expenseService.addExpenses(eventId, List.of()));
+        verifyNoInteractions(eventRepository, participantRepository, expenseRepository, balanceService);
+    }
+
+    @Test
+    void addExpensesUnknownParticipantTest() {
+        long eventId = 1L;
+        Participant payer = new Participant();
+        payer.setId(2L);
+        Calendar date = GregorianCalendar.from(LocalDate.now().atStartOfDay(ZoneOffset.UTC));
+        ExpenseDTO expenseDTO = new ExpenseDTO(new BigDecimal("1.00"), "EUR", date, "Food", date, date, 0, 2L, Set.of(5L), 0L, false);
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(new Event()));
+        when(participantRepository.findByEventIdAndIdIn(eq(eventId), any())).thenReturn(List.of(payer));
+
+        assertThrows(InvalidPayloadException.class, () -> expenseService.addExpenses(eventId, List.of(expenseDTO)));
+        verify(expenseRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void addExpensesEventNotFoundTest() {
+        long eventId = 1L;
+        Calendar date = GregorianCalendar.from(LocalDate.now().atStartOfDay(ZoneOffset.UTC));
+        ExpenseDTO expenseDTO = new ExpenseDTO(new BigDecimal("1.00"), "EUR", date, "Food", date, date, 0, 2L, Set.of(2L), 0L, false);
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> expenseService.addExpenses(eventId, List.of(expenseDTO)));
+    }
+
     @Test
     void updateExpenseSuccessTest() {
         long eventId = 1L;
@@ -135,6 +273,10 @@ class ExpenseServiceImplTest {
         ExpenseDTO result = expenseService.updateExpense(eventId, expenseId, newExpenseDTO);
 
         verify(expenseRepository, times(2)).saveAndFlush(any(Expense.class));
+        InOrder inOrder = inOrder(eventRepository, balanceService);
+        inOrder.verify(eventRepository).nextVersion(eventId);
+        inOrder.verify(balanceService).revertExpense(eventId, oldExpense);
+        inOrder.verify(balanceService).applyExpense(eventId, oldExpense);
     }
 
     @Test
@@ -172,13 +314,17 @@ class ExpenseServiceImplTest {
         Expense expense = new Expense();
 
 
-        when(expenseRepository.existsById(expenseId)).thenReturn(true);
-        when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(expense));
+        when(expenseRepository.findByIdAndEventId(expenseId, eventId)).thenReturn(Optional.of(expense));
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(eventRepository.nextVersion(eventId)).thenReturn(4L);
 
         expenseService.deleteExpense(eventId, expenseId);
 
         verify(expenseRepository).deleteById(expenseId);
+        InOrder inOrder = inOrder(eventRepository, balanceService);
+        inOrder.verify(eventRepository).nextVersion(eventId);
+        inOrder.verify(balanceService).revertExpense(eventId, expense);
+        verify(tombstoneService).recordDeletion(eventId, Tombstone.Kind.EXPENSE, expenseId, 4L);
     }
 
     @Test
@@ -186,28 +332,45 @@ class ExpenseServiceImplTest {
         long eventId = 1L;
         long expenseId = 1L;
 
-        when(expenseRepository.existsById(expenseId)).thenReturn(false);
+        when(expenseRepository.findByIdAndEventId(expenseId, eventId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> expenseService.deleteExpense(eventId, expenseId));
     }
 
+    @Test
+    void deleteExpenseOfOtherEventTest() {
+        long expenseId = 1L;
+
+        when(expenseRepository.existsById(expenseId)).thenReturn(true);
+        when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(new Expense()));
+        when(expenseRepository.findByIdAndEventId(expenseId, 2L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> expenseService.deleteExpense(2L, expenseId));
+        verify(expenseRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(balanceService, tombstoneService);
+    }
+
     @Test
     void getExpenseTest() {
         long eventId = 1L;
         long expenseId = 1L;
-        Participant payer = new Participant();
-        BigDecimal amount = new BigDecimal("1.00");
-        String currency = "EURO";
         Calendar date = new GregorianCalendar(2005, Calendar.JANUARY, 6);
-        String purpose = "Food";
-        Tag tag = new Tag();
-        Expense expense = new Expense(payer, amount, currency, date, purpose, Set.of(payer), tag);
 
-        when(expenseRepository.findByIdAndEventId(expenseId, eventId)).thenReturn(Optional.of(expense));
+        when(expenseRepository.findRowByIdAndEventId(expenseId, eventId)).thenReturn(Optional.of(row(expenseId, date, 2L, null)));
+        when(expenseRepository.findReturnerIds(expenseId)).thenReturn(List.of(2L));
 
         ExpenseDTO result = expenseService.getExpense(eventId, expenseId);
 
-        verify(expenseRepository).findByIdAndEventId(expenseId, eventId);
+        assertEquals(2L, result.payerId());
+        assertEquals(Set.of(2L), result.returnerIds());
+        verify(expenseRepository).findRowByIdAndEventId(expenseId, eventId);
+    }
+
+    @Test
+    void getExpenseNotFoundTest() {
+        when(expenseRepository.findRowByIdAndEventId(1L, 1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> expenseService.getExpense(1L, 1L));
     }
 
 
@@ -228,11 +391,17 @@ class ExpenseServiceImplTest {
     @Test
     void convertToExpenseDtoUsingGetAllExpensesTest() {
         long eventId = 1L;
-        Expense expense = new Expense();
-        Set<Expense> expenses = Set.of(expense);
 
-        when(expenseRepository.findByEventId(eventId)).thenReturn(expenses);
+        when(expenseRepository.findRowsByEventId(eventId)).thenReturn(List.of(row(1L, Calendar.getInstance(), null, null)));
 
         assertThrows(InvalidPayloadException.class, () -> expenseService.getAllExpenses(eventId));
     }
-}
\ No newline at end of file
+
+    private static ExpenseReturner returner(long expenseId, long participantId) {
+        return new ExpenseReturner(expenseId, participantId);
+    }
+
+    private static ExpenseRow row(long id, Calendar date, Long payerId, Long tagId) {
+        return new ExpenseRow(id, BigDecimal.TEN, "EUR", date, "Expense " + id, date, date, payerId, tagId, false);
+    }
+}
@@ -0,0 +1,63 @@
+package server.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointBalanceEngineTest {
+
+    @Test
+    void applyExpense_GivesRemainderToLowestIds() {
+        FixedPointBalanceEngine engine = new FixedPointBalanceEngine();
+
+        engine.applyExpense(1L, 100, new long[]{4L, 2L, 3L}, 1);
+
+        assertEquals(100, engine.get(1L));
+        assertEquals(-34, engine.get(2L));
+        assertEquals(-33, engine.get(3L));
+        assertEquals(-33, engine.get(4L));
+    }
+
+    @Test
+    void applyExpense_RemovingUndoesAdding() {
+        FixedPointBalanceEngine engine = new FixedPointBalanceEngine();
+
+        engine.applyExpense(1L, 1001, new long[]{1L, 2L, 3L}, 1);
+        engine.applyExpense(1L, 1001, new long[]{3L, 2L, 1L}, -1);
+
+        assertEquals(0, engine.get(1L));
+        assertEquals(0, engine.get(2L));
+        assertEquals(0, engine.get(3L));
+    }
+
+    @Test
+    void add_KeepsBalancesWhenGrowing() {
+        FixedPointBalanceEngine engine = new FixedPointBalanceEngine(1);
+
+        for (long id = 0; id < 1000; id++) {
+            engine.add(id, id);
+        }
+
+        assertEquals(1000, engine.size());
+        for (long id = 0; id < 1000; id++) {
+            assertEquals(id, engine.get(id));
+        }
+        assertEquals(0, engine.get(5000L));
+    }
+
+    @Test
+    void toOwedAmounts_ConvertsToEuro() {
+        FixedPointBalanceEngine engine = new FixedPointBalanceEngine();
+
+        engine.applyExpense(1L, FixedPointBalanceEngine.toUnits(new BigDecimal("10")), new long[]{1L, 2L, 3L}, 1);
+        Map<Long, BigDecimal> owedAmounts = engine.toOwedAmounts();
+
+        assertEquals(new BigDecimal("6.66666666"), owedAmounts.get(1L));
+        assertEquals(new BigDecimal("-3.33333333"), owedAmounts.get(2L));
+        assertEquals(new BigDecimal("-3.33333333"), owedAmounts.get(3L));
+        assertEquals(0, owedAmounts.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add).signum());
+    }
+}
@@ -0,0 +1,63 @@
+package server.service;
+
+import commons.Debt;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeapSettlementStrategyTest {
+
+    private final HeapSettlementStrategy strategy = new HeapSettlementStrategy();
+
+    @Test
+    void settle_NoBalances_ReturnsEmptyList() {
+        assertTrue(strategy.settle(Map.of()).isEmpty());
+    }
+
+    @Test
+    void settle_MatchesLargestDebtorWithLargestCreditor() {
+        Map<Long, BigDecimal> owedAmounts = new HashMap<>();
+        owedAmounts.put(1L, new BigDecimal("30"));
+        owedAmounts.put(2L, new BigDecimal("10"));
+        owedAmounts.put(3L, new BigDecimal("-25"));
+        owedAmounts.put(4L, new BigDecimal("-15"));
+
+        List<Debt> debts = strategy.settle(owedAmounts);
+
+        assertEquals(List.of(
+                new Debt(3L, 1L, new BigDecimal("25")),
+                new Debt(4L, 2L, new BigDecimal("10")),
+                new Debt(4L, 1L, new BigDecimal("5"))), debts);
+    }
+
+    @Test
+    void settle_IsIndependentOfInputOrder() {
+        Map<Long, BigDecimal> first = new LinkedHashMap<>();
+        first.put(1L, new BigDecimal("10"));
+        first.put(2L, new BigDecimal("10"));
+        first.put(3L, new BigDecimal("-20"));
+        Map<Long, BigDecimal> second = new LinkedHashMap<>();
+        second.put(3L, new BigDecimal("-20"));
+        second.put(2L, new BigDecimal("10"));
+        second.put(1L, new BigDecimal("10"));
+
+        assertEquals(strategy.settle(first), strategy.settle(second));
+    }
+
+    @Test
+    void settle_ManyParticipants_SettlesEveryone() {
+        Map<Long, BigDecimal> owedAmounts = new HashMap<>();
+        for (long id = 1; id <= 1000; id++) {
+            owedAmounts.put(id, BigDecimal.valueOf(id % 2 == 0 ? id - 1 : -id));
+        }
+
+        List<Debt> debts = strategy.settle(owedAmounts);
+
+        assertTrue(debts.size() < owedAmounts.size());
+        BigDecimal total = debts.stream().map(Debt::getAmountInEUR).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, BigDecimal.valueOf(250000).compareTo(total));
+    }
+}
@@ -0,0 +1,76 @@
+package server.service;
+
+import commons.Debt;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinimumTransferSettlementStrategyTest {
+
+    private final MinimumTransferSettlementStrategy strategy = new MinimumTransferSettlementStrategy();
+
+    @Test
+    void settle_NoBalances_ReturnsEmptyList() {
+        assertTrue(strategy.settle(Map.of()).isEmpty());
+    }
+
+    @Test
+    void settle_SplitsIntoZeroSumGroups() {
+        Map<Long, BigDecimal> owedAmounts = new HashMap<>();
+        owedAmounts.put(1L, new BigDecimal("10"));
+        owedAmounts.put(2L, new BigDecimal("-10"));
+        owedAmounts.put(3L, new BigDecimal("25"));
+        owedAmounts.put(4L, new BigDecimal("-15"));
+        owedAmounts.put(5L, new BigDecimal("-10"));
+
+        List<Debt> debts = strategy.settle(owedAmounts);
+
+        assertEquals(3, debts.size());
+        assertTrue(debts.contains(new Debt(2L, 1L, new BigDecimal("10"))));
+        assertTrue(debts.contains(new Debt(4L, 3L, new BigDecimal("15"))));
+        assertTrue(debts.contains(new Debt(5L, 3L, new BigDecimal("10"))));
+    }
+
+    @Test
+    void settle_BeatsLargestFirstMatching() {
+        Map<Long, BigDecimal> owedAmounts = new HashMap<>();
+        owedAmounts.put(1L, new BigDecimal("3"));
+        owedAmounts.put(2L, new BigDecimal("3"));
+        owedAmounts.put(3L, new BigDecimal("4"));
+        owedAmounts.put(4L, new BigDecimal("-6"));
+        owedAmounts.put(5L, new BigDecimal("-4"));
+
+        assertEquals(4, new HeapSettlementStrategy().settle(owedAmounts).size());
+        assertEquals(3, strategy.settle(owedAmounts).size());
+    }
+
+    @Test
+    void settle_IgnoresRoundingLeftovers() {
+        Map<Long, BigDecimal> owedAmounts = new HashMap<>();
+        owedAmounts.put(1L, new BigDecimal("6.66666667"));
+        owedAmounts.put(2L, new BigDecimal("-3.33333333"));
+        owedAmounts.put(3L, new BigDecimal("-3.33333333"));
+        owedAmounts.put(4L, new BigDecimal("0.00000001"));
+
+        List<Debt> debts = strategy.settle(owedAmounts);
+
+        assertEquals(2, debts.size());
+        assertTrue(debts.stream().allMatch(debt -> debt.getTo() == 1L));
+    }
+
+    @Test
+    void settle_LargeGroup_FallsBackToHeuristic() {
+        Map<Long, BigDecimal> owedAmounts = new HashMap<>();
+        for (long id = 1; id <= MinimumTransferSettlementStrategy.MAX_EXACT_PARTICIPANTS + 2; id += 2) {
+            owedAmounts.put(id, BigDecimal.valueOf(id));
+            owedAmounts.put(id + 1, BigDecimal.valueOf(-id));
+        }
+
+        List<Debt> debts = strategy.settle(owedAmounts);
+
+        assertEquals(owedAmounts.size() / 2, debts.size());
+    }
+}
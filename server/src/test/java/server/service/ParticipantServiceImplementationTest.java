@@ -11,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import server.database.EventRepository;
 import server.database.ParticipantRepository;
+import server.database.Tombstone;
 
 import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
@@ -33,6 +34,9 @@ class ParticipantServiceImplementationTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private TombstoneService tombstoneService;
+
     @InjectMocks
     private ParticipantServiceImplementation participantService;
 
@@ -147,11 +151,13 @@ class ParticipantServiceImplementationTest {
 
         when(eventRepository.findById(anyLong())).thenReturn(Optional.of(event));
         when(eventRepository.save(any(Event.class))).thenReturn(event);
+        when(eventRepository.nextVersion(anyLong())).thenReturn(3L);
 
         ParticipantDTO result = participantService.updateParticipant(participantId, participantDTO);
 
         verify(participantRepository, times(1)).save(any(Participant.class));
         verify(eventRepository, times(1)).save(any(Event.class));
+        assertEquals(3L, oldParticipant.getChangedVersion());
 
         assertEquals(participantDTO.name(), result.name());
         assertEquals(participantDTO.email(), result.email());
@@ -183,10 +189,13 @@ class ParticipantServiceImplementationTest {
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
 
+        when(eventRepository.nextVersion(eventId)).thenReturn(3L);
+
         participantService.deleteParticipant(eventId, participantId);
 
         verify(participantRepository, times(1)).deleteById(participantId);
         verify(eventRepository, times(1)).save(event);
+        verify(tombstoneService).recordDeletion(eventId, Tombstone.Kind.PARTICIPANT, participantId, 3L);
     }
 
     @Test
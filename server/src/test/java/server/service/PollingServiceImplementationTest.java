@@ -0,0 +1,92 @@
+package server.service;
+
+import commons.dtos.PollingStatsDTO;
+import org.junit.jupiter.api.Test;
+import server.exceptions.ServiceUnavailableException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PollingServiceImplementationTest {
+
+    @Test
+    void addListener_PastMaximum_IsRefused() {
+        PollingServiceImplementation<String> pollingService = new PollingServiceImplementation<>(2, 1000, Runnable::run);
+        Object first = pollingService.addListener(data -> { });
+        pollingService.addListener(data -> { });
+
+        assertThrows(ServiceUnavailableException.class, () -> pollingService.addListener(data -> { }));
+        pollingService.removeListener(first);
+        pollingService.removeListener(first);
+        pollingService.addListener(data -> { });
+
+        PollingStatsDTO stats = pollingService.getStats();
+        assertEquals(2, stats.parked());
+        assertEquals(2, stats.maxParked());
+        assertEquals(1, stats.rejected());
+    }
+
+    @Test
+    void sendToListeners_DoesNotWaitForListeners() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        PollingServiceImplementation<String> pollingService = new PollingServiceImplementation<>(10, 1000, executor);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = new CopyOnWriteArrayList<>();
+        pollingService.addListener(data -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(data);
+        });
+        pollingService.addListener(data -> {
+            throw new IllegalStateException("Listener failed");
+        });
+        pollingService.addListener(received::add);
+
+        pollingService.sendToListeners("change");
+        assertTrue(received.isEmpty());
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("change", "change"), received);
+        assertEquals(1, pollingService.getStats().fanOuts());
+    }
+
+    @Test
+    void listeners_ConcurrentChanges_AreAllKept() throws Exception {
+        ExecutorService fanOut = Executors.newSingleThreadExecutor();
+        PollingServiceImplementation<Integer> pollingService = new PollingServiceImplementation<>(100_000, 1000, fanOut);
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(clients.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    Object key = pollingService.addListener(data -> calls.incrementAndGet());
+                    pollingService.sendToListeners(i);
+                    pollingService.removeListener(key);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        clients.shutdown();
+        fanOut.shutdown();
+        assertTrue(fanOut.awaitTermination(30, TimeUnit.SECONDS));
+
+        PollingStatsDTO stats = pollingService.getStats();
+        assertFalse(pollingService.hasListeners());
+        assertEquals(0, stats.parked());
+        assertEquals(40_000, stats.fanOuts());
+        assertTrue(stats.maxFanOutMillis() >= stats.averageFanOutMillis());
+    }
+}
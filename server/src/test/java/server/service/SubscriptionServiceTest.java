@@ -0,0 +1,79 @@
+package server.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubscriptionServiceTest {
+
+    private static final String DEBTS = "/topic/events/1/debts";
+    private static final String EXPENSES = "/topic/events/1/expenses";
+
+    private SubscriptionService subscriptionService;
+
+    @BeforeEach
+    void setUp() {
+        subscriptionService = new SubscriptionService();
+    }
+
+    private static Message<byte[]> message(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor headers = StompHeaderAccessor.create(command);
+        headers.setSessionId(sessionId);
+        headers.setSubscriptionId(subscriptionId);
+        headers.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders());
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        subscriptionService.onSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination)));
+    }
+
+    @Test
+    void hasSubscribers_NoSubscriptions_IsFalse() {
+        assertFalse(subscriptionService.hasSubscribers(DEBTS));
+    }
+
+    @Test
+    void onSubscribe_CountsSubscribersPerDestination() {
+        subscribe("a", "0", DEBTS);
+        subscribe("b", "0", DEBTS);
+        subscribe("b", "1", EXPENSES);
+
+        assertTrue(subscriptionService.hasSubscribers(DEBTS));
+        assertEquals(Map.of(DEBTS, 2, EXPENSES, 1), subscriptionService.getSubscriberCounts());
+    }
+
+    @Test
+    void onUnsubscribe_RemovesSubscription() {
+        subscribe("a", "0", DEBTS);
+        subscribe("b", "0", DEBTS);
+
+        subscriptionService.onUnsubscribe(new SessionUnsubscribeEvent(this, message(StompCommand.UNSUBSCRIBE, "a", "0", null)));
+
+        assertEquals(Map.of(DEBTS, 1), subscriptionService.getSubscriberCounts());
+    }
+
+    @Test
+    void onDisconnect_RemovesAllSubscriptionsOfSession() {
+        subscribe("a", "0", DEBTS);
+        subscribe("a", "1", EXPENSES);
+        subscribe("b", "0", EXPENSES);
+
+        subscriptionService.onDisconnect(new SessionDisconnectEvent(this,
+                message(StompCommand.DISCONNECT, "a", null, null), "a", CloseStatus.NORMAL));
+
+        assertFalse(subscriptionService.hasSubscribers(DEBTS));
+        assertEquals(Map.of(EXPENSES, 1), subscriptionService.getSubscriberCounts());
+    }
+}
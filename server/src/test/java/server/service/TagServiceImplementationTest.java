@@ -14,6 +14,7 @@ import org.mockito.MockitoAnnotations;
 
 import server.database.EventRepository;
 import server.database.TagRepository;
+import server.database.Tombstone;
 import server.exceptions.InvalidPayloadException;
 import server.exceptions.NotFoundException;
 
@@ -29,6 +30,9 @@ class TagServiceImplementationTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private TombstoneService tombstoneService;
+
     @InjectMocks
     private TagServiceImplementation tagsService;
 
@@ -149,9 +153,11 @@ class TagServiceImplementationTest {
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
 
         when(tagRepository.findById(tagId)).thenReturn(Optional.of(tag));
+        when(eventRepository.nextVersion(1L)).thenReturn(2L);
 
         tagsService.deleteTag(1L, tagId);
         verify(tagRepository).delete(any(Tag.class));
+        verify(tombstoneService).recordDeletion(1L, Tombstone.Kind.TAG, tagId, 2L);
     }
 
     @Test
@@ -0,0 +1,72 @@
+package server.service;
+
+import commons.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import server.database.EventRepository;
+import server.database.Tombstone;
+import server.database.TombstoneRepository;
+
+import java.time.Duration;
+import java.util.Calendar;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TombstoneServiceTest {
+
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    private TombstoneRepository tombstoneRepository;
+    private EventRepository eventRepository;
+    private Calendar now;
+    private TombstoneService tombstoneService;
+
+    @BeforeEach
+    void setUp() {
+        tombstoneRepository = mock(TombstoneRepository.class);
+        eventRepository = mock(EventRepository.class);
+        now = Calendar.getInstance();
+        tombstoneService = new TombstoneService(tombstoneRepository, eventRepository, RETENTION, () -> now);
+        when(eventRepository.getReferenceById(1L)).thenReturn(new Event());
+    }
+
+    @Test
+    void recordDeletion_SavesTombstone() {
+        when(tombstoneRepository.findMaxExpiredVersion(eq(1L), any())).thenReturn(Optional.empty());
+
+        tombstoneService.recordDeletion(1L, Tombstone.Kind.EXPENSE, 7L, 4L);
+
+        ArgumentCaptor<Tombstone> tombstone = ArgumentCaptor.forClass(Tombstone.class);
+        verify(tombstoneRepository).save(tombstone.capture());
+        assertEquals(Tombstone.Kind.EXPENSE, tombstone.getValue().getKind());
+        assertEquals(7L, tombstone.getValue().getEntityId());
+        assertEquals(4L, tombstone.getValue().getVersion());
+        assertEquals(now, tombstone.getValue().getDeletedOn());
+        verify(tombstoneRepository, never()).deleteExpired(anyLong(), any());
+        verify(eventRepository, never()).raisePurgedVersion(anyLong(), anyLong());
+    }
+
+    @Test
+    void recordDeletion_ExpiredTombstones_AreForgottenAndRaisePurgedVersion() {
+        ArgumentCaptor<Calendar> expiry = ArgumentCaptor.forClass(Calendar.class);
+        when(tombstoneRepository.findMaxExpiredVersion(eq(1L), expiry.capture())).thenReturn(Optional.of(3L));
+
+        tombstoneService.recordDeletion(1L, Tombstone.Kind.TAG, 2L, 9L);
+
+        assertEquals(now.getTimeInMillis() - RETENTION.toMillis(), expiry.getValue().getTimeInMillis());
+        verify(eventRepository).raisePurgedVersion(1L, 3L);
+        verify(tombstoneRepository).deleteExpired(1L, expiry.getValue());
+        verify(tombstoneRepository).save(any(Tombstone.class));
+    }
+
+    @Test
+    void getPurgedVersion_UnknownEvent_IsZero() {
+        when(eventRepository.findPurgedVersionById(1L)).thenReturn(Optional.empty());
+
+        assertEquals(0L, tombstoneService.getPurgedVersion(1L));
+    }
+}